@@ -288,6 +288,26 @@ public class CoreOptions implements Serializable {
                     .defaultValue(true)
                     .withDescription("Whether enabled read file index.");
 
+    public static final ConfigOption<Boolean> FILE_INDEX_READ_PLAN_ENABLED =
+            key("file-index.read.plan-enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to evaluate the file index files which are not embedded in"
+                                    + " manifests when planning, so that data files filtered out"
+                                    + " by them do not generate splits. Index files are only"
+                                    + " read by full scans, not by delta or changelog scans, and"
+                                    + " only when the filter references an indexed column. Only"
+                                    + " works for append tables.");
+
+    public static final ConfigOption<MemorySize> FILE_INDEX_READ_PLAN_CACHE_SIZE =
+            key("file-index.read.plan-cache-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.parse("64 mb"))
+                    .withDescription(
+                            "Max memory size of the file index files cached for evaluating them"
+                                    + " when planning.");
+
     public static final ConfigOption<String> MANIFEST_FORMAT =
             key("manifest.format")
                     .stringType()
@@ -516,6 +536,19 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Whether the write buffer can be spillable. Enabled by default when using object storage or when 'target-file-size' is greater than 'write-buffer-size'.");
 
+    public static final ConfigOption<Boolean> WRITE_BUFFER_ASYNC_FLUSH =
+            key("write-buffer-async-flush")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "This option only works for primary key table. Whether to flush the write buffer"
+                                    + " asynchronously. The write buffer memory is split into two halves, one is"
+                                    + " flushed in background while the other keeps accepting records. Write"
+                                    + " buffer spilling is not supported, 'write-buffer-spillable' cannot be"
+                                    + " set to true and the buffers are not spilled even if spilling is"
+                                    + " enabled by default. If each half has less than 3 pages, the write"
+                                    + " buffer is flushed synchronously.");
+
     public static final ConfigOption<Boolean> WRITE_BUFFER_FOR_APPEND =
             key("write-buffer-for-append")
                     .booleanType()
@@ -604,6 +637,26 @@ public class CoreOptions implements Serializable {
                     .defaultValue(10)
                     .withDescription("Maximum number of retries when commit failed.");
 
+    public static final ConfigOption<Boolean> COMMIT_INCREMENTAL_CONFLICT_CHECK_ENABLED =
+            key("commit.incremental-conflict-check.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to keep the live files of the partitions changed by the last commit"
+                                    + " in memory for conflict checking. The next commit only reads the delta"
+                                    + " manifests of the snapshots committed since then instead of all files"
+                                    + " of the changed partitions.");
+
+    public static final ConfigOption<Integer>
+            COMMIT_INCREMENTAL_CONFLICT_CHECK_MAX_DELTA_SNAPSHOTS =
+                    key("commit.incremental-conflict-check.max-delta-snapshots")
+                            .intType()
+                            .defaultValue(100)
+                            .withDescription(
+                                    "The max number of snapshots whose delta manifests are applied to the"
+                                            + " live files kept for conflict checking, all files of the changed"
+                                            + " partitions are read if more snapshots have been committed since.");
+
     public static final ConfigOption<Integer> COMPACTION_MAX_SIZE_AMPLIFICATION_PERCENT =
             key("compaction.max-size-amplification-percent")
                     .intType()
@@ -636,6 +689,17 @@ public class CoreOptions implements Serializable {
                             "Implying how often to perform an optimization compaction, this configuration is used to "
                                     + "ensure the query timeliness of the read-optimized system table.");
 
+    public static final ConfigOption<Integer> COMPACTION_SHARED_EXECUTOR_THREAD_NUM =
+            key("compaction.shared-executor.thread-num")
+                    .intType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "If set, writers use a compaction executor with this number of threads shared by"
+                                    + " all writers in the JVM, instead of one compaction thread per write task."
+                                    + " Queued compactions of buckets with more sorted runs relative to"
+                                    + " 'num-sorted-run.stop-trigger' run first. The shared executor is shut"
+                                    + " down when the last writer using it is closed.");
+
     public static final ConfigOption<Integer> COMPACTION_MIN_FILE_NUM =
             key("compaction.min.file-num")
                     .intType()
@@ -802,6 +866,27 @@ public class CoreOptions implements Serializable {
                             "End condition \"watermark\" for bounded streaming mode. Stream"
                                     + " reading will end when a larger watermark snapshot is encountered.");
 
+    public static final ConfigOption<Boolean> SCAN_MANIFEST_INCREMENTAL_CACHE_ENABLED =
+            key("scan.manifest.incremental-cache.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to cache the live data files of the latest planned snapshot in"
+                                    + " the table instance. Planning a newer snapshot only reads the delta"
+                                    + " manifests of the snapshots in between instead of all data manifests."
+                                    + " Delta and changelog scans read the cached entries of recent snapshots."
+                                    + " This is useful for frequent planning on large tables, note that"
+                                    + " all live data files are kept in memory.");
+
+    public static final ConfigOption<Integer> SCAN_MANIFEST_INCREMENTAL_CACHE_MAX_DELTA_SNAPSHOTS =
+            key("scan.manifest.incremental-cache.max-delta-snapshots")
+                    .intType()
+                    .defaultValue(100)
+                    .withDescription(
+                            "The max number of snapshots whose delta manifests are applied to the"
+                                    + " cached live data files, all data manifests are read if more"
+                                    + " snapshots have been committed since the cached one.");
+
     public static final ConfigOption<Integer> SCAN_MANIFEST_PARALLELISM =
             key("scan.manifest.parallelism")
                     .intType()
@@ -1029,6 +1114,19 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Max disk size for lookup cache, you can use this option to limit the use of local disks.");
 
+    public static final ConfigOption<String> LOOKUP_CACHE_PERSISTENT_DIR =
+            key("lookup.cache-persistent-dir")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Local directory to persist lookup files. Lookup files in this directory"
+                                    + " are tracked by a manifest keyed by data file name and schema id,"
+                                    + " so they can be reused after a task restart instead of being"
+                                    + " rebuilt from the DFS. The disk usage of this directory is limited"
+                                    + " by '"
+                                    + LOOKUP_CACHE_MAX_DISK_SIZE.key()
+                                    + "', least recently used files are deleted first.");
+
     public static final ConfigOption<String> LOOKUP_CACHE_SPILL_COMPRESSION =
             key("lookup.cache-spill-compression")
                     .stringType()
@@ -1049,6 +1147,14 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "The fraction of cache memory that is reserved for high-priority data like index, filter.");
 
+    public static final ConfigOption<Boolean> LOOKUP_CACHE_OFF_HEAP_ENABLED =
+            key("lookup.cache.off-heap.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to keep the pages of lookup cache in off-heap memory, this avoids"
+                                    + " large lookup caches occupying the JVM heap.");
+
     public static final ConfigOption<Boolean> LOOKUP_CACHE_BLOOM_FILTER_ENABLED =
             key("lookup.cache.bloom.filter.enabled")
                     .booleanType()
@@ -1158,6 +1264,34 @@ public class CoreOptions implements Serializable {
                                     + " related to the number of initialized bucket, too small will lead to"
                                     + " insufficient processing speed of assigner.");
 
+    public static final ConfigOption<Boolean> DYNAMIC_BUCKET_INDEX_OFF_HEAP =
+            key("dynamic-bucket.index.off-heap")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to keep the key hash to bucket index of the assigner operator "
+                                    + "in off-heap memory for dynamic bucket mode. This reduces the "
+                                    + "heap usage and GC pressure when there are many keys. The "
+                                    + "direct memory is reclaimed after an index is evicted or the "
+                                    + "assigner is closed, it is not part of the JVM heap, so in "
+                                    + "Flink 'taskmanager.memory.task.off-heap.size' should be "
+                                    + "increased by 'dynamic-bucket.index.max-memory' (or the "
+                                    + "expected index size if unlimited) per assigner slot.");
+
+    public static final ConfigOption<MemorySize> DYNAMIC_BUCKET_INDEX_MAX_MEMORY =
+            key("dynamic-bucket.index.max-memory")
+                    .memoryType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Max memory of the partition indexes kept by one assigner in dynamic "
+                                    + "bucket mode. When exceeded, the least recently used "
+                                    + "partition indexes whose assignments have been committed "
+                                    + "are evicted and will be reloaded from index files on next "
+                                    + "access. By default, there is no limit. With "
+                                    + "'dynamic-bucket.index.off-heap' enabled, this is also the "
+                                    + "native memory to reserve as Flink task off-heap memory for "
+                                    + "each assigner.");
+
     public static final ConfigOption<String> INCREMENTAL_BETWEEN =
             key("incremental-between")
                     .stringType()
@@ -1508,6 +1642,26 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "The parallelism for bootstrap in a single task for cross partition upsert.");
 
+    public static final ConfigOption<Boolean> CROSS_PARTITION_UPSERT_INDEX_FILE_ENABLED =
+            key("cross-partition-upsert.index-file.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to maintain the primary keys of each bucket in key index files on commit for cross partition upsert, "
+                                    + "so that bootstrap reads these files instead of all data files. "
+                                    + "Buckets which already have data files without key index files, e.g. written before this option is enabled, "
+                                    + "are not backfilled by later commits and are still bootstrapped from data files until they are overwritten. "
+                                    + "Once enabled, it must be enabled for all writers of the table, otherwise key index files become stale.");
+
+    public static final ConfigOption<Integer> CROSS_PARTITION_UPSERT_INDEX_FILE_MAX_DELTA_NUM =
+            key("cross-partition-upsert.index-file.max-delta-num")
+                    .intType()
+                    .defaultValue(10)
+                    .withDescription(
+                            "The maximum number of delta key index files of a bucket for cross partition upsert. "
+                                    + "Each commit writes the changed keys of a bucket into a delta file, all files of the bucket "
+                                    + "are folded into a new file when the number of delta files exceeds this value.");
+
     public static final ConfigOption<Integer> ZORDER_VAR_LENGTH_CONTRIBUTION =
             key("zorder.var-length-contribution")
                     .intType()
@@ -1543,6 +1697,19 @@ public class CoreOptions implements Serializable {
                     .defaultValue(MemorySize.ofMebiBytes(2))
                     .withDescription("The target size of deletion vector index file.");
 
+    public static final ConfigOption<Integer> DELETION_VECTOR_INDEX_FILE_MAX_DELTA_NUM =
+            key("deletion-vector.index-file.max-delta-num")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The max number of delta deletion vector index files of a bucket. If it is"
+                                    + " greater than 0, a commit of a bucketed table only writes the deletion"
+                                    + " vectors changed since the last index file into a new delta index file"
+                                    + " instead of rewriting all deletion vectors of the bucket. Once there are"
+                                    + " more delta files than this value, all deletion vectors are folded into"
+                                    + " a new base index file. 0 means all deletion vectors of a bucket are"
+                                    + " rewritten on every change.");
+
     public static final ConfigOption<Boolean> DELETION_VECTOR_BITMAP64 =
             key("deletion-vectors.bitmap64")
                     .booleanType()
@@ -1641,6 +1808,18 @@ public class CoreOptions implements Serializable {
                             "The maximum number of concurrent deleting files. "
                                     + "By default is the number of processors available to the Java virtual machine.");
 
+    public static final ConfigOption<Boolean> REMOVE_ORPHAN_FILES_PER_PARTITION =
+            key("remove-orphan-files.per-partition")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether local orphan files cleaning processes data files one partition "
+                                    + "at a time. For each partition, its files are listed and "
+                                    + "only the manifests which may contain the partition are "
+                                    + "read, so only the listed files of the current partition "
+                                    + "are held in memory. The result only reports the number "
+                                    + "and total size of deleted files, not their paths.");
+
     public static final ConfigOption<String> SCAN_FALLBACK_BRANCH =
             key("scan.fallback-branch")
                     .stringType()
@@ -2065,6 +2244,10 @@ public class CoreOptions implements Serializable {
         return options.get(SNAPSHOT_CLEAN_EMPTY_DIRECTORIES);
     }
 
+    public boolean removeOrphanFilesPerPartition() {
+        return options.get(REMOVE_ORPHAN_FILES_PER_PARTITION);
+    }
+
     public int deleteFileThreadNum() {
         return options.getOptional(DELETE_FILE_THREAD_NUM)
                 .orElseGet(() -> Runtime.getRuntime().availableProcessors());
@@ -2138,6 +2321,10 @@ public class CoreOptions implements Serializable {
                                 || targetFileSize(hasPrimaryKey) > writeBufferSize());
     }
 
+    public boolean writeBufferAsyncFlush() {
+        return options.get(WRITE_BUFFER_ASYNC_FLUSH);
+    }
+
     public MemorySize writeBufferSpillDiskSize() {
         return options.get(WRITE_BUFFER_MAX_DISK_SIZE);
     }
@@ -2201,6 +2388,15 @@ public class CoreOptions implements Serializable {
         return options.get(LOOKUP_CACHE_HIGH_PRIO_POOL_RATIO);
     }
 
+    @Nullable
+    public String lookupCachePersistentDir() {
+        return options.get(LOOKUP_CACHE_PERSISTENT_DIR);
+    }
+
+    public boolean lookupCacheOffHeapEnabled() {
+        return options.get(LOOKUP_CACHE_OFF_HEAP_ENABLED);
+    }
+
     public long targetFileSize(boolean hasPrimaryKey) {
         return options.getOptional(TARGET_FILE_SIZE)
                 .orElse(hasPrimaryKey ? VALUE_128_MB : VALUE_256_MB)
@@ -2223,6 +2419,11 @@ public class CoreOptions implements Serializable {
         return options.get(COMPACTION_OPTIMIZATION_INTERVAL);
     }
 
+    @Nullable
+    public Integer compactionSharedExecutorThreadNum() {
+        return options.get(COMPACTION_SHARED_EXECUTOR_THREAD_NUM);
+    }
+
     public int numSortedRunStopTrigger() {
         Integer stopTrigger = options.get(NUM_SORTED_RUNS_STOP_TRIGGER);
         if (stopTrigger == null) {
@@ -2251,6 +2452,14 @@ public class CoreOptions implements Serializable {
                 : options.get(COMMIT_TIMEOUT).toMillis();
     }
 
+    public boolean commitIncrementalConflictCheckEnabled() {
+        return options.get(COMMIT_INCREMENTAL_CONFLICT_CHECK_ENABLED);
+    }
+
+    public int commitIncrementalConflictCheckMaxDeltaSnapshots() {
+        return options.get(COMMIT_INCREMENTAL_CONFLICT_CHECK_MAX_DELTA_SNAPSHOTS);
+    }
+
     public int commitMaxRetries() {
         return options.get(COMMIT_MAX_RETRIES);
     }
@@ -2413,6 +2622,14 @@ public class CoreOptions implements Serializable {
         return options.get(INCREMENTAL_TO_AUTO_TAG);
     }
 
+    public boolean scanManifestIncrementalCacheEnabled() {
+        return options.get(SCAN_MANIFEST_INCREMENTAL_CACHE_ENABLED);
+    }
+
+    public int scanManifestIncrementalCacheMaxDeltaSnapshots() {
+        return options.get(SCAN_MANIFEST_INCREMENTAL_CACHE_MAX_DELTA_SNAPSHOTS);
+    }
+
     public Integer scanManifestParallelism() {
         return options.get(SCAN_MANIFEST_PARALLELISM);
     }
@@ -2433,6 +2650,15 @@ public class CoreOptions implements Serializable {
         return options.get(DYNAMIC_BUCKET_ASSIGNER_PARALLELISM);
     }
 
+    public boolean dynamicBucketIndexOffHeap() {
+        return options.get(DYNAMIC_BUCKET_INDEX_OFF_HEAP);
+    }
+
+    @Nullable
+    public MemorySize dynamicBucketIndexMaxMemory() {
+        return options.get(DYNAMIC_BUCKET_INDEX_MAX_MEMORY);
+    }
+
     public List<String> sequenceField() {
         return options.getOptional(SEQUENCE_FIELD)
                 .map(s -> Arrays.asList(s.split(",")))
@@ -2657,6 +2883,14 @@ public class CoreOptions implements Serializable {
         return options.get(CROSS_PARTITION_UPSERT_BOOTSTRAP_PARALLELISM);
     }
 
+    public boolean crossPartitionUpsertIndexFileEnabled() {
+        return options.get(CROSS_PARTITION_UPSERT_INDEX_FILE_ENABLED);
+    }
+
+    public int crossPartitionUpsertIndexFileMaxDeltaNum() {
+        return options.get(CROSS_PARTITION_UPSERT_INDEX_FILE_MAX_DELTA_NUM);
+    }
+
     public int varTypeSize() {
         return options.get(ZORDER_VAR_LENGTH_CONTRIBUTION);
     }
@@ -2677,6 +2911,10 @@ public class CoreOptions implements Serializable {
         return options.get(DELETION_VECTOR_INDEX_FILE_TARGET_SIZE);
     }
 
+    public int deletionVectorIndexFileMaxDeltaNum() {
+        return options.get(DELETION_VECTOR_INDEX_FILE_MAX_DELTA_NUM);
+    }
+
     public boolean deletionVectorBitmap64() {
         return options.get(DELETION_VECTOR_BITMAP64);
     }
@@ -2693,6 +2931,14 @@ public class CoreOptions implements Serializable {
         return options.get(FILE_INDEX_READ_ENABLED);
     }
 
+    public boolean fileIndexReadPlanEnabled() {
+        return options.get(FILE_INDEX_READ_PLAN_ENABLED);
+    }
+
+    public MemorySize fileIndexReadPlanCacheSize() {
+        return options.get(FILE_INDEX_READ_PLAN_CACHE_SIZE);
+    }
+
     public boolean deleteForceProduceChangelog() {
         return options.get(DELETION_FORCE_PRODUCE_CHANGELOG);
     }
@@ -20,15 +20,18 @@ package org.apache.paimon.arrow;
 
 import org.apache.paimon.arrow.reader.ArrowBatchReader;
 import org.apache.paimon.data.InternalRow;
-import org.apache.paimon.io.BundleRecords;
+import org.apache.paimon.data.columnar.ColumnarBundleRecords;
 import org.apache.paimon.types.RowType;
 
 import org.apache.arrow.vector.VectorSchemaRoot;
 
 import java.util.Iterator;
 
-/** Batch records for vector schema root. */
-public class ArrowBundleRecords implements BundleRecords {
+/**
+ * Batch records for vector schema root. The arrow vectors are exposed as a columnar batch without
+ * copying, so columnar formats can write them column by column.
+ */
+public class ArrowBundleRecords extends ColumnarBundleRecords {
 
     private final VectorSchemaRoot vectorSchemaRoot;
     private final RowType rowType;
@@ -36,6 +39,7 @@ public class ArrowBundleRecords implements BundleRecords {
 
     public ArrowBundleRecords(
             VectorSchemaRoot vectorSchemaRoot, RowType rowType, boolean caseSensitive) {
+        super(new ArrowBatchReader(rowType, caseSensitive).readVectorizedBatch(vectorSchemaRoot));
         this.vectorSchemaRoot = vectorSchemaRoot;
         this.rowType = rowType;
         this.caseSensitive = caseSensitive;
@@ -69,6 +69,10 @@ public class ArrowUtils {
 
     public static VectorSchemaRoot createVectorSchemaRoot(
             RowType rowType, BufferAllocator allocator, boolean caseSensitive) {
+        return VectorSchemaRoot.create(toArrowSchema(rowType, caseSensitive), allocator);
+    }
+
+    public static Schema toArrowSchema(RowType rowType, boolean caseSensitive) {
         List<Field> fields =
                 rowType.getFields().stream()
                         .map(
@@ -79,7 +83,7 @@ public class ArrowUtils {
                                                 f.type(),
                                                 0))
                         .collect(Collectors.toList());
-        return VectorSchemaRoot.create(new Schema(fields), allocator);
+        return new Schema(fields);
     }
 
     public static FieldVector createVector(
@@ -59,26 +59,8 @@ public class ArrowBatchReader {
     }
 
     public Iterable<InternalRow> readBatch(VectorSchemaRoot vsr) {
-        int[] mapping = new int[projectedRowType.getFieldCount()];
-        Schema arrowSchema = vsr.getSchema();
-        List<DataField> dataFields = projectedRowType.getFields();
-        for (int i = 0; i < dataFields.size(); ++i) {
-            try {
-                String fieldName = dataFields.get(i).name();
-                Field field = arrowSchema.findField(toLowerCaseIfNeed(fieldName, caseSensitive));
-                int idx = arrowSchema.getFields().indexOf(field);
-                mapping[i] = idx;
-            } catch (IllegalArgumentException e) {
-                throw new RuntimeException(e);
-            }
-        }
-
-        for (int i = 0; i < batch.columns.length; i++) {
-            batch.columns[i] = convertors[i].convertVector(vsr.getVector(mapping[i]));
-        }
-
+        readVectorizedBatch(vsr);
         int rowCount = vsr.getRowCount();
-        batch.setNumRows(vsr.getRowCount());
         final ColumnarRow columnarRow = new ColumnarRow(batch);
         return () ->
                 new Iterator<InternalRow>() {
@@ -101,4 +83,31 @@ public class ArrowBatchReader {
                     }
                 };
     }
+
+    /**
+     * Wraps the vectors of the {@link VectorSchemaRoot} as paimon column vectors without copying
+     * data. The returned batch is reused by the next call.
+     */
+    public VectorizedColumnBatch readVectorizedBatch(VectorSchemaRoot vsr) {
+        int[] mapping = new int[projectedRowType.getFieldCount()];
+        Schema arrowSchema = vsr.getSchema();
+        List<DataField> dataFields = projectedRowType.getFields();
+        for (int i = 0; i < dataFields.size(); ++i) {
+            try {
+                String fieldName = dataFields.get(i).name();
+                Field field = arrowSchema.findField(toLowerCaseIfNeed(fieldName, caseSensitive));
+                int idx = arrowSchema.getFields().indexOf(field);
+                mapping[i] = idx;
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        for (int i = 0; i < batch.columns.length; i++) {
+            batch.columns[i] = convertors[i].convertVector(vsr.getVector(mapping[i]));
+        }
+
+        batch.setNumRows(vsr.getRowCount());
+        return batch;
+    }
 }
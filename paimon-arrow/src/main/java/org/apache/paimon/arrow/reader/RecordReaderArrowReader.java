@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.arrow.reader;
+
+import org.apache.paimon.arrow.ArrowUtils;
+import org.apache.paimon.arrow.converter.ArrowBatchConverter;
+import org.apache.paimon.arrow.converter.ArrowPerRowBatchConverter;
+import org.apache.paimon.arrow.converter.ArrowVectorizedBatchConverter;
+import org.apache.paimon.arrow.writer.ArrowFieldWriter;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.deletionvectors.DeletionFileRecordIterator;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.reader.VectorizedRecordIterator;
+import org.apache.paimon.types.RowType;
+
+import org.apache.arrow.c.ArrowArrayStream;
+import org.apache.arrow.c.Data;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowReader;
+import org.apache.arrow.vector.types.pojo.Schema;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+
+/**
+ * An {@link ArrowReader} which reads Arrow batches from a paimon {@link RecordReader}, for example
+ * the reader created by {@code TableRead}. Vectorized batches of file formats are converted column
+ * by column, primitive columns of heap vectors are copied in bulk.
+ *
+ * <p>It can be exported to an Arrow C stream by {@link #exportToCStream}, so that native engines
+ * can consume paimon tables without going through rows.
+ */
+public class RecordReaderArrowReader extends ArrowReader {
+
+    private final RecordReader<InternalRow> reader;
+    private final RowType rowType;
+    private final int maxBatchRows;
+    private final boolean caseSensitive;
+
+    private ArrowVectorizedBatchConverter vectorizedConverter;
+    private ArrowPerRowBatchConverter perRowConverter;
+    @Nullable private ArrowBatchConverter currentConverter;
+
+    public RecordReaderArrowReader(
+            RecordReader<InternalRow> reader,
+            RowType rowType,
+            int maxBatchRows,
+            boolean caseSensitive,
+            BufferAllocator allocator) {
+        super(allocator);
+        this.reader = reader;
+        this.rowType = rowType;
+        this.maxBatchRows = maxBatchRows;
+        this.caseSensitive = caseSensitive;
+    }
+
+    @Override
+    public boolean loadNextBatch() throws IOException {
+        prepareLoadNextBatch();
+        if (vectorizedConverter == null) {
+            VectorSchemaRoot root = getVectorSchemaRoot();
+            ArrowFieldWriter[] fieldWriters = ArrowUtils.createArrowFieldWriters(root, rowType);
+            vectorizedConverter = new ArrowVectorizedBatchConverter(root, fieldWriters);
+            perRowConverter = new ArrowPerRowBatchConverter(root, fieldWriters);
+        }
+
+        while (true) {
+            if (currentConverter != null) {
+                VectorSchemaRoot root = currentConverter.next(maxBatchRows);
+                if (root == null) {
+                    currentConverter = null;
+                } else if (root.getRowCount() > 0) {
+                    return true;
+                }
+                continue;
+            }
+
+            RecordReader.RecordIterator<InternalRow> iterator = reader.readBatch();
+            if (iterator == null) {
+                return false;
+            }
+            currentConverter = reset(iterator);
+        }
+    }
+
+    private ArrowBatchConverter reset(RecordReader.RecordIterator<InternalRow> iterator) {
+        if (iterator instanceof DeletionFileRecordIterator
+                && ((DeletionFileRecordIterator) iterator).iterator()
+                        instanceof VectorizedRecordIterator) {
+            vectorizedConverter.reset((DeletionFileRecordIterator) iterator);
+            return vectorizedConverter;
+        } else if (iterator instanceof VectorizedRecordIterator) {
+            vectorizedConverter.reset((VectorizedRecordIterator) iterator);
+            return vectorizedConverter;
+        } else {
+            perRowConverter.reset(iterator);
+            return perRowConverter;
+        }
+    }
+
+    /** Export this reader to an Arrow C stream, the stream takes over this reader. */
+    public void exportToCStream(ArrowArrayStream stream) {
+        Data.exportArrayStream(allocator, this, stream);
+    }
+
+    @Override
+    public long bytesRead() {
+        // bytes are read by the file readers of paimon, which are not tracked here
+        return 0;
+    }
+
+    @Override
+    protected void closeReadSource() throws IOException {
+        reader.close();
+    }
+
+    @Override
+    protected Schema readSchema() {
+        return ArrowUtils.toArrowSchema(rowType, caseSensitive);
+    }
+}
@@ -39,10 +39,20 @@ import org.apache.paimon.data.columnar.RowColumnVector;
 import org.apache.paimon.data.columnar.ShortColumnVector;
 import org.apache.paimon.data.columnar.TimestampColumnVector;
 import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.data.columnar.heap.AbstractHeapVector;
+import org.apache.paimon.data.columnar.heap.HeapByteVector;
+import org.apache.paimon.data.columnar.heap.HeapDoubleVector;
+import org.apache.paimon.data.columnar.heap.HeapFloatVector;
+import org.apache.paimon.data.columnar.heap.HeapIntVector;
+import org.apache.paimon.data.columnar.heap.HeapLongVector;
+import org.apache.paimon.data.columnar.heap.HeapShortVector;
 import org.apache.paimon.utils.IntArrayList;
 
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.vector.BaseFixedWidthVector;
 import org.apache.arrow.vector.BigIntVector;
 import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.BitVectorHelper;
 import org.apache.arrow.vector.DateDayVector;
 import org.apache.arrow.vector.DecimalVector;
 import org.apache.arrow.vector.FieldVector;
@@ -67,6 +77,9 @@ import java.time.ZoneId;
 /** Registry of {@link ArrowFieldWriter}s. */
 public class ArrowFieldWriters {
 
+    private static final long SHORT_ARRAY_OFFSET =
+            AbstractHeapVector.UNSAFE.arrayBaseOffset(short[].class);
+
     /** Writer for CHAR & VARCHAR. */
     public static class StringWriter extends ArrowFieldWriter {
 
@@ -84,10 +97,11 @@ public class ArrowFieldWriters {
             for (int i = 0; i < batchRows; i++) {
                 int row = getRowNumber(startIndex, i, pickedInColumn);
                 if (columnVector.isNullAt(row)) {
-                    varCharVector.setNull(row);
+                    varCharVector.setNull(i);
                 } else {
-                    byte[] value = ((BytesColumnVector) columnVector).getBytes(row).getBytes();
-                    varCharVector.setSafe(i, value);
+                    BytesColumnVector.Bytes value =
+                            ((BytesColumnVector) columnVector).getBytes(row);
+                    varCharVector.setSafe(i, value.data, value.offset, value.len);
                 }
             }
         }
@@ -148,8 +162,9 @@ public class ArrowFieldWriters {
                 if (columnVector.isNullAt(row)) {
                     varBinaryVector.setNull(i);
                 } else {
-                    byte[] value = ((BytesColumnVector) columnVector).getBytes(row).getBytes();
-                    varBinaryVector.setSafe(i, value);
+                    BytesColumnVector.Bytes value =
+                            ((BytesColumnVector) columnVector).getBytes(row);
+                    varBinaryVector.setSafe(i, value.data, value.offset, value.len);
                 }
             }
         }
@@ -215,6 +230,10 @@ public class ArrowFieldWriters {
                 int startIndex,
                 int batchRows) {
             TinyIntVector tinyIntVector = (TinyIntVector) fieldVector;
+            if (copyFromHeapVector(
+                    tinyIntVector, columnVector, pickedInColumn, startIndex, batchRows)) {
+                return;
+            }
             for (int i = 0; i < batchRows; i++) {
                 int row = getRowNumber(startIndex, i, pickedInColumn);
                 if (columnVector.isNullAt(row)) {
@@ -246,6 +265,10 @@ public class ArrowFieldWriters {
                 int startIndex,
                 int batchRows) {
             SmallIntVector smallIntVector = (SmallIntVector) fieldVector;
+            if (copyFromHeapVector(
+                    smallIntVector, columnVector, pickedInColumn, startIndex, batchRows)) {
+                return;
+            }
             for (int i = 0; i < batchRows; i++) {
                 int row = getRowNumber(startIndex, i, pickedInColumn);
                 if (columnVector.isNullAt(row)) {
@@ -277,6 +300,10 @@ public class ArrowFieldWriters {
                 int startIndex,
                 int batchRows) {
             IntVector intVector = (IntVector) fieldVector;
+            if (copyFromHeapVector(
+                    intVector, columnVector, pickedInColumn, startIndex, batchRows)) {
+                return;
+            }
             for (int i = 0; i < batchRows; i++) {
                 int row = getRowNumber(startIndex, i, pickedInColumn);
                 if (columnVector.isNullAt(row)) {
@@ -305,6 +332,10 @@ public class ArrowFieldWriters {
         protected void doWrite(
                 ColumnVector columnVector, int[] pickedInColumn, int startIndex, int batchRows) {
             BigIntVector bigIntVector = (BigIntVector) fieldVector;
+            if (copyFromHeapVector(
+                    bigIntVector, columnVector, pickedInColumn, startIndex, batchRows)) {
+                return;
+            }
             for (int i = 0; i < batchRows; i++) {
                 int row = getRowNumber(startIndex, i, pickedInColumn);
                 if (columnVector.isNullAt(row)) {
@@ -336,6 +367,10 @@ public class ArrowFieldWriters {
                 int startIndex,
                 int batchRows) {
             Float4Vector float4Vector = (Float4Vector) fieldVector;
+            if (copyFromHeapVector(
+                    float4Vector, columnVector, pickedInColumn, startIndex, batchRows)) {
+                return;
+            }
             for (int i = 0; i < batchRows; i++) {
                 int row = getRowNumber(startIndex, i, pickedInColumn);
                 if (columnVector.isNullAt(row)) {
@@ -367,6 +402,10 @@ public class ArrowFieldWriters {
                 int startIndex,
                 int batchRows) {
             Float8Vector float8Vector = (Float8Vector) fieldVector;
+            if (copyFromHeapVector(
+                    float8Vector, columnVector, pickedInColumn, startIndex, batchRows)) {
+                return;
+            }
             for (int i = 0; i < batchRows; i++) {
                 int row = getRowNumber(startIndex, i, pickedInColumn);
                 if (columnVector.isNullAt(row)) {
@@ -398,6 +437,10 @@ public class ArrowFieldWriters {
                 int startIndex,
                 int batchRows) {
             DateDayVector dateDayVector = (DateDayVector) fieldVector;
+            if (copyFromHeapVector(
+                    dateDayVector, columnVector, pickedInColumn, startIndex, batchRows)) {
+                return;
+            }
             for (int i = 0; i < batchRows; i++) {
                 int row = getRowNumber(startIndex, i, pickedInColumn);
                 if (columnVector.isNullAt(row)) {
@@ -429,12 +472,16 @@ public class ArrowFieldWriters {
                 int startIndex,
                 int batchRows) {
             TimeMilliVector timeMilliVector = (TimeMilliVector) fieldVector;
+            if (copyFromHeapVector(
+                    timeMilliVector, columnVector, pickedInColumn, startIndex, batchRows)) {
+                return;
+            }
             for (int i = 0; i < batchRows; i++) {
                 int row = getRowNumber(startIndex, i, pickedInColumn);
                 if (columnVector.isNullAt(row)) {
                     timeMilliVector.setNull(i);
                 } else {
-                    int value = ((IntColumnVector) columnVector).getInt(i);
+                    int value = ((IntColumnVector) columnVector).getInt(row);
                     timeMilliVector.setSafe(i, value);
                 }
             }
@@ -795,4 +842,90 @@ public class ArrowFieldWriters {
             structVector.setIndexDefined(rowIndex);
         }
     }
+
+    /**
+     * Copy a range of a heap vector into a fixed-width Arrow vector with a single memory copy,
+     * their value layouts are the same for little-endian primitives. Returns false if the values
+     * have to be written one by one, for example when rows are picked by deletion vector or the
+     * vector is dictionary encoded.
+     */
+    private static boolean copyFromHeapVector(
+            BaseFixedWidthVector vector,
+            ColumnVector columnVector,
+            @Nullable int[] pickedInColumn,
+            int startIndex,
+            int batchRows) {
+        if (pickedInColumn != null
+                || !AbstractHeapVector.LITTLE_ENDIAN
+                || !(columnVector instanceof AbstractHeapVector)) {
+            return false;
+        }
+
+        AbstractHeapVector heapVector = (AbstractHeapVector) columnVector;
+        if (heapVector.hasDictionary()) {
+            return false;
+        }
+
+        Object array;
+        long arrayOffset;
+        int elementSize;
+        if (heapVector instanceof HeapByteVector) {
+            array = ((HeapByteVector) heapVector).vector;
+            arrayOffset = AbstractHeapVector.BYTE_ARRAY_OFFSET;
+            elementSize = Byte.BYTES;
+        } else if (heapVector instanceof HeapShortVector) {
+            array = ((HeapShortVector) heapVector).vector;
+            arrayOffset = SHORT_ARRAY_OFFSET;
+            elementSize = Short.BYTES;
+        } else if (heapVector instanceof HeapIntVector) {
+            array = ((HeapIntVector) heapVector).vector;
+            arrayOffset = AbstractHeapVector.INT_ARRAY_OFFSET;
+            elementSize = Integer.BYTES;
+        } else if (heapVector instanceof HeapLongVector) {
+            array = ((HeapLongVector) heapVector).vector;
+            arrayOffset = AbstractHeapVector.LONG_ARRAY_OFFSET;
+            elementSize = Long.BYTES;
+        } else if (heapVector instanceof HeapFloatVector) {
+            array = ((HeapFloatVector) heapVector).vector;
+            arrayOffset = AbstractHeapVector.FLOAT_ARRAY_OFFSET;
+            elementSize = Float.BYTES;
+        } else if (heapVector instanceof HeapDoubleVector) {
+            array = ((HeapDoubleVector) heapVector).vector;
+            arrayOffset = AbstractHeapVector.DOUBLE_ARRAY_OFFSET;
+            elementSize = Double.BYTES;
+        } else {
+            return false;
+        }
+        if (elementSize != vector.getTypeWidth()) {
+            return false;
+        }
+
+        while (vector.getValueCapacity() < batchRows) {
+            vector.reAlloc();
+        }
+
+        AbstractHeapVector.UNSAFE.copyMemory(
+                array,
+                arrayOffset + (long) startIndex * elementSize,
+                null,
+                vector.getDataBufferAddress(),
+                (long) batchRows * elementSize);
+
+        // validity buffer has been zeroed in reset
+        ArrowBuf validityBuffer = vector.getValidityBuffer();
+        if (heapVector.hasNulls()) {
+            for (int i = 0; i < batchRows; i++) {
+                if (!heapVector.isNullAt(startIndex + i)) {
+                    BitVectorHelper.setBit(validityBuffer, i);
+                }
+            }
+        } else {
+            int fullBytes = batchRows >>> 3;
+            validityBuffer.setOne(0, fullBytes);
+            for (int i = fullBytes << 3; i < batchRows; i++) {
+                BitVectorHelper.setBit(validityBuffer, i);
+            }
+        }
+        return true;
+    }
 }
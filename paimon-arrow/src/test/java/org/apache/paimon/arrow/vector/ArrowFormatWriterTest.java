@@ -25,6 +25,7 @@ import org.apache.paimon.data.Decimal;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.data.columnar.ColumnarRow;
 import org.apache.paimon.types.DataField;
 import org.apache.paimon.types.DataTypes;
 import org.apache.paimon.types.RowType;
@@ -183,15 +184,20 @@ public class ArrowFormatWriterTest {
             writer.flush();
             VectorSchemaRoot vectorSchemaRoot = writer.getVectorSchemaRoot();
 
-            Iterator<InternalRow> iterator =
-                    new ArrowBundleRecords(vectorSchemaRoot, PRIMITIVE_TYPE, true).iterator();
+            ArrowBundleRecords bundle =
+                    new ArrowBundleRecords(vectorSchemaRoot, PRIMITIVE_TYPE, true);
+            Iterator<InternalRow> iterator = bundle.iterator();
+            ColumnarRow columnarRow = new ColumnarRow(bundle.batch());
             for (int i = 0; i < 1000; i++) {
                 InternalRow actual = iterator.next();
                 InternalRow expectec = list.get(i);
+                columnarRow.setRowId(i);
 
                 for (InternalRow.FieldGetter fieldGetter : fieldGetters) {
                     Assertions.assertThat(fieldGetter.getFieldOrNull(actual))
                             .isEqualTo(fieldGetter.getFieldOrNull(expectec));
+                    Assertions.assertThat(fieldGetter.getFieldOrNull(columnarRow))
+                            .isEqualTo(fieldGetter.getFieldOrNull(expectec));
                 }
             }
             vectorSchemaRoot.close();
@@ -19,6 +19,13 @@
 package org.apache.paimon.benchmark;
 
 import org.apache.paimon.CoreOptions;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.ColumnarBundleRecords;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.data.columnar.heap.HeapBytesVector;
+import org.apache.paimon.data.columnar.heap.HeapIntVector;
 import org.apache.paimon.disk.IOManagerImpl;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.table.Table;
@@ -28,6 +35,9 @@ import org.apache.paimon.table.sink.BatchWriteBuilder;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /** Benchmark for table writer. */
@@ -120,6 +130,128 @@ public class TableWriterBenchmark extends TableBenchmark {
          */
     }
 
+    @Test
+    public void testOrcBundle() throws Exception {
+        Options options = new Options();
+        options.set(CoreOptions.FILE_FORMAT, CoreOptions.FILE_FORMAT_ORC);
+        innerTestBundle("orc", options);
+        /*
+         * OpenJDK 64-Bit Server VM 17.0.9+9 on Linux
+         * Intel(R) Xeon(R) Processor
+         * orc:               Best/Avg Time(ms)    Row Rate(K/s)      Per Row(ns)   Relative
+         * ---------------------------------------------------------------------------------
+         * orc_write            8158 / 9257             376.6           2655.7       1.0X
+         * orc_write_bundle     6028 / 6212             509.6           1962.2       1.4X
+         */
+    }
+
+    @Test
+    public void testParquetBundle() throws Exception {
+        Options options = new Options();
+        options.set(CoreOptions.FILE_FORMAT, CoreOptions.FILE_FORMAT_PARQUET);
+        innerTestBundle("parquet", options);
+        /*
+         * OpenJDK 64-Bit Server VM 17.0.9+9 on Linux
+         * Intel(R) Xeon(R) Processor
+         * parquet:               Best/Avg Time(ms)    Row Rate(K/s)      Per Row(ns)   Relative
+         * -------------------------------------------------------------------------------------
+         * parquet_write           14718 / 18157            208.7           4791.1       1.0X
+         * parquet_write_bundle    16339 / 17911            188.0           5318.6       0.9X
+         */
+    }
+
+    public void innerTestBundle(String name, Options options) throws Exception {
+        options.set(CoreOptions.BUCKET, -1);
+        Table table = createTable(options, "T", Collections.emptyList());
+        int fieldCount = table.rowType().getFieldCount();
+        int batchSize = 1024;
+        int numBatches = 100;
+        long valuesPerIteration = 3_072_000;
+
+        // generate data in advance, so that only the writing is measured
+        List<InternalRow> rows = new ArrayList<>();
+        List<ColumnarBundleRecords> bundles = new ArrayList<>();
+        for (int i = 0; i < numBatches; i++) {
+            List<InternalRow> batchRows = new ArrayList<>();
+            for (int j = 0; j < batchSize; j++) {
+                batchRows.add(newRandomRow());
+            }
+            rows.addAll(batchRows);
+            bundles.add(toBundle(batchRows, fieldCount));
+        }
+
+        Benchmark benchmark =
+                new Benchmark(name, valuesPerIteration)
+                        .setNumWarmupIters(1)
+                        .setOutputPerIteration(true);
+        benchmark.addCase(
+                "write",
+                3,
+                () ->
+                        writeAndTruncate(
+                                table,
+                                write -> {
+                                    for (int i = 0; i < valuesPerIteration; i++) {
+                                        write.write(rows.get(i % rows.size()));
+                                    }
+                                }));
+        benchmark.addCase(
+                "write_bundle",
+                3,
+                () ->
+                        writeAndTruncate(
+                                table,
+                                write -> {
+                                    for (int i = 0; i < valuesPerIteration / batchSize; i++) {
+                                        write.writeBundle(
+                                                BinaryRow.EMPTY_ROW,
+                                                0,
+                                                bundles.get(i % bundles.size()));
+                                    }
+                                }));
+        benchmark.run();
+    }
+
+    private ColumnarBundleRecords toBundle(List<InternalRow> rows, int fieldCount) {
+        ColumnVector[] vectors = new ColumnVector[fieldCount];
+        HeapIntVector keys = new HeapIntVector(rows.size());
+        vectors[0] = keys;
+        for (int i = 1; i < fieldCount; i++) {
+            vectors[i] = new HeapBytesVector(rows.size());
+        }
+        for (int i = 0; i < rows.size(); i++) {
+            InternalRow row = rows.get(i);
+            keys.setInt(i, row.getInt(0));
+            for (int j = 1; j < fieldCount; j++) {
+                byte[] bytes = row.getString(j).toBytes();
+                ((HeapBytesVector) vectors[j]).putByteArray(i, bytes, 0, bytes.length);
+            }
+        }
+        VectorizedColumnBatch batch = new VectorizedColumnBatch(vectors);
+        batch.setNumRows(rows.size());
+        return new ColumnarBundleRecords(batch);
+    }
+
+    private void writeAndTruncate(Table table, WriteAction action) {
+        BatchWriteBuilder writeBuilder = table.newBatchWriteBuilder();
+        BatchTableWrite write = writeBuilder.newWrite();
+        write.withIOManager(new IOManagerImpl(tempFile.toString()));
+        BatchTableCommit commit = writeBuilder.newCommit();
+        try {
+            action.write(write);
+            commit.commit(write.prepareCommit());
+            writeBuilder.newCommit().truncateTable();
+            write.close();
+            commit.close();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private interface WriteAction {
+        void write(BatchTableWrite write) throws Exception;
+    }
+
     public void innerTest(String name, Options options) throws Exception {
         options.set(CoreOptions.BUCKET, 1);
         Table table = createTable(options, "T");
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.compact;
+
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowKind;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.KeyComparatorSupplier;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Abstract benchmark class for merge tree, parameterized by key width, run count and overlap ratio
+ * of the synthetic sorted runs.
+ */
+abstract class AbstractMergeTreeBenchmark {
+
+    protected static final int[] KEY_WIDTHS = {1, 4};
+    protected static final int[] RUN_COUNTS = {4, 16};
+    protected static final double[] OVERLAP_RATIOS = {0, 0.5, 1};
+
+    protected final int keyWidth;
+    protected final int runCount;
+    protected final double overlapRatio;
+
+    protected AbstractMergeTreeBenchmark(List<Object> widthRunOverlap) {
+        this.keyWidth = (Integer) widthRunOverlap.get(0);
+        this.runCount = (Integer) widthRunOverlap.get(1);
+        this.overlapRatio = (Double) widthRunOverlap.get(2);
+    }
+
+    protected static List<List<Object>> getWidthRunOverlapList() {
+        List<List<Object>> list = new ArrayList<>();
+        for (int keyWidth : KEY_WIDTHS) {
+            for (int runCount : RUN_COUNTS) {
+                for (double overlapRatio : OVERLAP_RATIOS) {
+                    list.add(Arrays.asList(keyWidth, runCount, overlapRatio));
+                }
+            }
+        }
+        return list;
+    }
+
+    protected String caseSuffix() {
+        return String.format("%d-width-%d-runs-%.1f-overlap", keyWidth, runCount, overlapRatio);
+    }
+
+    /** Key fields are all BIGINT, only the last field differs so comparisons cover all fields. */
+    protected RowType keyType() {
+        List<DataField> fields = new ArrayList<>();
+        for (int i = 0; i < keyWidth; i++) {
+            fields.add(new DataField(i, "k" + i, DataTypes.BIGINT().notNull()));
+        }
+        return new RowType(fields);
+    }
+
+    /** Value contains the key fields and one value field, same as primary key tables. */
+    protected RowType valueType() {
+        List<DataField> fields = new ArrayList<>(keyType().getFields());
+        fields.add(new DataField(keyWidth, "v", DataTypes.BIGINT()));
+        return new RowType(fields);
+    }
+
+    protected Comparator<InternalRow> keyComparator() {
+        return new KeyComparatorSupplier(keyType()).get();
+    }
+
+    /**
+     * Generate sorted runs, the key range of run i starts at {@code i * rowsPerRun * (1 -
+     * overlapRatio)}, later runs have larger sequence numbers.
+     */
+    protected List<List<KeyValue>> generateRuns(int rowsPerRun) {
+        InternalRowSerializer keySerializer = new InternalRowSerializer(keyType());
+        InternalRowSerializer valueSerializer = new InternalRowSerializer(valueType());
+        List<List<KeyValue>> runs = new ArrayList<>(runCount);
+        long step = (long) (rowsPerRun * (1 - overlapRatio));
+        for (int run = 0; run < runCount; run++) {
+            List<KeyValue> records = new ArrayList<>(rowsPerRun);
+            long start = run * step;
+            for (int i = 0; i < rowsPerRun; i++) {
+                long key = start + i;
+                BinaryRow keyRow = keySerializer.toBinaryRow(row(key, null)).copy();
+                BinaryRow valueRow = valueSerializer.toBinaryRow(row(key, key * 31 + run)).copy();
+                records.add(
+                        new KeyValue()
+                                .replace(
+                                        keyRow,
+                                        (long) run * rowsPerRun + i,
+                                        RowKind.INSERT,
+                                        valueRow));
+            }
+            runs.add(records);
+        }
+        return runs;
+    }
+
+    private GenericRow row(long key, @Nullable Long value) {
+        GenericRow row = new GenericRow(value == null ? keyWidth : keyWidth + 1);
+        for (int i = 0; i < keyWidth - 1; i++) {
+            row.setField(i, 0L);
+        }
+        row.setField(keyWidth - 1, key);
+        if (value != null) {
+            row.setField(keyWidth, value);
+        }
+        return row;
+    }
+
+    protected static long totalRows(List<List<KeyValue>> runs) {
+        return runs.stream().mapToLong(List::size).sum();
+    }
+
+    protected static List<RecordReader<KeyValue>> readers(List<List<KeyValue>> runs) {
+        List<RecordReader<KeyValue>> readers = new ArrayList<>(runs.size());
+        for (List<KeyValue> run : runs) {
+            readers.add(new ListReader(run));
+        }
+        return readers;
+    }
+
+    /** A {@link RecordReader} which returns all records of a sorted run in one batch. */
+    private static class ListReader implements RecordReader<KeyValue> {
+
+        private final List<KeyValue> records;
+        private boolean read;
+
+        private ListReader(List<KeyValue> records) {
+            this.records = records;
+        }
+
+        @Nullable
+        @Override
+        public RecordIterator<KeyValue> readBatch() {
+            if (read) {
+                return null;
+            }
+            read = true;
+            Iterator<KeyValue> iterator = records.iterator();
+            return new RecordIterator<KeyValue>() {
+                @Nullable
+                @Override
+                public KeyValue next() {
+                    return iterator.hasNext() ? iterator.next() : null;
+                }
+
+                @Override
+                public void releaseBatch() {}
+            };
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.compact;
+
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.benchmark.Benchmark;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.manifest.FileSource;
+import org.apache.paimon.mergetree.compact.IntervalPartition;
+import org.apache.paimon.testutils.junit.parameterized.ParameterizedTestExtension;
+import org.apache.paimon.testutils.junit.parameterized.Parameters;
+
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.apache.paimon.stats.SimpleStats.EMPTY_STATS;
+
+/** Benchmark for measure the performance of {@link IntervalPartition}. */
+@ExtendWith(ParameterizedTestExtension.class)
+public class IntervalPartitionBenchmark extends AbstractMergeTreeBenchmark {
+
+    private static final int FILES_PER_RUN = 200;
+    private static final int ROWS_PER_FILE = 100;
+    private static final int PARTITIONS_PER_ITERATION = 100;
+
+    public IntervalPartitionBenchmark(List<Object> widthRunOverlap) {
+        super(widthRunOverlap);
+    }
+
+    @Parameters(name = "widthRunOverlap-{0}")
+    public static List<List<Object>> getVarSeg() {
+        return getWidthRunOverlapList();
+    }
+
+    @TestTemplate
+    public void testPartition() {
+        List<DataFileMeta> files = generateFiles();
+        Comparator<InternalRow> keyComparator = keyComparator();
+
+        Benchmark benchmark =
+                new Benchmark(
+                                "interval-partition-benchmark",
+                                (long) files.size() * PARTITIONS_PER_ITERATION)
+                        .setNumWarmupIters(1)
+                        .setOutputPerIteration(true);
+        benchmark.addCase(
+                "partition-" + caseSuffix(),
+                5,
+                () -> {
+                    for (int i = 0; i < PARTITIONS_PER_ITERATION; i++) {
+                        new IntervalPartition(files, keyComparator).partition();
+                    }
+                });
+        benchmark.run();
+    }
+
+    /** Split each sorted run into files, files of different runs overlap by the ratio. */
+    private List<DataFileMeta> generateFiles() {
+        List<DataFileMeta> files = new ArrayList<>();
+        for (List<KeyValue> run : generateRuns(FILES_PER_RUN * ROWS_PER_FILE)) {
+            for (int i = 0; i < run.size(); i += ROWS_PER_FILE) {
+                KeyValue min = run.get(i);
+                KeyValue max = run.get(i + ROWS_PER_FILE - 1);
+                files.add(
+                        new DataFileMeta(
+                                "data-" + UUID.randomUUID() + ".orc",
+                                ROWS_PER_FILE * 100L,
+                                ROWS_PER_FILE,
+                                (BinaryRow) min.key(),
+                                (BinaryRow) max.key(),
+                                EMPTY_STATS,
+                                EMPTY_STATS,
+                                min.sequenceNumber(),
+                                max.sequenceNumber(),
+                                0,
+                                0,
+                                0L,
+                                null,
+                                FileSource.APPEND,
+                                null));
+            }
+        }
+        // the input order of files is not sorted in compaction
+        Collections.shuffle(files, new Random(42));
+        return files;
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.compact;
+
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.benchmark.Benchmark;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericArray;
+import org.apache.paimon.data.GenericMap;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
+import org.apache.paimon.mergetree.compact.FirstRowMergeFunction;
+import org.apache.paimon.mergetree.compact.MergeFunction;
+import org.apache.paimon.mergetree.compact.MergeFunctionFactory;
+import org.apache.paimon.mergetree.compact.aggregate.AggregateMergeFunction;
+import org.apache.paimon.mergetree.compact.aggregate.FieldAggregator;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowKind;
+import org.apache.paimon.utils.HllSketchUtil;
+import org.apache.paimon.utils.RoaringBitmap32;
+import org.apache.paimon.utils.RoaringBitmap64;
+import org.apache.paimon.utils.ThetaSketch;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Benchmark for measure the performance of {@link DeduplicateMergeFunction}, {@link
+ * FirstRowMergeFunction} and {@link AggregateMergeFunction} with each {@link FieldAggregator}.
+ */
+public class MergeFunctionBenchmark {
+
+    private static final int KEY_COUNT = 1000000;
+    private static final int[] VERSIONS_PER_KEY = {2, 8};
+
+    @Test
+    public void testDeduplicate() {
+        Benchmark benchmark = newBenchmark("deduplicate-merge-function-benchmark");
+        for (int versions : VERSIONS_PER_KEY) {
+            addCase(
+                    benchmark,
+                    "deduplicate",
+                    versions,
+                    DeduplicateMergeFunction.factory(),
+                    DataTypes.INT(),
+                    i -> i);
+        }
+        benchmark.run();
+    }
+
+    @Test
+    public void testFirstRow() {
+        Benchmark benchmark = newBenchmark("first-row-merge-function-benchmark");
+        for (int versions : VERSIONS_PER_KEY) {
+            addCase(
+                    benchmark,
+                    "first-row",
+                    versions,
+                    FirstRowMergeFunction.factory(new Options()),
+                    DataTypes.INT(),
+                    i -> i);
+        }
+        benchmark.run();
+    }
+
+    @Test
+    public void testAggregate() {
+        Benchmark benchmark = newBenchmark("aggregate-merge-function-benchmark");
+        for (int versions : VERSIONS_PER_KEY) {
+            addAggregateCase(benchmark, versions, "sum", DataTypes.INT(), i -> i);
+            addAggregateCase(benchmark, versions, "product", DataTypes.INT(), i -> i % 3 + 1);
+            addAggregateCase(benchmark, versions, "max", DataTypes.INT(), i -> i);
+            addAggregateCase(benchmark, versions, "min", DataTypes.INT(), i -> i);
+            addAggregateCase(benchmark, versions, "first_value", DataTypes.INT(), i -> i);
+            addAggregateCase(benchmark, versions, "first_non_null_value", DataTypes.INT(), i -> i);
+            addAggregateCase(benchmark, versions, "last_value", DataTypes.INT(), i -> i);
+            addAggregateCase(benchmark, versions, "last_non_null_value", DataTypes.INT(), i -> i);
+            addAggregateCase(benchmark, versions, "bool_and", DataTypes.BOOLEAN(), i -> i >= 0);
+            addAggregateCase(benchmark, versions, "bool_or", DataTypes.BOOLEAN(), i -> i < 0);
+            addAggregateCase(
+                    benchmark,
+                    versions,
+                    "listagg",
+                    DataTypes.STRING(),
+                    i -> BinaryString.fromString("v" + i));
+            addAggregateCase(
+                    benchmark,
+                    versions,
+                    "collect",
+                    DataTypes.ARRAY(DataTypes.INT()),
+                    i -> new GenericArray(new int[] {i}));
+            addAggregateCase(
+                    benchmark,
+                    versions,
+                    "merge_map",
+                    DataTypes.MAP(DataTypes.INT(), DataTypes.INT()),
+                    i -> new GenericMap(Collections.singletonMap(i, i)));
+            addAggregateCase(
+                    benchmark,
+                    versions,
+                    "nested_update",
+                    DataTypes.ARRAY(DataTypes.ROW(DataTypes.INT(), DataTypes.INT())),
+                    i -> new GenericArray(new Object[] {GenericRow.of(i, i)}));
+            addAggregateCase(
+                    benchmark,
+                    versions,
+                    "rbm32",
+                    DataTypes.VARBINARY(Integer.MAX_VALUE),
+                    i -> RoaringBitmap32.bitmapOf(i).serialize());
+            addAggregateCase(
+                    benchmark,
+                    versions,
+                    "rbm64",
+                    DataTypes.VARBINARY(Integer.MAX_VALUE),
+                    i -> {
+                        try {
+                            return RoaringBitmap64.bitmapOf(i).serialize();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+            addAggregateCase(
+                    benchmark,
+                    versions,
+                    "hll_sketch",
+                    DataTypes.VARBINARY(Integer.MAX_VALUE),
+                    HllSketchUtil::sketchOf);
+            addAggregateCase(
+                    benchmark,
+                    versions,
+                    "theta_sketch",
+                    DataTypes.VARBINARY(Integer.MAX_VALUE),
+                    ThetaSketch::sketchOf);
+        }
+        benchmark.run();
+    }
+
+    private Benchmark newBenchmark(String name) {
+        return new Benchmark(name, KEY_COUNT).setNumWarmupIters(1).setOutputPerIteration(true);
+    }
+
+    private void addAggregateCase(
+            Benchmark benchmark,
+            int versions,
+            String function,
+            DataType valueType,
+            IntFunction<Object> valueGenerator) {
+        Options options = new Options();
+        options.set("fields.v.aggregate-function", function);
+        MergeFunctionFactory<KeyValue> factory =
+                AggregateMergeFunction.factory(
+                        options,
+                        Arrays.asList("k", "v"),
+                        Arrays.asList(DataTypes.INT().notNull(), valueType),
+                        Collections.singletonList("k"));
+        addCase(benchmark, function, versions, factory, valueType, valueGenerator);
+    }
+
+    private void addCase(
+            Benchmark benchmark,
+            String name,
+            int versions,
+            MergeFunctionFactory<KeyValue> factory,
+            DataType valueType,
+            IntFunction<Object> valueGenerator) {
+        MergeFunction<KeyValue> function = factory.create();
+        List<KeyValue> records = generateVersions(versions, valueGenerator);
+        benchmark.addCase(
+                String.format("%s-%d-versions", name, versions),
+                5,
+                () -> {
+                    for (int i = 0; i < KEY_COUNT; i++) {
+                        function.reset();
+                        for (KeyValue kv : records) {
+                            function.add(kv);
+                        }
+                        function.getResult();
+                    }
+                });
+    }
+
+    private List<KeyValue> generateVersions(int versions, IntFunction<Object> valueGenerator) {
+        KeyValue[] records = new KeyValue[versions];
+        for (int i = 0; i < versions; i++) {
+            records[i] =
+                    new KeyValue()
+                            .replace(
+                                    GenericRow.of(1),
+                                    i,
+                                    RowKind.INSERT,
+                                    GenericRow.of(1, valueGenerator.apply(i)));
+        }
+        return Arrays.asList(records);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.compact;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.CoreOptions.SortEngine;
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.KeyValueFileStore;
+import org.apache.paimon.benchmark.Benchmark;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.deletionvectors.DeletionVector;
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.KeyValueFileReaderFactory;
+import org.apache.paimon.io.KeyValueFileWriterFactory;
+import org.apache.paimon.io.RollingFileWriter;
+import org.apache.paimon.manifest.FileSource;
+import org.apache.paimon.mergetree.MergeSorter;
+import org.apache.paimon.mergetree.SortedRun;
+import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
+import org.apache.paimon.mergetree.compact.IntervalPartition;
+import org.apache.paimon.mergetree.compact.MergeTreeCompactRewriter;
+import org.apache.paimon.schema.Schema;
+import org.apache.paimon.schema.SchemaManager;
+import org.apache.paimon.schema.TableSchema;
+import org.apache.paimon.table.FileStoreTableFactory;
+import org.apache.paimon.testutils.junit.parameterized.ParameterizedTestExtension;
+import org.apache.paimon.testutils.junit.parameterized.Parameters;
+import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.RowType;
+
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.apache.paimon.format.FileFormat.fileFormat;
+import static org.apache.paimon.table.PrimaryKeyTableUtils.addKeyNamePrefix;
+
+/**
+ * Benchmark for measure the performance of {@link MergeTreeCompactRewriter} which reads, merges and
+ * rewrites synthetic sorted runs.
+ */
+@ExtendWith(ParameterizedTestExtension.class)
+public class MergeTreeCompactRewriterBenchmark extends AbstractMergeTreeBenchmark {
+
+    private static final int ROWS_PER_RUN = 50000;
+    private static final int OUTPUT_LEVEL = 5;
+
+    @TempDir java.nio.file.Path tempDir;
+
+    public MergeTreeCompactRewriterBenchmark(List<Object> widthRunOverlap) {
+        super(widthRunOverlap);
+    }
+
+    @Parameters(name = "widthRunOverlap-{0}")
+    public static List<List<Object>> getVarSeg() {
+        return getWidthRunOverlapList();
+    }
+
+    @TestTemplate
+    public void testRewrite() throws Exception {
+        FileIO fileIO = LocalFileIO.create();
+        Path path = new Path(tempDir.toUri().toString());
+        List<String> primaryKeys =
+                keyType().getFields().stream().map(DataField::name).collect(Collectors.toList());
+        TableSchema tableSchema =
+                new SchemaManager(fileIO, path)
+                        .createTable(
+                                new Schema(
+                                        valueType().getFields(),
+                                        Collections.emptyList(),
+                                        primaryKeys,
+                                        Collections.singletonMap("bucket", "1"),
+                                        ""));
+        KeyValueFileStore store =
+                (KeyValueFileStore) FileStoreTableFactory.create(fileIO, path, tableSchema).store();
+        CoreOptions options = store.options();
+        RowType keyType = addKeyNamePrefix(keyType());
+        RowType valueType = valueType();
+        Comparator<InternalRow> keyComparator = keyComparator();
+
+        KeyValueFileWriterFactory writerFactory =
+                KeyValueFileWriterFactory.builder(
+                                fileIO,
+                                tableSchema.id(),
+                                keyType,
+                                valueType,
+                                fileFormat(options),
+                                format -> store.pathFactory(),
+                                options.targetFileSize(true))
+                        .build(BinaryRow.EMPTY_ROW, 0, options);
+        KeyValueFileReaderFactory readerFactory =
+                store.newReaderFactoryBuilder()
+                        .build(BinaryRow.EMPTY_ROW, 0, DeletionVector.emptyFactory());
+
+        List<List<KeyValue>> runs = generateRuns(ROWS_PER_RUN);
+        List<DataFileMeta> files = new ArrayList<>();
+        for (List<KeyValue> run : runs) {
+            RollingFileWriter<KeyValue, DataFileMeta> writer =
+                    writerFactory.createRollingMergeTreeFileWriter(0, FileSource.APPEND);
+            for (KeyValue kv : run) {
+                writer.write(kv);
+            }
+            writer.close();
+            files.addAll(writer.result());
+        }
+        List<List<SortedRun>> sections = new IntervalPartition(files, keyComparator).partition();
+
+        Benchmark benchmark =
+                new Benchmark("merge-tree-compact-rewriter-benchmark", totalRows(runs))
+                        .setNumWarmupIters(1)
+                        .setOutputPerIteration(true);
+        for (SortEngine sortEngine : SortEngine.values()) {
+            CoreOptions sortOptions =
+                    CoreOptions.fromMap(
+                            Collections.singletonMap(
+                                    CoreOptions.SORT_ENGINE.key(), sortEngine.toString()));
+            MergeTreeCompactRewriter rewriter =
+                    new MergeTreeCompactRewriter(
+                            readerFactory,
+                            writerFactory,
+                            keyComparator,
+                            null,
+                            DeduplicateMergeFunction.factory(),
+                            new MergeSorter(sortOptions, keyType, valueType, null));
+            benchmark.addCase(
+                    String.format("rewrite-%s-%s", sortEngine, caseSuffix()),
+                    5,
+                    () -> {
+                        try {
+                            rewriter.rewrite(OUTPUT_LEVEL, true, sections);
+                        } catch (Exception e) {
+                            throw new RuntimeException(e);
+                        }
+                    });
+        }
+        benchmark.run();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.compact;
+
+import org.apache.paimon.CoreOptions.SortEngine;
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.benchmark.Benchmark;
+import org.apache.paimon.codegen.CodeGenUtils;
+import org.apache.paimon.codegen.NormalizedKeyComputer;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
+import org.apache.paimon.mergetree.compact.ReducerMergeFunctionWrapper;
+import org.apache.paimon.mergetree.compact.SortMergeReader;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.testutils.junit.parameterized.ParameterizedTestExtension;
+import org.apache.paimon.testutils.junit.parameterized.Parameters;
+
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark for measure the performance of {@link SortMergeReader} with loser tree and min heap,
+ * the loser tree is measured with and without comparing normalized key prefixes.
+ */
+@ExtendWith(ParameterizedTestExtension.class)
+public class SortMergeReaderBenchmark extends AbstractMergeTreeBenchmark {
+
+    private static final int ROWS_PER_RUN = 200000;
+
+    public SortMergeReaderBenchmark(List<Object> widthRunOverlap) {
+        super(widthRunOverlap);
+    }
+
+    @Parameters(name = "widthRunOverlap-{0}")
+    public static List<List<Object>> getVarSeg() {
+        return getWidthRunOverlapList();
+    }
+
+    @TestTemplate
+    public void testSortMergeReader() {
+        List<List<KeyValue>> runs = generateRuns(ROWS_PER_RUN);
+        Comparator<InternalRow> keyComparator = keyComparator();
+        NormalizedKeyComputer normalizedKeyComputer =
+                CodeGenUtils.newNormalizedKeyComputer(
+                        keyType().getFieldTypes(), IntStream.range(0, keyWidth).toArray());
+
+        Benchmark benchmark =
+                new Benchmark("sort-merge-reader-benchmark", totalRows(runs))
+                        .setNumWarmupIters(1)
+                        .setOutputPerIteration(true);
+        for (SortEngine sortEngine : SortEngine.values()) {
+            addCase(benchmark, sortEngine.toString(), runs, keyComparator, sortEngine, null);
+        }
+        addCase(
+                benchmark,
+                SortEngine.LOSER_TREE + "-normalized-key",
+                runs,
+                keyComparator,
+                SortEngine.LOSER_TREE,
+                normalizedKeyComputer);
+        benchmark.run();
+    }
+
+    private void addCase(
+            Benchmark benchmark,
+            String name,
+            List<List<KeyValue>> runs,
+            Comparator<InternalRow> keyComparator,
+            SortEngine engine,
+            @Nullable NormalizedKeyComputer normalizedKeyComputer) {
+        benchmark.addCase(
+                String.format("%s-%s", name, caseSuffix()),
+                5,
+                () -> {
+                    try {
+                        consume(runs, keyComparator, engine, normalizedKeyComputer);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    private void consume(
+            List<List<KeyValue>> runs,
+            Comparator<InternalRow> keyComparator,
+            SortEngine engine,
+            @Nullable NormalizedKeyComputer normalizedKeyComputer)
+            throws IOException {
+        try (RecordReader<KeyValue> reader =
+                SortMergeReader.createSortMergeReader(
+                        readers(runs),
+                        keyComparator,
+                        null,
+                        new ReducerMergeFunctionWrapper(
+                                DeduplicateMergeFunction.factory().create()),
+                        engine,
+                        normalizedKeyComputer)) {
+            RecordReader.RecordIterator<KeyValue> batch;
+            while ((batch = reader.readBatch()) != null) {
+                while (batch.next() != null) {}
+                batch.releaseBatch();
+            }
+        }
+    }
+}
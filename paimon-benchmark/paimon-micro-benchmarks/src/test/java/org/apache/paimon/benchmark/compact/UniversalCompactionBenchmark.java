@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.compact;
+
+import org.apache.paimon.benchmark.Benchmark;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.manifest.FileSource;
+import org.apache.paimon.mergetree.LevelSortedRun;
+import org.apache.paimon.mergetree.SortedRun;
+import org.apache.paimon.mergetree.compact.UniversalCompaction;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.apache.paimon.io.DataFileMeta.EMPTY_MAX_KEY;
+import static org.apache.paimon.io.DataFileMeta.EMPTY_MIN_KEY;
+import static org.apache.paimon.stats.SimpleStats.EMPTY_STATS;
+
+/** Benchmark for measure the performance of {@link UniversalCompaction#pick}. */
+public class UniversalCompactionBenchmark {
+
+    private static final int[] RUN_COUNTS = {5, 20, 100};
+    private static final int NUM_LEVELS = 6;
+    private static final int PICKS_PER_ITERATION = 100000;
+
+    @Test
+    public void testPick() {
+        Benchmark benchmark =
+                new Benchmark("universal-compaction-pick-benchmark", PICKS_PER_ITERATION)
+                        .setNumWarmupIters(1)
+                        .setOutputPerIteration(true);
+        for (int runCount : RUN_COUNTS) {
+            // a large trigger to go through size amplification and size ratio checks
+            UniversalCompaction compaction = new UniversalCompaction(200, 1, runCount + 1);
+            List<LevelSortedRun> runs = generateRuns(runCount);
+            benchmark.addCase(
+                    String.format("pick-%d-runs", runCount),
+                    5,
+                    () -> {
+                        for (int i = 0; i < PICKS_PER_ITERATION; i++) {
+                            compaction.pick(NUM_LEVELS, runs);
+                        }
+                    });
+        }
+        benchmark.run();
+    }
+
+    /** Level 0 runs are small, runs of higher levels are larger. */
+    private List<LevelSortedRun> generateRuns(int runCount) {
+        Random random = new Random(42);
+        List<LevelSortedRun> runs = new ArrayList<>();
+        int level0Runs = runCount - (NUM_LEVELS - 1);
+        for (int i = 0; i < runCount; i++) {
+            int level = i < level0Runs ? 0 : i - level0Runs + 1;
+            long fileSize = (random.nextInt(64) + 1) * (1L << (20 + 2 * level));
+            runs.add(new LevelSortedRun(level, SortedRun.fromSingle(newFile(fileSize, level))));
+        }
+        return runs;
+    }
+
+    private DataFileMeta newFile(long fileSize, int level) {
+        return new DataFileMeta(
+                "data-" + UUID.randomUUID() + ".orc",
+                fileSize,
+                1,
+                EMPTY_MIN_KEY,
+                EMPTY_MAX_KEY,
+                EMPTY_STATS,
+                EMPTY_STATS,
+                0,
+                0,
+                0,
+                level,
+                0L,
+                null,
+                FileSource.APPEND,
+                null);
+    }
+}
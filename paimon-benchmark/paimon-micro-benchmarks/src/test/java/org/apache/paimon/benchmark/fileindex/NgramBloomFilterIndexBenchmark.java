@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.fileindex;
+
+import org.apache.paimon.benchmark.Benchmark;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.fileindex.FileIndexReader;
+import org.apache.paimon.fileindex.FileIndexWriter;
+import org.apache.paimon.fileindex.ngram.NgramBloomFilterFileIndex;
+import org.apache.paimon.fs.ByteArraySeekableStream;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.types.DataTypes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Benchmark for {@link NgramBloomFilterFileIndex}, compares searching a substring in all files with
+ * skipping files by the index first.
+ */
+public class NgramBloomFilterIndexBenchmark {
+
+    private static final int FILE_COUNT = 100;
+    private static final int ROWS_PER_FILE = 10000;
+
+    @Test
+    public void testContains() {
+        Options options = new Options();
+        // trace ids are hex strings, short grams would be contained in every file
+        options.setInteger(NgramBloomFilterFileIndex.GRAM_SIZE, 8);
+        options.setInteger(NgramBloomFilterFileIndex.ITEMS, 500000);
+        NgramBloomFilterFileIndex index =
+                new NgramBloomFilterFileIndex(DataTypes.STRING(), options);
+
+        List<BinaryString[]> files = new ArrayList<>();
+        List<byte[]> indexes = new ArrayList<>();
+        for (int i = 0; i < FILE_COUNT; i++) {
+            BinaryString[] rows = new BinaryString[ROWS_PER_FILE];
+            FileIndexWriter writer = index.createWriter();
+            for (int j = 0; j < ROWS_PER_FILE; j++) {
+                rows[j] =
+                        BinaryString.fromString(
+                                "INFO [main] request traceId="
+                                        + UUID.randomUUID()
+                                        + " finished in "
+                                        + j
+                                        + " ms");
+                writer.write(rows[j]);
+            }
+            files.add(rows);
+            indexes.add(writer.serializedBytes());
+        }
+        String row = files.get(FILE_COUNT / 2)[ROWS_PER_FILE / 2].toString();
+        BinaryString traceId =
+                BinaryString.fromString(row.substring(row.indexOf('=') + 1, row.indexOf(' ', 30)));
+
+        Benchmark benchmark =
+                new Benchmark("ngram-bloom-filter-contains", (long) FILE_COUNT * ROWS_PER_FILE)
+                        .setNumWarmupIters(1)
+                        .setOutputPerIteration(true);
+        benchmark.addCase("full-scan", 5, () -> search(files, null, traceId));
+        benchmark.addCase("ngram-index-skip", 5, () -> search(files, indexes, traceId));
+        benchmark.run();
+    }
+
+    private static void search(
+            List<BinaryString[]> files, List<byte[]> indexes, BinaryString traceId) {
+        int matched = 0;
+        for (int i = 0; i < files.size(); i++) {
+            if (indexes != null) {
+                byte[] bytes = indexes.get(i);
+                FileIndexReader reader =
+                        new NgramBloomFilterFileIndex(DataTypes.STRING(), new Options())
+                                .createReader(new ByteArraySeekableStream(bytes), 0, bytes.length);
+                if (!reader.visitContains(null, traceId).remain()) {
+                    continue;
+                }
+            }
+            for (BinaryString row : files.get(i)) {
+                if (row.contains(traceId)) {
+                    matched++;
+                }
+            }
+        }
+        if (matched != 1) {
+            throw new IllegalStateException("Expected one matched row, but is " + matched);
+        }
+    }
+}
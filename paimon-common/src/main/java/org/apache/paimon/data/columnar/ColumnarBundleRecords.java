@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.data.columnar;
+
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.io.BundleRecords;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link BundleRecords} backed by a {@link VectorizedColumnBatch}. ORC writes its vectors column by
+ * column instead of row by row, other formats still write it row by row.
+ */
+public class ColumnarBundleRecords implements BundleRecords {
+
+    private final VectorizedColumnBatch batch;
+
+    public ColumnarBundleRecords(VectorizedColumnBatch batch) {
+        this.batch = batch;
+    }
+
+    public VectorizedColumnBatch batch() {
+        return batch;
+    }
+
+    @Override
+    public long rowCount() {
+        return batch.getNumRows();
+    }
+
+    @Override
+    public Iterator<InternalRow> iterator() {
+        return new Iterator<InternalRow>() {
+
+            private int rowId = 0;
+
+            @Override
+            public boolean hasNext() {
+                return rowId < batch.getNumRows();
+            }
+
+            @Override
+            public InternalRow next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return new ColumnarRow(batch, rowId++);
+            }
+        };
+    }
+}
@@ -73,6 +73,11 @@ public abstract class AbstractWritableVector implements WritableColumnVector, Se
         return isAllNull;
     }
 
+    /** Returns true if this column may contain nulls. */
+    public boolean hasNulls() {
+        return !noNulls;
+    }
+
     @Override
     public int getElementsAppended() {
         return elementsAppended;
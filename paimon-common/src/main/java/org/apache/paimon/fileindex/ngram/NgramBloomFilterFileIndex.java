@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fileindex.ngram;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.fileindex.FileIndexReader;
+import org.apache.paimon.fileindex.FileIndexResult;
+import org.apache.paimon.fileindex.FileIndexWriter;
+import org.apache.paimon.fileindex.FileIndexer;
+import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.FieldRef;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypeFamily;
+import org.apache.paimon.utils.BloomFilter64;
+import org.apache.paimon.utils.BloomFilter64.BitSet;
+import org.apache.paimon.utils.IOUtils;
+
+import net.openhft.hashing.LongHashFunction;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.apache.paimon.fileindex.FileIndexResult.REMAIN;
+import static org.apache.paimon.fileindex.FileIndexResult.SKIP;
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * N-gram bloom filter for file index of string columns.
+ *
+ * <p>All the n-grams (substrings of n bytes in UTF-8) of the values are put to a {@link
+ * BloomFilter64}. A value containing a literal contains all the n-grams of the literal, so a file
+ * can be skipped by {@code Contains}, {@code StartsWith}, {@code EndsWith} and {@code Equal}
+ * predicates if one n-gram of the literal is not in the filter. Literals shorter than n can not be
+ * tested.
+ *
+ * <p>Serialized as: gram size (one integer), num hash functions (one integer) and bit set bytes.
+ */
+public class NgramBloomFilterFileIndex implements FileIndexer {
+
+    public static final String GRAM_SIZE = "gram-size";
+    public static final String ITEMS = "items";
+    public static final String FPP = "fpp";
+
+    private static final int DEFAULT_GRAM_SIZE = 3;
+    private static final int DEFAULT_ITEMS = 1_000_000;
+    private static final double DEFAULT_FPP = 0.1;
+
+    private final int gramSize;
+    private final int items;
+    private final double fpp;
+
+    public NgramBloomFilterFileIndex(DataType dataType, Options options) {
+        checkArgument(
+                dataType.is(DataTypeFamily.CHARACTER_STRING),
+                "Ngram bloom filter index only supports string type, but is %s.",
+                dataType);
+        this.gramSize = options.getInteger(GRAM_SIZE, DEFAULT_GRAM_SIZE);
+        this.items = options.getInteger(ITEMS, DEFAULT_ITEMS);
+        this.fpp = options.getDouble(FPP, DEFAULT_FPP);
+        checkArgument(gramSize > 0, "Gram size should be positive, but is %s.", gramSize);
+    }
+
+    @Override
+    public FileIndexWriter createWriter() {
+        return new Writer(gramSize, items, fpp);
+    }
+
+    @Override
+    public FileIndexReader createReader(SeekableInputStream inputStream, int start, int length) {
+        try {
+            inputStream.seek(start);
+            byte[] serializedBytes = new byte[length];
+            IOUtils.readFully(inputStream, serializedBytes);
+            return new Reader(serializedBytes);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static long hash(byte[] bytes, int offset, int gramSize) {
+        return LongHashFunction.xx().hashBytes(bytes, offset, gramSize);
+    }
+
+    private static class Writer extends FileIndexWriter {
+
+        private final int gramSize;
+        private final BloomFilter64 filter;
+
+        public Writer(int gramSize, int items, double fpp) {
+            this.gramSize = gramSize;
+            this.filter = new BloomFilter64(items, fpp);
+        }
+
+        @Override
+        public void write(Object key) {
+            if (key != null) {
+                byte[] bytes = ((BinaryString) key).toBytes();
+                for (int i = 0; i + gramSize <= bytes.length; i++) {
+                    filter.addHash(hash(bytes, i, gramSize));
+                }
+            }
+        }
+
+        @Override
+        public byte[] serializedBytes() {
+            int bitSetBytes = filter.getBitSet().bitSize() / Byte.SIZE;
+            byte[] serialized = new byte[Integer.BYTES * 2 + bitSetBytes];
+            ByteBuffer buffer = ByteBuffer.wrap(serialized);
+            buffer.putInt(gramSize);
+            buffer.putInt(filter.getNumHashFunctions());
+            filter.getBitSet().toByteArray(serialized, buffer.position(), bitSetBytes);
+            return serialized;
+        }
+    }
+
+    private static class Reader extends FileIndexReader {
+
+        private final int gramSize;
+        private final BloomFilter64 filter;
+
+        public Reader(byte[] serializedBytes) {
+            ByteBuffer buffer = ByteBuffer.wrap(serializedBytes);
+            this.gramSize = buffer.getInt();
+            int numHashFunctions = buffer.getInt();
+            this.filter =
+                    new BloomFilter64(
+                            numHashFunctions, new BitSet(serializedBytes, buffer.position()));
+        }
+
+        @Override
+        public FileIndexResult visitEqual(FieldRef fieldRef, Object literal) {
+            return testGrams(literal);
+        }
+
+        @Override
+        public FileIndexResult visitStartsWith(FieldRef fieldRef, Object literal) {
+            return testGrams(literal);
+        }
+
+        @Override
+        public FileIndexResult visitEndsWith(FieldRef fieldRef, Object literal) {
+            return testGrams(literal);
+        }
+
+        @Override
+        public FileIndexResult visitContains(FieldRef fieldRef, Object literal) {
+            return testGrams(literal);
+        }
+
+        private FileIndexResult testGrams(Object literal) {
+            if (!(literal instanceof BinaryString)) {
+                return REMAIN;
+            }
+
+            byte[] bytes = ((BinaryString) literal).toBytes();
+            for (int i = 0; i + gramSize <= bytes.length; i++) {
+                if (!filter.testHash(hash(bytes, i, gramSize))) {
+                    return SKIP;
+                }
+            }
+            return REMAIN;
+        }
+    }
+}
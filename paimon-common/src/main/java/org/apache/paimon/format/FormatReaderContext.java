@@ -20,6 +20,7 @@ package org.apache.paimon.format;
 
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.PrefetchStats;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.utils.RoaringBitmap32;
 
@@ -32,6 +33,7 @@ public class FormatReaderContext implements FormatReaderFactory.Context {
     private final Path file;
     private final long fileSize;
     @Nullable private final RoaringBitmap32 selection;
+    @Nullable private final PrefetchStats prefetchStats;
 
     public FormatReaderContext(FileIO fileIO, Path file, long fileSize) {
         this(fileIO, file, fileSize, null);
@@ -39,10 +41,20 @@ public class FormatReaderContext implements FormatReaderFactory.Context {
 
     public FormatReaderContext(
             FileIO fileIO, Path file, long fileSize, @Nullable RoaringBitmap32 selection) {
+        this(fileIO, file, fileSize, selection, null);
+    }
+
+    public FormatReaderContext(
+            FileIO fileIO,
+            Path file,
+            long fileSize,
+            @Nullable RoaringBitmap32 selection,
+            @Nullable PrefetchStats prefetchStats) {
         this.fileIO = fileIO;
         this.file = file;
         this.fileSize = fileSize;
         this.selection = selection;
+        this.prefetchStats = prefetchStats;
     }
 
     @Override
@@ -65,4 +77,10 @@ public class FormatReaderContext implements FormatReaderFactory.Context {
     public RoaringBitmap32 selection() {
         return selection;
     }
+
+    @Nullable
+    @Override
+    public PrefetchStats prefetchStats() {
+        return prefetchStats;
+    }
 }
@@ -20,15 +20,27 @@ package org.apache.paimon.format;
 
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.PrefetchStats;
 import org.apache.paimon.reader.RecordReader;
 
+import javax.annotation.Nullable;
+
 /** The context for creating orc {@link RecordReader}. */
 public class OrcFormatReaderContext extends FormatReaderContext {
 
     private final int poolSize;
 
     public OrcFormatReaderContext(FileIO fileIO, Path filePath, long fileSize, int poolSize) {
-        super(fileIO, filePath, fileSize);
+        this(fileIO, filePath, fileSize, poolSize, null);
+    }
+
+    public OrcFormatReaderContext(
+            FileIO fileIO,
+            Path filePath,
+            long fileSize,
+            int poolSize,
+            @Nullable PrefetchStats prefetchStats) {
+        super(fileIO, filePath, fileSize, null, prefetchStats);
         this.poolSize = poolSize;
     }
 
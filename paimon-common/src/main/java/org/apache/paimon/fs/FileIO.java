@@ -253,12 +253,39 @@ public interface FileIO extends Serializable, Closeable {
         }
     }
 
+    /**
+     * Delete files quietly. By default, files are deleted concurrently one by one. File systems
+     * which can delete multiple files in one request, such as S3 DeleteObjects, should override
+     * this method together with {@link #bulkDeleteLimit()}.
+     */
     default void deleteFilesQuietly(List<Path> files) {
-        for (Path file : files) {
-            deleteQuietly(file);
+        if (files.size() <= 1) {
+            files.forEach(this::deleteQuietly);
+            return;
+        }
+
+        try {
+            FileIOUtils.concurrentlyApply(
+                    files,
+                    file -> {
+                        deleteQuietly(file);
+                        return null;
+                    });
+        } catch (IOException e) {
+            // deleteQuietly never throws IOException
+            LOG.warn("Exception occurs when deleting files " + files, e);
         }
     }
 
+    /**
+     * The max number of files which can be deleted in one request by {@link #deleteFilesQuietly}.
+     * Returns 1 if files can only be deleted one by one, then callers should delete files
+     * concurrently instead.
+     */
+    default int bulkDeleteLimit() {
+        return 1;
+    }
+
     default void deleteDirectoryQuietly(Path directory) {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Ready to delete " + directory.toString());
@@ -281,6 +308,41 @@ public interface FileIO extends Serializable, Closeable {
         return getFileStatus(path).isDir();
     }
 
+    /**
+     * Check whether the given paths exist. By default, paths are checked concurrently one by one,
+     * file systems which support batch requests can override this method.
+     *
+     * @return whether each path exists, in the same order as the given paths
+     */
+    default boolean[] exists(List<Path> paths) throws IOException {
+        List<Boolean> exists = FileIOUtils.concurrentlyApply(paths, this::exists);
+        boolean[] result = new boolean[exists.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = exists.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Return the file statuses of the given paths. By default, statuses are fetched concurrently
+     * one by one, file systems which support batch requests can override this method.
+     *
+     * @return the status of each path in the same order as the given paths, null if the path does
+     *     not exist
+     */
+    default FileStatus[] getFileStatuses(List<Path> paths) throws IOException {
+        return FileIOUtils.concurrentlyApply(
+                        paths,
+                        path -> {
+                            try {
+                                return getFileStatus(path);
+                            } catch (FileNotFoundException e) {
+                                return null;
+                            }
+                        })
+                .toArray(new FileStatus[0]);
+    }
+
     default void checkOrMkdirs(Path path) throws IOException {
         if (exists(path)) {
             checkArgument(isDir(path), "The path '%s' should be a directory.", path);
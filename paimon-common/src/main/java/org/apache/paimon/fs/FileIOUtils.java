@@ -19,19 +19,34 @@
 package org.apache.paimon.fs;
 
 import org.apache.paimon.catalog.CatalogContext;
+import org.apache.paimon.utils.FunctionWithIOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import static org.apache.paimon.utils.Preconditions.checkArgument;
 import static org.apache.paimon.utils.ThreadUtils.newDaemonThreadFactory;
 
 /** Utils for {@link FileIO}. */
 public class FileIOUtils {
 
+    private static final Logger LOG = LoggerFactory.getLogger(FileIOUtils.class);
+
     public static final ExecutorService IO_THREAD_POOL =
             Executors.newCachedThreadPool(newDaemonThreadFactory("IO-THREAD-POOL"));
 
+    /** Default max number of concurrent requests of {@link #concurrentlyApply}. */
+    public static final int DEFAULT_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
     public static FileIOLoader checkAccess(FileIOLoader fileIO, Path path, CatalogContext config)
             throws IOException {
         if (fileIO == null) {
@@ -44,4 +59,89 @@ public class FileIOUtils {
         io.exists(path);
         return fileIO;
     }
+
+    /**
+     * Apply the function to the paths concurrently with {@link #DEFAULT_PARALLELISM}, see {@link
+     * #concurrentlyApply(List, int, FunctionWithIOException)}.
+     */
+    public static <T> List<T> concurrentlyApply(
+            List<Path> paths, FunctionWithIOException<Path, T> function) throws IOException {
+        return concurrentlyApply(paths, DEFAULT_PARALLELISM, function);
+    }
+
+    /**
+     * Apply the function to the paths concurrently in {@link #IO_THREAD_POOL}, this is the fallback
+     * of batch operations for file systems which can only handle one path per request. The paths
+     * are split into at most {@code parallelism} slices, each applied sequentially by one thread,
+     * so a large batch does not flood the pool and the file system. The context class loader of the
+     * caller is passed to the IO threads, so plugin file systems work too.
+     *
+     * @return results in the same order as the given paths
+     */
+    public static <T> List<T> concurrentlyApply(
+            List<Path> paths, int parallelism, FunctionWithIOException<Path, T> function)
+            throws IOException {
+        checkArgument(parallelism > 0, "Parallelism must be positive, but is %s.", parallelism);
+        long start = System.currentTimeMillis();
+        List<T> result = new ArrayList<>(paths.size());
+        int numSlices = Math.min(parallelism, paths.size());
+        if (numSlices <= 1) {
+            for (Path path : paths) {
+                result.add(function.apply(path));
+            }
+            return result;
+        }
+
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        List<Future<List<T>>> futures = new ArrayList<>(numSlices);
+        for (int i = 0; i < numSlices; i++) {
+            List<Path> slice =
+                    paths.subList(
+                            (int) ((long) i * paths.size() / numSlices),
+                            (int) ((long) (i + 1) * paths.size() / numSlices));
+            futures.add(
+                    IO_THREAD_POOL.submit(
+                            () -> {
+                                Thread thread = Thread.currentThread();
+                                ClassLoader previous = thread.getContextClassLoader();
+                                try {
+                                    thread.setContextClassLoader(cl);
+                                    List<T> sliceResult = new ArrayList<>(slice.size());
+                                    for (Path path : slice) {
+                                        sliceResult.add(function.apply(path));
+                                    }
+                                    return sliceResult;
+                                } finally {
+                                    thread.setContextClassLoader(previous);
+                                }
+                            }));
+        }
+
+        try {
+            for (Future<List<T>> future : futures) {
+                result.addAll(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for concurrent file operations.", e);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            throw new RuntimeException(cause);
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(
+                    "Concurrently applied file operation on {} paths in {} ms.",
+                    paths.size(),
+                    System.currentTimeMillis() - start);
+        }
+        return result;
+    }
 }
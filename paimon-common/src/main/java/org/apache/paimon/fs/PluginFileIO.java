@@ -22,6 +22,7 @@ import org.apache.paimon.catalog.CatalogContext;
 import org.apache.paimon.options.Options;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * A {@link FileIO} for plugin jar. {@link FileIO} is serializable, so plugin FileIO should be
@@ -82,6 +83,57 @@ public abstract class PluginFileIO implements FileIO {
         return wrap(() -> fileIO(src).rename(src, dst));
     }
 
+    @Override
+    public boolean[] exists(List<Path> paths) throws IOException {
+        if (paths.isEmpty()) {
+            return new boolean[0];
+        }
+        return wrap(() -> fileIO(paths.get(0)).exists(paths));
+    }
+
+    @Override
+    public FileStatus[] getFileStatuses(List<Path> paths) throws IOException {
+        if (paths.isEmpty()) {
+            return new FileStatus[0];
+        }
+        return wrap(() -> fileIO(paths.get(0)).getFileStatuses(paths));
+    }
+
+    @Override
+    public void deleteFilesQuietly(List<Path> files) {
+        if (files.isEmpty()) {
+            return;
+        }
+
+        try {
+            wrap(
+                    () -> {
+                        fileIO(files.get(0)).deleteFilesQuietly(files);
+                        return null;
+                    });
+        } catch (IOException e) {
+            LOG.warn("Exception occurs when deleting files " + files, e);
+        }
+    }
+
+    @Override
+    public int bulkDeleteLimit() {
+        // the plugin FileIO is created by the first path, files must have been accessed before
+        // deleting them, otherwise files are deleted one by one
+        FileIO fileIO = lazyFileIO;
+        if (fileIO == null) {
+            return 1;
+        }
+
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        try {
+            Thread.currentThread().setContextClassLoader(pluginClassLoader());
+            return fileIO.bulkDeleteLimit();
+        } finally {
+            Thread.currentThread().setContextClassLoader(cl);
+        }
+    }
+
     private FileIO fileIO(Path path) throws IOException {
         if (lazyFileIO == null) {
             synchronized (this) {
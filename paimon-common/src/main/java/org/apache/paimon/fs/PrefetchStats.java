@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fs;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statistics of {@link VectoredReadPrefetcher}s, shared by the readers of a table read. Each
+ * prefetcher adds its statistics when it is closed.
+ */
+public class PrefetchStats {
+
+    private final AtomicLong hitBytes = new AtomicLong(0);
+    private final AtomicLong stallNanos = new AtomicLong(0);
+
+    public void add(long hitBytes, long stallNanos) {
+        this.hitBytes.addAndGet(hitBytes);
+        this.stallNanos.addAndGet(stallNanos);
+    }
+
+    /** Total bytes served from prefetched data. */
+    public long hitBytes() {
+        return hitBytes.get();
+    }
+
+    /** Total time spent on waiting for data in nanoseconds. */
+    public long stallNanos() {
+        return stallNanos.get();
+    }
+}
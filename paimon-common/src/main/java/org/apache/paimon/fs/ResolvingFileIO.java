@@ -25,6 +25,9 @@ import org.apache.paimon.options.Options;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
@@ -107,6 +110,75 @@ public class ResolvingFileIO implements FileIO {
         return wrap(() -> fileIO(src).rename(src, dst));
     }
 
+    @Override
+    public boolean[] exists(List<Path> paths) throws IOException {
+        boolean[] result = new boolean[paths.size()];
+        for (Map.Entry<FileIO, List<Integer>> entry : groupByFileIO(paths).entrySet()) {
+            List<Integer> indices = entry.getValue();
+            boolean[] exists = wrap(() -> entry.getKey().exists(select(paths, indices)));
+            for (int i = 0; i < indices.size(); i++) {
+                result[indices.get(i)] = exists[i];
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public FileStatus[] getFileStatuses(List<Path> paths) throws IOException {
+        FileStatus[] result = new FileStatus[paths.size()];
+        for (Map.Entry<FileIO, List<Integer>> entry : groupByFileIO(paths).entrySet()) {
+            List<Integer> indices = entry.getValue();
+            FileStatus[] statuses =
+                    wrap(() -> entry.getKey().getFileStatuses(select(paths, indices)));
+            for (int i = 0; i < indices.size(); i++) {
+                result[indices.get(i)] = statuses[i];
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void deleteFilesQuietly(List<Path> files) {
+        try {
+            for (Map.Entry<FileIO, List<Integer>> entry : groupByFileIO(files).entrySet()) {
+                wrap(
+                        () -> {
+                            entry.getKey().deleteFilesQuietly(select(files, entry.getValue()));
+                            return null;
+                        });
+            }
+        } catch (IOException e) {
+            LOG.warn("Exception occurs when deleting files " + files, e);
+        }
+    }
+
+    @Override
+    public int bulkDeleteLimit() {
+        // files are grouped by the resolved FileIO in deleteFilesQuietly, so the largest limit of
+        // the resolved FileIOs is used
+        int limit = 1;
+        for (FileIO fileIO : fileIOMap.values()) {
+            limit = Math.max(limit, fileIO.bulkDeleteLimit());
+        }
+        return limit;
+    }
+
+    private Map<FileIO, List<Integer>> groupByFileIO(List<Path> paths) throws IOException {
+        Map<FileIO, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < paths.size(); i++) {
+            groups.computeIfAbsent(fileIO(paths.get(i)), k -> new ArrayList<>()).add(i);
+        }
+        return groups;
+    }
+
+    private static List<Path> select(List<Path> paths, List<Integer> indices) {
+        List<Path> selected = new ArrayList<>(indices.size());
+        for (int index : indices) {
+            selected.add(paths.get(index));
+        }
+        return selected;
+    }
+
     @VisibleForTesting
     public FileIO fileIO(Path path) throws IOException {
         CacheKey cacheKey = new CacheKey(path.toUri().getScheme(), path.toUri().getAuthority());
@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fs;
+
+import javax.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.apache.paimon.fs.FileIOUtils.IO_THREAD_POOL;
+
+/**
+ * Reads {@link FileRange}s of a {@link PositionedReadable} ahead in background, so that following
+ * reads of ranges contained in them do not need to wait for the remote storage. Sequential readers
+ * use {@link #readFromPrefetched}, vectored readers use {@link #readVectored}.
+ *
+ * <p>Only one batch of ranges is prefetched at a time, a batch exceeding the memory budget is not
+ * prefetched.
+ *
+ * <p>The prefetcher must be closed before the readable, so that no background read is issued on a
+ * closed stream.
+ */
+public class VectoredReadPrefetcher implements Closeable {
+
+    private final PositionedReadable readable;
+    private final VectoredReadable backgroundReadable;
+    private final long maxBytes;
+    @Nullable private final PrefetchStats stats;
+
+    private List<FileRange> prefetched = Collections.emptyList();
+    private volatile boolean closed;
+
+    private long prefetchedBytes;
+    private long hitBytes;
+    private long stallNanos;
+
+    public VectoredReadPrefetcher(PositionedReadable readable, long maxBytes) {
+        this(readable, maxBytes, null);
+    }
+
+    public VectoredReadPrefetcher(
+            PositionedReadable readable, long maxBytes, @Nullable PrefetchStats stats) {
+        this.readable = readable;
+        this.backgroundReadable = new BackgroundReadable();
+        this.maxBytes = maxBytes;
+        this.stats = stats;
+    }
+
+    /**
+     * Starts to read the ranges in background and releases the previously prefetched ranges.
+     *
+     * @return false if the ranges exceed the memory budget or the prefetcher is closed, and are not
+     *     prefetched
+     */
+    public boolean prefetch(List<FileRange> ranges) {
+        long totalBytes = 0;
+        for (FileRange range : ranges) {
+            totalBytes += range.getLength();
+        }
+        if (closed || ranges.isEmpty() || totalBytes > maxBytes) {
+            prefetched = Collections.emptyList();
+            return false;
+        }
+
+        List<FileRange> toRead = new ArrayList<>(ranges);
+        prefetched = toRead;
+        prefetchedBytes += totalBytes;
+        // issue the reads in the pool too, vectored read blocks when the parallelism is reached
+        IO_THREAD_POOL.execute(
+                () -> {
+                    try {
+                        VectoredReadUtils.readVectored(backgroundReadable, toRead);
+                    } catch (Throwable t) {
+                        toRead.forEach(range -> range.getData().completeExceptionally(t));
+                    }
+                });
+        return true;
+    }
+
+    /**
+     * Reads the ranges like {@link VectoredReadable#readVectored}, ranges contained in prefetched
+     * ranges are served from the prefetched data. Only for {@link VectoredReadable} streams.
+     */
+    public void readVectored(List<? extends FileRange> ranges) throws IOException {
+        List<FileRange> missing = new ArrayList<>();
+        for (FileRange range : ranges) {
+            FileRange source = findPrefetched(range.getOffset(), range.getLength());
+            if (source == null) {
+                missing.add(range);
+            } else {
+                hitBytes += range.getLength();
+                int start = (int) (range.getOffset() - source.getOffset());
+                source.getData()
+                        .whenComplete(
+                                (bytes, throwable) -> {
+                                    if (throwable != null) {
+                                        range.getData().completeExceptionally(throwable);
+                                    } else {
+                                        range.getData()
+                                                .complete(slice(bytes, start, range.getLength()));
+                                    }
+                                });
+            }
+        }
+        if (!missing.isEmpty()) {
+            ((VectoredReadable) readable).readVectored(missing);
+        }
+    }
+
+    /**
+     * Reads the bytes from prefetched data, waits if the prefetching is not finished.
+     *
+     * @return false if the bytes are not contained in prefetched ranges
+     */
+    public boolean readFromPrefetched(long position, byte[] buffer, int offset, int length)
+            throws IOException {
+        FileRange source = findPrefetched(position, length);
+        if (source == null) {
+            return false;
+        }
+
+        byte[] bytes = await(source.getData());
+        System.arraycopy(bytes, (int) (position - source.getOffset()), buffer, offset, length);
+        hitBytes += length;
+        return true;
+    }
+
+    /**
+     * Reads the bytes from prefetched data, waits if the prefetching is not finished.
+     *
+     * @return null if the bytes are not contained in prefetched ranges
+     */
+    @Nullable
+    public byte[] readFromPrefetched(long position, int length) throws IOException {
+        FileRange source = findPrefetched(position, length);
+        if (source == null) {
+            return null;
+        }
+
+        byte[] bytes = await(source.getData());
+        hitBytes += length;
+        return slice(bytes, (int) (position - source.getOffset()), length);
+    }
+
+    /** Waits for the data of a range and records the waiting time as stall time. */
+    public byte[] await(CompletableFuture<byte[]> data) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return data.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        } finally {
+            stallNanos += System.nanoTime() - start;
+        }
+    }
+
+    /** Records the time spent on waiting for data. */
+    public void addStallNanos(long nanos) {
+        stallNanos += nanos;
+    }
+
+    /** Total bytes issued for prefetching. */
+    public long prefetchedBytes() {
+        return prefetchedBytes;
+    }
+
+    /** Total bytes served from prefetched data. */
+    public long hitBytes() {
+        return hitBytes;
+    }
+
+    /** Total time spent on waiting for data. */
+    public long stallNanos() {
+        return stallNanos;
+    }
+
+    /**
+     * Cancels the prefetched ranges and adds the statistics to the {@link PrefetchStats}.
+     * Background reads which are not issued yet fail instead of reading from the readable.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (stats != null) {
+            stats.add(hitBytes, stallNanos);
+        }
+        for (FileRange range : prefetched) {
+            range.getData().cancel(false);
+        }
+        prefetched = Collections.emptyList();
+    }
+
+    private FileRange findPrefetched(long offset, int length) {
+        for (FileRange range : prefetched) {
+            if (offset >= range.getOffset()
+                    && offset + length <= range.getOffset() + range.getLength()) {
+                return range;
+            }
+        }
+        return null;
+    }
+
+    private static byte[] slice(byte[] bytes, int start, int length) {
+        if (start == 0 && length == bytes.length) {
+            return bytes;
+        }
+        byte[] result = new byte[length];
+        System.arraycopy(bytes, start, result, 0, length);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "prefetched %d bytes, served %d bytes from prefetched data, stalled %d ms",
+                prefetchedBytes, hitBytes, stallNanos / 1_000_000);
+    }
+
+    /**
+     * A {@link VectoredReadable} only reading with {@link #pread}, which does not change the
+     * position of the underlying stream and can be used in background threads. The vectored read
+     * settings of the readable are used if it is a {@link VectoredReadable}.
+     */
+    private class BackgroundReadable implements VectoredReadable {
+
+        @Override
+        public int pread(long position, byte[] buffer, int offset, int length) throws IOException {
+            if (closed) {
+                throw new IOException("Prefetcher is already closed.");
+            }
+            return readable.pread(position, buffer, offset, length);
+        }
+
+        @Override
+        public int minSeekForVectorReads() {
+            return readable instanceof VectoredReadable
+                    ? ((VectoredReadable) readable).minSeekForVectorReads()
+                    : VectoredReadable.super.minSeekForVectorReads();
+        }
+
+        @Override
+        public int batchSizeForVectorReads() {
+            return readable instanceof VectoredReadable
+                    ? ((VectoredReadable) readable).batchSizeForVectorReads()
+                    : VectoredReadable.super.batchSizeForVectorReads();
+        }
+
+        @Override
+        public int parallelismForVectorReads() {
+            return readable instanceof VectoredReadable
+                    ? ((VectoredReadable) readable).parallelismForVectorReads()
+                    : VectoredReadable.super.parallelismForVectorReads();
+        }
+    }
+}
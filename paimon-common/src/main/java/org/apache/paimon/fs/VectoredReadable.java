@@ -18,39 +18,11 @@
 
 package org.apache.paimon.fs;
 
-import java.io.EOFException;
 import java.io.IOException;
 import java.util.List;
 
 /** Stream that permits vectored reading. */
-public interface VectoredReadable {
-
-    /**
-     * Read up to the specified number of bytes, from a given position within a file, and return the
-     * number of bytes read. This does not change the current offset of a file, and is thread-safe.
-     */
-    int pread(long position, byte[] buffer, int offset, int length) throws IOException;
-
-    /**
-     * Read the specified number of bytes fully, from a given position within a file. This does not
-     * change the current offset of a file, and is thread-safe.
-     */
-    default void preadFully(long position, byte[] buffer, int offset, int length)
-            throws IOException {
-        int readBytes = 0;
-        while (readBytes < length) {
-            int readBytesCurr = pread(position, buffer, offset + readBytes, length - readBytes);
-            if (readBytesCurr < 0) {
-                throw new EOFException(
-                        String.format(
-                                "Input Stream closed before all bytes were read."
-                                        + " Expected %,d bytes but only read %,d bytes. Current position %,d",
-                                length, readBytes, position));
-            }
-            readBytes += readBytesCurr;
-            position += readBytesCurr;
-        }
-    }
+public interface VectoredReadable extends PositionedReadable {
 
     /** The smallest reasonable seek. */
     default int minSeekForVectorReads() {
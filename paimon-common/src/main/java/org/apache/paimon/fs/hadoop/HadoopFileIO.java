@@ -24,6 +24,7 @@ import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.FileStatus;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.PositionOutputStream;
+import org.apache.paimon.fs.PositionedReadable;
 import org.apache.paimon.fs.RemoteIterator;
 import org.apache.paimon.fs.SeekableInputStream;
 import org.apache.paimon.hadoop.SerializableConfiguration;
@@ -199,7 +200,8 @@ public class HadoopFileIO implements FileIO {
         return path.getFileSystem(hadoopConf.get());
     }
 
-    private static class HadoopSeekableInputStream extends SeekableInputStream {
+    private static class HadoopSeekableInputStream extends SeekableInputStream
+            implements PositionedReadable {
 
         /**
          * Minimum amount of bytes to skip forward before we issue a seek instead of discarding
@@ -256,6 +258,11 @@ public class HadoopFileIO implements FileIO {
             return in.read(b, off, len);
         }
 
+        @Override
+        public int pread(long position, byte[] buffer, int offset, int length) throws IOException {
+            return in.read(position, buffer, offset, length);
+        }
+
         @Override
         public void close() throws IOException {
             in.close();
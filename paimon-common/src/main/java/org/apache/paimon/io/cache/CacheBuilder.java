@@ -27,12 +27,18 @@ import org.apache.paimon.shade.guava30.com.google.common.cache.RemovalNotificati
 /** Cache builder builds cache from cache type. */
 public abstract class CacheBuilder {
     protected MemorySize memorySize;
+    protected CacheStats stats;
 
     CacheBuilder maximumWeight(MemorySize memorySize) {
         this.memorySize = memorySize;
         return this;
     }
 
+    CacheBuilder recordStats(CacheStats stats) {
+        this.stats = stats;
+        return this;
+    }
+
     public abstract Cache build();
 
     public static CacheBuilder newBuilder(Cache.CacheType type) {
@@ -59,6 +65,9 @@ public abstract class CacheBuilder {
         }
 
         private void onRemoval(CacheKey key, Cache.CacheValue value, RemovalCause cause) {
+            if (stats != null && cause.wasEvicted()) {
+                stats.recordEviction();
+            }
             if (value != null) {
                 value.callback.onRemoval(key);
             }
@@ -82,6 +91,9 @@ public abstract class CacheBuilder {
         }
 
         private void onRemoval(RemovalNotification<CacheKey, Cache.CacheValue> notification) {
+            if (stats != null && notification.wasEvicted()) {
+                stats.recordEviction();
+            }
             if (notification.getValue() != null) {
                 notification.getValue().callback.onRemoval(notification.getKey());
             }
@@ -30,7 +30,10 @@ import java.io.IOException;
 
 import static org.apache.paimon.utils.Preconditions.checkNotNull;
 
-/** Cache manager to cache bytes to paged {@link MemorySegment}s. */
+/**
+ * Cache manager to cache bytes to paged {@link MemorySegment}s. The pages can be kept in off-heap
+ * memory to avoid filling the old generation with large caches.
+ */
 public class CacheManager {
 
     private static final Logger LOG = LoggerFactory.getLogger(CacheManager.class);
@@ -43,6 +46,9 @@ public class CacheManager {
 
     private final Cache dataCache;
     private final Cache indexCache;
+    private final CacheStats dataCacheStats;
+    private final CacheStats indexCacheStats;
+    private final boolean offHeap;
 
     private int fileReadCount;
 
@@ -55,8 +61,21 @@ public class CacheManager {
         this(Cache.CacheType.GUAVA, dataMaxMemorySize, highPriorityPoolRatio);
     }
 
+    public CacheManager(
+            MemorySize dataMaxMemorySize, double highPriorityPoolRatio, boolean offHeap) {
+        this(Cache.CacheType.GUAVA, dataMaxMemorySize, highPriorityPoolRatio, offHeap);
+    }
+
     public CacheManager(
             Cache.CacheType cacheType, MemorySize maxMemorySize, double highPriorityPoolRatio) {
+        this(cacheType, maxMemorySize, highPriorityPoolRatio, false);
+    }
+
+    public CacheManager(
+            Cache.CacheType cacheType,
+            MemorySize maxMemorySize,
+            double highPriorityPoolRatio,
+            boolean offHeap) {
         Preconditions.checkArgument(
                 highPriorityPoolRatio >= 0 && highPriorityPoolRatio < 1,
                 "The high priority pool ratio should in the range [0, 1).");
@@ -64,16 +83,28 @@ public class CacheManager {
                 MemorySize.ofBytes((long) (maxMemorySize.getBytes() * highPriorityPoolRatio));
         MemorySize dataCacheSize =
                 MemorySize.ofBytes((long) (maxMemorySize.getBytes() * (1 - highPriorityPoolRatio)));
-        this.dataCache = CacheBuilder.newBuilder(cacheType).maximumWeight(dataCacheSize).build();
+        this.dataCacheStats = new CacheStats();
+        this.dataCache =
+                CacheBuilder.newBuilder(cacheType)
+                        .maximumWeight(dataCacheSize)
+                        .recordStats(dataCacheStats)
+                        .build();
         if (highPriorityPoolRatio == 0) {
             this.indexCache = dataCache;
+            this.indexCacheStats = dataCacheStats;
         } else {
+            this.indexCacheStats = new CacheStats();
             this.indexCache =
-                    CacheBuilder.newBuilder(cacheType).maximumWeight(indexCacheSize).build();
+                    CacheBuilder.newBuilder(cacheType)
+                            .maximumWeight(indexCacheSize)
+                            .recordStats(indexCacheStats)
+                            .build();
         }
+        this.offHeap = offHeap;
         this.fileReadCount = 0;
         LOG.info(
-                "Initialize cache manager with data cache of {} and index cache of {}.",
+                "Initialize {} cache manager with data cache of {} and index cache of {}.",
+                offHeap ? "off-heap" : "heap",
                 dataCacheSize,
                 indexCacheSize);
     }
@@ -88,16 +119,30 @@ public class CacheManager {
         return indexCache;
     }
 
+    public CacheStats dataCacheStats() {
+        return dataCacheStats;
+    }
+
+    public CacheStats indexCacheStats() {
+        return indexCacheStats;
+    }
+
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
     public MemorySegment getPage(CacheKey key, CacheReader reader, CacheCallback callback) {
         Cache cache = key.isIndex() ? indexCache : dataCache;
+        CacheStats stats = key.isIndex() ? indexCacheStats : dataCacheStats;
+        stats.recordRequest();
         Cache.CacheValue value =
                 cache.get(
                         key,
                         k -> {
                             this.fileReadCount++;
+                            stats.recordMiss();
                             try {
-                                return new Cache.CacheValue(
-                                        MemorySegment.wrap(reader.read(key)), callback);
+                                return new Cache.CacheValue(toSegment(reader.read(key)), callback);
                             } catch (IOException e) {
                                 throw new RuntimeException(e);
                             }
@@ -105,6 +150,18 @@ public class CacheManager {
         return checkNotNull(value, String.format("Cache result for key(%s) is null", key)).segment;
     }
 
+    private MemorySegment toSegment(byte[] bytes) {
+        if (!offHeap) {
+            return MemorySegment.wrap(bytes);
+        }
+
+        // off-heap segments are released by the cleaner of their direct buffer once unreferenced,
+        // so readers still holding an evicted page remain safe
+        MemorySegment segment = MemorySegment.allocateOffHeapMemory(bytes.length);
+        segment.put(0, bytes);
+        return segment;
+    }
+
     public void invalidPage(CacheKey key) {
         if (key.isIndex()) {
             indexCache.invalidate(key);
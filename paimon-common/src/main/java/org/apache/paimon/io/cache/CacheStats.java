@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Request, miss and eviction statistics of a {@link Cache} tier. */
+public class CacheStats {
+
+    private final AtomicLong requestCount;
+    private final AtomicLong missCount;
+    private final AtomicLong evictionCount;
+
+    public CacheStats() {
+        this.requestCount = new AtomicLong(0);
+        this.missCount = new AtomicLong(0);
+        this.evictionCount = new AtomicLong(0);
+    }
+
+    void recordRequest() {
+        requestCount.incrementAndGet();
+    }
+
+    void recordMiss() {
+        missCount.incrementAndGet();
+    }
+
+    void recordEviction() {
+        evictionCount.incrementAndGet();
+    }
+
+    public long requestCount() {
+        return requestCount.get();
+    }
+
+    public long hitCount() {
+        return requestCount.get() - missCount.get();
+    }
+
+    public long missCount() {
+        return missCount.get();
+    }
+
+    /** Number of entries removed because of the size limit, explicit invalidation is excluded. */
+    public long evictionCount() {
+        return evictionCount.get();
+    }
+}
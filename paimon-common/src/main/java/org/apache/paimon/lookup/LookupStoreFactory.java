@@ -20,6 +20,8 @@ package org.apache.paimon.lookup;
 
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.compression.CompressOptions;
+import org.apache.paimon.io.DataInputView;
+import org.apache.paimon.io.DataOutputView;
 import org.apache.paimon.io.cache.CacheManager;
 import org.apache.paimon.lookup.hash.HashLookupStoreFactory;
 import org.apache.paimon.lookup.sort.SortLookupStoreFactory;
@@ -50,6 +52,11 @@ public interface LookupStoreFactory {
 
     LookupStoreReader createReader(File file, Context context) throws IOException;
 
+    /** Serialize the {@link Context} so that a written file can be reopened by a new reader. */
+    void serializeContext(Context context, DataOutputView out) throws IOException;
+
+    Context deserializeContext(DataInputView in) throws IOException;
+
     static Function<Long, BloomFilter.Builder> bfGenerator(Options options) {
         Function<Long, BloomFilter.Builder> bfGenerator = rowCount -> null;
         if (options.get(CoreOptions.LOOKUP_CACHE_BLOOM_FILTER_ENABLED)) {
@@ -20,6 +20,8 @@ package org.apache.paimon.lookup.hash;
 
 import org.apache.paimon.compression.BlockCompressionFactory;
 import org.apache.paimon.compression.CompressOptions;
+import org.apache.paimon.io.DataInputView;
+import org.apache.paimon.io.DataOutputView;
 import org.apache.paimon.io.cache.CacheManager;
 import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.utils.BloomFilter;
@@ -60,4 +62,73 @@ public class HashLookupStoreFactory implements LookupStoreFactory {
         return new HashLookupStoreWriter(
                 loadFactor, file, bloomFilter, compressionFactory, cachePageSize);
     }
+
+    @Override
+    public void serializeContext(Context context, DataOutputView out) throws IOException {
+        HashContext hashContext = (HashContext) context;
+        out.writeBoolean(hashContext.bloomFilterEnabled);
+        out.writeLong(hashContext.bloomFilterExpectedEntries);
+        out.writeInt(hashContext.bloomFilterBytes);
+        writeInts(out, hashContext.keyCounts);
+        writeInts(out, hashContext.slotSizes);
+        writeInts(out, hashContext.slots);
+        writeInts(out, hashContext.indexOffsets);
+        writeLongs(out, hashContext.dataOffsets);
+        out.writeLong(hashContext.uncompressBytes);
+        writeLongs(out, hashContext.compressPages);
+    }
+
+    @Override
+    public HashContext deserializeContext(DataInputView in) throws IOException {
+        return new HashContext(
+                in.readBoolean(),
+                in.readLong(),
+                in.readInt(),
+                readInts(in),
+                readInts(in),
+                readInts(in),
+                readInts(in),
+                readLongs(in),
+                in.readLong(),
+                readLongs(in));
+    }
+
+    private static void writeInts(DataOutputView out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static void writeLongs(DataOutputView out, @Nullable long[] values) throws IOException {
+        if (values == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(values.length);
+        for (long value : values) {
+            out.writeLong(value);
+        }
+    }
+
+    private static int[] readInts(DataInputView in) throws IOException {
+        int[] values = new int[in.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+
+    @Nullable
+    private static long[] readLongs(DataInputView in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        long[] values = new long[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = in.readLong();
+        }
+        return values;
+    }
 }
@@ -20,6 +20,8 @@ package org.apache.paimon.lookup.sort;
 
 import org.apache.paimon.compression.BlockCompressionFactory;
 import org.apache.paimon.compression.CompressOptions;
+import org.apache.paimon.io.DataInputView;
+import org.apache.paimon.io.DataOutputView;
 import org.apache.paimon.io.cache.CacheManager;
 import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.memory.MemorySlice;
@@ -61,4 +63,14 @@ public class SortLookupStoreFactory implements LookupStoreFactory {
             throws IOException {
         return new SortLookupStoreWriter(file, blockSize, bloomFilter, compressionFactory);
     }
+
+    @Override
+    public void serializeContext(Context context, DataOutputView out) throws IOException {
+        out.writeLong(((SortContext) context).fileSize());
+    }
+
+    @Override
+    public SortContext deserializeContext(DataInputView in) throws IOException {
+        return new SortContext(in.readLong());
+    }
 }
@@ -0,0 +1,382 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.predicate;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.columnar.BooleanColumnVector;
+import org.apache.paimon.data.columnar.ByteColumnVector;
+import org.apache.paimon.data.columnar.BytesColumnVector;
+import org.apache.paimon.data.columnar.BytesColumnVector.Bytes;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.ColumnarRow;
+import org.apache.paimon.data.columnar.DoubleColumnVector;
+import org.apache.paimon.data.columnar.FloatColumnVector;
+import org.apache.paimon.data.columnar.IntColumnVector;
+import org.apache.paimon.data.columnar.LongColumnVector;
+import org.apache.paimon.data.columnar.ShortColumnVector;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.utils.RoaringBitmap32;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.apache.paimon.utils.InternalRowUtils.get;
+
+/**
+ * A {@link FunctionVisitor} to evaluate a {@link Predicate} on a whole {@link
+ * VectorizedColumnBatch}. The result is a selection bitmap containing the ids of the rows which
+ * satisfy the predicate.
+ *
+ * <p>Comparisons on primitive and bytes vectors are evaluated by type-specialized loops which read
+ * the vectors directly, without boxing field values. Other predicates fall back to {@link
+ * LeafFunction#test} row by row. Field indexes of the predicate refer to the columns of the batch.
+ */
+public class VectorizedPredicateEvaluator implements FunctionVisitor<RoaringBitmap32> {
+
+    private final VectorizedColumnBatch batch;
+    private final int numRows;
+
+    private ColumnarRow row;
+
+    public VectorizedPredicateEvaluator(VectorizedColumnBatch batch) {
+        this.batch = batch;
+        this.numRows = batch.getNumRows();
+    }
+
+    /** Returns the ids of the rows in {@code batch} which satisfy {@code predicate}. */
+    public static RoaringBitmap32 evaluate(Predicate predicate, VectorizedColumnBatch batch) {
+        return predicate.visit(new VectorizedPredicateEvaluator(batch));
+    }
+
+    @Override
+    public RoaringBitmap32 visit(CompoundPredicate predicate) {
+        CompoundPredicate.Function function = predicate.function();
+        List<Predicate> children = predicate.children();
+        if (function instanceof And) {
+            RoaringBitmap32 result = null;
+            for (Predicate child : children) {
+                RoaringBitmap32 selected = child.visit(this);
+                result = result == null ? selected : RoaringBitmap32.and(result, selected);
+                if (result.isEmpty()) {
+                    break;
+                }
+            }
+            return result == null ? all() : result;
+        } else if (function instanceof Or) {
+            RoaringBitmap32 result = new RoaringBitmap32();
+            for (Predicate child : children) {
+                result.or(child.visit(this));
+                if (result.getCardinality() == numRows) {
+                    break;
+                }
+            }
+            return result;
+        }
+        return FunctionVisitor.super.visit(predicate);
+    }
+
+    @Override
+    public RoaringBitmap32 visitIsNotNull(FieldRef fieldRef) {
+        ColumnVector vector = batch.columns[fieldRef.index()];
+        RoaringBitmap32 selected = new RoaringBitmap32();
+        for (int i = 0; i < numRows; i++) {
+            if (!vector.isNullAt(i)) {
+                selected.add(i);
+            }
+        }
+        return selected;
+    }
+
+    @Override
+    public RoaringBitmap32 visitIsNull(FieldRef fieldRef) {
+        ColumnVector vector = batch.columns[fieldRef.index()];
+        RoaringBitmap32 selected = new RoaringBitmap32();
+        for (int i = 0; i < numRows; i++) {
+            if (vector.isNullAt(i)) {
+                selected.add(i);
+            }
+        }
+        return selected;
+    }
+
+    @Override
+    public RoaringBitmap32 visitStartsWith(FieldRef fieldRef, Object literal) {
+        return fallback(fieldRef, StartsWith.INSTANCE, Collections.singletonList(literal));
+    }
+
+    @Override
+    public RoaringBitmap32 visitEndsWith(FieldRef fieldRef, Object literal) {
+        return fallback(fieldRef, EndsWith.INSTANCE, Collections.singletonList(literal));
+    }
+
+    @Override
+    public RoaringBitmap32 visitContains(FieldRef fieldRef, Object literal) {
+        return fallback(fieldRef, Contains.INSTANCE, Collections.singletonList(literal));
+    }
+
+    @Override
+    public RoaringBitmap32 visitLessThan(FieldRef fieldRef, Object literal) {
+        return compare(fieldRef, LessThan.INSTANCE, CompareOp.LT, literal);
+    }
+
+    @Override
+    public RoaringBitmap32 visitGreaterOrEqual(FieldRef fieldRef, Object literal) {
+        return compare(fieldRef, GreaterOrEqual.INSTANCE, CompareOp.GE, literal);
+    }
+
+    @Override
+    public RoaringBitmap32 visitNotEqual(FieldRef fieldRef, Object literal) {
+        return compare(fieldRef, NotEqual.INSTANCE, CompareOp.NE, literal);
+    }
+
+    @Override
+    public RoaringBitmap32 visitLessOrEqual(FieldRef fieldRef, Object literal) {
+        return compare(fieldRef, LessOrEqual.INSTANCE, CompareOp.LE, literal);
+    }
+
+    @Override
+    public RoaringBitmap32 visitEqual(FieldRef fieldRef, Object literal) {
+        return compare(fieldRef, Equal.INSTANCE, CompareOp.EQ, literal);
+    }
+
+    @Override
+    public RoaringBitmap32 visitGreaterThan(FieldRef fieldRef, Object literal) {
+        return compare(fieldRef, GreaterThan.INSTANCE, CompareOp.GT, literal);
+    }
+
+    @Override
+    public RoaringBitmap32 visitIn(FieldRef fieldRef, List<Object> literals) {
+        return fallback(fieldRef, In.INSTANCE, literals);
+    }
+
+    @Override
+    public RoaringBitmap32 visitNotIn(FieldRef fieldRef, List<Object> literals) {
+        return fallback(fieldRef, NotIn.INSTANCE, literals);
+    }
+
+    @Override
+    public RoaringBitmap32 visitAnd(List<RoaringBitmap32> children) {
+        RoaringBitmap32 result = all();
+        for (RoaringBitmap32 child : children) {
+            result = RoaringBitmap32.and(result, child);
+        }
+        return result;
+    }
+
+    @Override
+    public RoaringBitmap32 visitOr(List<RoaringBitmap32> children) {
+        RoaringBitmap32 result = new RoaringBitmap32();
+        for (RoaringBitmap32 child : children) {
+            result.or(child);
+        }
+        return result;
+    }
+
+    // ----------------- Kernels ------------------------
+
+    private RoaringBitmap32 compare(
+            FieldRef fieldRef, LeafFunction function, CompareOp op, Object literal) {
+        if (literal == null) {
+            // comparisons with null are never true
+            return new RoaringBitmap32();
+        }
+
+        ColumnVector vector = batch.columns[fieldRef.index()];
+        if (vector instanceof IntColumnVector && literal instanceof Integer) {
+            return compareInt((IntColumnVector) vector, op, (Integer) literal);
+        } else if (vector instanceof LongColumnVector && literal instanceof Long) {
+            return compareLong((LongColumnVector) vector, op, (Long) literal);
+        } else if (vector instanceof ShortColumnVector && literal instanceof Short) {
+            return compareShort((ShortColumnVector) vector, op, (Short) literal);
+        } else if (vector instanceof ByteColumnVector && literal instanceof Byte) {
+            return compareByte((ByteColumnVector) vector, op, (Byte) literal);
+        } else if (vector instanceof DoubleColumnVector && literal instanceof Double) {
+            return compareDouble((DoubleColumnVector) vector, op, (Double) literal);
+        } else if (vector instanceof FloatColumnVector && literal instanceof Float) {
+            return compareFloat((FloatColumnVector) vector, op, (Float) literal);
+        } else if (vector instanceof BooleanColumnVector && literal instanceof Boolean) {
+            return compareBoolean((BooleanColumnVector) vector, op, (Boolean) literal);
+        } else if (vector instanceof BytesColumnVector && literal instanceof BinaryString) {
+            byte[] bytes = ((BinaryString) literal).toBytes();
+            return compareBytes((BytesColumnVector) vector, op, bytes, true);
+        } else if (vector instanceof BytesColumnVector && literal instanceof byte[]) {
+            return compareBytes((BytesColumnVector) vector, op, (byte[]) literal, false);
+        }
+        return fallback(fieldRef, function, Collections.singletonList(literal));
+    }
+
+    private RoaringBitmap32 compareInt(IntColumnVector vector, CompareOp op, int literal) {
+        RoaringBitmap32 selected = new RoaringBitmap32();
+        for (int i = 0; i < numRows; i++) {
+            if (!vector.isNullAt(i) && op.test(Integer.compare(vector.getInt(i), literal))) {
+                selected.add(i);
+            }
+        }
+        return selected;
+    }
+
+    private RoaringBitmap32 compareLong(LongColumnVector vector, CompareOp op, long literal) {
+        RoaringBitmap32 selected = new RoaringBitmap32();
+        for (int i = 0; i < numRows; i++) {
+            if (!vector.isNullAt(i) && op.test(Long.compare(vector.getLong(i), literal))) {
+                selected.add(i);
+            }
+        }
+        return selected;
+    }
+
+    private RoaringBitmap32 compareShort(ShortColumnVector vector, CompareOp op, short literal) {
+        RoaringBitmap32 selected = new RoaringBitmap32();
+        for (int i = 0; i < numRows; i++) {
+            if (!vector.isNullAt(i) && op.test(Short.compare(vector.getShort(i), literal))) {
+                selected.add(i);
+            }
+        }
+        return selected;
+    }
+
+    private RoaringBitmap32 compareByte(ByteColumnVector vector, CompareOp op, byte literal) {
+        RoaringBitmap32 selected = new RoaringBitmap32();
+        for (int i = 0; i < numRows; i++) {
+            if (!vector.isNullAt(i) && op.test(Byte.compare(vector.getByte(i), literal))) {
+                selected.add(i);
+            }
+        }
+        return selected;
+    }
+
+    private RoaringBitmap32 compareDouble(DoubleColumnVector vector, CompareOp op, double literal) {
+        RoaringBitmap32 selected = new RoaringBitmap32();
+        for (int i = 0; i < numRows; i++) {
+            if (!vector.isNullAt(i) && op.test(Double.compare(vector.getDouble(i), literal))) {
+                selected.add(i);
+            }
+        }
+        return selected;
+    }
+
+    private RoaringBitmap32 compareFloat(FloatColumnVector vector, CompareOp op, float literal) {
+        RoaringBitmap32 selected = new RoaringBitmap32();
+        for (int i = 0; i < numRows; i++) {
+            if (!vector.isNullAt(i) && op.test(Float.compare(vector.getFloat(i), literal))) {
+                selected.add(i);
+            }
+        }
+        return selected;
+    }
+
+    private RoaringBitmap32 compareBoolean(
+            BooleanColumnVector vector, CompareOp op, boolean literal) {
+        RoaringBitmap32 selected = new RoaringBitmap32();
+        for (int i = 0; i < numRows; i++) {
+            if (!vector.isNullAt(i) && op.test(Boolean.compare(vector.getBoolean(i), literal))) {
+                selected.add(i);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Compares bytes without materializing them. Strings are compared as unsigned bytes like {@link
+     * BinaryString#compareTo}, binaries as signed bytes like {@link CompareUtils}.
+     */
+    private RoaringBitmap32 compareBytes(
+            BytesColumnVector vector, CompareOp op, byte[] literal, boolean unsigned) {
+        RoaringBitmap32 selected = new RoaringBitmap32();
+        for (int i = 0; i < numRows; i++) {
+            if (vector.isNullAt(i)) {
+                continue;
+            }
+            Bytes bytes = vector.getBytes(i);
+            int cmp;
+            if ((op == CompareOp.EQ || op == CompareOp.NE) && bytes.len != literal.length) {
+                // equality only needs the bytes when lengths match
+                cmp = 1;
+            } else {
+                cmp = compareBytes(bytes, literal, unsigned);
+            }
+            if (op.test(cmp)) {
+                selected.add(i);
+            }
+        }
+        return selected;
+    }
+
+    private static int compareBytes(Bytes bytes, byte[] literal, boolean unsigned) {
+        int len = Math.min(bytes.len, literal.length);
+        for (int i = 0; i < len; i++) {
+            byte b1 = bytes.data[bytes.offset + i];
+            byte b2 = literal[i];
+            int res = unsigned ? (b1 & 0xFF) - (b2 & 0xFF) : b1 - b2;
+            if (res != 0) {
+                return res;
+            }
+        }
+        return bytes.len - literal.length;
+    }
+
+    private RoaringBitmap32 fallback(
+            FieldRef fieldRef, LeafFunction function, List<Object> literals) {
+        if (row == null) {
+            row = new ColumnarRow(batch);
+        }
+        RoaringBitmap32 selected = new RoaringBitmap32();
+        for (int i = 0; i < numRows; i++) {
+            row.setRowId(i);
+            if (function.test(
+                    fieldRef.type(), get(row, fieldRef.index(), fieldRef.type()), literals)) {
+                selected.add(i);
+            }
+        }
+        return selected;
+    }
+
+    private RoaringBitmap32 all() {
+        RoaringBitmap32 all = new RoaringBitmap32();
+        all.flip(0, numRows);
+        return all;
+    }
+
+    /** Comparison operator applied to the result of a three-way compare. */
+    private enum CompareOp {
+        EQ,
+        NE,
+        LT,
+        LE,
+        GT,
+        GE;
+
+        boolean test(int cmp) {
+            switch (this) {
+                case EQ:
+                    return cmp == 0;
+                case NE:
+                    return cmp != 0;
+                case LT:
+                    return cmp < 0;
+                case LE:
+                    return cmp <= 0;
+                case GT:
+                    return cmp > 0;
+                default:
+                    return cmp >= 0;
+            }
+        }
+    }
+}
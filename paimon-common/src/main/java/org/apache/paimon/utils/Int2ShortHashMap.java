@@ -18,12 +18,14 @@
 
 package org.apache.paimon.utils;
 
+import it.unimi.dsi.fastutil.Hash;
+import it.unimi.dsi.fastutil.HashCommon;
 import it.unimi.dsi.fastutil.ints.Int2ShortOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.shorts.ShortArrayList;
 
 /** Int to short hash map. */
-public class Int2ShortHashMap {
+public class Int2ShortHashMap implements Int2ShortMap {
 
     private final Int2ShortOpenHashMap map;
 
@@ -35,22 +37,33 @@ public class Int2ShortHashMap {
         this.map = new Int2ShortOpenHashMap(capacity);
     }
 
+    @Override
     public void put(int key, short value) {
         map.put(key, value);
     }
 
+    @Override
     public boolean containsKey(int key) {
         return map.containsKey(key);
     }
 
+    @Override
     public short get(int key) {
         return map.get(key);
     }
 
+    @Override
     public int size() {
         return map.size();
     }
 
+    @Override
+    public long memorySize() {
+        // keys (4 bytes) and values (2 bytes) of the open addressing table, plus the null slot
+        int tableSize = HashCommon.arraySize(Math.max(map.size(), 1), Hash.DEFAULT_LOAD_FACTOR);
+        return (tableSize + 1L) * 6L;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.utils;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.memory.MemorySegment;
+
+import it.unimi.dsi.fastutil.HashCommon;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.apache.paimon.utils.Preconditions.checkState;
+
+/**
+ * An open addressing {@link Int2ShortMap} whose slots live in off-heap {@link MemorySegment} pages,
+ * so a large index costs 6 bytes per slot outside of the JVM heap and no garbage collection
+ * overhead.
+ *
+ * <p>Keys and values are stored in separate pages, linear probing is used to resolve conflicts. Key
+ * {@code 0} is used to mark empty slots, so it is stored separately.
+ *
+ * <p>Old pages are released when the map grows, and {@link #close()} releases the remaining pages
+ * once the map is no longer used, so that their direct memory can be reclaimed.
+ */
+public class OffHeapInt2ShortHashMap implements Int2ShortMap {
+
+    private static final int MAX_PAGE_SLOTS_SHIFT = 15;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private static final AtomicLong ALLOCATED_BYTES = new AtomicLong();
+
+    private MemorySegment[] keyPages;
+    private MemorySegment[] valuePages;
+    private int pageSlotsShift;
+    private int pageSlotsMask;
+    private int mask;
+    private int maxFill;
+
+    private int size;
+    private boolean containsZeroKey;
+    private short zeroKeyValue;
+
+    private boolean closed;
+
+    public OffHeapInt2ShortHashMap() {
+        this(16);
+    }
+
+    public OffHeapInt2ShortHashMap(int expected) {
+        allocate(tableSize(expected));
+    }
+
+    @Override
+    public void put(int key, short value) {
+        checkOpen();
+        if (key == 0) {
+            if (!containsZeroKey) {
+                containsZeroKey = true;
+                size++;
+            }
+            zeroKeyValue = value;
+            return;
+        }
+
+        int slot = findSlot(key);
+        if (keyAt(slot) == key) {
+            setValue(slot, value);
+            return;
+        }
+
+        setKey(slot, key);
+        setValue(slot, value);
+        if (size++ >= maxFill) {
+            rehash(tableSize(size + 1));
+        }
+    }
+
+    @Override
+    public boolean containsKey(int key) {
+        checkOpen();
+        if (key == 0) {
+            return containsZeroKey;
+        }
+        return keyAt(findSlot(key)) == key;
+    }
+
+    @Override
+    public short get(int key) {
+        checkOpen();
+        if (key == 0) {
+            return containsZeroKey ? zeroKeyValue : 0;
+        }
+        int slot = findSlot(key);
+        return keyAt(slot) == key ? valueAt(slot) : 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long memorySize() {
+        return closed ? 0 : (mask + 1L) * (Integer.BYTES + Short.BYTES);
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            release(keyPages, valuePages);
+            keyPages = null;
+            valuePages = null;
+        }
+    }
+
+    /** Number of off-heap bytes currently held by all open maps. */
+    @VisibleForTesting
+    static long allocatedBytes() {
+        return ALLOCATED_BYTES.get();
+    }
+
+    private void checkOpen() {
+        checkState(!closed, "OffHeapInt2ShortHashMap is already closed.");
+    }
+
+    /** Returns the slot of the key, or the empty slot where the key should be inserted. */
+    private int findSlot(int key) {
+        int slot = mix(key) & mask;
+        int current;
+        while ((current = keyAt(slot)) != 0 && current != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int newTableSize) {
+        MemorySegment[] oldKeyPages = keyPages;
+        MemorySegment[] oldValuePages = valuePages;
+        int oldPageSlotsShift = pageSlotsShift;
+        int oldPageSlotsMask = pageSlotsMask;
+        int oldTableSize = mask + 1;
+
+        allocate(newTableSize);
+        for (int i = 0; i < oldTableSize; i++) {
+            int offset = i & oldPageSlotsMask;
+            int key = oldKeyPages[i >>> oldPageSlotsShift].getInt(offset * Integer.BYTES);
+            if (key != 0) {
+                int slot = findSlot(key);
+                setKey(slot, key);
+                setValue(
+                        slot,
+                        oldValuePages[i >>> oldPageSlotsShift].getShort(offset * Short.BYTES));
+            }
+        }
+        release(oldKeyPages, oldValuePages);
+    }
+
+    private void allocate(int tableSize) {
+        int newPageSlotsShift =
+                Math.min(MAX_PAGE_SLOTS_SHIFT, Integer.numberOfTrailingZeros(tableSize));
+        int pageSlots = 1 << newPageSlotsShift;
+        int numPages = tableSize >>> newPageSlotsShift;
+        MemorySegment[] newKeyPages = new MemorySegment[numPages];
+        MemorySegment[] newValuePages = new MemorySegment[numPages];
+        // direct memory is zeroed on allocation, which marks the slots as empty
+        for (int i = 0; i < numPages; i++) {
+            newKeyPages[i] = allocatePage(pageSlots * Integer.BYTES);
+            newValuePages[i] = allocatePage(pageSlots * Short.BYTES);
+        }
+
+        this.keyPages = newKeyPages;
+        this.valuePages = newValuePages;
+        this.pageSlotsShift = newPageSlotsShift;
+        this.pageSlotsMask = pageSlots - 1;
+        this.mask = tableSize - 1;
+        this.maxFill = Math.min(tableSize - 1, (int) Math.ceil(tableSize * LOAD_FACTOR));
+    }
+
+    private static MemorySegment allocatePage(int bytes) {
+        MemorySegment page = MemorySegment.allocateOffHeapMemory(bytes);
+        ALLOCATED_BYTES.addAndGet(bytes);
+        return page;
+    }
+
+    private static void release(MemorySegment[] keyPages, MemorySegment[] valuePages) {
+        for (int i = 0; i < keyPages.length; i++) {
+            ALLOCATED_BYTES.addAndGet(-(keyPages[i].size() + valuePages[i].size()));
+        }
+    }
+
+    private int keyAt(int slot) {
+        return keyPages[slot >>> pageSlotsShift].getInt((slot & pageSlotsMask) * Integer.BYTES);
+    }
+
+    private short valueAt(int slot) {
+        return valuePages[slot >>> pageSlotsShift].getShort((slot & pageSlotsMask) * Short.BYTES);
+    }
+
+    private void setKey(int slot, int key) {
+        keyPages[slot >>> pageSlotsShift].putInt((slot & pageSlotsMask) * Integer.BYTES, key);
+    }
+
+    private void setValue(int slot, short value) {
+        valuePages[slot >>> pageSlotsShift].putShort((slot & pageSlotsMask) * Short.BYTES, value);
+    }
+
+    private static int mix(int x) {
+        int h = x * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSize(int expected) {
+        try {
+            return HashCommon.arraySize(Math.max(expected, 1), LOAD_FACTOR);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException(
+                    "capacity of OffHeapInt2ShortHashMap is too large, advise raise your parallelism in your Flink/Spark job",
+                    e);
+        }
+    }
+}
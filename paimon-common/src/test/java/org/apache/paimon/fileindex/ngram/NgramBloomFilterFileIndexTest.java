@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fileindex.ngram;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.fileindex.FileIndexReader;
+import org.apache.paimon.fileindex.FileIndexWriter;
+import org.apache.paimon.fs.ByteArraySeekableStream;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.types.DataTypes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link NgramBloomFilterFileIndex}. */
+public class NgramBloomFilterFileIndexTest {
+
+    @Test
+    public void testContains() {
+        Options options = new Options();
+        options.setInteger(NgramBloomFilterFileIndex.ITEMS, 100000);
+        options.set(NgramBloomFilterFileIndex.FPP, "0.01");
+        NgramBloomFilterFileIndex index =
+                new NgramBloomFilterFileIndex(DataTypes.STRING(), options);
+        FileIndexWriter writer = index.createWriter();
+
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add("request " + UUID.randomUUID() + " finished, 中文 " + i);
+        }
+        values.forEach(v -> writer.write(BinaryString.fromString(v)));
+        writer.write(null);
+
+        byte[] serializedBytes = writer.serializedBytes();
+        FileIndexReader reader =
+                index.createReader(
+                        new ByteArraySeekableStream(serializedBytes), 0, serializedBytes.length);
+
+        for (String value : values) {
+            assertThat(reader.visitEqual(null, BinaryString.fromString(value)).remain()).isTrue();
+            String traceId = value.substring(8, 44);
+            assertThat(reader.visitContains(null, BinaryString.fromString(traceId)).remain())
+                    .isTrue();
+            assertThat(
+                            reader.visitStartsWith(
+                                            null, BinaryString.fromString("request " + traceId))
+                                    .remain())
+                    .isTrue();
+            assertThat(
+                            reader.visitEndsWith(
+                                            null,
+                                            BinaryString.fromString(
+                                                    "中文 "
+                                                            + value.substring(
+                                                                    value.lastIndexOf(' ') + 1)))
+                                    .remain())
+                    .isTrue();
+        }
+
+        // n-grams of uuids are mostly written, test with other letters
+        Random random = new Random();
+        int errorCount = 0;
+        int num = 10000;
+        for (int i = 0; i < num; i++) {
+            BinaryString absent = BinaryString.fromString(randomLetters(random, 10));
+            if (reader.visitContains(null, absent).remain()) {
+                errorCount++;
+            }
+        }
+        assertThat((double) errorCount / num).isLessThan(0.01);
+
+        // literals shorter than gram size can not be tested
+        assertThat(reader.visitContains(null, BinaryString.fromString("zz")).remain()).isTrue();
+        assertThat(reader.visitContains(null, null).remain()).isTrue();
+    }
+
+    @Test
+    public void testGramSize() {
+        Options options = new Options();
+        options.setInteger(NgramBloomFilterFileIndex.GRAM_SIZE, 5);
+        FileIndexWriter writer =
+                new NgramBloomFilterFileIndex(DataTypes.STRING(), options).createWriter();
+        writer.write(BinaryString.fromString("hello world"));
+        byte[] serializedBytes = writer.serializedBytes();
+
+        // gram size is read from the serialized bytes
+        FileIndexReader reader =
+                new NgramBloomFilterFileIndex(DataTypes.STRING(), new Options())
+                        .createReader(
+                                new ByteArraySeekableStream(serializedBytes),
+                                0,
+                                serializedBytes.length);
+        assertThat(reader.visitContains(null, BinaryString.fromString("o wor")).remain()).isTrue();
+        assertThat(reader.visitContains(null, BinaryString.fromString("hello")).remain()).isTrue();
+        assertThat(reader.visitContains(null, BinaryString.fromString("worlds")).remain())
+                .isFalse();
+        assertThat(reader.visitContains(null, BinaryString.fromString("wor")).remain()).isTrue();
+    }
+
+    @Test
+    public void testUnsupportedType() {
+        assertThatThrownBy(() -> new NgramBloomFilterFileIndex(DataTypes.INT(), new Options()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("only supports string type");
+    }
+
+    private static String randomLetters(Random random, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('g' + random.nextInt(20)));
+        }
+        return builder.toString();
+    }
+}
@@ -27,6 +27,14 @@ import org.apache.paimon.data.InternalArray;
 import org.apache.paimon.data.InternalMap;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.ColumnarBundleRecords;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.data.columnar.heap.HeapBooleanVector;
+import org.apache.paimon.data.columnar.heap.HeapBytesVector;
+import org.apache.paimon.data.columnar.heap.HeapDoubleVector;
+import org.apache.paimon.data.columnar.heap.HeapIntVector;
+import org.apache.paimon.data.columnar.heap.HeapLongVector;
 import org.apache.paimon.data.serializer.InternalRowSerializer;
 import org.apache.paimon.data.variant.GenericVariant;
 import org.apache.paimon.fs.FileIO;
@@ -110,6 +118,78 @@ public abstract class FormatReadWriteTest {
                         GenericRow.of(1, 1L), GenericRow.of(2, 2L), GenericRow.of(3, null));
     }
 
+    @Test
+    public void testWriteBundle() throws IOException {
+        RowType rowType =
+                DataTypes.ROW(
+                        DataTypes.INT().notNull(),
+                        DataTypes.BIGINT(),
+                        DataTypes.STRING(),
+                        DataTypes.DOUBLE(),
+                        DataTypes.BOOLEAN());
+        FileFormat format = fileFormat();
+
+        PositionOutputStream out = fileIO.newOutputStream(file, false);
+        FormatWriter writer = format.createWriterFactory(rowType).create(out, "zstd");
+        List<InternalRow> expected = new ArrayList<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int bundle = 0; bundle < 3; bundle++) {
+            int numRows = random.nextInt(3000);
+            HeapIntVector ints = new HeapIntVector(numRows);
+            HeapLongVector longs = new HeapLongVector(numRows);
+            HeapBytesVector strings = new HeapBytesVector(numRows);
+            HeapDoubleVector doubles = new HeapDoubleVector(numRows);
+            HeapBooleanVector booleans = new HeapBooleanVector(numRows);
+            for (int i = 0; i < numRows; i++) {
+                GenericRow row = new GenericRow(5);
+                int value = expected.size();
+                ints.setInt(i, value);
+                row.setField(0, value);
+                if (random.nextInt(10) == 0) {
+                    longs.setNullAt(i);
+                    strings.setNullAt(i);
+                    doubles.setNullAt(i);
+                    booleans.setNullAt(i);
+                } else {
+                    longs.setLong(i, value * 10L);
+                    byte[] bytes = String.valueOf(value).getBytes();
+                    strings.putByteArray(i, bytes, 0, bytes.length);
+                    doubles.setDouble(i, value / 10d);
+                    booleans.setBoolean(i, value % 2 == 0);
+                    row.setField(1, value * 10L);
+                    row.setField(2, fromString(String.valueOf(value)));
+                    row.setField(3, value / 10d);
+                    row.setField(4, value % 2 == 0);
+                }
+                expected.add(row);
+            }
+
+            VectorizedColumnBatch batch =
+                    new VectorizedColumnBatch(
+                            new ColumnVector[] {ints, longs, strings, doubles, booleans});
+            batch.setNumRows(numRows);
+            ColumnarBundleRecords records = new ColumnarBundleRecords(batch);
+            if (writer instanceof BundleFormatWriter) {
+                ((BundleFormatWriter) writer).writeBundle(records);
+            } else {
+                for (InternalRow row : records) {
+                    writer.addElement(row);
+                }
+            }
+        }
+        writer.close();
+        out.close();
+
+        RecordReader<InternalRow> reader =
+                format.createReaderFactory(rowType)
+                        .createReader(
+                                new FormatReaderContext(fileIO, file, fileIO.getFileSize(file)));
+        InternalRowSerializer serializer = new InternalRowSerializer(rowType);
+        List<InternalRow> result = new ArrayList<>();
+        reader.forEachRemaining(row -> result.add(serializer.copy(row)));
+        assertThat(result).containsExactlyElementsOf(expected);
+    }
+
     @Test
     public void testFullTypes() throws IOException {
         RowType rowType = rowTypeForFullTypesTest();
@@ -26,6 +26,8 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
@@ -198,6 +200,46 @@ public abstract class FileIOBehaviorTestBase {
         assertThat(fs.exists(fileInLevel2Subdir)).isFalse();
     }
 
+    // --- batch operations
+
+    @Test
+    void testBatchExistsAndGetFileStatuses() throws IOException {
+        Path fileA = createRandomFileInDirectory(basePath);
+        Path dirB = new Path(basePath, randomName());
+        fs.mkdirs(dirB);
+        Path notExist = new Path(basePath, randomName());
+        List<Path> paths = Arrays.asList(fileA, notExist, dirB);
+
+        assertThat(fs.exists(paths)).containsExactly(true, false, true);
+
+        FileStatus[] statuses = fs.getFileStatuses(paths);
+        assertThat(statuses).hasSize(3);
+        assertThat(statuses[0].isDir()).isFalse();
+        assertThat(statuses[0].getPath().getName()).isEqualTo(fileA.getName());
+        assertThat(statuses[1]).isNull();
+        assertThat(statuses[2].isDir()).isTrue();
+
+        assertThat(fs.exists(Collections.emptyList())).isEmpty();
+        assertThat(fs.getFileStatuses(Collections.emptyList())).isEmpty();
+    }
+
+    @Test
+    void testDeleteFilesQuietly() throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            files.add(createRandomFileInDirectory(basePath));
+        }
+        Path kept = createRandomFileInDirectory(basePath);
+        files.add(new Path(basePath, randomName()));
+
+        fs.deleteFilesQuietly(files);
+
+        for (Path file : files) {
+            assertThat(fs.exists(file)).isFalse();
+        }
+        assertThat(fs.exists(kept)).isTrue();
+    }
+
     // --- mkdirs
 
     @Test
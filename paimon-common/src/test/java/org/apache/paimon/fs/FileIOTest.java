@@ -35,11 +35,15 @@ import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
 
 import static org.apache.paimon.utils.Preconditions.checkState;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -72,6 +76,37 @@ public class FileIOTest {
         assertThat(fileIO).isInstanceOf(RequireOptionsFileIOLoader.MyFileIO.class);
     }
 
+    @Test
+    public void testConcurrentlyApply() throws Exception {
+        List<Path> paths = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            paths.add(new Path(tempDir.toString(), "file-" + i));
+        }
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<String> names =
+                FileIOUtils.concurrentlyApply(
+                        paths,
+                        4,
+                        path -> {
+                            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                            try {
+                                Thread.sleep(1);
+                            } catch (InterruptedException e) {
+                                throw new RuntimeException(e);
+                            } finally {
+                                running.decrementAndGet();
+                            }
+                            return path.getName();
+                        });
+
+        assertThat(names)
+                .containsExactlyElementsOf(
+                        paths.stream().map(Path::getName).collect(Collectors.toList()));
+        assertThat(maxRunning.get()).isBetween(1, 4);
+    }
+
     @Test
     public void testCopy() throws Exception {
         Path srcFile = new Path(tempDir.resolve("src.txt").toUri());
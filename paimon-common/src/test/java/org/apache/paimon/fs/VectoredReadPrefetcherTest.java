@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fs;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.apache.paimon.fs.FileRange.createFileRange;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/** Test for {@link VectoredReadPrefetcher}. */
+class VectoredReadPrefetcherTest {
+
+    private final byte[] bytes;
+    private final VectoredReadable readable;
+
+    public VectoredReadPrefetcherTest() {
+        this.bytes = new byte[1024 * 1024];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        this.readable =
+                (position, buffer, offset, length) -> {
+                    System.arraycopy(bytes, (int) position, buffer, offset, length);
+                    return length;
+                };
+    }
+
+    @Test
+    public void testReadFromPrefetched() throws Exception {
+        VectoredReadPrefetcher prefetcher = new VectoredReadPrefetcher(readable, 10_000);
+        assertThat(
+                        prefetcher.prefetch(
+                                Arrays.asList(
+                                        createFileRange(100, 1000), createFileRange(5000, 3000))))
+                .isTrue();
+
+        // contained, partially contained and not contained ranges
+        List<FileRange> ranges =
+                Arrays.asList(
+                        createFileRange(100, 1000),
+                        createFileRange(6000, 500),
+                        createFileRange(900, 500),
+                        createFileRange(20000, 100));
+        prefetcher.readVectored(ranges);
+        assertData(ranges);
+        assertThat(prefetcher.prefetchedBytes()).isEqualTo(4000);
+        assertThat(prefetcher.hitBytes()).isEqualTo(1500);
+
+        byte[] buffer = new byte[100];
+        assertThat(prefetcher.readFromPrefetched(7900, buffer, 0, 100)).isTrue();
+        assertThat(buffer).isEqualTo(Arrays.copyOfRange(bytes, 7900, 8000));
+        assertThat(prefetcher.readFromPrefetched(7950, buffer, 0, 100)).isFalse();
+        assertThat(prefetcher.hitBytes()).isEqualTo(1600);
+    }
+
+    @Test
+    public void testExceedMemoryBudget() throws Exception {
+        VectoredReadPrefetcher prefetcher = new VectoredReadPrefetcher(readable, 1000);
+        assertThat(prefetcher.prefetch(Collections.singletonList(createFileRange(0, 800))))
+                .isTrue();
+        // exceeding the budget releases the previously prefetched ranges
+        assertThat(prefetcher.prefetch(Collections.singletonList(createFileRange(0, 2000))))
+                .isFalse();
+
+        List<FileRange> ranges = Collections.singletonList(createFileRange(0, 800));
+        prefetcher.readVectored(ranges);
+        assertData(ranges);
+        assertThat(prefetcher.prefetchedBytes()).isEqualTo(800);
+        assertThat(prefetcher.hitBytes()).isEqualTo(0);
+    }
+
+    @Test
+    public void testPrefetchFailure() {
+        VectoredReadPrefetcher prefetcher =
+                new VectoredReadPrefetcher(
+                        (position, buffer, offset, length) -> {
+                            throw new IOException("Expected exception");
+                        },
+                        1000);
+        prefetcher.prefetch(Collections.singletonList(createFileRange(0, 800)));
+        byte[] buffer = new byte[100];
+        assertThat(catchThrowable(() -> prefetcher.readFromPrefetched(0, buffer, 0, 100)))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Expected exception");
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger preads = new AtomicInteger();
+        VectoredReadPrefetcher prefetcher =
+                new VectoredReadPrefetcher(
+                        (position, buffer, offset, length) -> {
+                            preads.incrementAndGet();
+                            started.countDown();
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                throw new IOException(e);
+                            }
+                            return readable.pread(position, buffer, offset, length);
+                        },
+                        10_000);
+        FileRange range = createFileRange(0, 800);
+        assertThat(prefetcher.prefetch(Collections.singletonList(range))).isTrue();
+        started.await();
+
+        prefetcher.close();
+        release.countDown();
+        assertThat(range.getData()).isCancelled();
+        assertThat(prefetcher.prefetch(Collections.singletonList(createFileRange(0, 800))))
+                .isFalse();
+        assertThat(preads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testPositionedReadableAndStats() throws Exception {
+        PositionedReadable positioned = readable::pread;
+        PrefetchStats stats = new PrefetchStats();
+        VectoredReadPrefetcher prefetcher = new VectoredReadPrefetcher(positioned, 10_000, stats);
+        assertThat(prefetcher.prefetch(Collections.singletonList(createFileRange(100, 1000))))
+                .isTrue();
+
+        assertThat(prefetcher.readFromPrefetched(200, 300))
+                .isEqualTo(Arrays.copyOfRange(bytes, 200, 500));
+        assertThat(prefetcher.readFromPrefetched(1000, 200)).isNull();
+        assertThat(stats.hitBytes()).isEqualTo(0);
+
+        // statistics are added once on close
+        prefetcher.close();
+        prefetcher.close();
+        assertThat(stats.hitBytes()).isEqualTo(300);
+        assertThat(stats.stallNanos()).isEqualTo(prefetcher.stallNanos());
+    }
+
+    private void assertData(List<FileRange> ranges) throws Exception {
+        for (FileRange range : ranges) {
+            int offset = (int) range.getOffset();
+            assertThat(range.getData().get())
+                    .isEqualTo(Arrays.copyOfRange(bytes, offset, offset + range.getLength()));
+        }
+    }
+}
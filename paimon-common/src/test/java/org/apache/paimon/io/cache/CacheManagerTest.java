@@ -67,4 +67,42 @@ public class CacheManagerTest {
             }
         }
     }
+
+    @Test
+    void testOffHeapPagesAndStats() throws Exception {
+        File file = new File(tempDir.toFile(), "test.offheap");
+        assertThat(file.createNewFile()).isTrue();
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+
+        for (Cache.CacheType cacheType : Cache.CacheType.values()) {
+            CacheManager cacheManager =
+                    new CacheManager(cacheType, MemorySize.ofBytes(10), 0, true);
+            byte[] value = new byte[6];
+            Arrays.fill(value, (byte) 1);
+            for (int i = 0; i < 4; i++) {
+                CacheKey key = CacheKey.forPageIndex(raf, 6, i % 2);
+                MemorySegment segment = cacheManager.getPage(key, k -> value, k -> {});
+                assertThat(segment.isOffHeap()).isTrue();
+                byte[] bytes = new byte[6];
+                segment.get(0, bytes);
+                assertThat(bytes).isEqualTo(value);
+            }
+
+            CacheStats stats = cacheManager.dataCacheStats();
+            assertThat(cacheManager.indexCacheStats()).isSameAs(stats);
+            assertThat(stats.requestCount()).isEqualTo(4);
+            assertThat(stats.hitCount() + stats.missCount()).isEqualTo(4);
+            assertThat(stats.evictionCount()).isGreaterThan(0);
+            if (cacheType == Cache.CacheType.GUAVA) {
+                // LRU cache only holds one page, every request misses and evicts the other page
+                assertThat(stats.missCount()).isEqualTo(4);
+                assertThat(stats.evictionCount()).isEqualTo(3);
+            }
+
+            long evictionCount = stats.evictionCount();
+            cacheManager.invalidPage(CacheKey.forPageIndex(raf, 6, 0));
+            cacheManager.invalidPage(CacheKey.forPageIndex(raf, 6, 1));
+            assertThat(stats.evictionCount()).isEqualTo(evictionCount);
+        }
+    }
 }
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.predicate;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.ColumnarRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.data.columnar.heap.HeapBytesVector;
+import org.apache.paimon.data.columnar.heap.HeapDoubleVector;
+import org.apache.paimon.data.columnar.heap.HeapIntVector;
+import org.apache.paimon.data.columnar.heap.HeapLongVector;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.RoaringBitmap32;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link VectorizedPredicateEvaluator}. */
+public class VectorizedPredicateEvaluatorTest {
+
+    private static final int NUM_ROWS = 1000;
+
+    @Test
+    public void testMatchesRowEvaluation() {
+        VectorizedColumnBatch batch = createBatch();
+        PredicateBuilder builder =
+                new PredicateBuilder(
+                        RowType.of(
+                                DataTypes.INT(),
+                                DataTypes.BIGINT(),
+                                DataTypes.STRING(),
+                                DataTypes.DOUBLE()));
+
+        List<Predicate> predicates =
+                Arrays.asList(
+                        builder.equal(0, 5),
+                        builder.notEqual(0, 5),
+                        builder.lessThan(1, 50L),
+                        builder.lessOrEqual(1, 50L),
+                        builder.greaterThan(0, 7),
+                        builder.greaterOrEqual(3, 0.5d),
+                        builder.equal(2, BinaryString.fromString("s3")),
+                        builder.lessThan(2, BinaryString.fromString("s5")),
+                        builder.greaterOrEqual(2, BinaryString.fromString("é")),
+                        builder.startsWith(2, BinaryString.fromString("s1")),
+                        builder.isNull(0),
+                        builder.isNotNull(2),
+                        builder.in(0, Arrays.asList(1, 3, 5)),
+                        builder.notIn(1, Arrays.asList(1L, 2L)),
+                        builder.equal(0, null),
+                        PredicateBuilder.and(builder.greaterThan(0, 2), builder.lessThan(1, 80L)),
+                        PredicateBuilder.or(
+                                builder.isNull(0), builder.equal(2, BinaryString.fromString("s7"))),
+                        PredicateBuilder.or(
+                                PredicateBuilder.and(builder.equal(0, 1), builder.isNotNull(3)),
+                                builder.greaterThan(1, 90L)));
+
+        ColumnarRow row = new ColumnarRow(batch);
+        for (Predicate predicate : predicates) {
+            RoaringBitmap32 expected = new RoaringBitmap32();
+            for (int i = 0; i < NUM_ROWS; i++) {
+                row.setRowId(i);
+                if (predicate.test(row)) {
+                    expected.add(i);
+                }
+            }
+            assertThat(VectorizedPredicateEvaluator.evaluate(predicate, batch))
+                    .as(predicate.toString())
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void testShortCircuit() {
+        VectorizedColumnBatch batch = createBatch();
+        PredicateBuilder builder = new PredicateBuilder(RowType.of(DataTypes.INT()));
+
+        Predicate alwaysFalse = builder.equal(0, null);
+        RoaringBitmap32 selected =
+                VectorizedPredicateEvaluator.evaluate(
+                        PredicateBuilder.and(alwaysFalse, builder.isNull(0)), batch);
+        assertThat(selected.isEmpty()).isTrue();
+
+        Predicate all = PredicateBuilder.or(builder.isNull(0), builder.isNotNull(0));
+        assertThat(VectorizedPredicateEvaluator.evaluate(all, batch).getCardinality())
+                .isEqualTo(NUM_ROWS);
+    }
+
+    private VectorizedColumnBatch createBatch() {
+        Random random = new Random(42);
+        HeapIntVector ints = new HeapIntVector(NUM_ROWS);
+        HeapLongVector longs = new HeapLongVector(NUM_ROWS);
+        HeapBytesVector strings = new HeapBytesVector(NUM_ROWS);
+        HeapDoubleVector doubles = new HeapDoubleVector(NUM_ROWS);
+        for (int i = 0; i < NUM_ROWS; i++) {
+            if (random.nextInt(10) == 0) {
+                ints.setNullAt(i);
+            } else {
+                ints.setInt(i, random.nextInt(10));
+            }
+            longs.setLong(i, random.nextInt(100));
+            if (random.nextInt(10) == 0) {
+                strings.setNullAt(i);
+            } else {
+                String s = random.nextInt(20) == 0 ? "ü" + i : "s" + random.nextInt(20);
+                byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+                strings.putByteArray(i, bytes, 0, bytes.length);
+            }
+            if (random.nextInt(10) == 0) {
+                doubles.setNullAt(i);
+            } else {
+                doubles.setDouble(i, random.nextDouble());
+            }
+        }
+        VectorizedColumnBatch batch =
+                new VectorizedColumnBatch(new ColumnVector[] {ints, longs, strings, doubles});
+        batch.setNumRows(NUM_ROWS);
+        return batch;
+    }
+}
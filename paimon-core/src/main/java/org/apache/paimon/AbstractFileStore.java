@@ -30,6 +30,8 @@ import org.apache.paimon.iceberg.IcebergCommitCallback;
 import org.apache.paimon.iceberg.IcebergOptions;
 import org.apache.paimon.index.HashIndexFile;
 import org.apache.paimon.index.IndexFileHandler;
+import org.apache.paimon.index.KeyIndexFile;
+import org.apache.paimon.io.CachingFileIndexReader;
 import org.apache.paimon.manifest.IndexManifestFile;
 import org.apache.paimon.manifest.ManifestFile;
 import org.apache.paimon.manifest.ManifestList;
@@ -38,6 +40,7 @@ import org.apache.paimon.metastore.AddPartitionTagCallback;
 import org.apache.paimon.metastore.TagPreviewCommitCallback;
 import org.apache.paimon.operation.ChangelogDeletion;
 import org.apache.paimon.operation.FileStoreCommitImpl;
+import org.apache.paimon.operation.IncrementalManifestCache;
 import org.apache.paimon.operation.Lock;
 import org.apache.paimon.operation.ManifestsReader;
 import org.apache.paimon.operation.PartitionExpire;
@@ -98,6 +101,8 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
 
     @Nullable private SegmentsCache<Path> readManifestCache;
     @Nullable private Cache<Path, Snapshot> snapshotCache;
+    @Nullable private IncrementalManifestCache incrementalManifestCache;
+    @Nullable private CachingFileIndexReader fileIndexReader;
 
     protected AbstractFileStore(
             FileIO fileIO,
@@ -232,7 +237,11 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
                         bucketMode() == BucketMode.BUCKET_UNAWARE
                                 ? options.deletionVectorIndexFileTargetSize()
                                 : MemorySize.ofBytes(Long.MAX_VALUE),
-                        options.deletionVectorBitmap64()));
+                        options.deletionVectorBitmap64(),
+                        bucketMode() == BucketMode.BUCKET_UNAWARE
+                                ? 0
+                                : options.deletionVectorIndexFileMaxDeltaNum()),
+                new KeyIndexFile(fileIO, pathFactory().indexFileFactory()));
     }
 
     @Override
@@ -243,6 +252,38 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
                 new StatsFile(fileIO, pathFactory().statsFileFactory()));
     }
 
+    @Nullable
+    protected synchronized IncrementalManifestCache incrementalManifestCache() {
+        if (!options.scanManifestIncrementalCacheEnabled()) {
+            return null;
+        }
+
+        if (incrementalManifestCache == null) {
+            incrementalManifestCache =
+                    new IncrementalManifestCache(
+                            snapshotManager(),
+                            manifestListFactory(),
+                            manifestFileFactory(),
+                            options.scanManifestIncrementalCacheMaxDeltaSnapshots(),
+                            options.scanManifestParallelism());
+        }
+        return incrementalManifestCache;
+    }
+
+    @Nullable
+    protected synchronized CachingFileIndexReader planFileIndexReader() {
+        if (!options.fileIndexReadEnabled() || !options.fileIndexReadPlanEnabled()) {
+            return null;
+        }
+
+        if (fileIndexReader == null) {
+            fileIndexReader =
+                    new CachingFileIndexReader(
+                            fileIO, pathFactory(), options.fileIndexReadPlanCacheSize());
+        }
+        return fileIndexReader;
+    }
+
     protected ManifestsReader newManifestsReader() {
         return new ManifestsReader(
                 partitionType,
@@ -40,6 +40,7 @@ import javax.annotation.Nullable;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.apache.paimon.predicate.PredicateBuilder.and;
 import static org.apache.paimon.predicate.PredicateBuilder.pickTransformFieldMapping;
@@ -148,15 +149,23 @@ public class AppendOnlyFileStore extends AbstractFileStore<InternalRow> {
                     return Optional.empty();
                 };
 
-        return new AppendOnlyFileStoreScan(
-                newManifestsReader(),
-                bucketSelectConverter,
-                snapshotManager(),
-                schemaManager,
-                schema,
-                manifestFileFactory(),
-                options.scanManifestParallelism(),
-                options.fileIndexReadEnabled());
+        AppendOnlyFileStoreScan scan =
+                new AppendOnlyFileStoreScan(
+                        newManifestsReader(),
+                        bucketSelectConverter,
+                        snapshotManager(),
+                        schemaManager,
+                        schema,
+                        manifestFileFactory(),
+                        options.scanManifestParallelism(),
+                        options.fileIndexReadEnabled());
+        scan.withIncrementalManifestCache(incrementalManifestCache());
+        scan.withFileIndexReader(
+                planFileIndexReader(),
+                options.indexColumnsOptions().entrySet().stream()
+                        .map(e -> e.getKey().getColumnName())
+                        .collect(Collectors.toSet()));
+        return scan;
     }
 
     @Override
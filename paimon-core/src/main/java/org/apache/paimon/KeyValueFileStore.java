@@ -24,6 +24,7 @@ import org.apache.paimon.deletionvectors.DeletionVectorsMaintainer;
 import org.apache.paimon.format.FileFormatDiscover;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.index.DynamicBucketIndexMaintainer;
+import org.apache.paimon.index.KeyIndexMaintainer;
 import org.apache.paimon.io.KeyValueFileReaderFactory;
 import org.apache.paimon.mergetree.compact.MergeFunctionFactory;
 import org.apache.paimon.operation.AbstractFileStoreWrite;
@@ -32,6 +33,7 @@ import org.apache.paimon.operation.KeyValueFileStoreScan;
 import org.apache.paimon.operation.KeyValueFileStoreWrite;
 import org.apache.paimon.operation.MergeFileSplitRead;
 import org.apache.paimon.operation.RawFileSplitRead;
+import org.apache.paimon.options.Options;
 import org.apache.paimon.postpone.PostponeBucketFileStoreWrite;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.schema.KeyValueFieldsExtractor;
@@ -59,6 +61,9 @@ import static org.apache.paimon.utils.Preconditions.checkArgument;
 /** {@link FileStore} for querying and updating {@link KeyValue}s. */
 public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
 
+    private static final String PARQUET_LATE_MATERIALIZATION_ENABLED =
+            "parquet.filter.late-materialization.enabled";
+
     private final boolean crossPartitionUpdate;
     private final RowType bucketKeyType;
     private final RowType keyType;
@@ -129,7 +134,7 @@ public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
                 schemaManager,
                 schema,
                 valueType,
-                FileFormatDiscover.of(options),
+                readFormatDiscover(),
                 pathFactory(),
                 options.fileIndexReadEnabled());
     }
@@ -141,12 +146,23 @@ public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
                 schema,
                 keyType,
                 valueType,
-                FileFormatDiscover.of(options),
+                readFormatDiscover(),
                 pathFactory(),
                 keyValueFieldsExtractor,
                 options);
     }
 
+    /**
+     * Format discover for reading key-value files. Parquet late materialization drops the rows
+     * filtered out inside the format reader, but rows of a key must not be dropped by value filters
+     * before they are merged, so it is always disabled here.
+     */
+    private FileFormatDiscover readFormatDiscover() {
+        Options readOptions = Options.fromMap(options.toMap());
+        readOptions.set(PARQUET_LATE_MATERIALIZATION_ENABLED, "false");
+        return FileFormatDiscover.of(new CoreOptions(readOptions));
+    }
+
     @Override
     public AbstractFileStoreWrite<KeyValue> newWrite(String commitUser) {
         return newWrite(commitUser, null);
@@ -163,6 +179,12 @@ public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
             deletionVectorsMaintainerFactory =
                     new DeletionVectorsMaintainer.Factory(newIndexFileHandler());
         }
+        KeyIndexMaintainer.Factory keyIndexMaintainerFactory = null;
+        if (bucketMode() == BucketMode.CROSS_PARTITION
+                && options.crossPartitionUpsertIndexFileEnabled()) {
+            keyIndexMaintainerFactory =
+                    new KeyIndexMaintainer.Factory(newIndexFileHandler(), options);
+        }
 
         if (options.bucket() == BucketMode.POSTPONE_BUCKET) {
             return new PostponeBucketFileStoreWrite(
@@ -199,6 +221,7 @@ public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
                     newScan(),
                     indexFactory,
                     deletionVectorsMaintainerFactory,
+                    keyIndexMaintainerFactory,
                     options,
                     keyValueFieldsExtractor,
                     tableName);
@@ -227,19 +250,22 @@ public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
                     return Optional.empty();
                 };
 
-        return new KeyValueFileStoreScan(
-                newManifestsReader(),
-                bucketSelectConverter,
-                snapshotManager(),
-                schemaManager,
-                schema,
-                keyValueFieldsExtractor,
-                manifestFileFactory(),
-                options.scanManifestParallelism(),
-                options.deletionVectorsEnabled(),
-                options.mergeEngine(),
-                options.changelogProducer(),
-                options.fileIndexReadEnabled() && options.deletionVectorsEnabled());
+        KeyValueFileStoreScan scan =
+                new KeyValueFileStoreScan(
+                        newManifestsReader(),
+                        bucketSelectConverter,
+                        snapshotManager(),
+                        schemaManager,
+                        schema,
+                        keyValueFieldsExtractor,
+                        manifestFileFactory(),
+                        options.scanManifestParallelism(),
+                        options.deletionVectorsEnabled(),
+                        options.mergeEngine(),
+                        options.changelogProducer(),
+                        options.fileIndexReadEnabled() && options.deletionVectorsEnabled());
+        scan.withIncrementalManifestCache(incrementalManifestCache());
+        return scan;
     }
 
     @Override
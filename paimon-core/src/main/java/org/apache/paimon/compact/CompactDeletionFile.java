@@ -21,16 +21,19 @@ package org.apache.paimon.compact;
 import org.apache.paimon.deletionvectors.DeletionVectorsMaintainer;
 import org.apache.paimon.index.IndexFileHandler;
 import org.apache.paimon.index.IndexFileMeta;
+import org.apache.paimon.io.IndexIncrement;
 
-import javax.annotation.Nullable;
-
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 /** Deletion File from compaction. */
 public interface CompactDeletionFile {
 
-    Optional<IndexFileMeta> getOrCompute();
+    /**
+     * Returns the new deletion vectors index files, and the committed index files deleted by them
+     * in incremental mode.
+     */
+    IndexIncrement getOrCompute();
 
     CompactDeletionFile mergeOldFile(CompactDeletionFile old);
 
@@ -42,14 +45,17 @@ public interface CompactDeletionFile {
      * them).
      */
     static CompactDeletionFile generateFiles(DeletionVectorsMaintainer maintainer) {
-        List<IndexFileMeta> files = maintainer.writeDeletionVectorsIndex();
-        if (files.size() > 1) {
+        IndexIncrement increment = maintainer.writeIndexIncrement();
+        if (increment.newIndexFiles().size() > 1) {
             throw new IllegalStateException(
                     "Should only generate one compact deletion file, this is a bug.");
         }
 
         return new GeneratedDeletionFile(
-                files.isEmpty() ? null : files.get(0), maintainer.indexFileHandler());
+                increment.newIndexFiles(),
+                increment.deletedIndexFiles(),
+                maintainer.incremental(),
+                maintainer.indexFileHandler());
     }
 
     /** For sync compaction, only create deletion files when prepareCommit. */
@@ -57,24 +63,35 @@ public interface CompactDeletionFile {
         return new LazyCompactDeletionFile(maintainer);
     }
 
-    /** A generated files implementation of {@link CompactDeletionFile}. */
+    /**
+     * A generated files implementation of {@link CompactDeletionFile}. In incremental mode, the
+     * delta files generated by several compactions are all kept in order, files generated before a
+     * new base file are deleted directly since they are not committed yet.
+     */
     class GeneratedDeletionFile implements CompactDeletionFile {
 
-        @Nullable private final IndexFileMeta deletionFile;
+        private final List<IndexFileMeta> newFiles;
+        private final List<IndexFileMeta> deletedFiles;
+        private final boolean incremental;
         private final IndexFileHandler fileHandler;
 
         private boolean getInvoked = false;
 
         public GeneratedDeletionFile(
-                @Nullable IndexFileMeta deletionFile, IndexFileHandler fileHandler) {
-            this.deletionFile = deletionFile;
+                List<IndexFileMeta> newFiles,
+                List<IndexFileMeta> deletedFiles,
+                boolean incremental,
+                IndexFileHandler fileHandler) {
+            this.newFiles = newFiles;
+            this.deletedFiles = deletedFiles;
+            this.incremental = incremental;
             this.fileHandler = fileHandler;
         }
 
         @Override
-        public Optional<IndexFileMeta> getOrCompute() {
+        public IndexIncrement getOrCompute() {
             this.getInvoked = true;
-            return Optional.ofNullable(deletionFile);
+            return new IndexIncrement(newFiles, deletedFiles);
         }
 
         @Override
@@ -84,23 +101,36 @@ public interface CompactDeletionFile {
                         "old should be a GeneratedDeletionFile, but it is: " + old.getClass());
             }
 
-            if (((GeneratedDeletionFile) old).getInvoked) {
+            GeneratedDeletionFile oldFile = (GeneratedDeletionFile) old;
+            if (oldFile.getInvoked) {
                 throw new IllegalStateException("old should not be get, this is a bug.");
             }
 
-            if (deletionFile == null) {
+            if (newFiles.isEmpty()) {
                 return old;
             }
 
-            old.clean();
-            return this;
+            if (!incremental) {
+                old.clean();
+                return this;
+            }
+
+            List<IndexFileMeta> mergedNewFiles = new ArrayList<>(oldFile.newFiles);
+            mergedNewFiles.addAll(newFiles);
+            List<IndexFileMeta> mergedDeletedFiles = new ArrayList<>(oldFile.deletedFiles);
+            for (IndexFileMeta file : deletedFiles) {
+                if (mergedNewFiles.remove(file)) {
+                    fileHandler.deleteIndexFile(file);
+                } else {
+                    mergedDeletedFiles.add(file);
+                }
+            }
+            return new GeneratedDeletionFile(mergedNewFiles, mergedDeletedFiles, true, fileHandler);
         }
 
         @Override
         public void clean() {
-            if (deletionFile != null) {
-                fileHandler.deleteIndexFile(deletionFile);
-            }
+            newFiles.forEach(fileHandler::deleteIndexFile);
         }
     }
 
@@ -116,7 +146,7 @@ public interface CompactDeletionFile {
         }
 
         @Override
-        public Optional<IndexFileMeta> getOrCompute() {
+        public IndexIncrement getOrCompute() {
             generated = true;
             return generateFiles(maintainer).getOrCompute();
         }
@@ -36,13 +36,29 @@ public abstract class CompactTask implements Callable<CompactResult> {
     private static final Logger LOG = LoggerFactory.getLogger(CompactTask.class);
 
     @Nullable private final CompactionMetrics.Reporter metricsReporter;
+    private final long createMillis;
+
+    private long priority;
 
     public CompactTask(@Nullable CompactionMetrics.Reporter metricsReporter) {
         this.metricsReporter = metricsReporter;
+        this.createMillis = System.currentTimeMillis();
+        this.priority = 0;
+    }
+
+    /** Priority in {@link PrioritizedCompactExecutor}, tasks with higher priority run first. */
+    public long priority() {
+        return priority;
+    }
+
+    public CompactTask withPriority(long priority) {
+        this.priority = priority;
+        return this;
     }
 
     @Override
     public CompactResult call() throws Exception {
+        MetricUtils.safeCall(this::reportQueueWaitTime, LOG);
         MetricUtils.safeCall(this::startTimer, LOG);
         try {
             long startMillis = System.currentTimeMillis();
@@ -78,6 +94,13 @@ public abstract class CompactTask implements Callable<CompactResult> {
         }
     }
 
+    private void reportQueueWaitTime() {
+        if (metricsReporter != null) {
+            metricsReporter.reportCompactionQueueWaitTime(
+                    System.currentTimeMillis() - createMillis);
+        }
+    }
+
     private void decreaseCompactionsQueuedCount() {
         if (metricsReporter != null) {
             metricsReporter.decreaseCompactionsQueuedCount();
@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.compact;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.utils.ExecutorThreadFactory;
+
+import javax.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A multi-threaded executor for compaction which runs the queued {@link CompactTask}s with the
+ * highest {@link CompactTask#priority()} first, tasks with the same priority run in submission
+ * order.
+ *
+ * <p>A JVM-wide instance can be acquired by {@link #acquireShared}, so that all writers of all
+ * tasks in a process share the compaction threads instead of owning one thread each. The shared
+ * instance is reference counted and shut down when the last user releases it.
+ */
+public class PrioritizedCompactExecutor extends ThreadPoolExecutor {
+
+    @Nullable private static PrioritizedCompactExecutor sharedExecutor;
+    private static int sharedReferences = 0;
+
+    private final AtomicLong sequence;
+
+    public PrioritizedCompactExecutor(int threadNum, String threadName) {
+        super(
+                threadNum,
+                threadNum,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(),
+                new ExecutorThreadFactory(threadName));
+        this.sequence = new AtomicLong(0);
+    }
+
+    /**
+     * Acquire a reference to the JVM-wide shared executor. The executor is created on first access
+     * and grows if a larger thread number is requested later. Shutting down the returned {@link
+     * ExecutorService} releases the reference, the shared executor is shut down after all
+     * references are released.
+     */
+    public static synchronized ExecutorService acquireShared(int threadNum) {
+        if (sharedExecutor == null) {
+            sharedExecutor = new PrioritizedCompactExecutor(threadNum, "paimon-shared-compaction");
+        } else if (sharedExecutor.getMaximumPoolSize() < threadNum) {
+            sharedExecutor.setMaximumPoolSize(threadNum);
+            sharedExecutor.setCorePoolSize(threadNum);
+        }
+        sharedReferences++;
+        return new SharedExecutorReference(sharedExecutor);
+    }
+
+    private static synchronized void releaseShared(PrioritizedCompactExecutor executor) {
+        if (executor != sharedExecutor) {
+            return;
+        }
+        sharedReferences--;
+        if (sharedReferences == 0) {
+            sharedExecutor = null;
+            executor.shutdownNow();
+        }
+    }
+
+    /** Number of tasks waiting in the queue of the shared executor, 0 if it does not exist. */
+    public static synchronized int sharedQueueSize() {
+        return sharedExecutor == null ? 0 : sharedExecutor.queueSize();
+    }
+
+    @VisibleForTesting
+    @Nullable
+    static synchronized PrioritizedCompactExecutor sharedExecutor() {
+        return sharedExecutor;
+    }
+
+    /** Number of tasks waiting in the queue. */
+    public int queueSize() {
+        return getQueue().size();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        // queue elements must be comparable
+        super.execute(command instanceof PrioritizedTask ? command : newTaskFor(command, null));
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        long priority = callable instanceof CompactTask ? ((CompactTask) callable).priority() : 0;
+        return new PrioritizedTask<>(callable, priority, sequence.getAndIncrement());
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new PrioritizedTask<>(
+                Executors.callable(runnable, value), 0, sequence.getAndIncrement());
+    }
+
+    /** A {@link FutureTask} ordered by priority descending, then by sequence ascending. */
+    private static class PrioritizedTask<T> extends FutureTask<T>
+            implements Comparable<PrioritizedTask<?>> {
+
+        private final long priority;
+        private final long sequence;
+
+        private PrioritizedTask(Callable<T> callable, long priority, long sequence) {
+            super(callable);
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask<?> other) {
+            int result = Long.compare(other.priority, priority);
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * A reference to the shared executor. Tasks are submitted with their priority to the shared
+     * executor, shutting down the reference only releases it, the tasks submitted by other users
+     * keep running. The reference owns no threads, so it is terminated once it is shut down.
+     */
+    private static class SharedExecutorReference extends AbstractExecutorService {
+
+        private final PrioritizedCompactExecutor executor;
+        private final AtomicBoolean released;
+
+        private SharedExecutorReference(PrioritizedCompactExecutor executor) {
+            this.executor = executor;
+            this.released = new AtomicBoolean(false);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (released.get()) {
+                throw new RejectedExecutionException(
+                        "The reference to the shared compaction executor has been released.");
+            }
+            executor.execute(command);
+        }
+
+        @Override
+        protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+            return executor.newTaskFor(callable);
+        }
+
+        @Override
+        protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+            return executor.newTaskFor(runnable, value);
+        }
+
+        @Override
+        public void shutdown() {
+            if (released.compareAndSet(false, true)) {
+                releaseShared(executor);
+            }
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown();
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return released.get();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return released.get();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return released.get();
+        }
+    }
+}
@@ -19,11 +19,19 @@
 package org.apache.paimon.crosspartition;
 
 import org.apache.paimon.CoreOptions;
+import org.apache.paimon.Snapshot;
 import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.JoinedRow;
+import org.apache.paimon.index.IndexFileHandler;
+import org.apache.paimon.index.IndexFileMeta;
+import org.apache.paimon.index.KeyIndexMaintainer;
 import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.manifest.IndexManifestEntry;
+import org.apache.paimon.mergetree.compact.ConcatRecordReader;
+import org.apache.paimon.reader.ReaderSupplier;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.schema.TableSchema;
 import org.apache.paimon.table.FileStoreTable;
@@ -34,21 +42,32 @@ import org.apache.paimon.table.source.Split;
 import org.apache.paimon.types.DataField;
 import org.apache.paimon.types.DataTypes;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.Pair;
 import org.apache.paimon.utils.RowDataToObjectArrayConverter;
 import org.apache.paimon.utils.TypeUtils;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.io.Serializable;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.apache.paimon.CoreOptions.SCAN_MODE;
+import static org.apache.paimon.CoreOptions.SCAN_SNAPSHOT_ID;
+import static org.apache.paimon.CoreOptions.StartupMode.FROM_SNAPSHOT;
 import static org.apache.paimon.CoreOptions.StartupMode.LATEST;
+import static org.apache.paimon.index.KeyIndexFile.KEY_INDEX;
 import static org.apache.paimon.io.SplitsParallelReadUtil.parallelExecute;
 
 /** Bootstrap key index from Paimon table. */
@@ -80,11 +99,29 @@ public class IndexBootstrap implements Serializable {
                         .mapToInt(Integer::intValue)
                         .toArray();
 
+        CoreOptions options = CoreOptions.fromMap(table.options());
+        Duration indexTtl = options.crossPartitionUpsertIndexTtl();
+
         // force using the latest scan mode
+        Map<String, String> scanOptions =
+                Collections.singletonMap(SCAN_MODE.key(), LATEST.toString());
+        IndexFileHandler indexFileHandler = table.store().newIndexFileHandler();
+        Map<Pair<BinaryRow, Integer>, List<IndexFileMeta>> keyIndexFiles = Collections.emptyMap();
+        // key index files don't contain the creation time of keys, so they can't work with ttl
+        if (options.crossPartitionUpsertIndexFileEnabled() && indexTtl == null) {
+            Snapshot snapshot = table.snapshotManager().latestSnapshot();
+            if (snapshot != null) {
+                keyIndexFiles =
+                        scanKeyIndexFiles(indexFileHandler, snapshot, numAssigners, assignId);
+                // data files must be scanned from the same snapshot as key index files
+                scanOptions = new HashMap<>();
+                scanOptions.put(SCAN_MODE.key(), FROM_SNAPSHOT.toString());
+                scanOptions.put(SCAN_SNAPSHOT_ID.key(), String.valueOf(snapshot.id()));
+            }
+        }
+
         ReadBuilder readBuilder =
-                table.copy(Collections.singletonMap(SCAN_MODE.key(), LATEST.toString()))
-                        .newReadBuilder()
-                        .withProjection(keyProjection);
+                table.copy(scanOptions).newReadBuilder().withProjection(keyProjection);
 
         DataTableScan tableScan = (DataTableScan) readBuilder.newScan();
         List<Split> splits =
@@ -93,8 +130,20 @@ public class IndexBootstrap implements Serializable {
                         .plan()
                         .splits();
 
-        CoreOptions options = CoreOptions.fromMap(table.options());
-        Duration indexTtl = options.crossPartitionUpsertIndexTtl();
+        if (!keyIndexFiles.isEmpty()) {
+            // buckets with key index files are bootstrapped from them instead of data files
+            Set<Pair<BinaryRow, Integer>> indexedBuckets = keyIndexFiles.keySet();
+            splits =
+                    splits.stream()
+                            .filter(
+                                    split ->
+                                            !indexedBuckets.contains(
+                                                    Pair.of(
+                                                            ((DataSplit) split).partition(),
+                                                            ((DataSplit) split).bucket())))
+                            .collect(Collectors.toList());
+        }
+
         if (indexTtl != null) {
             long indexTtlMillis = indexTtl.toMillis();
             long currentTime = System.currentTimeMillis();
@@ -110,19 +159,95 @@ public class IndexBootstrap implements Serializable {
                                 TypeUtils.project(rowType, table.partitionKeys()),
                                 RowType.of(DataTypes.INT())));
 
-        return parallelExecute(
-                TypeUtils.project(rowType, keyProjection),
-                s -> readBuilder.newRead().createReader(s),
-                splits,
-                options.pageSize(),
-                options.crossPartitionUpsertBootstrapParallelism(),
-                split -> {
-                    DataSplit dataSplit = ((DataSplit) split);
-                    int bucket = dataSplit.bucket();
-                    return partBucketConverter.toGenericRow(
-                            new JoinedRow(dataSplit.partition(), GenericRow.of(bucket)));
-                },
-                (row, extra) -> new JoinedRow().replace(row, extra));
+        List<Split> dataSplits = splits;
+        ReaderSupplier<InternalRow> dataReader =
+                () ->
+                        parallelExecute(
+                                TypeUtils.project(rowType, keyProjection),
+                                s -> readBuilder.newRead().createReader(s),
+                                dataSplits,
+                                options.pageSize(),
+                                options.crossPartitionUpsertBootstrapParallelism(),
+                                split -> {
+                                    DataSplit dataSplit = ((DataSplit) split);
+                                    int bucket = dataSplit.bucket();
+                                    return partBucketConverter.toGenericRow(
+                                            new JoinedRow(
+                                                    dataSplit.partition(), GenericRow.of(bucket)));
+                                },
+                                (row, extra) -> new JoinedRow().replace(row, extra));
+        if (keyIndexFiles.isEmpty()) {
+            return dataReader.get();
+        }
+
+        Map<Pair<BinaryRow, Integer>, List<IndexFileMeta>> bucketFiles = keyIndexFiles;
+        return ConcatRecordReader.create(
+                () -> keyIndexReader(indexFileHandler, bucketFiles, partBucketConverter),
+                dataReader);
+    }
+
+    private static Map<Pair<BinaryRow, Integer>, List<IndexFileMeta>> scanKeyIndexFiles(
+            IndexFileHandler indexFileHandler, Snapshot snapshot, int numAssigners, int assignId) {
+        Map<Pair<BinaryRow, Integer>, List<IndexFileMeta>> result = new LinkedHashMap<>();
+        for (IndexManifestEntry entry : indexFileHandler.scan(snapshot, KEY_INDEX)) {
+            if (entry.bucket() % numAssigners == assignId) {
+                result.computeIfAbsent(
+                                Pair.of(entry.partition(), entry.bucket()), k -> new ArrayList<>())
+                        .add(entry.indexFile());
+            }
+        }
+        return result;
+    }
+
+    /** Read the keys of buckets from key index files, one batch for each bucket. */
+    private static RecordReader<InternalRow> keyIndexReader(
+            IndexFileHandler indexFileHandler,
+            Map<Pair<BinaryRow, Integer>, List<IndexFileMeta>> keyIndexFiles,
+            RowDataToObjectArrayConverter partBucketConverter) {
+        Iterator<Map.Entry<Pair<BinaryRow, Integer>, List<IndexFileMeta>>> buckets =
+                keyIndexFiles.entrySet().iterator();
+        return new RecordReader<InternalRow>() {
+
+            @Nullable private KeyIndexMaintainer.KeyIterator current;
+
+            @Nullable
+            @Override
+            public RecordIterator<InternalRow> readBatch() {
+                if (!buckets.hasNext()) {
+                    return null;
+                }
+
+                Map.Entry<Pair<BinaryRow, Integer>, List<IndexFileMeta>> bucket = buckets.next();
+                InternalRow partBucket =
+                        partBucketConverter.toGenericRow(
+                                new JoinedRow(
+                                        bucket.getKey().getLeft(),
+                                        GenericRow.of(bucket.getKey().getRight())));
+                // keys are merged from the sorted key index files without loading the bucket
+                KeyIndexMaintainer.KeyIterator keys =
+                        KeyIndexMaintainer.readKeys(indexFileHandler, bucket.getValue());
+                current = keys;
+                return new RecordIterator<InternalRow>() {
+                    @Nullable
+                    @Override
+                    public InternalRow next() {
+                        return keys.hasNext() ? new JoinedRow(keys.next(), partBucket) : null;
+                    }
+
+                    @Override
+                    public void releaseBatch() {
+                        keys.close();
+                    }
+                };
+            }
+
+            @Override
+            public void close() {
+                if (current != null) {
+                    current.close();
+                }
+            }
+        };
     }
 
     @VisibleForTesting
@@ -48,21 +48,40 @@ public class DeletionVectorsIndexFile extends IndexFile {
 
     private final MemorySize targetSizePerIndexFile;
     private final boolean bitmap64;
+    private final int maxDeltaNum;
 
     public DeletionVectorsIndexFile(
             FileIO fileIO,
             PathFactory pathFactory,
             MemorySize targetSizePerIndexFile,
             boolean bitmap64) {
+        this(fileIO, pathFactory, targetSizePerIndexFile, bitmap64, 0);
+    }
+
+    public DeletionVectorsIndexFile(
+            FileIO fileIO,
+            PathFactory pathFactory,
+            MemorySize targetSizePerIndexFile,
+            boolean bitmap64,
+            int maxDeltaNum) {
         super(fileIO, pathFactory);
         this.targetSizePerIndexFile = targetSizePerIndexFile;
         this.bitmap64 = bitmap64;
+        this.maxDeltaNum = maxDeltaNum;
     }
 
     public boolean bitmap64() {
         return bitmap64;
     }
 
+    /**
+     * The max number of delta index files of a bucket, 0 means that all deletion vectors of a
+     * bucket are rewritten on every change.
+     */
+    public int maxDeltaNum() {
+        return maxDeltaNum;
+    }
+
     /**
      * Reads all deletion vectors from a specified file.
      *
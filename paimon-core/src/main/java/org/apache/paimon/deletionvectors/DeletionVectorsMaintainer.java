@@ -21,28 +21,49 @@ package org.apache.paimon.deletionvectors;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.index.IndexFileHandler;
 import org.apache.paimon.index.IndexFileMeta;
+import org.apache.paimon.io.IndexIncrement;
 
 import javax.annotation.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
-/** Maintainer of deletionVectors index. */
+/**
+ * Maintainer of deletionVectors index.
+ *
+ * <p>If {@link DeletionVectorsIndexFile#maxDeltaNum()} is greater than 0, only the deletion vectors
+ * changed since the last written index file are written into a new delta index file, the deletion
+ * vectors of removed data files are written as empty deletion vectors. Readers apply the index
+ * files of a bucket in order, so later deletion vectors override earlier ones. Once there are more
+ * delta files than the max number, all deletion vectors are written into a new base index file
+ * which replaces all previous ones.
+ */
 public class DeletionVectorsMaintainer {
 
     private final IndexFileHandler indexFileHandler;
     private final Map<String, DeletionVector> deletionVectors;
     protected final boolean bitmap64;
+    private final int maxDeltaNum;
+    private final List<IndexFileMeta> indexFiles;
+    private final Set<String> changedFiles;
     private boolean modified;
 
     private DeletionVectorsMaintainer(
-            IndexFileHandler fileHandler, Map<String, DeletionVector> deletionVectors) {
+            IndexFileHandler fileHandler,
+            Map<String, DeletionVector> deletionVectors,
+            List<IndexFileMeta> indexFiles) {
         this.indexFileHandler = fileHandler;
         this.deletionVectors = deletionVectors;
         this.bitmap64 = indexFileHandler.deletionVectorsIndex().bitmap64();
+        this.maxDeltaNum = indexFileHandler.deletionVectorsIndex().maxDeltaNum();
+        this.indexFiles = new ArrayList<>(indexFiles);
+        this.changedFiles = new HashSet<>();
         this.modified = false;
     }
 
@@ -61,7 +82,7 @@ public class DeletionVectorsMaintainer {
         DeletionVector deletionVector =
                 deletionVectors.computeIfAbsent(fileName, k -> createNewDeletionVector());
         if (deletionVector.checkedDelete(position)) {
-            modified = true;
+            markChanged(fileName);
         }
     }
 
@@ -73,7 +94,7 @@ public class DeletionVectorsMaintainer {
      */
     public void notifyNewDeletion(String fileName, DeletionVector deletionVector) {
         deletionVectors.put(fileName, deletionVector);
-        modified = true;
+        markChanged(fileName);
     }
 
     /**
@@ -89,7 +110,7 @@ public class DeletionVectorsMaintainer {
             deletionVector.merge(old);
         }
         deletionVectors.put(fileName, deletionVector);
-        modified = true;
+        markChanged(fileName);
     }
 
     /**
@@ -101,10 +122,21 @@ public class DeletionVectorsMaintainer {
     public void removeDeletionVectorOf(String fileName) {
         if (deletionVectors.containsKey(fileName)) {
             deletionVectors.remove(fileName);
-            modified = true;
+            markChanged(fileName);
         }
     }
 
+    private void markChanged(String fileName) {
+        modified = true;
+        if (maxDeltaNum > 0) {
+            changedFiles.add(fileName);
+        }
+    }
+
+    public boolean incremental() {
+        return maxDeltaNum > 0;
+    }
+
     /**
      * Write new deletion vectors index file if any modifications have been made.
      *
@@ -112,11 +144,46 @@ public class DeletionVectorsMaintainer {
      *     if no changes need to be committed.
      */
     public List<IndexFileMeta> writeDeletionVectorsIndex() {
-        if (modified) {
-            modified = false;
-            return indexFileHandler.writeDeletionVectorsIndex(deletionVectors);
+        return writeIndexIncrement().newIndexFiles();
+    }
+
+    /**
+     * Write new deletion vectors index file if any modifications have been made.
+     *
+     * @return The new index files and the previous index files replaced by them. Previous files are
+     *     only returned in incremental mode when a new base index file is written, otherwise a new
+     *     index file replaces all previous files of the bucket.
+     */
+    public IndexIncrement writeIndexIncrement() {
+        if (!modified) {
+            return new IndexIncrement(Collections.emptyList());
         }
-        return Collections.emptyList();
+
+        modified = false;
+        if (maxDeltaNum <= 0) {
+            return new IndexIncrement(indexFileHandler.writeDeletionVectorsIndex(deletionVectors));
+        }
+
+        IndexIncrement increment;
+        if (indexFiles.isEmpty() || indexFiles.size() > maxDeltaNum) {
+            // fold the base and all delta files into a new base
+            List<IndexFileMeta> newFiles =
+                    indexFileHandler.writeDeletionVectorsIndex(deletionVectors);
+            increment = new IndexIncrement(newFiles, new ArrayList<>(indexFiles));
+            indexFiles.clear();
+        } else {
+            Map<String, DeletionVector> delta = new HashMap<>();
+            for (String fileName : changedFiles) {
+                DeletionVector deletionVector = deletionVectors.get(fileName);
+                delta.put(
+                        fileName,
+                        deletionVector == null ? createNewDeletionVector() : deletionVector);
+            }
+            increment = new IndexIncrement(indexFileHandler.writeDeletionVectorsIndex(delta));
+        }
+        indexFiles.addAll(increment.newIndexFiles());
+        changedFiles.clear();
+        return increment;
     }
 
     /**
@@ -166,7 +233,11 @@ public class DeletionVectorsMaintainer {
             }
             Map<String, DeletionVector> deletionVectors =
                     new HashMap<>(handler.readAllDeletionVectors(restoredFiles));
-            return create(deletionVectors);
+            if (handler.deletionVectorsIndex().maxDeltaNum() > 0) {
+                // empty deletion vectors mark removed data files in delta index files
+                deletionVectors.values().removeIf(DeletionVector::isEmpty);
+            }
+            return new DeletionVectorsMaintainer(handler, deletionVectors, restoredFiles);
         }
 
         public DeletionVectorsMaintainer create() {
@@ -174,7 +245,7 @@ public class DeletionVectorsMaintainer {
         }
 
         public DeletionVectorsMaintainer create(Map<String, DeletionVector> deletionVectors) {
-            return new DeletionVectorsMaintainer(handler, deletionVectors);
+            return new DeletionVectorsMaintainer(handler, deletionVectors, Collections.emptyList());
         }
     }
 }
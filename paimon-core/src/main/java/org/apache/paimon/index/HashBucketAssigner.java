@@ -26,8 +26,10 @@ import org.apache.paimon.utils.SnapshotManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
+import javax.annotation.Nullable;
+
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -46,8 +48,12 @@ public class HashBucketAssigner implements BucketAssigner {
     private final int assignId;
     private final long targetBucketRowNumber;
     private final int maxBucketsNum;
+    private final boolean offHeapIndex;
+    private final long maxIndexMemory;
     private int maxBucketId;
+    private long latestCommittedIdentifier;
 
+    /** Partition indexes in access order, the least recently used one comes first. */
     private final Map<BinaryRow, PartitionIndex> partitionIndex;
 
     public HashBucketAssigner(
@@ -59,6 +65,30 @@ public class HashBucketAssigner implements BucketAssigner {
             int assignId,
             long targetBucketRowNumber,
             int maxBucketsNum) {
+        this(
+                snapshotManager,
+                commitUser,
+                indexFileHandler,
+                numChannels,
+                numAssigners,
+                assignId,
+                targetBucketRowNumber,
+                maxBucketsNum,
+                false,
+                Long.MAX_VALUE);
+    }
+
+    public HashBucketAssigner(
+            SnapshotManager snapshotManager,
+            String commitUser,
+            IndexFileHandler indexFileHandler,
+            int numChannels,
+            int numAssigners,
+            int assignId,
+            long targetBucketRowNumber,
+            int maxBucketsNum,
+            boolean offHeapIndex,
+            long maxIndexMemory) {
         this.snapshotManager = snapshotManager;
         this.commitUser = commitUser;
         this.indexFileHandler = indexFileHandler;
@@ -66,8 +96,11 @@ public class HashBucketAssigner implements BucketAssigner {
         this.numAssigners = numAssigners;
         this.assignId = assignId;
         this.targetBucketRowNumber = targetBucketRowNumber;
-        this.partitionIndex = new HashMap<>();
+        this.partitionIndex = new LinkedHashMap<>(16, 0.75f, true);
         this.maxBucketsNum = maxBucketsNum;
+        this.offHeapIndex = offHeapIndex;
+        this.maxIndexMemory = maxIndexMemory;
+        this.latestCommittedIdentifier = Long.MIN_VALUE;
     }
 
     /** Assign a bucket for key hash of a record. */
@@ -86,6 +119,7 @@ public class HashBucketAssigner implements BucketAssigner {
             partition = partition.copy();
             index = loadIndex(partition, partitionHash);
             this.partitionIndex.put(partition, index);
+            evictIfNecessary(partition);
         }
 
         int assigned = index.assign(hash, this::isMyBucket, maxBucketsNum, maxBucketId);
@@ -101,7 +135,6 @@ public class HashBucketAssigner implements BucketAssigner {
     /** Prepare commit to clear outdated partition index. */
     @Override
     public void prepareCommit(long commitIdentifier) {
-        long latestCommittedIdentifier;
         if (partitionIndex.values().stream()
                         .mapToLong(i -> i.lastAccessedCommitIdentifier)
                         .max()
@@ -129,6 +162,10 @@ public class HashBucketAssigner implements BucketAssigner {
             Map.Entry<BinaryRow, PartitionIndex> entry = iterator.next();
             BinaryRow partition = entry.getKey();
             PartitionIndex index = entry.getValue();
+            if (index.modified) {
+                index.lastModifiedCommitIdentifier = commitIdentifier;
+                index.modified = false;
+            }
             if (index.accessed) {
                 index.lastAccessedCommitIdentifier = commitIdentifier;
             } else {
@@ -149,10 +186,66 @@ public class HashBucketAssigner implements BucketAssigner {
                                 commitIdentifier);
                     }
                     iterator.remove();
+                    index.hash2Bucket.close();
                 }
             }
             index.accessed = false;
         }
+
+        evictIfNecessary(null);
+    }
+
+    /** Estimated memory size of all partition indexes held by this assigner. */
+    public long indexMemorySize() {
+        long size = 0;
+        for (PartitionIndex index : partitionIndex.values()) {
+            size += index.hash2Bucket.memorySize();
+        }
+        return size;
+    }
+
+    /**
+     * Evict least recently used partition indexes until the memory fits into {@link
+     * #maxIndexMemory}. Only indexes whose new assignments have all been committed can be evicted,
+     * so reloading them from index files gives the same assignments.
+     */
+    private void evictIfNecessary(@Nullable BinaryRow current) {
+        if (maxIndexMemory == Long.MAX_VALUE) {
+            return;
+        }
+
+        long memorySize = indexMemorySize();
+        Iterator<Map.Entry<BinaryRow, PartitionIndex>> iterator =
+                partitionIndex.entrySet().iterator();
+        while (memorySize > maxIndexMemory && iterator.hasNext()) {
+            Map.Entry<BinaryRow, PartitionIndex> entry = iterator.next();
+            PartitionIndex index = entry.getValue();
+            if (entry.getKey().equals(current)
+                    || index.modified
+                    || index.lastModifiedCommitIdentifier > latestCommittedIdentifier) {
+                continue;
+            }
+
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(
+                        "Evicting index for partition {}, index memory {} exceeds {}.",
+                        entry.getKey(),
+                        memorySize,
+                        maxIndexMemory);
+            }
+            memorySize -= index.hash2Bucket.memorySize();
+            iterator.remove();
+            index.hash2Bucket.close();
+        }
+    }
+
+    /** Releases the memory of all partition indexes, off-heap indexes are not freed otherwise. */
+    @Override
+    public void close() {
+        for (PartitionIndex index : partitionIndex.values()) {
+            index.hash2Bucket.close();
+        }
+        partitionIndex.clear();
     }
 
     @VisibleForTesting
@@ -174,6 +267,7 @@ public class HashBucketAssigner implements BucketAssigner {
                 partition,
                 targetBucketRowNumber,
                 (hash) -> computeAssignId(partitionHash, hash) == assignId,
-                this::isMyBucket);
+                this::isMyBucket,
+                offHeapIndex);
     }
 }
@@ -38,14 +38,18 @@ import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import static org.apache.paimon.deletionvectors.DeletionVectorsIndexFile.DELETION_VECTORS_INDEX;
 import static org.apache.paimon.index.HashIndexFile.HASH_INDEX;
+import static org.apache.paimon.index.KeyIndexFile.KEY_COMPARATOR;
+import static org.apache.paimon.index.KeyIndexFile.KEY_INDEX;
 import static org.apache.paimon.utils.Preconditions.checkArgument;
 import static org.apache.paimon.utils.Preconditions.checkNotNull;
 
@@ -57,18 +61,21 @@ public class IndexFileHandler {
     private final IndexManifestFile indexManifestFile;
     private final HashIndexFile hashIndex;
     private final DeletionVectorsIndexFile deletionVectorsIndex;
+    private final KeyIndexFile keyIndex;
 
     public IndexFileHandler(
             SnapshotManager snapshotManager,
             PathFactory pathFactory,
             IndexManifestFile indexManifestFile,
             HashIndexFile hashIndex,
-            DeletionVectorsIndexFile deletionVectorsIndex) {
+            DeletionVectorsIndexFile deletionVectorsIndex,
+            KeyIndexFile keyIndex) {
         this.snapshotManager = snapshotManager;
         this.pathFactory = pathFactory;
         this.indexManifestFile = indexManifestFile;
         this.hashIndex = hashIndex;
         this.deletionVectorsIndex = deletionVectorsIndex;
+        this.keyIndex = keyIndex;
     }
 
     public DeletionVectorsIndexFile deletionVectorsIndex() {
@@ -241,6 +248,47 @@ public class IndexFileHandler {
         return new IndexFileMeta(HASH_INDEX, file, hashIndex.fileSize(file), size);
     }
 
+    public KeyIndexFile.Reader readKeyIndex(IndexFileMeta file) {
+        if (!file.indexType().equals(KEY_INDEX)) {
+            throw new IllegalArgumentException("Input file is not key index: " + file.indexType());
+        }
+
+        try {
+            return keyIndex.read(file.fileName());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Write the changed keys of a bucket, a key is added if it is mapped to true. */
+    public IndexFileMeta writeKeyIndex(Map<BinaryRow, Boolean> changes) {
+        List<BinaryRow> keys = new ArrayList<>(changes.keySet());
+        keys.sort(KEY_COMPARATOR);
+        return writeKeyIndex(keys.iterator(), changes::get);
+    }
+
+    /** Write all keys of a bucket, the keys must be in the order of {@link KeyIndexFile}. */
+    public IndexFileMeta writeKeyIndex(Iterator<BinaryRow> keys) {
+        return writeKeyIndex(keys, key -> true);
+    }
+
+    private IndexFileMeta writeKeyIndex(Iterator<BinaryRow> keys, Predicate<BinaryRow> exists) {
+        long[] rowCount = new long[1];
+        String file;
+        try {
+            file =
+                    keyIndex.write(
+                            keys,
+                            key -> {
+                                rowCount[0]++;
+                                return exists.test(key);
+                            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new IndexFileMeta(KEY_INDEX, file, keyIndex.fileSize(file), rowCount[0]);
+    }
+
     public boolean existsManifest(String indexManifest) {
         return indexManifestFile.exists(indexManifest);
     }
@@ -260,6 +308,8 @@ public class IndexFileHandler {
                 return hashIndex;
             case DELETION_VECTORS_INDEX:
                 return deletionVectorsIndex;
+            case KEY_INDEX:
+                return keyIndex;
             default:
                 throw new IllegalArgumentException("Unknown index type: " + file.indexType());
         }
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.index;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.io.DataInputViewStreamWrapper;
+import org.apache.paimon.io.DataOutputViewStreamWrapper;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.utils.PathFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.function.Predicate;
+
+import static org.apache.paimon.utils.SerializationUtils.deserializeBinaryRow;
+import static org.apache.paimon.utils.SerializationUtils.serializeBinaryRow;
+
+/**
+ * Key index file contains the primary keys of a bucket for cross partition upsert. Each entry is a
+ * key with a flag indicating whether the key is added or removed, so that a file can be applied on
+ * top of the previous files of the bucket. Entries are sorted by {@link #KEY_COMPARATOR}, so that
+ * the files of a bucket can be merged without loading them into memory.
+ */
+public class KeyIndexFile extends IndexFile {
+
+    public static final String KEY_INDEX = "KEY";
+
+    public static final byte VERSION_ID_V1 = 1;
+
+    /** Compares the binary representation of keys, it is consistent with {@code equals}. */
+    public static final Comparator<BinaryRow> KEY_COMPARATOR =
+            (k1, k2) -> {
+                BinaryRow row1 = singleSegment(k1);
+                BinaryRow row2 = singleSegment(k2);
+                MemorySegment segment1 = row1.getSegments()[0];
+                return segment1.compare(
+                        row2.getSegments()[0],
+                        row1.getOffset(),
+                        row2.getOffset(),
+                        row1.getSizeInBytes(),
+                        row2.getSizeInBytes());
+            };
+
+    public KeyIndexFile(FileIO fileIO, PathFactory pathFactory) {
+        super(fileIO, pathFactory);
+    }
+
+    public Reader read(String fileName) throws IOException {
+        Path path = pathFactory.toPath(fileName);
+        DataInputViewStreamWrapper in =
+                new DataInputViewStreamWrapper(
+                        new BufferedInputStream(fileIO.newInputStream(path)));
+        try {
+            int version = in.read();
+            if (version != VERSION_ID_V1) {
+                throw new IOException(
+                        "Unsupported key index file version " + version + " of " + path);
+            }
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+        return new Reader(in);
+    }
+
+    /**
+     * Write the keys in the order of {@link #KEY_COMPARATOR}, each key is flagged as added or
+     * removed by {@code exists}.
+     */
+    public String write(Iterator<BinaryRow> keys, Predicate<BinaryRow> exists) throws IOException {
+        Path path = pathFactory.newPath();
+        try (DataOutputViewStreamWrapper out =
+                new DataOutputViewStreamWrapper(
+                        new BufferedOutputStream(fileIO.newOutputStream(path, false)))) {
+            out.writeByte(VERSION_ID_V1);
+            while (keys.hasNext()) {
+                BinaryRow key = keys.next();
+                out.writeByte(exists.test(key) ? 1 : 0);
+                serializeBinaryRow(key, out);
+            }
+        }
+        return path.getName();
+    }
+
+    private static BinaryRow singleSegment(BinaryRow key) {
+        return key.getSegments().length == 1 ? key : key.copy();
+    }
+
+    /** Reader to iterate the entries of a key index file in order. */
+    public static class Reader implements Closeable {
+
+        private final DataInputViewStreamWrapper in;
+
+        private BinaryRow key;
+        private boolean exists;
+
+        private Reader(DataInputViewStreamWrapper in) {
+            this.in = in;
+        }
+
+        /** Move to the next entry, returns false if there are no more entries. */
+        public boolean next() throws IOException {
+            int flag = in.read();
+            if (flag == -1) {
+                return false;
+            }
+            key = deserializeBinaryRow(in);
+            exists = flag == 1;
+            return true;
+        }
+
+        public BinaryRow key() {
+            return key;
+        }
+
+        public boolean exists() {
+            return exists;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
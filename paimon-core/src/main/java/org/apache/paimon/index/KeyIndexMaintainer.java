@@ -0,0 +1,327 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.index;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.IndexIncrement;
+import org.apache.paimon.utils.IOUtils;
+
+import javax.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+import static org.apache.paimon.CoreOptions.PARTIAL_UPDATE_REMOVE_RECORD_ON_DELETE;
+import static org.apache.paimon.index.KeyIndexFile.KEY_COMPARATOR;
+import static org.apache.paimon.index.KeyIndexFile.KEY_INDEX;
+
+/**
+ * An Index Maintainer for cross partition upsert to maintain the primary keys in a bucket. Each
+ * commit writes the changed keys into a delta file, and all files are folded into a new file when
+ * the number of delta files exceeds the max.
+ */
+public class KeyIndexMaintainer {
+
+    private final IndexFileHandler fileHandler;
+    private final int maxDeltaNum;
+    private final boolean removeOnDelete;
+    private final List<IndexFileMeta> indexFiles;
+    private final Map<BinaryRow, Boolean> changes;
+
+    private KeyIndexMaintainer(
+            IndexFileHandler fileHandler,
+            List<IndexFileMeta> restoredFiles,
+            int maxDeltaNum,
+            boolean removeOnDelete) {
+        this.fileHandler = fileHandler;
+        this.maxDeltaNum = maxDeltaNum;
+        this.removeOnDelete = removeOnDelete;
+        this.indexFiles = new ArrayList<>(restoredFiles);
+        this.changes = new HashMap<>();
+    }
+
+    public void notifyNewRecord(KeyValue record) {
+        InternalRow key = record.key();
+        if (!(key instanceof BinaryRow)) {
+            throw new IllegalArgumentException("Unsupported key type: " + key.getClass());
+        }
+
+        boolean exists = record.valueKind().isAdd();
+        if (!exists && !removeOnDelete) {
+            return;
+        }
+        Boolean previous = changes.get(key);
+        if (previous == null || previous != exists) {
+            changes.put(((BinaryRow) key).copy(), exists);
+        }
+    }
+
+    public IndexIncrement prepareCommit() {
+        if (changes.isEmpty()) {
+            return new IndexIncrement(Collections.emptyList());
+        }
+
+        IndexIncrement increment;
+        if (indexFiles.size() > maxDeltaNum) {
+            // fold all files and changes into a new file, the sorted entries are merged in a
+            // streaming way, so the memory doesn't grow with the number of keys in the bucket
+            IndexFileMeta file;
+            try (KeyIterator keys = readKeys(fileHandler, indexFiles, changes)) {
+                file = fileHandler.writeKeyIndex(keys);
+            }
+            increment =
+                    new IndexIncrement(
+                            Collections.singletonList(file), new ArrayList<>(indexFiles));
+            indexFiles.clear();
+        } else {
+            increment =
+                    new IndexIncrement(
+                            Collections.singletonList(fileHandler.writeKeyIndex(changes)));
+        }
+        indexFiles.addAll(increment.newIndexFiles());
+        changes.clear();
+        return increment;
+    }
+
+    /**
+     * Read the existing keys of a bucket in the order of {@link KeyIndexFile#KEY_COMPARATOR}. The
+     * sorted key index files are merged and a later file overrides the flag of a key in the earlier
+     * files, only the current entry of each file is kept in memory.
+     */
+    public static KeyIterator readKeys(
+            IndexFileHandler fileHandler, List<IndexFileMeta> indexFiles) {
+        return readKeys(fileHandler, indexFiles, Collections.emptyMap());
+    }
+
+    private static KeyIterator readKeys(
+            IndexFileHandler fileHandler,
+            List<IndexFileMeta> indexFiles,
+            Map<BinaryRow, Boolean> changes) {
+        List<KeyIndexFile.Reader> readers = new ArrayList<>();
+        List<Source> sources = new ArrayList<>();
+        try {
+            for (IndexFileMeta file : indexFiles) {
+                KeyIndexFile.Reader reader = fileHandler.readKeyIndex(file);
+                readers.add(reader);
+                sources.add(new FileSource(sources.size(), reader));
+            }
+        } catch (RuntimeException e) {
+            IOUtils.closeAllQuietly(readers);
+            throw e;
+        }
+        if (!changes.isEmpty()) {
+            TreeMap<BinaryRow, Boolean> sortedChanges = new TreeMap<>(KEY_COMPARATOR);
+            sortedChanges.putAll(changes);
+            sources.add(new ChangeSource(sources.size(), sortedChanges.entrySet().iterator()));
+        }
+        return new KeyIterator(readers, sources);
+    }
+
+    /**
+     * Whether a deleted record removes its key from the table, keys are kept for merge engines
+     * which may ignore the deletion, which only leads to a stale key in the index.
+     */
+    @VisibleForTesting
+    static boolean removeKeyOnDelete(CoreOptions options) {
+        if (options.ignoreDelete() || !options.sequenceField().isEmpty()) {
+            return false;
+        }
+
+        switch (options.mergeEngine()) {
+            case DEDUPLICATE:
+                return true;
+            case PARTIAL_UPDATE:
+                return options.toConfiguration().get(PARTIAL_UPDATE_REMOVE_RECORD_ON_DELETE);
+            case AGGREGATE:
+                return options.aggregationRemoveRecordOnDelete();
+            default:
+                return false;
+        }
+    }
+
+    /** Iterator of the existing keys of a bucket, it must be closed to release the files. */
+    public static class KeyIterator implements Iterator<BinaryRow>, Closeable {
+
+        private final List<KeyIndexFile.Reader> readers;
+        // the latest source of the smallest key comes first
+        private final PriorityQueue<Source> queue;
+
+        @Nullable private BinaryRow nextKey;
+
+        private KeyIterator(List<KeyIndexFile.Reader> readers, List<Source> sources) {
+            this.readers = readers;
+            this.queue =
+                    new PriorityQueue<>(
+                            Math.max(1, sources.size()),
+                            Comparator.<Source, BinaryRow>comparing(s -> s.key, KEY_COMPARATOR)
+                                    .thenComparing(s -> s.order, Comparator.reverseOrder()));
+            sources.forEach(this::advance);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (nextKey == null && !queue.isEmpty()) {
+                Source latest = queue.poll();
+                BinaryRow key = latest.key;
+                boolean exists = latest.exists;
+                advance(latest);
+                while (!queue.isEmpty() && KEY_COMPARATOR.compare(queue.peek().key, key) == 0) {
+                    advance(queue.poll());
+                }
+                if (exists) {
+                    nextKey = key;
+                }
+            }
+            return nextKey != null;
+        }
+
+        @Override
+        public BinaryRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            BinaryRow key = nextKey;
+            nextKey = null;
+            return key;
+        }
+
+        private void advance(Source source) {
+            try {
+                if (source.next()) {
+                    queue.add(source);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            IOUtils.closeAllQuietly(readers);
+        }
+    }
+
+    /** Sorted entries of a key index file or of the uncommitted changes. */
+    private abstract static class Source {
+
+        private final int order;
+
+        protected BinaryRow key;
+        protected boolean exists;
+
+        private Source(int order) {
+            this.order = order;
+        }
+
+        abstract boolean next() throws IOException;
+    }
+
+    private static class FileSource extends Source {
+
+        private final KeyIndexFile.Reader reader;
+
+        private FileSource(int order, KeyIndexFile.Reader reader) {
+            super(order);
+            this.reader = reader;
+        }
+
+        @Override
+        boolean next() throws IOException {
+            if (!reader.next()) {
+                return false;
+            }
+            key = reader.key();
+            exists = reader.exists();
+            return true;
+        }
+    }
+
+    private static class ChangeSource extends Source {
+
+        private final Iterator<Map.Entry<BinaryRow, Boolean>> changes;
+
+        private ChangeSource(int order, Iterator<Map.Entry<BinaryRow, Boolean>> changes) {
+            super(order);
+            this.changes = changes;
+        }
+
+        @Override
+        boolean next() {
+            if (!changes.hasNext()) {
+                return false;
+            }
+            Map.Entry<BinaryRow, Boolean> change = changes.next();
+            key = change.getKey();
+            exists = change.getValue();
+            return true;
+        }
+    }
+
+    /** Factory to restore {@link KeyIndexMaintainer}. */
+    public static class Factory {
+
+        private final IndexFileHandler handler;
+        private final int maxDeltaNum;
+        private final boolean removeOnDelete;
+
+        public Factory(IndexFileHandler handler, CoreOptions options) {
+            this.handler = handler;
+            this.maxDeltaNum = options.crossPartitionUpsertIndexFileMaxDeltaNum();
+            this.removeOnDelete = removeKeyOnDelete(options);
+        }
+
+        /**
+         * Restore the maintainer of a bucket, returns null if the bucket has data files but no key
+         * index files, because its keys are unknown and it must be bootstrapped from data files.
+         * Such a bucket is not backfilled, it is indexed again after being overwritten.
+         */
+        @Nullable
+        public KeyIndexMaintainer create(
+                @Nullable Snapshot snapshot,
+                BinaryRow partition,
+                int bucket,
+                List<DataFileMeta> restoredDataFiles) {
+            List<IndexFileMeta> restoredFiles =
+                    snapshot == null
+                            ? Collections.emptyList()
+                            : handler.scan(snapshot, KEY_INDEX, partition, bucket);
+            if (restoredFiles.isEmpty() && !restoredDataFiles.isEmpty()) {
+                return null;
+            }
+            return new KeyIndexMaintainer(handler, restoredFiles, maxDeltaNum, removeOnDelete);
+        }
+    }
+}
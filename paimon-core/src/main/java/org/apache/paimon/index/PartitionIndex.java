@@ -21,8 +21,10 @@ package org.apache.paimon.index;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.manifest.IndexManifestEntry;
 import org.apache.paimon.utils.Int2ShortHashMap;
+import org.apache.paimon.utils.Int2ShortMap;
 import org.apache.paimon.utils.IntIterator;
 import org.apache.paimon.utils.ListUtils;
+import org.apache.paimon.utils.OffHeapInt2ShortHashMap;
 
 import java.io.EOFException;
 import java.io.IOException;
@@ -41,7 +43,7 @@ import static org.apache.paimon.index.HashIndexFile.HASH_INDEX;
 /** Bucket Index Per Partition. */
 public class PartitionIndex {
 
-    public final Int2ShortHashMap hash2Bucket;
+    public final Int2ShortMap hash2Bucket;
 
     public final Map<Integer, Long> nonFullBucketInformation;
 
@@ -54,8 +56,13 @@ public class PartitionIndex {
 
     public long lastAccessedCommitIdentifier;
 
+    /** Whether new key hashes have been assigned since last commit. */
+    public boolean modified;
+
+    public long lastModifiedCommitIdentifier;
+
     public PartitionIndex(
-            Int2ShortHashMap hash2Bucket,
+            Int2ShortMap hash2Bucket,
             Map<Integer, Long> bucketInformation,
             long targetBucketRowNumber) {
         this.hash2Bucket = hash2Bucket;
@@ -65,6 +72,8 @@ public class PartitionIndex {
         this.targetBucketRowNumber = targetBucketRowNumber;
         this.lastAccessedCommitIdentifier = Long.MIN_VALUE;
         this.accessed = true;
+        this.lastModifiedCommitIdentifier = Long.MIN_VALUE;
+        this.modified = false;
     }
 
     public int assign(int hash, IntPredicate bucketFilter, int maxBucketsNum, int maxBucketId) {
@@ -75,6 +84,8 @@ public class PartitionIndex {
             return hash2Bucket.get(hash);
         }
 
+        modified = true;
+
         // 2. find bucket from existing buckets
         Iterator<Map.Entry<Integer, Long>> iterator =
                 nonFullBucketInformation.entrySet().iterator();
@@ -123,30 +134,63 @@ public class PartitionIndex {
             long targetBucketRowNumber,
             IntPredicate loadFilter,
             IntPredicate bucketFilter) {
+        return loadIndex(
+                indexFileHandler,
+                partition,
+                targetBucketRowNumber,
+                loadFilter,
+                bucketFilter,
+                false);
+    }
+
+    public static PartitionIndex loadIndex(
+            IndexFileHandler indexFileHandler,
+            BinaryRow partition,
+            long targetBucketRowNumber,
+            IntPredicate loadFilter,
+            IntPredicate bucketFilter,
+            boolean offHeap) {
         List<IndexManifestEntry> files = indexFileHandler.scanEntries(HASH_INDEX, partition);
-        Int2ShortHashMap.Builder mapBuilder = Int2ShortHashMap.builder();
+        // the off-heap map is filled directly, so that the index is never fully held on heap, it
+        // starts small and grows because the number of hashes passing the filter is unknown
+        OffHeapInt2ShortHashMap offHeapMap = offHeap ? new OffHeapInt2ShortHashMap(1) : null;
+        Int2ShortHashMap.Builder mapBuilder = offHeap ? null : Int2ShortHashMap.builder();
         Map<Integer, Long> buckets = new HashMap<>();
-        for (IndexManifestEntry file : files) {
-            try (IntIterator iterator = indexFileHandler.readHashIndex(file.indexFile())) {
-                while (true) {
-                    try {
-                        int hash = iterator.next();
-                        if (loadFilter.test(hash)) {
-                            mapBuilder.put(hash, (short) file.bucket());
-                        }
-                        if (bucketFilter.test(file.bucket())) {
-                            buckets.compute(
-                                    file.bucket(),
-                                    (bucket, number) -> number == null ? 1 : number + 1);
+        try {
+            for (IndexManifestEntry file : files) {
+                try (IntIterator iterator = indexFileHandler.readHashIndex(file.indexFile())) {
+                    while (true) {
+                        try {
+                            int hash = iterator.next();
+                            if (loadFilter.test(hash)) {
+                                if (offHeapMap != null) {
+                                    offHeapMap.put(hash, (short) file.bucket());
+                                } else {
+                                    mapBuilder.put(hash, (short) file.bucket());
+                                }
+                            }
+                            if (bucketFilter.test(file.bucket())) {
+                                buckets.compute(
+                                        file.bucket(),
+                                        (bucket, number) -> number == null ? 1 : number + 1);
+                            }
+                        } catch (EOFException ignored) {
+                            break;
                         }
-                    } catch (EOFException ignored) {
-                        break;
                     }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
                 }
-            } catch (IOException e) {
-                throw new UncheckedIOException(e);
             }
+        } catch (RuntimeException e) {
+            if (offHeapMap != null) {
+                offHeapMap.close();
+            }
+            throw e;
         }
-        return new PartitionIndex(mapBuilder.build(), buckets, targetBucketRowNumber);
+        return new PartitionIndex(
+                offHeapMap != null ? offHeapMap : mapBuilder.build(),
+                buckets,
+                targetBucketRowNumber);
     }
 }
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.utils.FileStorePathFactory;
+import org.apache.paimon.utils.IOUtils;
+
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caffeine;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+
+/**
+ * Reads the file index files of data files to evaluate them when planning. Index files are
+ * immutable, so the serialized files are cached by path in a cache bounded by memory size.
+ */
+public class CachingFileIndexReader {
+
+    private static final int OBJECT_MEMORY_SIZE = 1000;
+
+    private final FileIO fileIO;
+    private final FileStorePathFactory pathFactory;
+    private final Cache<Path, byte[]> cache;
+
+    public CachingFileIndexReader(
+            FileIO fileIO, FileStorePathFactory pathFactory, MemorySize maxMemorySize) {
+        this.fileIO = fileIO;
+        this.pathFactory = pathFactory;
+        this.cache =
+                Caffeine.newBuilder()
+                        .weigher((Path path, byte[] bytes) -> OBJECT_MEMORY_SIZE + bytes.length)
+                        .maximumWeight(maxMemorySize.getBytes())
+                        .executor(Runnable::run)
+                        .build();
+    }
+
+    /** Returns the serialized file index of the data file, or null if it has no index file. */
+    @Nullable
+    public byte[] read(BinaryRow partition, int bucket, DataFileMeta file) throws IOException {
+        String indexFile = null;
+        for (String name : file.extraFiles()) {
+            if (name.endsWith(DataFilePathFactory.INDEX_PATH_SUFFIX)) {
+                if (indexFile != null) {
+                    throw new RuntimeException(
+                            "Found more than one index file for one data file: "
+                                    + indexFile
+                                    + " and "
+                                    + name);
+                }
+                indexFile = name;
+            }
+        }
+        if (indexFile == null) {
+            return null;
+        }
+
+        Path path =
+                pathFactory
+                        .createDataFilePathFactory(partition, bucket)
+                        .toAlignedPath(indexFile, file);
+        byte[] bytes = cache.getIfPresent(path);
+        if (bytes == null) {
+            bytes = IOUtils.readFully(fileIO.newInputStream(path), true);
+            cache.put(path, bytes);
+        }
+        return bytes;
+    }
+}
@@ -30,6 +30,7 @@ import org.apache.paimon.format.FormatReaderContext;
 import org.apache.paimon.format.OrcFormatReaderContext;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.PrefetchStats;
 import org.apache.paimon.partition.PartitionUtils;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.reader.FileRecordReader;
@@ -70,6 +71,7 @@ public class KeyValueFileReaderFactory implements FileReaderFactory<KeyValue> {
     private final Map<FormatKey, FormatReaderMapping> formatReaderMappings;
     private final BinaryRow partition;
     private final DeletionVector.Factory dvFactory;
+    @Nullable private final PrefetchStats prefetchStats;
 
     private KeyValueFileReaderFactory(
             FileIO fileIO,
@@ -81,7 +83,8 @@ public class KeyValueFileReaderFactory implements FileReaderFactory<KeyValue> {
             DataFilePathFactory pathFactory,
             long asyncThreshold,
             BinaryRow partition,
-            DeletionVector.Factory dvFactory) {
+            DeletionVector.Factory dvFactory,
+            @Nullable PrefetchStats prefetchStats) {
         this.fileIO = fileIO;
         this.schemaManager = schemaManager;
         this.schema = schema;
@@ -93,6 +96,7 @@ public class KeyValueFileReaderFactory implements FileReaderFactory<KeyValue> {
         this.partition = partition;
         this.formatReaderMappings = new HashMap<>();
         this.dvFactory = dvFactory;
+        this.prefetchStats = prefetchStats;
     }
 
     @Override
@@ -129,9 +133,10 @@ public class KeyValueFileReaderFactory implements FileReaderFactory<KeyValue> {
                 new DataFileRecordReader(
                         formatReaderMapping.getReaderFactory(),
                         orcPoolSize == null
-                                ? new FormatReaderContext(fileIO, filePath, fileSize)
+                                ? new FormatReaderContext(
+                                        fileIO, filePath, fileSize, null, prefetchStats)
                                 : new OrcFormatReaderContext(
-                                        fileIO, filePath, fileSize, orcPoolSize),
+                                        fileIO, filePath, fileSize, orcPoolSize, prefetchStats),
                         formatReaderMapping.getIndexMapping(),
                         formatReaderMapping.getCastMapping(),
                         PartitionUtils.create(formatReaderMapping.getPartitionPair(), partition));
@@ -182,6 +187,7 @@ public class KeyValueFileReaderFactory implements FileReaderFactory<KeyValue> {
 
         private RowType readKeyType;
         private RowType readValueType;
+        @Nullable private PrefetchStats prefetchStats;
 
         private Builder(
                 FileIO fileIO,
@@ -230,6 +236,11 @@ public class KeyValueFileReaderFactory implements FileReaderFactory<KeyValue> {
             return this;
         }
 
+        public Builder withPrefetchStats(@Nullable PrefetchStats prefetchStats) {
+            this.prefetchStats = prefetchStats;
+            return this;
+        }
+
         public RowType keyType() {
             return keyType;
         }
@@ -271,7 +282,8 @@ public class KeyValueFileReaderFactory implements FileReaderFactory<KeyValue> {
                     pathFactory.createDataFilePathFactory(partition, bucket),
                     options.fileReaderAsyncThreshold().getBytes(),
                     partition,
-                    dvFactory);
+                    dvFactory,
+                    prefetchStats);
         }
 
         public FileIO fileIO() {
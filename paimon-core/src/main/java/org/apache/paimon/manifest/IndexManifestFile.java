@@ -63,10 +63,27 @@ public class IndexManifestFile extends ObjectsFile<IndexManifestEntry> {
             @Nullable String previousIndexManifest,
             List<IndexManifestEntry> newIndexFiles,
             BucketMode bucketMode) {
+        return writeIndexFiles(previousIndexManifest, newIndexFiles, bucketMode, false);
+    }
+
+    /**
+     * Write new index files to index manifest.
+     *
+     * @param incrementalDeletionVectors whether new deletion vectors index files of a bucket are
+     *     appended to the previous ones, see {@link
+     *     org.apache.paimon.deletionvectors.DeletionVectorsMaintainer}.
+     */
+    @Nullable
+    public String writeIndexFiles(
+            @Nullable String previousIndexManifest,
+            List<IndexManifestEntry> newIndexFiles,
+            BucketMode bucketMode,
+            boolean incrementalDeletionVectors) {
         if (newIndexFiles.isEmpty()) {
             return previousIndexManifest;
         }
-        IndexManifestFileHandler handler = new IndexManifestFileHandler(this, bucketMode);
+        IndexManifestFileHandler handler =
+                new IndexManifestFileHandler(this, bucketMode, incrementalDeletionVectors);
         return handler.write(previousIndexManifest, newIndexFiles);
     }
 
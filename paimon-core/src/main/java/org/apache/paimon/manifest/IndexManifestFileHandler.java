@@ -21,12 +21,12 @@ package org.apache.paimon.manifest;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.index.IndexFileMeta;
 import org.apache.paimon.table.BucketMode;
-import org.apache.paimon.utils.Pair;
 
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -34,6 +34,7 @@ import java.util.stream.Collectors;
 
 import static org.apache.paimon.deletionvectors.DeletionVectorsIndexFile.DELETION_VECTORS_INDEX;
 import static org.apache.paimon.index.HashIndexFile.HASH_INDEX;
+import static org.apache.paimon.index.KeyIndexFile.KEY_INDEX;
 import static org.apache.paimon.utils.Preconditions.checkArgument;
 
 /** IndexManifestFile Handler. */
@@ -43,9 +44,19 @@ public class IndexManifestFileHandler {
 
     private final BucketMode bucketMode;
 
+    private final boolean incrementalDeletionVectors;
+
     IndexManifestFileHandler(IndexManifestFile indexManifestFile, BucketMode bucketMode) {
+        this(indexManifestFile, bucketMode, false);
+    }
+
+    IndexManifestFileHandler(
+            IndexManifestFile indexManifestFile,
+            BucketMode bucketMode,
+            boolean incrementalDeletionVectors) {
         this.indexManifestFile = indexManifestFile;
         this.bucketMode = bucketMode;
+        this.incrementalDeletionVectors = incrementalDeletionVectors;
     }
 
     String write(@Nullable String previousIndexManifest, List<IndexManifestEntry> newIndexFiles) {
@@ -57,46 +68,54 @@ public class IndexManifestFileHandler {
             checkArgument(entry.kind() == FileKind.ADD);
         }
 
-        Pair<List<IndexManifestEntry>, List<IndexManifestEntry>> previous =
-                separateIndexEntries(entries);
-        Pair<List<IndexManifestEntry>, List<IndexManifestEntry>> current =
-                separateIndexEntries(newIndexFiles);
+        Map<String, List<IndexManifestEntry>> previous = separateIndexEntries(entries);
+        Map<String, List<IndexManifestEntry>> current = separateIndexEntries(newIndexFiles);
 
         // Step1: get the hash index files;
         List<IndexManifestEntry> indexEntries =
                 getIndexManifestFileCombine(HASH_INDEX)
-                        .combine(previous.getLeft(), current.getLeft());
+                        .combine(previous.get(HASH_INDEX), current.get(HASH_INDEX));
 
         // Step2: get the dv index files;
         indexEntries.addAll(
                 getIndexManifestFileCombine(DELETION_VECTORS_INDEX)
-                        .combine(previous.getRight(), current.getRight()));
+                        .combine(
+                                previous.get(DELETION_VECTORS_INDEX),
+                                current.get(DELETION_VECTORS_INDEX)));
+
+        // Step3: get the key index files;
+        indexEntries.addAll(
+                getIndexManifestFileCombine(KEY_INDEX)
+                        .combine(previous.get(KEY_INDEX), current.get(KEY_INDEX)));
 
         return indexManifestFile.writeWithoutRolling(indexEntries);
     }
 
-    private Pair<List<IndexManifestEntry>, List<IndexManifestEntry>> separateIndexEntries(
+    private Map<String, List<IndexManifestEntry>> separateIndexEntries(
             List<IndexManifestEntry> indexFiles) {
-        List<IndexManifestEntry> hashEntries = new ArrayList<>();
-        List<IndexManifestEntry> dvEntries = new ArrayList<>();
+        Map<String, List<IndexManifestEntry>> result = new HashMap<>();
+        result.put(HASH_INDEX, new ArrayList<>());
+        result.put(DELETION_VECTORS_INDEX, new ArrayList<>());
+        result.put(KEY_INDEX, new ArrayList<>());
         for (IndexManifestEntry entry : indexFiles) {
             String indexType = entry.indexFile().indexType();
-            if (indexType.equals(DELETION_VECTORS_INDEX)) {
-                dvEntries.add(entry);
-            } else if (indexType.equals(HASH_INDEX)) {
-                hashEntries.add(entry);
-            } else {
+            List<IndexManifestEntry> entries = result.get(indexType);
+            if (entries == null) {
                 throw new IllegalArgumentException("Can't recognize this index type: " + indexType);
             }
+            entries.add(entry);
         }
-        return Pair.of(hashEntries, dvEntries);
+        return result;
     }
 
     private IndexManifestFileCombiner getIndexManifestFileCombine(String indexType) {
         if (DELETION_VECTORS_INDEX.equals(indexType) && BucketMode.BUCKET_UNAWARE == bucketMode) {
             return new GlobalCombiner();
+        } else if (KEY_INDEX.equals(indexType)
+                || (DELETION_VECTORS_INDEX.equals(indexType) && incrementalDeletionVectors)) {
+            return new BucketedCombiner(true);
         } else {
-            return new BucketedCombiner();
+            return new BucketedCombiner(false);
         }
     }
 
@@ -130,15 +149,26 @@ public class IndexManifestFileHandler {
         }
     }
 
-    /** We combine the previous and new index files by {@link BucketIdentifier}. */
+    /**
+     * We combine the previous and new index files by {@link BucketIdentifier}. By default, a new
+     * index file replaces all previous files of its bucket. In incremental mode, new index files
+     * are appended to the previous files of its bucket in order, and previous files are only
+     * removed by their file names.
+     */
     static class BucketedCombiner implements IndexManifestFileCombiner {
 
+        private final boolean incremental;
+
+        BucketedCombiner(boolean incremental) {
+            this.incremental = incremental;
+        }
+
         @Override
         public List<IndexManifestEntry> combine(
                 List<IndexManifestEntry> prevIndexFiles, List<IndexManifestEntry> newIndexFiles) {
-            Map<BucketIdentifier, IndexManifestEntry> indexEntries = new HashMap<>();
+            Map<BucketIdentifier, List<IndexManifestEntry>> indexEntries = new LinkedHashMap<>();
             for (IndexManifestEntry entry : prevIndexFiles) {
-                indexEntries.put(identifier(entry), entry);
+                indexEntries.computeIfAbsent(identifier(entry), k -> new ArrayList<>()).add(entry);
             }
 
             // The deleted entry is processed first to avoid overwriting a new entry.
@@ -151,12 +181,32 @@ public class IndexManifestFileHandler {
                             .filter(f -> f.kind() == FileKind.ADD)
                             .collect(Collectors.toList());
             for (IndexManifestEntry entry : removed) {
-                indexEntries.remove(identifier(entry));
+                if (incremental) {
+                    List<IndexManifestEntry> bucketEntries = indexEntries.get(identifier(entry));
+                    if (bucketEntries != null) {
+                        String fileName = entry.indexFile().fileName();
+                        bucketEntries.removeIf(e -> e.indexFile().fileName().equals(fileName));
+                    }
+                } else {
+                    indexEntries.remove(identifier(entry));
+                }
             }
+
             for (IndexManifestEntry entry : added) {
-                indexEntries.put(identifier(entry), entry);
+                if (incremental) {
+                    indexEntries
+                            .computeIfAbsent(identifier(entry), k -> new ArrayList<>())
+                            .add(entry);
+                } else {
+                    List<IndexManifestEntry> bucketEntries = new ArrayList<>();
+                    bucketEntries.add(entry);
+                    indexEntries.put(identifier(entry), bucketEntries);
+                }
             }
-            return new ArrayList<>(indexEntries.values());
+
+            List<IndexManifestEntry> result = new ArrayList<>();
+            indexEntries.values().forEach(result::addAll);
+            return result;
         }
     }
 
@@ -52,6 +52,7 @@ public class LookupFile {
     private final DataFileMeta remoteFile;
     private final LookupStoreReader reader;
     private final Runnable callback;
+    private final boolean deleteOnClose;
 
     private long requestCount;
     private long hitCount;
@@ -59,10 +60,24 @@ public class LookupFile {
 
     public LookupFile(
             File localFile, DataFileMeta remoteFile, LookupStoreReader reader, Runnable callback) {
+        this(localFile, remoteFile, reader, callback, true);
+    }
+
+    /**
+     * Create a lookup file, the local file is kept on close if {@code deleteOnClose} is false, the
+     * callback is then responsible for its lifecycle.
+     */
+    public LookupFile(
+            File localFile,
+            DataFileMeta remoteFile,
+            LookupStoreReader reader,
+            Runnable callback,
+            boolean deleteOnClose) {
         this.localFile = localFile;
         this.remoteFile = remoteFile;
         this.reader = reader;
         this.callback = callback;
+        this.deleteOnClose = deleteOnClose;
     }
 
     @Nullable
@@ -87,15 +102,18 @@ public class LookupFile {
     public void close(RemovalCause cause) throws IOException {
         reader.close();
         isClosed = true;
-        callback.run();
         LOG.info(
-                "Delete Lookup file {} due to {}. Access stats: requestCount={}, hitCount={}, size={}KB",
+                "{} Lookup file {} due to {}. Access stats: requestCount={}, hitCount={}, size={}KB",
+                deleteOnClose ? "Delete" : "Release",
                 localFile.getName(),
                 cause,
                 requestCount,
                 hitCount,
                 localFile.length() >> 10);
-        FileIOUtils.deleteFileOrDirectory(localFile);
+        callback.run();
+        if (deleteOnClose) {
+            FileIOUtils.deleteFileOrDirectory(localFile);
+        }
     }
 
     // ==================== Cache for Local File ======================
@@ -44,10 +44,12 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Function;
 
+import static org.apache.paimon.utils.Preconditions.checkNotNull;
 import static org.apache.paimon.utils.VarLengthIntUtils.MAX_VAR_LONG_SIZE;
 import static org.apache.paimon.utils.VarLengthIntUtils.decodeLong;
 import static org.apache.paimon.utils.VarLengthIntUtils.encodeLong;
@@ -66,6 +68,7 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
 
     private final Cache<String, LookupFile> lookupFileCache;
     private final Set<String> ownCachedFiles;
+    @Nullable private final PersistentLookupFiles persistentFiles;
 
     public LookupLevels(
             Levels levels,
@@ -77,6 +80,30 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
             LookupStoreFactory lookupStoreFactory,
             Function<Long, BloomFilter.Builder> bfGenerator,
             Cache<String, LookupFile> lookupFileCache) {
+        this(
+                levels,
+                keyComparator,
+                keyType,
+                valueProcessor,
+                fileReaderFactory,
+                localFileFactory,
+                lookupStoreFactory,
+                bfGenerator,
+                lookupFileCache,
+                null);
+    }
+
+    public LookupLevels(
+            Levels levels,
+            Comparator<InternalRow> keyComparator,
+            RowType keyType,
+            ValueProcessor<T> valueProcessor,
+            IOFunction<DataFileMeta, RecordReader<KeyValue>> fileReaderFactory,
+            Function<String, File> localFileFactory,
+            LookupStoreFactory lookupStoreFactory,
+            Function<Long, BloomFilter.Builder> bfGenerator,
+            Cache<String, LookupFile> lookupFileCache,
+            @Nullable PersistentLookupFiles persistentFiles) {
         this.levels = levels;
         this.keyComparator = keyComparator;
         this.keySerializer = new RowCompactedSerializer(keyType);
@@ -87,6 +114,7 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
         this.bfGenerator = bfGenerator;
         this.lookupFileCache = lookupFileCache;
         this.ownCachedFiles = new HashSet<>();
+        this.persistentFiles = persistentFiles;
         levels.addDropFileCallback(this);
     }
 
@@ -106,6 +134,9 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
 
     @Override
     public void notifyDropFile(String file) {
+        if (persistentFiles != null) {
+            persistentFiles.discard(file);
+        }
         lookupFileCache.invalidate(file);
     }
 
@@ -114,6 +145,27 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
         return LookupUtils.lookup(levels, key, startLevel, this::lookup, this::lookupLevel0);
     }
 
+    /**
+     * Lookup a batch of keys, the results are in the same order as the input keys, with null for
+     * keys not found.
+     */
+    public List<T> lookupBatch(List<InternalRow> keys, int startLevel) throws IOException {
+        byte[][] keyBytes = new byte[keys.size()][];
+        return LookupUtils.lookupBatch(
+                levels,
+                keyComparator,
+                keys,
+                startLevel,
+                (file, positions, results) -> {
+                    for (int pos : positions) {
+                        if (keyBytes[pos] == null) {
+                            keyBytes[pos] = keySerializer.serializeToBytes(keys.get(pos));
+                        }
+                    }
+                    lookupBatch(file, keys, keyBytes, positions, results);
+                });
+    }
+
     @Nullable
     private T lookupLevel0(InternalRow key, TreeSet<DataFileMeta> level0) throws IOException {
         return LookupUtils.lookupLevel0(keyComparator, key, level0, this::lookup);
@@ -151,9 +203,65 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
                 key, lookupFile.remoteFile().level(), valueBytes, file.fileName());
     }
 
+    private void lookupBatch(
+            DataFileMeta file,
+            List<InternalRow> keys,
+            byte[][] keyBytes,
+            List<Integer> positions,
+            List<T> results)
+            throws IOException {
+        LookupFile lookupFile = lookupFileCache.getIfPresent(file.fileName());
+
+        boolean newCreatedLookupFile = false;
+        if (lookupFile == null) {
+            lookupFile = createLookupFile(file);
+            newCreatedLookupFile = true;
+        }
+
+        try {
+            for (int pos : positions) {
+                byte[] valueBytes = lookupFile.get(keyBytes[pos]);
+                if (valueBytes != null) {
+                    results.set(
+                            pos,
+                            valueProcessor.readFromDisk(
+                                    keys.get(pos),
+                                    lookupFile.remoteFile().level(),
+                                    valueBytes,
+                                    file.fileName()));
+                }
+            }
+        } finally {
+            if (newCreatedLookupFile) {
+                lookupFileCache.put(file.fileName(), lookupFile);
+            }
+        }
+    }
+
     private LookupFile createLookupFile(DataFileMeta file) throws IOException {
-        File localFile = localFileFactory.apply(file.fileName());
+        if (persistentFiles != null) {
+            PersistentLookupFiles.RestoredFile restored =
+                    persistentFiles.acquire(file, valueProcessor.identifier(), lookupStoreFactory);
+            if (restored != null) {
+                ownCachedFiles.add(file.fileName());
+                return new LookupFile(
+                        restored.localFile(),
+                        file,
+                        lookupStoreFactory.createReader(restored.localFile(), restored.context()),
+                        () -> releasePersistedFile(file.fileName()),
+                        false);
+            }
+        }
+
+        File localFile = persistentFiles == null ? null : persistentFiles.reserve(file);
+        boolean persistent = localFile != null;
+        if (!persistent) {
+            localFile = localFileFactory.apply(file.fileName());
+        }
         if (!localFile.createNewFile()) {
+            if (persistent) {
+                persistentFiles.abort(file);
+            }
             throw new IOException("Can not create new file: " + localFile);
         }
         LookupStoreWriter kvWriter =
@@ -183,14 +291,27 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
                     batch.releaseBatch();
                 }
             }
-        } catch (IOException e) {
-            FileIOUtils.deleteFileOrDirectory(localFile);
+        } catch (IOException | RuntimeException e) {
+            if (persistent) {
+                persistentFiles.abort(file);
+            } else {
+                FileIOUtils.deleteFileOrDirectory(localFile);
+            }
             throw e;
         } finally {
             context = kvWriter.close();
         }
 
         ownCachedFiles.add(file.fileName());
+        if (persistent) {
+            persistentFiles.commit(file, valueProcessor.identifier(), lookupStoreFactory, context);
+            return new LookupFile(
+                    localFile,
+                    file,
+                    lookupStoreFactory.createReader(localFile, context),
+                    () -> releasePersistedFile(file.fileName()),
+                    false);
+        }
         return new LookupFile(
                 localFile,
                 file,
@@ -198,6 +319,11 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
                 () -> ownCachedFiles.remove(file.fileName()));
     }
 
+    private void releasePersistedFile(String fileName) {
+        ownCachedFiles.remove(fileName);
+        checkNotNull(persistentFiles).release(fileName);
+    }
+
     @Override
     public void close() throws IOException {
         Set<String> toClean = new HashSet<>(ownCachedFiles);
@@ -211,6 +337,12 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
 
         boolean withPosition();
 
+        /**
+         * Identifier of the format of persisted values, lookup files can only be reused by
+         * processors with the same identifier.
+         */
+        String identifier();
+
         byte[] persistToDisk(KeyValue kv);
 
         default byte[] persistToDisk(KeyValue kv, long rowPosition) {
@@ -223,9 +355,11 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
     /** A {@link ValueProcessor} to return {@link KeyValue}. */
     public static class KeyValueProcessor implements ValueProcessor<KeyValue> {
 
+        private final RowType valueType;
         private final RowCompactedSerializer valueSerializer;
 
         public KeyValueProcessor(RowType valueType) {
+            this.valueType = valueType;
             this.valueSerializer = new RowCompactedSerializer(valueType);
         }
 
@@ -234,6 +368,11 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
             return false;
         }
 
+        @Override
+        public String identifier() {
+            return "key-value:" + valueType.asSQLString();
+        }
+
         @Override
         public byte[] persistToDisk(KeyValue kv) {
             byte[] vBytes = valueSerializer.serializeToBytes(kv.value());
@@ -264,6 +403,11 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
             return false;
         }
 
+        @Override
+        public String identifier() {
+            return "contains";
+        }
+
         @Override
         public byte[] persistToDisk(KeyValue kv) {
             return EMPTY_BYTES;
@@ -277,10 +421,12 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
 
     /** A {@link ValueProcessor} to return {@link PositionedKeyValue}. */
     public static class PositionedKeyValueProcessor implements ValueProcessor<PositionedKeyValue> {
+        private final RowType valueType;
         private final boolean persistValue;
         private final RowCompactedSerializer valueSerializer;
 
         public PositionedKeyValueProcessor(RowType valueType, boolean persistValue) {
+            this.valueType = valueType;
             this.persistValue = persistValue;
             this.valueSerializer = persistValue ? new RowCompactedSerializer(valueType) : null;
         }
@@ -290,6 +436,11 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
             return true;
         }
 
+        @Override
+        public String identifier() {
+            return persistValue ? "positioned:" + valueType.asSQLString() : "positioned";
+        }
+
         @Override
         public byte[] persistToDisk(KeyValue kv) {
             throw new UnsupportedOperationException();
@@ -25,6 +25,8 @@ import org.apache.paimon.utils.BiFunctionWithIOE;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.TreeSet;
@@ -118,6 +120,128 @@ public class LookupUtils {
         return index < files.size() ? lookup.apply(target, files.get(index)) : null;
     }
 
+    /**
+     * Batched version of {@link #lookup(Levels, InternalRow, int, BiFunctionWithIOE,
+     * BiFunctionWithIOE)}. Keys are sorted once and every sorted run is visited with a single
+     * merge-style pass, so each file is probed at most once per level with all the keys it may
+     * contain. The returned results are in the same order as the input keys, with null for keys not
+     * found.
+     */
+    public static <T> List<T> lookupBatch(
+            Levels levels,
+            Comparator<InternalRow> keyComparator,
+            List<InternalRow> keys,
+            int startLevel,
+            BatchFileLookup<T> lookup)
+            throws IOException {
+        List<T> results = new ArrayList<>(Collections.nCopies(keys.size(), null));
+        List<Integer> pending = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            pending.add(i);
+        }
+        pending.sort((p1, p2) -> keyComparator.compare(keys.get(p1), keys.get(p2)));
+
+        for (int i = startLevel; i < levels.numberOfLevels() && !pending.isEmpty(); i++) {
+            if (i == 0) {
+                pending =
+                        lookupLevel0Batch(
+                                keyComparator, keys, pending, levels.level0(), lookup, results);
+            } else {
+                pending =
+                        lookupBatch(
+                                keyComparator,
+                                keys,
+                                pending,
+                                levels.runOfLevel(i),
+                                lookup,
+                                results);
+            }
+        }
+
+        return results;
+    }
+
+    private static <T> List<Integer> lookupLevel0Batch(
+            Comparator<InternalRow> keyComparator,
+            List<InternalRow> keys,
+            List<Integer> pending,
+            TreeSet<DataFileMeta> level0,
+            BatchFileLookup<T> lookup,
+            List<T> results)
+            throws IOException {
+        for (DataFileMeta file : level0) {
+            if (pending.isEmpty()) {
+                break;
+            }
+
+            List<Integer> inRange = new ArrayList<>();
+            for (int pos : pending) {
+                InternalRow key = keys.get(pos);
+                if (keyComparator.compare(file.maxKey(), key) >= 0
+                        && keyComparator.compare(file.minKey(), key) <= 0) {
+                    inRange.add(pos);
+                }
+            }
+
+            if (!inRange.isEmpty()) {
+                lookup.lookup(file, inRange, results);
+                pending = unresolved(pending, results);
+            }
+        }
+        return pending;
+    }
+
+    private static <T> List<Integer> lookupBatch(
+            Comparator<InternalRow> keyComparator,
+            List<InternalRow> keys,
+            List<Integer> pending,
+            SortedRun level,
+            BatchFileLookup<T> lookup,
+            List<T> results)
+            throws IOException {
+        if (level.isEmpty()) {
+            return pending;
+        }
+
+        // pending keys are sorted, so the file containing each key only moves forward
+        List<DataFileMeta> files = level.files();
+        int index = 0;
+        List<Integer> group = new ArrayList<>();
+        for (int pos : pending) {
+            InternalRow key = keys.get(pos);
+            while (index < files.size()
+                    && keyComparator.compare(files.get(index).maxKey(), key) < 0) {
+                if (!group.isEmpty()) {
+                    lookup.lookup(files.get(index), group, results);
+                    group = new ArrayList<>();
+                }
+                index++;
+            }
+
+            if (index == files.size()) {
+                // the remaining keys are greater than all keys in this level
+                break;
+            }
+            group.add(pos);
+        }
+
+        if (!group.isEmpty()) {
+            lookup.lookup(files.get(index), group, results);
+        }
+
+        return unresolved(pending, results);
+    }
+
+    private static <T> List<Integer> unresolved(List<Integer> pending, List<T> results) {
+        List<Integer> unresolved = new ArrayList<>(pending.size());
+        for (int pos : pending) {
+            if (results.get(pos) == null) {
+                unresolved.add(pos);
+            }
+        }
+        return unresolved;
+    }
+
     public static int fileKibiBytes(File file) {
         long kibiBytes = file.length() >> 10;
         if (kibiBytes > Integer.MAX_VALUE) {
@@ -126,4 +250,15 @@ public class LookupUtils {
         }
         return (int) kibiBytes;
     }
+
+    /** Lookup a group of keys, identified by their positions in the batch, in one file. */
+    @FunctionalInterface
+    public interface BatchFileLookup<T> {
+
+        /**
+         * Lookup the keys at the given sorted positions and set the found values to the same
+         * positions of results.
+         */
+        void lookup(DataFileMeta file, List<Integer> positions, List<T> results) throws IOException;
+    }
 }
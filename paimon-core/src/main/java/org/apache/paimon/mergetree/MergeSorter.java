@@ -21,6 +21,8 @@ package org.apache.paimon.mergetree;
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.CoreOptions.SortEngine;
 import org.apache.paimon.KeyValue;
+import org.apache.paimon.codegen.CodeGenUtils;
+import org.apache.paimon.codegen.NormalizedKeyComputer;
 import org.apache.paimon.compression.BlockCompressionFactory;
 import org.apache.paimon.compression.CompressOptions;
 import org.apache.paimon.data.BinaryRow;
@@ -53,6 +55,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.apache.paimon.utils.Preconditions.checkArgument;
 
@@ -70,6 +73,10 @@ public class MergeSorter {
 
     @Nullable private IOManager ioManager;
 
+    // whether normalizedKeyComputer has been created, it is null if keys have no usable prefix
+    private boolean normalizedKeyComputerCreated;
+    @Nullable private NormalizedKeyComputer normalizedKeyComputer;
+
     public MergeSorter(
             CoreOptions options,
             RowType keyType,
@@ -134,7 +141,33 @@ public class MergeSorter {
         }
 
         return SortMergeReader.createSortMergeReader(
-                readers, keyComparator, userDefinedSeqComparator, mergeFunction, sortEngine);
+                readers,
+                keyComparator,
+                userDefinedSeqComparator,
+                mergeFunction,
+                sortEngine,
+                normalizedKeyComputer());
+    }
+
+    /**
+     * The normalized key computer of the full key in ascending order, which is consistent with the
+     * key comparators of the file store.
+     */
+    @Nullable
+    private NormalizedKeyComputer normalizedKeyComputer() {
+        if (!normalizedKeyComputerCreated) {
+            normalizedKeyComputerCreated = true;
+            if (sortEngine == SortEngine.LOSER_TREE
+                    && keyType != null
+                    && keyType.getFieldCount() > 0) {
+                NormalizedKeyComputer computer =
+                        CodeGenUtils.newNormalizedKeyComputer(
+                                keyType.getFieldTypes(),
+                                IntStream.range(0, keyType.getFieldCount()).toArray());
+                normalizedKeyComputer = computer.getNumKeyBytes() > 0 ? computer : null;
+            }
+        }
+        return normalizedKeyComputer;
     }
 
     private <T> RecordReader<T> spillMergeSort(
@@ -34,6 +34,7 @@ import org.apache.paimon.io.KeyValueFileWriterFactory;
 import org.apache.paimon.io.RollingFileWriter;
 import org.apache.paimon.manifest.FileSource;
 import org.apache.paimon.memory.MemoryOwner;
+import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.memory.MemorySegmentPool;
 import org.apache.paimon.mergetree.compact.MergeFunction;
 import org.apache.paimon.options.MemorySize;
@@ -42,21 +43,40 @@ import org.apache.paimon.utils.CommitIncrement;
 import org.apache.paimon.utils.FieldsComparator;
 import org.apache.paimon.utils.RecordWriter;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
-/** A {@link RecordWriter} to write records and generate {@link CompactIncrement}. */
+/**
+ * A {@link RecordWriter} to write records and generate {@link CompactIncrement}.
+ *
+ * <p>If a flush executor is given, the write buffer memory is split into two buffers. When the
+ * active buffer is full, it is flushed to level 0 in the flush executor while the other buffer
+ * keeps accepting records. Writing only blocks when both buffers are full. If the memory is too
+ * small to be split, records are flushed synchronously.
+ */
 public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
+    private static final Logger LOG = LoggerFactory.getLogger(MergeTreeWriter.class);
+
+    /** Minimum pages of each buffer for asynchronous flush, required by the in-memory sorter. */
+    @VisibleForTesting static final int MIN_ASYNC_FLUSH_BUFFER_PAGES = 3;
+
     private final boolean writeBufferSpillable;
     private final MemorySize maxDiskSize;
     private final int sortMaxFan;
@@ -72,6 +92,7 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
     private final boolean commitForceCompact;
     private final ChangelogProducer changelogProducer;
     @Nullable private final FieldsComparator userDefinedSeqComparator;
+    @Nullable private final ExecutorService flushExecutor;
 
     private final LinkedHashSet<DataFileMeta> newFiles;
     private final LinkedHashSet<DataFileMeta> deletedFiles;
@@ -85,6 +106,12 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
     private long newSequenceNumber;
     private WriteBuffer writeBuffer;
 
+    // buffers for asynchronous flush, only used when asyncFlush is true
+    private boolean asyncFlush;
+    @Nullable private WriteBuffer spareBuffer;
+    @Nullable private WriteBuffer flushingBuffer;
+    @Nullable private Future<DataIncrement> flushFuture;
+
     public MergeTreeWriter(
             boolean writeBufferSpillable,
             MemorySize maxDiskSize,
@@ -100,6 +127,40 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
             ChangelogProducer changelogProducer,
             @Nullable CommitIncrement increment,
             @Nullable FieldsComparator userDefinedSeqComparator) {
+        this(
+                writeBufferSpillable,
+                maxDiskSize,
+                sortMaxFan,
+                sortCompression,
+                ioManager,
+                compactManager,
+                maxSequenceNumber,
+                keyComparator,
+                mergeFunction,
+                writerFactory,
+                commitForceCompact,
+                changelogProducer,
+                increment,
+                userDefinedSeqComparator,
+                null);
+    }
+
+    public MergeTreeWriter(
+            boolean writeBufferSpillable,
+            MemorySize maxDiskSize,
+            int sortMaxFan,
+            CompressOptions sortCompression,
+            IOManager ioManager,
+            CompactManager compactManager,
+            long maxSequenceNumber,
+            Comparator<InternalRow> keyComparator,
+            MergeFunction<KeyValue> mergeFunction,
+            KeyValueFileWriterFactory writerFactory,
+            boolean commitForceCompact,
+            ChangelogProducer changelogProducer,
+            @Nullable CommitIncrement increment,
+            @Nullable FieldsComparator userDefinedSeqComparator,
+            @Nullable ExecutorService flushExecutor) {
         this.writeBufferSpillable = writeBufferSpillable;
         this.maxDiskSize = maxDiskSize;
         this.sortMaxFan = sortMaxFan;
@@ -115,6 +176,7 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
         this.commitForceCompact = commitForceCompact;
         this.changelogProducer = changelogProducer;
         this.userDefinedSeqComparator = userDefinedSeqComparator;
+        this.flushExecutor = flushExecutor;
 
         this.newFiles = new LinkedHashSet<>();
         this.deletedFiles = new LinkedHashSet<>();
@@ -147,17 +209,38 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public void setMemoryPool(MemorySegmentPool memoryPool) {
-        this.writeBuffer =
-                new SortBufferWriteBuffer(
-                        keyType,
-                        valueType,
-                        userDefinedSeqComparator,
-                        memoryPool,
-                        writeBufferSpillable,
-                        maxDiskSize,
-                        sortMaxFan,
-                        sortCompression,
-                        ioManager);
+        int maxPages = memoryPool.freePages() / 2;
+        this.asyncFlush = flushExecutor != null && maxPages >= MIN_ASYNC_FLUSH_BUFFER_PAGES;
+        if (flushExecutor != null && !asyncFlush) {
+            LOG.warn(
+                    "Write buffer of {} pages is too small to be split into two buffers of at least"
+                            + " {} pages for asynchronous flush, falling back to synchronous flush."
+                            + " Please increase 'write-buffer-size' to enable asynchronous flush.",
+                    memoryPool.freePages(),
+                    MIN_ASYNC_FLUSH_BUFFER_PAGES);
+        }
+
+        if (!asyncFlush) {
+            this.writeBuffer = createWriteBuffer(memoryPool, writeBufferSpillable);
+        } else {
+            // Each buffer can use half of the memory. Spilling is disabled, so the buffer being
+            // flushed never touches the memory pool, pages are only returned in the writer thread.
+            this.writeBuffer = createWriteBuffer(new PageLimitedPool(memoryPool, maxPages), false);
+            this.spareBuffer = createWriteBuffer(new PageLimitedPool(memoryPool, maxPages), false);
+        }
+    }
+
+    private WriteBuffer createWriteBuffer(MemorySegmentPool memoryPool, boolean spillable) {
+        return new SortBufferWriteBuffer(
+                keyType,
+                valueType,
+                userDefinedSeqComparator,
+                memoryPool,
+                spillable,
+                maxDiskSize,
+                sortMaxFan,
+                sortCompression,
+                ioManager);
     }
 
     @Override
@@ -165,7 +248,11 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
         long sequenceNumber = newSequenceNumber();
         boolean success = writeBuffer.put(sequenceNumber, kv.valueKind(), kv.key(), kv.value());
         if (!success) {
-            flushWriteBuffer(false, false);
+            if (!asyncFlush) {
+                flushWriteBuffer(false, false);
+            } else {
+                flushWriteBufferAsync();
+            }
             success = writeBuffer.put(sequenceNumber, kv.valueKind(), kv.key(), kv.value());
             if (!success) {
                 throw new RuntimeException("Mem table is too small to hold a single element.");
@@ -195,7 +282,11 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public long memoryOccupancy() {
-        return writeBuffer.memoryOccupancy();
+        long occupancy = writeBuffer.memoryOccupancy();
+        if (flushingBuffer != null) {
+            occupancy += flushingBuffer.memoryOccupancy();
+        }
+        return occupancy;
     }
 
     @Override
@@ -208,44 +299,113 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     private void flushWriteBuffer(boolean waitForLatestCompaction, boolean forcedFullCompaction)
             throws Exception {
+        // level 0 files must be added in the order of their sequence numbers
+        finishAsyncFlush();
+
         if (writeBuffer.size() > 0) {
             if (compactManager.shouldWaitForLatestCompaction()) {
                 waitForLatestCompaction = true;
             }
 
-            final RollingFileWriter<KeyValue, DataFileMeta> changelogWriter =
-                    changelogProducer == ChangelogProducer.INPUT
-                            ? writerFactory.createRollingChangelogFileWriter(0)
-                            : null;
-            final RollingFileWriter<KeyValue, DataFileMeta> dataWriter =
-                    writerFactory.createRollingMergeTreeFileWriter(0, FileSource.APPEND);
-
+            DataIncrement increment;
             try {
-                writeBuffer.forEach(
-                        keyComparator,
-                        mergeFunction,
-                        changelogWriter == null ? null : changelogWriter::write,
-                        dataWriter::write);
+                increment = flush(writeBuffer);
             } finally {
                 writeBuffer.clear();
-                if (changelogWriter != null) {
-                    changelogWriter.close();
-                }
-                dataWriter.close();
             }
+            addFlushedFiles(increment);
+        }
 
-            if (changelogWriter != null) {
-                newFilesChangelog.addAll(changelogWriter.result());
+        trySyncLatestCompaction(waitForLatestCompaction);
+        compactManager.triggerCompaction(forcedFullCompaction);
+    }
+
+    private void flushWriteBufferAsync() throws Exception {
+        // backpressure, wait until the buffer being flushed becomes available
+        finishAsyncFlush();
+
+        WriteBuffer buffer = writeBuffer;
+        writeBuffer = spareBuffer;
+        spareBuffer = null;
+        flushingBuffer = buffer;
+        flushFuture = flushExecutor.submit(() -> flush(buffer));
+    }
+
+    private void finishAsyncFlush() throws Exception {
+        if (flushFuture == null) {
+            return;
+        }
+
+        DataIncrement increment;
+        try {
+            increment = awaitFlush();
+        } finally {
+            // if interrupted, the flush may still be reading the buffer, close() handles it
+            if (flushFuture.isDone()) {
+                releaseFlushingBuffer();
             }
+        }
+        addFlushedFiles(increment);
 
-            for (DataFileMeta fileMeta : dataWriter.result()) {
-                newFiles.add(fileMeta);
-                compactManager.addNewFile(fileMeta);
+        trySyncLatestCompaction(compactManager.shouldWaitForLatestCompaction());
+        compactManager.triggerCompaction(false);
+    }
+
+    private DataIncrement awaitFlush() throws Exception {
+        try {
+            return flushFuture.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
             }
+            throw e;
         }
+    }
 
-        trySyncLatestCompaction(waitForLatestCompaction);
-        compactManager.triggerCompaction(forcedFullCompaction);
+    private void releaseFlushingBuffer() {
+        flushingBuffer.clear();
+        spareBuffer = flushingBuffer;
+        flushingBuffer = null;
+        flushFuture = null;
+    }
+
+    /** Write the records of buffer to level 0 files, the buffer is not cleared. */
+    private DataIncrement flush(WriteBuffer buffer) throws Exception {
+        final RollingFileWriter<KeyValue, DataFileMeta> changelogWriter =
+                changelogProducer == ChangelogProducer.INPUT
+                        ? writerFactory.createRollingChangelogFileWriter(0)
+                        : null;
+        final RollingFileWriter<KeyValue, DataFileMeta> dataWriter =
+                writerFactory.createRollingMergeTreeFileWriter(0, FileSource.APPEND);
+
+        try {
+            buffer.forEach(
+                    keyComparator,
+                    mergeFunction,
+                    changelogWriter == null ? null : changelogWriter::write,
+                    dataWriter::write);
+        } finally {
+            if (changelogWriter != null) {
+                changelogWriter.close();
+            }
+            dataWriter.close();
+        }
+
+        return new DataIncrement(
+                dataWriter.result(),
+                Collections.emptyList(),
+                changelogWriter == null ? Collections.emptyList() : changelogWriter.result());
+    }
+
+    private void addFlushedFiles(DataIncrement increment) {
+        newFilesChangelog.addAll(increment.changelogFiles());
+        for (DataFileMeta fileMeta : increment.newFiles()) {
+            newFiles.add(fileMeta);
+            compactManager.addNewFile(fileMeta);
+        }
     }
 
     @Override
@@ -341,6 +501,27 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public void close() throws Exception {
+        // wait for the in-flight flush before releasing its buffer, its files are not committed
+        // and can be deleted
+        if (flushFuture != null) {
+            try {
+                DataIncrement increment = awaitFlush();
+                increment.newFiles().forEach(writerFactory::deleteFile);
+                increment.changelogFiles().forEach(writerFactory::deleteFile);
+                releaseFlushingBuffer();
+            } catch (InterruptedException e) {
+                // do not block cancelling, the flush thread still owns the buffer, so it is not
+                // cleared and its memory is released with the memory pool of the writer
+                flushFuture.cancel(true);
+                flushingBuffer = null;
+                flushFuture = null;
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                // the flush failed, the rolling writers have already deleted their files
+                releaseFlushingBuffer();
+            }
+        }
+
         // cancel compaction so that it does not block job cancelling
         compactManager.cancelCompaction();
         sync();
@@ -379,4 +560,50 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
             compactDeletionFile.clean();
         }
     }
+
+    /**
+     * A view of {@link MemorySegmentPool} which can allocate at most a number of pages, so that two
+     * write buffers can share one pool.
+     */
+    private static class PageLimitedPool implements MemorySegmentPool {
+
+        private final MemorySegmentPool pool;
+        private final int maxPages;
+
+        private int allocatedPages;
+
+        private PageLimitedPool(MemorySegmentPool pool, int maxPages) {
+            this.pool = pool;
+            this.maxPages = maxPages;
+            this.allocatedPages = 0;
+        }
+
+        @Override
+        public int pageSize() {
+            return pool.pageSize();
+        }
+
+        @Override
+        public void returnAll(List<MemorySegment> memory) {
+            allocatedPages -= memory.size();
+            pool.returnAll(memory);
+        }
+
+        @Override
+        public int freePages() {
+            return Math.min(maxPages - allocatedPages, pool.freePages());
+        }
+
+        @Override
+        public MemorySegment nextSegment() {
+            if (allocatedPages >= maxPages) {
+                return null;
+            }
+            MemorySegment segment = pool.nextSegment();
+            if (segment != null) {
+                allocatedPages++;
+            }
+            return segment;
+        }
+    }
 }
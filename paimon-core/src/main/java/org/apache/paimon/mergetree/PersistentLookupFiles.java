@@ -0,0 +1,512 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.DataInputDeserializer;
+import org.apache.paimon.io.DataInputView;
+import org.apache.paimon.io.DataInputViewStreamWrapper;
+import org.apache.paimon.io.DataOutputSerializer;
+import org.apache.paimon.io.DataOutputView;
+import org.apache.paimon.io.DataOutputViewStreamWrapper;
+import org.apache.paimon.lookup.LookupStoreFactory;
+import org.apache.paimon.utils.FileIOUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * Lookup files persisted in a local directory, so that they can be reused after a task restart
+ * instead of being rebuilt from the remote data files.
+ *
+ * <p>The directory contains a manifest which records, for each data file, its schema id, the format
+ * identifier of the lookup file, the expected length of the lookup file and the serialized {@link
+ * LookupStoreFactory.Context}. A lookup file is only reused if all of them match. Entries are kept
+ * in least recently used order, files not in use are deleted when the total size exceeds the disk
+ * quota.
+ *
+ * <p>All writers and queries of a JVM which are configured with the same directory share one
+ * manifest. The directory should not be shared between processes.
+ */
+public class PersistentLookupFiles {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PersistentLookupFiles.class);
+
+    private static final Map<File, Directory> DIRECTORIES = new ConcurrentHashMap<>();
+
+    private final Directory directory;
+    private final String storeIdentifier;
+
+    private PersistentLookupFiles(Directory directory, String storeIdentifier) {
+        this.directory = directory;
+        this.storeIdentifier = storeIdentifier;
+    }
+
+    @Nullable
+    public static PersistentLookupFiles create(CoreOptions options) {
+        String dir = options.lookupCachePersistentDir();
+        if (dir == null) {
+            return null;
+        }
+
+        File file = new File(dir).getAbsoluteFile();
+        long maxDiskBytes =
+                options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_MAX_DISK_SIZE).getBytes();
+        Directory directory =
+                DIRECTORIES.computeIfAbsent(file, f -> new Directory(f, maxDiskBytes));
+        directory.updateMaxDiskBytes(maxDiskBytes);
+        return new PersistentLookupFiles(directory, storeIdentifier(options));
+    }
+
+    /** Create an instance which does not share its manifest with others, only for testing. */
+    @VisibleForTesting
+    static PersistentLookupFiles createIsolated(
+            File dir, long maxDiskBytes, String storeIdentifier) {
+        return new PersistentLookupFiles(new Directory(dir, maxDiskBytes), storeIdentifier);
+    }
+
+    private static String storeIdentifier(CoreOptions options) {
+        return String.format(
+                "%s/%s/%s",
+                options.lookupLocalFileType(),
+                options.lookupCompressOptions(),
+                options.cachePageSize());
+    }
+
+    /**
+     * Acquire the persisted lookup file of the data file, returns null if there is no valid one.
+     * The returned file must be {@link #release}d after use.
+     */
+    @Nullable
+    public RestoredFile acquire(
+            DataFileMeta file, String processorIdentifier, LookupStoreFactory storeFactory)
+            throws IOException {
+        byte[] context = directory.acquire(file, identifier(processorIdentifier));
+        if (context == null) {
+            return null;
+        }
+        return new RestoredFile(
+                directory.localFile(file),
+                storeFactory.deserializeContext(new DataInputDeserializer(context)));
+    }
+
+    /**
+     * Reserve the local file to persist the lookup file of the data file, returns null if the
+     * lookup file can not be persisted because it is being used or built by others. The reserved
+     * file must be either {@link #commit}ed or {@link #abort}ed.
+     */
+    @Nullable
+    public File reserve(DataFileMeta file) throws IOException {
+        return directory.reserve(file);
+    }
+
+    /** Commit the reserved file once the lookup file has been completely written. */
+    public void commit(
+            DataFileMeta file,
+            String processorIdentifier,
+            LookupStoreFactory storeFactory,
+            LookupStoreFactory.Context context)
+            throws IOException {
+        DataOutputSerializer out = new DataOutputSerializer(64);
+        storeFactory.serializeContext(context, out);
+        directory.commit(file, identifier(processorIdentifier), out.getCopyOfBuffer());
+    }
+
+    /** Abort the reserved file and delete it. */
+    public void abort(DataFileMeta file) {
+        directory.abort(file);
+    }
+
+    /** Release an acquired or committed file, it may be deleted to enforce the disk quota. */
+    public void release(String dataFileName) {
+        directory.release(dataFileName);
+    }
+
+    /** The data file is no longer used, its lookup file is deleted once it is released. */
+    public void discard(String dataFileName) {
+        directory.discard(dataFileName);
+    }
+
+    private String identifier(String processorIdentifier) {
+        return storeIdentifier + "/" + processorIdentifier;
+    }
+
+    @VisibleForTesting
+    List<String> persistedFiles() {
+        return directory.persistedFiles();
+    }
+
+    /** A persisted lookup file and its context to create reader. */
+    public static class RestoredFile {
+
+        private final File localFile;
+        private final LookupStoreFactory.Context context;
+
+        private RestoredFile(File localFile, LookupStoreFactory.Context context) {
+            this.localFile = localFile;
+            this.context = context;
+        }
+
+        public File localFile() {
+            return localFile;
+        }
+
+        public LookupStoreFactory.Context context() {
+            return context;
+        }
+    }
+
+    // ==================== Directory with manifest ======================
+
+    private static class Directory {
+
+        private static final String MANIFEST = "lookup-manifest";
+        private static final String MANIFEST_TMP = MANIFEST + ".tmp";
+        private static final int VERSION = 1;
+
+        private final File dir;
+        private final File manifest;
+
+        // access ordered, the first entry is the least recently used
+        private final LinkedHashMap<String, Entry> entries;
+
+        private long maxDiskBytes;
+        private long totalBytes;
+
+        private Directory(File dir, long maxDiskBytes) {
+            this.dir = dir;
+            this.manifest = new File(dir, MANIFEST);
+            this.entries = new LinkedHashMap<>(16, 0.75f, true);
+            this.maxDiskBytes = maxDiskBytes;
+            load();
+        }
+
+        private synchronized void updateMaxDiskBytes(long maxDiskBytes) {
+            this.maxDiskBytes = maxDiskBytes;
+        }
+
+        private File localFile(DataFileMeta file) {
+            return new File(dir, localFileName(file.schemaId(), file.fileName()));
+        }
+
+        @Nullable
+        private synchronized byte[] acquire(DataFileMeta file, String identifier) {
+            Entry entry = entries.get(file.fileName());
+            if (entry == null
+                    || entry.length < 0
+                    || entry.obsolete
+                    || entry.schemaId != file.schemaId()
+                    || !entry.identifier.equals(identifier)) {
+                return null;
+            }
+
+            entry.refCount++;
+            return entry.context;
+        }
+
+        @Nullable
+        private synchronized File reserve(DataFileMeta file) throws IOException {
+            Entry entry = entries.get(file.fileName());
+            if (entry != null) {
+                if (entry.refCount > 0) {
+                    return null;
+                }
+                remove(entry);
+            }
+
+            File localFile = localFile(file);
+            FileIOUtils.deleteFileOrDirectory(localFile);
+            entry = new Entry(file.fileName(), file.schemaId());
+            entry.refCount = 1;
+            entries.put(entry.dataFileName, entry);
+            return localFile;
+        }
+
+        private synchronized void commit(DataFileMeta file, String identifier, byte[] context) {
+            Entry entry = entries.get(file.fileName());
+            checkArgument(
+                    entry != null && entry.length < 0,
+                    "Lookup file of %s is not reserved.",
+                    file.fileName());
+            entry.identifier = identifier;
+            entry.context = context;
+            entry.length = localFile(file).length();
+            totalBytes += entry.length;
+            enforceQuota();
+            flush();
+        }
+
+        private synchronized void abort(DataFileMeta file) {
+            Entry entry = entries.get(file.fileName());
+            if (entry != null && entry.length < 0) {
+                remove(entry);
+            }
+        }
+
+        private synchronized void release(String dataFileName) {
+            Entry entry = entries.get(dataFileName);
+            if (entry == null) {
+                return;
+            }
+
+            entry.refCount--;
+            if (entry.refCount <= 0 && entry.obsolete) {
+                remove(entry);
+            }
+            enforceQuota();
+            flush();
+        }
+
+        private synchronized void discard(String dataFileName) {
+            Entry entry = entries.get(dataFileName);
+            if (entry == null) {
+                return;
+            }
+
+            entry.obsolete = true;
+            if (entry.refCount <= 0) {
+                remove(entry);
+                flush();
+            }
+        }
+
+        private synchronized List<String> persistedFiles() {
+            List<String> files = new ArrayList<>();
+            for (Entry entry : entries.values()) {
+                if (entry.length >= 0) {
+                    files.add(entry.dataFileName);
+                }
+            }
+            return files;
+        }
+
+        private void enforceQuota() {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (totalBytes > maxDiskBytes && iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (entry.refCount <= 0) {
+                    iterator.remove();
+                    deleteLocalFile(entry);
+                    totalBytes -= entry.length;
+                }
+            }
+        }
+
+        private void remove(Entry entry) {
+            entries.remove(entry.dataFileName);
+            deleteLocalFile(entry);
+            if (entry.length > 0) {
+                totalBytes -= entry.length;
+            }
+        }
+
+        private void deleteLocalFile(Entry entry) {
+            File localFile = new File(dir, localFileName(entry.schemaId, entry.dataFileName));
+            try {
+                FileIOUtils.deleteFileOrDirectory(localFile);
+            } catch (IOException e) {
+                LOG.warn("Failed to delete persisted lookup file {}.", localFile, e);
+            }
+        }
+
+        private void load() {
+            if (!dir.exists() && !dir.mkdirs() && !dir.exists()) {
+                throw new RuntimeException("Can not create lookup file directory: " + dir);
+            }
+
+            if (manifest.exists()) {
+                try (InputStream in = new BufferedInputStream(new FileInputStream(manifest))) {
+                    readManifest(new DataInputViewStreamWrapper(in));
+                } catch (IOException e) {
+                    LOG.warn(
+                            "Failed to read lookup file manifest {}, all persisted lookup files will be rebuilt.",
+                            manifest,
+                            e);
+                    entries.clear();
+                }
+            }
+
+            // validate persisted files, they may be corrupted or incomplete after a crash
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                File localFile = new File(dir, localFileName(entry.schemaId, entry.dataFileName));
+                if (localFile.length() != entry.length) {
+                    iterator.remove();
+                } else {
+                    totalBytes += entry.length;
+                }
+            }
+
+            // delete files which are not tracked by the manifest
+            Map<String, Entry> byLocalName = new HashMap<>();
+            for (Entry entry : entries.values()) {
+                byLocalName.put(localFileName(entry.schemaId, entry.dataFileName), entry);
+            }
+            File[] files = dir.listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    if (!file.getName().equals(MANIFEST)
+                            && !byLocalName.containsKey(file.getName())) {
+                        try {
+                            FileIOUtils.deleteFileOrDirectory(file);
+                        } catch (IOException e) {
+                            LOG.warn("Failed to delete untracked lookup file {}.", file, e);
+                        }
+                    }
+                }
+            }
+
+            LOG.info(
+                    "Restored {} persisted lookup files ({} bytes) from {}.",
+                    entries.size(),
+                    totalBytes,
+                    dir);
+            enforceQuota();
+            flush();
+        }
+
+        private void readManifest(DataInputView in) throws IOException {
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported lookup file manifest version: " + version);
+            }
+
+            String[] identifiers = new String[in.readInt()];
+            for (int i = 0; i < identifiers.length; i++) {
+                identifiers[i] = readString(in);
+            }
+
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                Entry entry = new Entry(readString(in), in.readLong());
+                entry.identifier = identifiers[in.readInt()];
+                entry.length = in.readLong();
+                entry.context = new byte[in.readInt()];
+                in.readFully(entry.context);
+                entries.put(entry.dataFileName, entry);
+            }
+        }
+
+        private void flush() {
+            File tmp = new File(dir, MANIFEST_TMP);
+            try {
+                try (OutputStream out = new BufferedOutputStream(new FileOutputStream(tmp))) {
+                    writeManifest(new DataOutputViewStreamWrapper(out));
+                }
+                Files.move(
+                        tmp.toPath(),
+                        manifest.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                // the persisted files are still valid in memory, they can not be restored only
+                LOG.warn("Failed to write lookup file manifest {}.", manifest, e);
+            }
+        }
+
+        private void writeManifest(DataOutputView out) throws IOException {
+            List<Entry> committed = new ArrayList<>();
+            Map<String, Integer> identifierIds = new LinkedHashMap<>();
+            for (Entry entry : entries.values()) {
+                if (entry.length >= 0 && !entry.obsolete) {
+                    committed.add(entry);
+                    identifierIds.putIfAbsent(entry.identifier, identifierIds.size());
+                }
+            }
+
+            out.writeInt(VERSION);
+            out.writeInt(identifierIds.size());
+            for (String identifier : identifierIds.keySet()) {
+                writeString(out, identifier);
+            }
+
+            out.writeInt(committed.size());
+            for (Entry entry : committed) {
+                writeString(out, entry.dataFileName);
+                out.writeLong(entry.schemaId);
+                out.writeInt(identifierIds.get(entry.identifier));
+                out.writeLong(entry.length);
+                out.writeInt(entry.context.length);
+                out.write(entry.context);
+            }
+        }
+
+        private static String localFileName(long schemaId, String dataFileName) {
+            return String.format("%s-%s.lookup", schemaId, dataFileName);
+        }
+
+        private static void writeString(DataOutputView out, String string) throws IOException {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        private static String readString(DataInputView in) throws IOException {
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    /** Manifest entry of a persisted lookup file. */
+    private static class Entry {
+
+        private final String dataFileName;
+        private final long schemaId;
+
+        private String identifier;
+        // -1 means the file is being written
+        private long length = -1;
+        private byte[] context;
+
+        private int refCount;
+        private boolean obsolete;
+
+        private Entry(String dataFileName, long schemaId) {
+            this.dataFileName = dataFileName;
+            this.schemaId = schemaId;
+        }
+    }
+}
@@ -237,6 +237,9 @@ public class MergeTreeCompactManager extends CompactFutureManager {
                                                     file.fileName(), file.level(), file.fileSize()))
                             .collect(Collectors.joining(", ")));
         }
+        // buckets closer to the stop trigger block their writers sooner, level 0 files are
+        // counted as sorted runs, so they raise the priority as well
+        task.withPriority(levels.numberOfSortedRuns() * 1000L / numSortedRunStopTrigger);
         taskFuture = executor.submit(task);
         if (metricsReporter != null) {
             metricsReporter.increaseCompactionsQueuedCount();
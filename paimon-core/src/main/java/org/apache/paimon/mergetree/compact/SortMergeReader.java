@@ -20,6 +20,7 @@ package org.apache.paimon.mergetree.compact;
 
 import org.apache.paimon.CoreOptions.SortEngine;
 import org.apache.paimon.KeyValue;
+import org.apache.paimon.codegen.NormalizedKeyComputer;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.utils.FieldsComparator;
@@ -44,13 +45,38 @@ public interface SortMergeReader<T> extends RecordReader<T> {
             @Nullable FieldsComparator userDefinedSeqComparator,
             MergeFunctionWrapper<T> mergeFunctionWrapper,
             SortEngine sortEngine) {
+        return createSortMergeReader(
+                readers,
+                userKeyComparator,
+                userDefinedSeqComparator,
+                mergeFunctionWrapper,
+                sortEngine,
+                null);
+    }
+
+    /**
+     * Creates a {@link SortMergeReader}. The optional {@link NormalizedKeyComputer} must produce
+     * keys ordered consistently with {@code userKeyComparator}, it is used by {@link
+     * SortEngine#LOSER_TREE} to compare key prefixes before the full keys.
+     */
+    static <T> SortMergeReader<T> createSortMergeReader(
+            List<RecordReader<KeyValue>> readers,
+            Comparator<InternalRow> userKeyComparator,
+            @Nullable FieldsComparator userDefinedSeqComparator,
+            MergeFunctionWrapper<T> mergeFunctionWrapper,
+            SortEngine sortEngine,
+            @Nullable NormalizedKeyComputer normalizedKeyComputer) {
         switch (sortEngine) {
             case MIN_HEAP:
                 return new SortMergeReaderWithMinHeap<>(
                         readers, userKeyComparator, userDefinedSeqComparator, mergeFunctionWrapper);
             case LOSER_TREE:
                 return new SortMergeReaderWithLoserTree<>(
-                        readers, userKeyComparator, userDefinedSeqComparator, mergeFunctionWrapper);
+                        readers,
+                        userKeyComparator,
+                        userDefinedSeqComparator,
+                        mergeFunctionWrapper,
+                        normalizedKeyComputer);
             default:
                 throw new UnsupportedOperationException("Unsupported sort engine: " + sortEngine);
         }
@@ -19,7 +19,9 @@
 package org.apache.paimon.mergetree.compact;
 
 import org.apache.paimon.KeyValue;
+import org.apache.paimon.codegen.NormalizedKeyComputer;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.utils.FieldsComparator;
 import org.apache.paimon.utils.Preconditions;
@@ -27,40 +29,81 @@ import org.apache.paimon.utils.Preconditions;
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
-/** {@link SortMergeReader} implemented with loser-tree. */
+/**
+ * {@link SortMergeReader} implemented with loser-tree.
+ *
+ * <p>If a {@link NormalizedKeyComputer} is given, the normalized key prefix of each record is
+ * computed once when it enters the tree, and keys are compared on these binary prefixes first. The
+ * user key comparator is only invoked when the prefixes are equal and do not fully determine the
+ * order.
+ */
 public class SortMergeReaderWithLoserTree<T> implements SortMergeReader<T> {
 
     private final MergeFunctionWrapper<T> mergeFunctionWrapper;
-    private final LoserTree<KeyValue> loserTree;
+    private final LoserTree<PrefixedKeyValue> loserTree;
 
     public SortMergeReaderWithLoserTree(
             List<RecordReader<KeyValue>> readers,
             Comparator<InternalRow> userKeyComparator,
             @Nullable FieldsComparator userDefinedSeqComparator,
             MergeFunctionWrapper<T> mergeFunctionWrapper) {
+        this(readers, userKeyComparator, userDefinedSeqComparator, mergeFunctionWrapper, null);
+    }
+
+    public SortMergeReaderWithLoserTree(
+            List<RecordReader<KeyValue>> readers,
+            Comparator<InternalRow> userKeyComparator,
+            @Nullable FieldsComparator userDefinedSeqComparator,
+            MergeFunctionWrapper<T> mergeFunctionWrapper,
+            @Nullable NormalizedKeyComputer normalizedKeyComputer) {
         this.mergeFunctionWrapper = mergeFunctionWrapper;
+        List<RecordReader<PrefixedKeyValue>> prefixedReaders = new ArrayList<>(readers.size());
+        for (RecordReader<KeyValue> reader : readers) {
+            // each leaf of the loser tree only holds its current record, so one holder per
+            // reader can be reused for all its records
+            PrefixedKeyValue holder = new PrefixedKeyValue(normalizedKeyComputer);
+            prefixedReaders.add(reader.transform(holder::replace));
+        }
         this.loserTree =
                 new LoserTree<>(
-                        readers,
-                        (e1, e2) -> userKeyComparator.compare(e2.key(), e1.key()),
+                        prefixedReaders,
+                        createKeyComparator(userKeyComparator, normalizedKeyComputer),
                         createSequenceComparator(userDefinedSeqComparator));
     }
 
-    private Comparator<KeyValue> createSequenceComparator(
+    private Comparator<PrefixedKeyValue> createKeyComparator(
+            Comparator<InternalRow> userKeyComparator,
+            @Nullable NormalizedKeyComputer normalizedKeyComputer) {
+        if (normalizedKeyComputer == null) {
+            return (e1, e2) -> userKeyComparator.compare(e2.kv.key(), e1.kv.key());
+        }
+
+        boolean fullyDetermines = normalizedKeyComputer.isKeyFullyDetermines();
+        return (e1, e2) -> {
+            int result = normalizedKeyComputer.compareKey(e2.prefix, 0, e1.prefix, 0);
+            if (result != 0 || fullyDetermines) {
+                return result;
+            }
+            return userKeyComparator.compare(e2.kv.key(), e1.kv.key());
+        };
+    }
+
+    private Comparator<PrefixedKeyValue> createSequenceComparator(
             @Nullable FieldsComparator userDefinedSeqComparator) {
         if (userDefinedSeqComparator == null) {
-            return (e1, e2) -> Long.compare(e2.sequenceNumber(), e1.sequenceNumber());
+            return (e1, e2) -> Long.compare(e2.kv.sequenceNumber(), e1.kv.sequenceNumber());
         }
 
         return (o1, o2) -> {
-            int result = userDefinedSeqComparator.compare(o2.value(), o1.value());
+            int result = userDefinedSeqComparator.compare(o2.kv.value(), o1.kv.value());
             if (result != 0) {
                 return result;
             }
-            return Long.compare(o2.sequenceNumber(), o1.sequenceNumber());
+            return Long.compare(o2.kv.sequenceNumber(), o1.kv.sequenceNumber());
         };
     }
 
@@ -87,12 +130,12 @@ public class SortMergeReaderWithLoserTree<T> implements SortMergeReader<T> {
         public T next() throws IOException {
             while (true) {
                 loserTree.adjustForNextLoop();
-                KeyValue winner = loserTree.popWinner();
+                PrefixedKeyValue winner = loserTree.popWinner();
                 if (winner == null) {
                     return null;
                 }
                 mergeFunctionWrapper.reset();
-                mergeFunctionWrapper.add(winner);
+                mergeFunctionWrapper.add(winner.kv);
 
                 T result = merge();
                 if (result != null) {
@@ -106,7 +149,7 @@ public class SortMergeReaderWithLoserTree<T> implements SortMergeReader<T> {
                     !released, "SortMergeIterator#nextImpl is called after release");
 
             while (loserTree.peekWinner() != null) {
-                mergeFunctionWrapper.add(loserTree.popWinner());
+                mergeFunctionWrapper.add(loserTree.popWinner().kv);
             }
             return mergeFunctionWrapper.getResult();
         }
@@ -116,4 +159,29 @@ public class SortMergeReaderWithLoserTree<T> implements SortMergeReader<T> {
             released = true;
         }
     }
+
+    /** A {@link KeyValue} with the normalized key prefix of its key. */
+    private static class PrefixedKeyValue {
+
+        @Nullable private final NormalizedKeyComputer normalizedKeyComputer;
+        @Nullable private final MemorySegment prefix;
+
+        private KeyValue kv;
+
+        private PrefixedKeyValue(@Nullable NormalizedKeyComputer normalizedKeyComputer) {
+            this.normalizedKeyComputer = normalizedKeyComputer;
+            this.prefix =
+                    normalizedKeyComputer == null
+                            ? null
+                            : MemorySegment.wrap(new byte[normalizedKeyComputer.getNumKeyBytes()]);
+        }
+
+        private PrefixedKeyValue replace(KeyValue kv) {
+            this.kv = kv;
+            if (normalizedKeyComputer != null) {
+                normalizedKeyComputer.putKey(kv.key(), prefix, 0);
+            }
+            return this;
+        }
+    }
 }
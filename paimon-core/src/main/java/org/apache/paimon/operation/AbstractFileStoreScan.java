@@ -88,6 +88,7 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
 
     private ScanMetrics scanMetrics = null;
     private boolean dropStats;
+    @Nullable private IncrementalManifestCache incrementalManifestCache;
 
     public AbstractFileStoreScan(
             ManifestsReader manifestsReader,
@@ -224,6 +225,16 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         return this;
     }
 
+    /**
+     * Plan from the cached live files for {@link ScanMode#ALL}, and from the cached entries of the
+     * snapshot for the other modes, see {@link IncrementalManifestCache}.
+     */
+    public AbstractFileStoreScan withIncrementalManifestCache(
+            @Nullable IncrementalManifestCache incrementalManifestCache) {
+        this.incrementalManifestCache = incrementalManifestCache;
+        return this;
+    }
+
     @Nullable
     @Override
     public Integer parallelism() {
@@ -238,14 +249,52 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
     @Override
     public Plan plan() {
         long started = System.nanoTime();
-        ManifestsReader.Result manifestsResult = readManifests();
-        Snapshot snapshot = manifestsResult.snapshot;
-        List<ManifestFileMeta> manifests = manifestsResult.filteredManifests;
-
-        Iterator<ManifestEntry> iterator = readManifestEntries(manifests, false);
+        Snapshot snapshot;
+        int scannedManifests;
+        long allDataFiles;
         List<ManifestEntry> files = new ArrayList<>();
-        while (iterator.hasNext()) {
-            files.add(iterator.next());
+        if (incrementalManifestCache != null) {
+            snapshot =
+                    specifiedSnapshot == null
+                            ? snapshotManager.latestSnapshot()
+                            : specifiedSnapshot;
+            scannedManifests = 0;
+            allDataFiles = 0;
+            if (snapshot != null && scanMode == ScanMode.ALL) {
+                IncrementalManifestCache.LiveFiles liveFiles =
+                        incrementalManifestCache.read(snapshot);
+                // report the manifests served by the cache, as if they were scanned
+                scannedManifests = liveFiles.numManifests();
+                allDataFiles = liveFiles.fileCount();
+                files = filterLiveFiles(liveFiles);
+            } else if (snapshot != null) {
+                IncrementalManifestCache.SnapshotEntries entries =
+                        scanMode == ScanMode.DELTA
+                                ? incrementalManifestCache.readDelta(snapshot)
+                                : incrementalManifestCache.readChangelog(snapshot);
+                scannedManifests = entries.numManifests();
+                allDataFiles = entries.fileCount();
+                files = filterSnapshotEntries(entries);
+            }
+        } else {
+            ManifestsReader.Result manifestsResult = readManifests();
+            snapshot = manifestsResult.snapshot;
+            List<ManifestFileMeta> manifests = manifestsResult.filteredManifests;
+            scannedManifests = manifests.size();
+            allDataFiles =
+                    manifestsResult.allManifests.stream()
+                            .mapToLong(f -> f.numAddedFiles() - f.numDeletedFiles())
+                            .sum();
+
+            Iterator<ManifestEntry> iterator = readManifestEntries(manifests, false);
+            while (iterator.hasNext()) {
+                files.add(iterator.next());
+            }
+        }
+
+        if (scanMode == ScanMode.ALL) {
+            // delta and changelog scans are planned for every snapshot, don't read index files
+            files = filterByIndexFiles(files);
         }
 
         if (wholeBucketFilterEnabled()) {
@@ -272,14 +321,10 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
 
         long scanDuration = (System.nanoTime() - started) / 1_000_000;
         if (scanMetrics != null) {
-            long allDataFiles =
-                    manifestsResult.allManifests.stream()
-                            .mapToLong(f -> f.numAddedFiles() - f.numDeletedFiles())
-                            .sum();
             scanMetrics.reportScan(
                     new ScanStats(
                             scanDuration,
-                            manifests.size(),
+                            scannedManifests,
                             allDataFiles - result.size(),
                             result.size()));
         }
@@ -401,6 +446,57 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         return manifestsReader.read(specifiedSnapshot, scanMode);
     }
 
+    /** Apply the filters of this scan to the cached live files, whole buckets are skipped first. */
+    private List<ManifestEntry> filterLiveFiles(IncrementalManifestCache.LiveFiles liveFiles) {
+        PartitionPredicate partitionFilter = manifestsReader.partitionFilter();
+        List<ManifestEntry> result = new ArrayList<>();
+        for (Map.Entry<BinaryRow, Map<Integer, Map<Identifier, ManifestEntry>>> partition :
+                liveFiles.files().entrySet()) {
+            if (partitionFilter != null && !partitionFilter.test(partition.getKey())) {
+                continue;
+            }
+
+            for (Map.Entry<Integer, Map<Identifier, ManifestEntry>> bucket :
+                    partition.getValue().entrySet()) {
+                if (!filterBucket(bucket.getKey())) {
+                    continue;
+                }
+
+                for (ManifestEntry entry : bucket.getValue().values()) {
+                    if (filterCachedEntry(entry)) {
+                        result.add(dropStats ? dropStats(entry) : entry);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /** Apply the filters of this scan to the cached entries of a snapshot, keeping their order. */
+    private List<ManifestEntry> filterSnapshotEntries(
+            IncrementalManifestCache.SnapshotEntries entries) {
+        PartitionPredicate partitionFilter = manifestsReader.partitionFilter();
+        List<ManifestEntry> result = new ArrayList<>();
+        for (ManifestEntry entry : entries.entries()) {
+            if ((partitionFilter == null || partitionFilter.test(entry.partition()))
+                    && filterBucket(entry.bucket())
+                    && filterCachedEntry(entry)) {
+                result.add(dropStats ? dropStats(entry) : entry);
+            }
+        }
+        return result;
+    }
+
+    /** Filters of a cached entry except partition and bucket, same as {@link #readManifest}. */
+    private boolean filterCachedEntry(ManifestEntry entry) {
+        return (totalAwareBucketFilter == null
+                        || totalAwareBucketFilter.test(entry.bucket(), entry.totalBuckets()))
+                && filterLevel(entry.level())
+                && (fileNameFilter == null || fileNameFilter.test(entry.file().fileName()))
+                && (manifestEntryFilter == null || manifestEntryFilter.test(entry))
+                && filterByStats(entry);
+    }
+
     // ------------------------------------------------------------------------
     // Start Thread Safe Methods: The following methods need to be thread safe because they will be
     // called by multiple threads
@@ -415,6 +511,14 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
     /** Note: Keep this thread-safe. */
     protected abstract boolean filterByStats(ManifestEntry entry);
 
+    /**
+     * Filter the files by their file index files, which are not embedded in manifests. Only called
+     * for {@link ScanMode#ALL} scans.
+     */
+    protected List<ManifestEntry> filterByIndexFiles(List<ManifestEntry> entries) {
+        return entries;
+    }
+
     protected boolean wholeBucketFilterEnabled() {
         return false;
     }
@@ -481,15 +585,7 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
             }
 
             int bucket = bucketGetter.apply(row);
-            if (onlyReadRealBuckets && bucket < 0) {
-                return false;
-            }
-
-            if (specifiedBucket != null && bucket != specifiedBucket) {
-                return false;
-            }
-
-            if (bucketFilter != null && !bucketFilter.test(bucket)) {
+            if (!filterBucket(bucket)) {
                 return false;
             }
 
@@ -498,12 +594,7 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
                 return false;
             }
 
-            int level = levelGetter.apply(row);
-            if (specifiedLevel != null && level != specifiedLevel) {
-                return false;
-            }
-
-            if (levelFilter != null && !levelFilter.test(level)) {
+            if (!filterLevel(levelGetter.apply(row))) {
                 return false;
             }
 
@@ -511,6 +602,28 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         };
     }
 
+    /** Note: Keep this thread-safe. */
+    private boolean filterBucket(int bucket) {
+        if (onlyReadRealBuckets && bucket < 0) {
+            return false;
+        }
+
+        if (specifiedBucket != null && bucket != specifiedBucket) {
+            return false;
+        }
+
+        return bucketFilter == null || bucketFilter.test(bucket);
+    }
+
+    /** Note: Keep this thread-safe. */
+    private boolean filterLevel(int level) {
+        if (specifiedLevel != null && level != specifiedLevel) {
+            return false;
+        }
+
+        return levelFilter == null || levelFilter.test(level);
+    }
+
     // ------------------------------------------------------------------------
     // End Thread Safe Methods
     // ------------------------------------------------------------------------
@@ -23,12 +23,14 @@ import org.apache.paimon.KeyValue;
 import org.apache.paimon.Snapshot;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.compact.CompactDeletionFile;
+import org.apache.paimon.compact.PrioritizedCompactExecutor;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.deletionvectors.DeletionVectorsMaintainer;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.index.DynamicBucketIndexMaintainer;
 import org.apache.paimon.index.IndexFileHandler;
 import org.apache.paimon.index.IndexFileMeta;
+import org.apache.paimon.index.KeyIndexMaintainer;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.IndexIncrement;
 import org.apache.paimon.memory.MemoryPoolFactory;
@@ -74,8 +76,10 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
     private final int writerNumberMax;
     @Nullable private final DynamicBucketIndexMaintainer.Factory dbMaintainerFactory;
     @Nullable private final DeletionVectorsMaintainer.Factory dvMaintainerFactory;
+    @Nullable private final KeyIndexMaintainer.Factory keyIndexMaintainerFactory;
     private final int numBuckets;
     private final RowType partitionType;
+    @Nullable private final Integer sharedCompactionThreadNum;
 
     @Nullable protected IOManager ioManager;
 
@@ -97,6 +101,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
             FileStoreScan scan,
             @Nullable DynamicBucketIndexMaintainer.Factory dbMaintainerFactory,
             @Nullable DeletionVectorsMaintainer.Factory dvMaintainerFactory,
+            @Nullable KeyIndexMaintainer.Factory keyIndexMaintainerFactory,
             String tableName,
             CoreOptions options,
             RowType partitionType) {
@@ -109,12 +114,14 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
         this.restore = new FileSystemWriteRestore(options, snapshotManager, scan, indexFileHandler);
         this.dbMaintainerFactory = dbMaintainerFactory;
         this.dvMaintainerFactory = dvMaintainerFactory;
+        this.keyIndexMaintainerFactory = keyIndexMaintainerFactory;
         this.numBuckets = options.bucket();
         this.partitionType = partitionType;
         this.writers = new HashMap<>();
         this.tableName = tableName;
         this.writerNumberMax = options.writeMaxWritersToSpill();
         this.legacyPartitionName = options.legacyPartitionName();
+        this.sharedCompactionThreadNum = options.compactionSharedExecutorThreadNum();
     }
 
     @Override
@@ -157,6 +164,9 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
         if (container.dynamicBucketMaintainer != null) {
             container.dynamicBucketMaintainer.notifyNewRecord((KeyValue) data);
         }
+        if (container.keyIndexMaintainer != null) {
+            container.keyIndexMaintainer.notifyNewRecord((KeyValue) data);
+        }
     }
 
     @Override
@@ -215,12 +225,21 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
 
                 CommitIncrement increment = writerContainer.writer.prepareCommit(waitCompaction);
                 List<IndexFileMeta> newIndexFiles = new ArrayList<>();
+                List<IndexFileMeta> deletedIndexFiles = new ArrayList<>();
                 if (writerContainer.dynamicBucketMaintainer != null) {
                     newIndexFiles.addAll(writerContainer.dynamicBucketMaintainer.prepareCommit());
                 }
+                if (writerContainer.keyIndexMaintainer != null) {
+                    IndexIncrement keyIncrement =
+                            writerContainer.keyIndexMaintainer.prepareCommit();
+                    newIndexFiles.addAll(keyIncrement.newIndexFiles());
+                    deletedIndexFiles.addAll(keyIncrement.deletedIndexFiles());
+                }
                 CompactDeletionFile compactDeletionFile = increment.compactDeletionFile();
                 if (compactDeletionFile != null) {
-                    compactDeletionFile.getOrCompute().ifPresent(newIndexFiles::add);
+                    IndexIncrement deletionIncrement = compactDeletionFile.getOrCompute();
+                    newIndexFiles.addAll(deletionIncrement.newIndexFiles());
+                    deletedIndexFiles.addAll(deletionIncrement.deletedIndexFiles());
                 }
                 CommitMessageImpl committable =
                         new CommitMessageImpl(
@@ -229,7 +248,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
                                 writerContainer.totalBuckets,
                                 increment.newFilesIncrement(),
                                 increment.compactIncrement(),
-                                new IndexIncrement(newIndexFiles));
+                                new IndexIncrement(newIndexFiles, deletedIndexFiles));
                 result.add(committable);
 
                 if (committable.isEmpty()) {
@@ -350,6 +369,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
                                 writerContainer.writer.maxSequenceNumber(),
                                 writerContainer.dynamicBucketMaintainer,
                                 writerContainer.deletionVectorsMaintainer,
+                                writerContainer.keyIndexMaintainer,
                                 increment));
             }
         }
@@ -379,6 +399,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
                             state.totalBuckets,
                             state.indexMaintainer,
                             state.deletionVectorsMaintainer,
+                            state.keyIndexMaintainer,
                             state.baseSnapshotId);
             writerContainer.lastModifiedCommitIdentifier = state.lastModifiedCommitIdentifier;
             writers.computeIfAbsent(state.partition, k -> new HashMap<>())
@@ -442,6 +463,11 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
         if (restoreFiles == null) {
             restoreFiles = new ArrayList<>();
         }
+        KeyIndexMaintainer keyIndexMaintainer =
+                keyIndexMaintainerFactory == null
+                        ? null
+                        : keyIndexMaintainerFactory.create(
+                                restored.snapshot(), partition, bucket, restoreFiles);
         RecordWriter<T> writer =
                 createWriter(
                         partition.copy(),
@@ -459,6 +485,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
                 firstNonNull(restored.totalBuckets(), numBuckets),
                 indexMaintainer,
                 dvMaintainer,
+                keyIndexMaintainer,
                 previousSnapshot == null ? null : previousSnapshot.id());
     }
 
@@ -470,6 +497,10 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
     @Override
     public FileStoreWrite<T> withMetricRegistry(MetricRegistry metricRegistry) {
         this.compactionMetrics = new CompactionMetrics(metricRegistry, tableName);
+        if (sharedCompactionThreadNum != null) {
+            compactionMetrics.registerExecutorQueueSize(
+                    PrioritizedCompactExecutor::sharedQueueSize);
+        }
         return this;
     }
 
@@ -506,10 +537,16 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
 
     private ExecutorService compactExecutor() {
         if (lazyCompactExecutor == null) {
-            lazyCompactExecutor =
-                    Executors.newSingleThreadScheduledExecutor(
-                            new ExecutorThreadFactory(
-                                    Thread.currentThread().getName() + "-compaction"));
+            if (sharedCompactionThreadNum != null) {
+                // shutting down the reference on close releases it
+                lazyCompactExecutor =
+                        PrioritizedCompactExecutor.acquireShared(sharedCompactionThreadNum);
+            } else {
+                lazyCompactExecutor =
+                        Executors.newSingleThreadScheduledExecutor(
+                                new ExecutorThreadFactory(
+                                        Thread.currentThread().getName() + "-compaction"));
+            }
         }
         return lazyCompactExecutor;
     }
@@ -543,6 +580,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
         public final int totalBuckets;
         @Nullable public final DynamicBucketIndexMaintainer dynamicBucketMaintainer;
         @Nullable public final DeletionVectorsMaintainer deletionVectorsMaintainer;
+        @Nullable public final KeyIndexMaintainer keyIndexMaintainer;
         protected final long baseSnapshotId;
         protected long lastModifiedCommitIdentifier;
 
@@ -551,11 +589,13 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
                 int totalBuckets,
                 @Nullable DynamicBucketIndexMaintainer dynamicBucketMaintainer,
                 @Nullable DeletionVectorsMaintainer deletionVectorsMaintainer,
+                @Nullable KeyIndexMaintainer keyIndexMaintainer,
                 Long baseSnapshotId) {
             this.writer = writer;
             this.totalBuckets = totalBuckets;
             this.dynamicBucketMaintainer = dynamicBucketMaintainer;
             this.deletionVectorsMaintainer = deletionVectorsMaintainer;
+            this.keyIndexMaintainer = keyIndexMaintainer;
             this.baseSnapshotId =
                     baseSnapshotId == null ? Snapshot.FIRST_SNAPSHOT_ID - 1 : baseSnapshotId;
             this.lastModifiedCommitIdentifier = Long.MIN_VALUE;
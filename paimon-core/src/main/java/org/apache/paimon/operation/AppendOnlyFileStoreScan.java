@@ -20,6 +20,9 @@ package org.apache.paimon.operation;
 
 import org.apache.paimon.AppendOnlyFileStore;
 import org.apache.paimon.fileindex.FileIndexPredicate;
+import org.apache.paimon.io.CachingFileIndexReader;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.manifest.FileKind;
 import org.apache.paimon.manifest.ManifestEntry;
 import org.apache.paimon.manifest.ManifestFile;
 import org.apache.paimon.predicate.Predicate;
@@ -33,9 +36,18 @@ import org.apache.paimon.utils.SnapshotManager;
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.apache.paimon.predicate.PredicateBuilder.containsFields;
+import static org.apache.paimon.utils.ManifestReadThreadPool.sequentialBatchedExecute;
+
 /** {@link FileStoreScan} for {@link AppendOnlyFileStore}. */
 public class AppendOnlyFileStoreScan extends AbstractFileStoreScan {
 
@@ -46,6 +58,9 @@ public class AppendOnlyFileStoreScan extends AbstractFileStoreScan {
 
     private Predicate filter;
 
+    @Nullable private CachingFileIndexReader fileIndexReader;
+    private Set<String> fileIndexColumns = Collections.emptySet();
+
     // just cache.
     private final Map<Long, Predicate> dataFilterMapping = new ConcurrentHashMap<>();
 
@@ -77,6 +92,18 @@ public class AppendOnlyFileStoreScan extends AbstractFileStoreScan {
         return this;
     }
 
+    /**
+     * Evaluate the file index files which are not embedded in manifests when planning, they are
+     * read in parallel through the given reader. Index files are only read when the filter
+     * references one of the given indexed columns.
+     */
+    public AppendOnlyFileStoreScan withFileIndexReader(
+            @Nullable CachingFileIndexReader fileIndexReader, Set<String> fileIndexColumns) {
+        this.fileIndexReader = fileIndexReader;
+        this.fileIndexColumns = fileIndexColumns;
+        return this;
+    }
+
     /** Note: Keep this thread-safe. */
     @Override
     protected boolean filterByStats(ManifestEntry entry) {
@@ -99,8 +126,42 @@ public class AppendOnlyFileStoreScan extends AbstractFileStoreScan {
                 && (!fileIndexReadEnabled || testFileIndex(entry.file().embeddedIndex(), entry));
     }
 
-    private boolean testFileIndex(@Nullable byte[] embeddedIndexBytes, ManifestEntry entry) {
-        if (embeddedIndexBytes == null) {
+    @Override
+    protected List<ManifestEntry> filterByIndexFiles(List<ManifestEntry> entries) {
+        if (filter == null
+                || fileIndexReader == null
+                || !containsFields(filter, fileIndexColumns)) {
+            return entries;
+        }
+
+        List<ManifestEntry> result = new ArrayList<>(entries.size());
+        sequentialBatchedExecute(
+                        entry -> testIndexFile(entry) ? singletonList(entry) : emptyList(),
+                        entries,
+                        parallelism())
+                .forEach(result::add);
+        return result;
+    }
+
+    private boolean testIndexFile(ManifestEntry entry) {
+        DataFileMeta file = entry.file();
+        if (entry.kind() != FileKind.ADD || file.embeddedIndex() != null) {
+            // the index file of a deleted file may be gone, and embedded index is already tested
+            // in filterByStats
+            return true;
+        }
+
+        byte[] indexBytes;
+        try {
+            indexBytes = fileIndexReader.read(entry.partition(), entry.bucket(), file);
+        } catch (IOException e) {
+            throw new RuntimeException("Exception happens while reading file index.", e);
+        }
+        return testFileIndex(indexBytes, entry);
+    }
+
+    private boolean testFileIndex(@Nullable byte[] indexBytes, ManifestEntry entry) {
+        if (indexBytes == null) {
             return true;
         }
 
@@ -113,8 +174,7 @@ public class AppendOnlyFileStoreScan extends AbstractFileStoreScan {
                                 simpleStatsEvolutions.tryDevolveFilter(
                                         entry.file().schemaId(), filter));
 
-        try (FileIndexPredicate predicate =
-                new FileIndexPredicate(embeddedIndexBytes, dataRowType)) {
+        try (FileIndexPredicate predicate = new FileIndexPredicate(indexBytes, dataRowType)) {
             return predicate.evaluate(dataPredicate).remain();
         } catch (IOException e) {
             throw new RuntimeException("Exception happens while checking predicate.", e);
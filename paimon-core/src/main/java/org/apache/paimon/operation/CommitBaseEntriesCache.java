@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation;
+
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.manifest.FileEntry.Identifier;
+import org.apache.paimon.manifest.FileKind;
+import org.apache.paimon.manifest.SimpleFileEntry;
+import org.apache.paimon.utils.Pair;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Live files of some partitions at a snapshot, grouped by partition and bucket. {@link
+ * FileStoreCommitImpl} keeps the partitions changed by its last commit here, so that the next
+ * conflict check only needs to apply the delta manifests of the snapshots committed since then.
+ *
+ * <p>NOTE: This class is not thread safe.
+ */
+class CommitBaseEntriesCache {
+
+    private final Map<BinaryRow, Map<Integer, Map<Identifier, SimpleFileEntry>>> partitions;
+
+    private long snapshotId;
+    @Nullable private String deltaManifestList;
+
+    CommitBaseEntriesCache() {
+        this.partitions = new HashMap<>();
+        this.snapshotId = -1;
+    }
+
+    /** Whether the cached files are the files of this snapshot. */
+    boolean isSnapshot(Snapshot snapshot) {
+        // snapshot id may be reused after rollback, compare the manifest list too
+        return snapshot.id() == snapshotId
+                && Objects.equals(snapshot.deltaManifestList(), deltaManifestList);
+    }
+
+    long snapshotId() {
+        return snapshotId;
+    }
+
+    Set<BinaryRow> partitions() {
+        return partitions.keySet();
+    }
+
+    boolean contains(BinaryRow partition) {
+        return partitions.containsKey(partition);
+    }
+
+    /** Drop all cached files and start caching for the given snapshot. */
+    void reset(Snapshot snapshot) {
+        partitions.clear();
+        setSnapshot(snapshot);
+    }
+
+    /** Only keep the given partitions, files of other partitions are dropped. */
+    void retain(Collection<BinaryRow> retained) {
+        partitions.keySet().retainAll(new HashSet<>(retained));
+    }
+
+    /**
+     * Add all live files of a partition which is not cached yet. Partitions without files are
+     * cached too.
+     */
+    void addPartitions(Collection<BinaryRow> added, Collection<SimpleFileEntry> entries) {
+        for (BinaryRow partition : added) {
+            partitions.putIfAbsent(partition, new HashMap<>());
+        }
+        apply(entries);
+    }
+
+    /**
+     * Apply changes of the snapshots after the cached one, changes of partitions which are not
+     * cached are ignored.
+     */
+    void advance(Snapshot snapshot, Collection<SimpleFileEntry> changes) {
+        apply(changes);
+        setSnapshot(snapshot);
+    }
+
+    /** Returns cached files of the given partitions, only files of the given buckets if present. */
+    List<SimpleFileEntry> entries(
+            Collection<BinaryRow> wanted, @Nullable Set<Pair<BinaryRow, Integer>> buckets) {
+        List<SimpleFileEntry> result = new ArrayList<>();
+        for (BinaryRow partition : wanted) {
+            Map<Integer, Map<Identifier, SimpleFileEntry>> partitionFiles =
+                    partitions.get(partition);
+            if (partitionFiles == null) {
+                continue;
+            }
+
+            for (Map.Entry<Integer, Map<Identifier, SimpleFileEntry>> bucket :
+                    partitionFiles.entrySet()) {
+                if (buckets == null || buckets.contains(Pair.of(partition, bucket.getKey()))) {
+                    result.addAll(bucket.getValue().values());
+                }
+            }
+        }
+        return result;
+    }
+
+    private void apply(Collection<SimpleFileEntry> changes) {
+        for (SimpleFileEntry entry : changes) {
+            Map<Integer, Map<Identifier, SimpleFileEntry>> partitionFiles =
+                    partitions.get(entry.partition());
+            if (partitionFiles == null) {
+                continue;
+            }
+
+            if (entry.kind() == FileKind.ADD) {
+                partitionFiles
+                        .computeIfAbsent(entry.bucket(), k -> new LinkedHashMap<>())
+                        .put(entry.identifier(), entry);
+            } else {
+                Map<Identifier, SimpleFileEntry> bucketFiles = partitionFiles.get(entry.bucket());
+                if (bucketFiles != null) {
+                    bucketFiles.remove(entry.identifier());
+                    if (bucketFiles.isEmpty()) {
+                        partitionFiles.remove(entry.bucket());
+                    }
+                }
+            }
+        }
+    }
+
+    private void setSnapshot(Snapshot snapshot) {
+        this.snapshotId = snapshot.id();
+        this.deltaManifestList = snapshot.deltaManifestList();
+    }
+}
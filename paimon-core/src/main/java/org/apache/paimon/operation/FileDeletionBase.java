@@ -43,6 +43,8 @@ import org.apache.paimon.utils.SnapshotManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -81,8 +83,11 @@ public abstract class FileDeletionBase<T extends Snapshot> {
     /** Used to record which tag is cached. */
     private long cachedTag = 0;
 
-    /** Used to cache data files used by current tag. */
-    private final Map<BinaryRow, Map<Integer, Set<String>>> cachedTagDataFiles = new HashMap<>();
+    /**
+     * Used to cache data files used by current tag. It is replaced instead of cleared when the tag
+     * changes, because skippers created for previous tag may be still in use.
+     */
+    private Map<BinaryRow, Map<Integer, Set<String>>> cachedTagDataFiles = new HashMap<>();
 
     public FileDeletionBase(
             FileIO fileIO,
@@ -172,32 +177,82 @@ public abstract class FileDeletionBase<T extends Snapshot> {
     }
 
     public void cleanUnusedDataFiles(String manifestList, Predicate<ExpireFileEntry> skipper) {
-        // try read manifests
-        List<ManifestFileMeta> manifests = tryReadManifestList(manifestList);
-        List<ExpireFileEntry> manifestEntries;
-        // data file path -> (original manifest entry, extra file paths)
-        Map<Path, Pair<ExpireFileEntry, List<Path>>> dataFileToDelete = new HashMap<>();
+        cleanUnusedDataFilesInBatch(Collections.singletonList(Pair.of(manifestList, skipper)));
+    }
+
+    /**
+     * Clean unused data files of multiple manifest lists. Manifests of different manifest lists are
+     * read concurrently, then the data files to delete are merged and deleted together.
+     *
+     * @param manifestListAndSkippers manifest lists and their skippers, see {@link
+     *     #cleanUnusedDataFiles(String, Predicate)}
+     */
+    protected void cleanUnusedDataFilesInBatch(
+            List<Pair<String, Predicate<ExpireFileEntry>>> manifestListAndSkippers) {
+        List<CompletableFuture<List<ExpireFileEntry>>> readFutures =
+                new ArrayList<>(manifestListAndSkippers.size());
+        for (Pair<String, Predicate<ExpireFileEntry>> pair : manifestListAndSkippers) {
+            readFutures.add(
+                    manifestListAndSkippers.size() == 1
+                            ? CompletableFuture.completedFuture(
+                                    tryReadDataFileEntries(pair.getLeft()))
+                            : CompletableFuture.supplyAsync(
+                                    () -> tryReadDataFileEntries(pair.getLeft()),
+                                    deleteFileExecutor));
+        }
+
+        List<Path> actualDataFileToDelete = new ArrayList<>();
+        for (int i = 0; i < manifestListAndSkippers.size(); i++) {
+            List<ExpireFileEntry> manifestEntries = readFutures.get(i).join();
+            if (manifestEntries == null) {
+                continue;
+            }
+
+            // data file path -> (original manifest entry, extra file paths)
+            Map<Path, Pair<ExpireFileEntry, List<Path>>> dataFileToDelete = new HashMap<>();
+            getDataFileToDelete(dataFileToDelete, manifestEntries);
+            collectDataFileToDelete(
+                    dataFileToDelete,
+                    manifestListAndSkippers.get(i).getRight(),
+                    actualDataFileToDelete);
+        }
+        deletePaths(actualDataFileToDelete);
+    }
+
+    /**
+     * Read all entries of the manifest list. Returns null if failed to read some manifests, then
+     * the deletion of the manifest list should be canceled.
+     */
+    @Nullable
+    private List<ExpireFileEntry> tryReadDataFileEntries(String manifestListName) {
+        List<ManifestFileMeta> manifests = tryReadManifestList(manifestListName);
+        List<ExpireFileEntry> manifestEntries = new ArrayList<>();
         for (ManifestFileMeta manifest : manifests) {
             try {
-                manifestEntries =
+                manifestEntries.addAll(
                         manifestFile.readExpireFileEntries(
-                                manifest.fileName(), manifest.fileSize());
+                                manifest.fileName(), manifest.fileSize()));
             } catch (Exception e) {
                 // cancel deletion if any exception occurs
                 LOG.warn("Failed to read some manifest files. Cancel deletion.", e);
-                return;
+                return null;
             }
-
-            getDataFileToDelete(dataFileToDelete, manifestEntries);
         }
-
-        doCleanUnusedDataFile(dataFileToDelete, skipper);
+        return manifestEntries;
     }
 
     protected void doCleanUnusedDataFile(
             Map<Path, Pair<ExpireFileEntry, List<Path>>> dataFileToDelete,
             Predicate<ExpireFileEntry> skipper) {
         List<Path> actualDataFileToDelete = new ArrayList<>();
+        collectDataFileToDelete(dataFileToDelete, skipper, actualDataFileToDelete);
+        deletePaths(actualDataFileToDelete);
+    }
+
+    private void collectDataFileToDelete(
+            Map<Path, Pair<ExpireFileEntry, List<Path>>> dataFileToDelete,
+            Predicate<ExpireFileEntry> skipper,
+            List<Path> actualDataFileToDelete) {
         dataFileToDelete.forEach(
                 (path, pair) -> {
                     ExpireFileEntry entry = pair.getLeft();
@@ -210,7 +265,6 @@ public abstract class FileDeletionBase<T extends Snapshot> {
                         recordDeletionBuckets(entry);
                     }
                 });
-        deleteFiles(actualDataFileToDelete, fileIO::deleteQuietly);
     }
 
     protected void getDataFileToDelete(
@@ -272,7 +326,7 @@ public abstract class FileDeletionBase<T extends Snapshot> {
                 recordDeletionBuckets(entry);
             }
         }
-        deleteFiles(dataFileToDelete, fileIO::deleteQuietly);
+        deletePaths(dataFileToDelete);
     }
 
     public void cleanUnusedStatisticsManifests(Snapshot snapshot, Set<String> skippingSet) {
@@ -341,12 +395,13 @@ public abstract class FileDeletionBase<T extends Snapshot> {
             Snapshot previousTag = taggedSnapshots.get(index);
             if (previousTag.id() != cachedTag) {
                 cachedTag = 0;
-                cachedTagDataFiles.clear();
+                cachedTagDataFiles = new HashMap<>();
                 addMergedDataFiles(cachedTagDataFiles, previousTag);
                 // update cachedTag after read tag successfully
                 cachedTag = previousTag.id();
             }
-            return entry -> containsDataFile(cachedTagDataFiles, entry);
+            Map<BinaryRow, Map<Integer, Set<String>>> tagDataFiles = cachedTagDataFiles;
+            return entry -> containsDataFile(tagDataFiles, entry);
         }
         return entry -> false;
     }
@@ -451,6 +506,24 @@ public abstract class FileDeletionBase<T extends Snapshot> {
         }
     }
 
+    /**
+     * Delete files concurrently. If the {@link FileIO} supports bulk delete, each request deletes a
+     * batch of files.
+     */
+    protected void deletePaths(List<Path> files) {
+        int bulkDeleteLimit = fileIO.bulkDeleteLimit();
+        if (bulkDeleteLimit <= 1) {
+            deleteFiles(files, fileIO::deleteQuietly);
+            return;
+        }
+
+        List<List<Path>> batches = new ArrayList<>();
+        for (int i = 0; i < files.size(); i += bulkDeleteLimit) {
+            batches.add(files.subList(i, Math.min(i + bulkDeleteLimit, files.size())));
+        }
+        deleteFiles(batches, fileIO::deleteFilesQuietly);
+    }
+
     protected <F> void deleteFiles(Collection<F> files, Consumer<F> deletion) {
         if (files.isEmpty()) {
             return;
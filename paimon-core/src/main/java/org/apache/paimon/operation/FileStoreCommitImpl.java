@@ -67,6 +67,7 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 
+import java.io.FileNotFoundException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -84,6 +85,7 @@ import java.util.stream.Collectors;
 import static java.util.Collections.emptyList;
 import static org.apache.paimon.deletionvectors.DeletionVectorsIndexFile.DELETION_VECTORS_INDEX;
 import static org.apache.paimon.index.HashIndexFile.HASH_INDEX;
+import static org.apache.paimon.index.KeyIndexFile.KEY_INDEX;
 import static org.apache.paimon.manifest.ManifestEntry.recordCount;
 import static org.apache.paimon.manifest.ManifestEntry.recordCountAdd;
 import static org.apache.paimon.manifest.ManifestEntry.recordCountDelete;
@@ -143,6 +145,9 @@ public class FileStoreCommitImpl implements FileStoreCommit {
     private final int commitMaxRetries;
     @Nullable private Long strictModeLastSafeSnapshot;
     private final InternalRowPartitionComputer partitionComputer;
+    @Nullable private final CommitBaseEntriesCache baseEntriesCache;
+    private final boolean incrementalDeletionVectors;
+    private final int conflictCheckMaxDeltaSnapshots;
 
     private boolean ignoreEmptyCommit;
     private CommitMetrics commitMetrics;
@@ -213,6 +218,14 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                         partitionType.getFieldNames().toArray(new String[0]),
                         options.legacyPartitionName());
 
+        this.baseEntriesCache =
+                options.commitIncrementalConflictCheckEnabled()
+                        ? new CommitBaseEntriesCache()
+                        : null;
+        this.conflictCheckMaxDeltaSnapshots =
+                options.commitIncrementalConflictCheckMaxDeltaSnapshots();
+        this.incrementalDeletionVectors = options.deletionVectorIndexFileMaxDeltaNum() > 0;
+
         this.ignoreEmptyCommit = true;
         this.commitMetrics = null;
         this.statsFileHandler = statsFileHandler;
@@ -283,7 +296,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         List<ManifestEntry> appendChangelog = new ArrayList<>();
         List<ManifestEntry> compactTableFiles = new ArrayList<>();
         List<ManifestEntry> compactChangelog = new ArrayList<>();
-        List<IndexManifestEntry> appendHashIndexFiles = new ArrayList<>();
+        List<IndexManifestEntry> appendIndexFiles = new ArrayList<>();
         List<IndexManifestEntry> compactDvIndexFiles = new ArrayList<>();
         collectChanges(
                 committable.fileCommittables(),
@@ -291,14 +304,14 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                 appendChangelog,
                 compactTableFiles,
                 compactChangelog,
-                appendHashIndexFiles,
+                appendIndexFiles,
                 compactDvIndexFiles);
         try {
             List<SimpleFileEntry> appendSimpleEntries = SimpleFileEntry.from(appendTableFiles);
             if (!ignoreEmptyCommit
                     || !appendTableFiles.isEmpty()
                     || !appendChangelog.isEmpty()
-                    || !appendHashIndexFiles.isEmpty()) {
+                    || !appendIndexFiles.isEmpty()) {
                 // Optimization for common path.
                 // Step 1:
                 // Read manifest entries from changed partitions here and check for conflicts.
@@ -311,8 +324,10 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                     // it is possible that some partitions only have compact changes,
                     // so we need to contain all changes
                     baseEntries.addAll(
-                            readAllEntriesFromChangedPartitions(
-                                    latestSnapshot, appendTableFiles, compactTableFiles));
+                            readBaseEntries(
+                                    latestSnapshot,
+                                    changedPartitions(appendTableFiles, compactTableFiles),
+                                    null));
                     noConflictsOrFail(
                             latestSnapshot.commitUser(),
                             baseEntries,
@@ -325,7 +340,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                         tryCommit(
                                 appendTableFiles,
                                 appendChangelog,
-                                appendHashIndexFiles,
+                                appendIndexFiles,
                                 committable.identifier(),
                                 committable.watermark(),
                                 committable.logOffsets(),
@@ -431,7 +446,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         List<ManifestEntry> appendChangelog = new ArrayList<>();
         List<ManifestEntry> compactTableFiles = new ArrayList<>();
         List<ManifestEntry> compactChangelog = new ArrayList<>();
-        List<IndexManifestEntry> appendHashIndexFiles = new ArrayList<>();
+        List<IndexManifestEntry> appendIndexFiles = new ArrayList<>();
         List<IndexManifestEntry> compactDvIndexFiles = new ArrayList<>();
         collectChanges(
                 committable.fileCommittables(),
@@ -439,7 +454,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                 appendChangelog,
                 compactTableFiles,
                 compactChangelog,
-                appendHashIndexFiles,
+                appendIndexFiles,
                 compactDvIndexFiles);
 
         if (!appendChangelog.isEmpty() || !compactChangelog.isEmpty()) {
@@ -500,7 +515,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                         tryOverwrite(
                                 partitionFilter,
                                 appendTableFiles,
-                                appendHashIndexFiles,
+                                appendIndexFiles,
                                 committable.identifier(),
                                 committable.watermark(),
                                 committable.logOffsets(),
@@ -648,7 +663,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             List<ManifestEntry> appendChangelog,
             List<ManifestEntry> compactTableFiles,
             List<ManifestEntry> compactChangelog,
-            List<IndexManifestEntry> appendHashIndexFiles,
+            List<IndexManifestEntry> appendIndexFiles,
             List<IndexManifestEntry> compactDvIndexFiles) {
         for (CommitMessage message : commitMessages) {
             CommitMessageImpl commitMessage = (CommitMessageImpl) message;
@@ -689,7 +704,8 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                             f -> {
                                 switch (f.indexType()) {
                                     case HASH_INDEX:
-                                        appendHashIndexFiles.add(
+                                    case KEY_INDEX:
+                                        appendIndexFiles.add(
                                                 new IndexManifestEntry(
                                                         FileKind.ADD,
                                                         commitMessage.partition(),
@@ -721,6 +737,13 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                                                     commitMessage.partition(),
                                                     commitMessage.bucket(),
                                                     f));
+                                } else if (f.indexType().equals(KEY_INDEX)) {
+                                    appendIndexFiles.add(
+                                            new IndexManifestEntry(
+                                                    FileKind.DELETE,
+                                                    commitMessage.partition(),
+                                                    commitMessage.bucket(),
+                                                    f));
                                 } else {
                                     throw new RuntimeException(
                                             "This index type is not supported to delete: "
@@ -742,8 +765,8 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             if (!compactChangelog.isEmpty()) {
                 msg.add(compactChangelog.size() + " compact Changelogs");
             }
-            if (!appendHashIndexFiles.isEmpty()) {
-                msg.add(appendHashIndexFiles.size() + " append hash index files");
+            if (!appendIndexFiles.isEmpty()) {
+                msg.add(appendIndexFiles.size() + " append index files");
             }
             if (!compactDvIndexFiles.isEmpty()) {
                 msg.add(compactDvIndexFiles.size() + " compact dv index files");
@@ -948,11 +971,20 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                             .map(ManifestEntry::partition)
                             .distinct()
                             .collect(Collectors.toList());
-            if (retryResult != null && retryResult.latestSnapshot != null) {
+            if (baseEntriesCache != null) {
+                // compaction only conflicts with the files of the buckets it changes
+                baseDataFiles =
+                        readBaseEntries(
+                                latestSnapshot,
+                                changedPartitions,
+                                commitKind == Snapshot.CommitKind.COMPACT
+                                        ? changedBuckets(deltaFiles)
+                                        : null);
+            } else if (retryResult != null && retryResult.latestSnapshot != null) {
                 baseDataFiles = new ArrayList<>(retryResult.baseDataFiles);
                 List<SimpleFileEntry> incremental =
                         readIncrementalChanges(
-                                retryResult.latestSnapshot, latestSnapshot, changedPartitions);
+                                retryResult.latestSnapshot.id(), latestSnapshot, changedPartitions);
                 if (!incremental.isEmpty()) {
                     baseDataFiles.addAll(incremental);
                     baseDataFiles = new ArrayList<>(FileEntry.mergeEntries(baseDataFiles));
@@ -1026,7 +1058,8 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             }
 
             indexManifest =
-                    indexManifestFile.writeIndexFiles(oldIndexManifest, indexFiles, bucketMode);
+                    indexManifestFile.writeIndexFiles(
+                            oldIndexManifest, indexFiles, bucketMode, incrementalDeletionVectors);
 
             long latestSchemaId =
                     schemaManager
@@ -1121,6 +1154,12 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         if (strictModeLastSafeSnapshot != null) {
             strictModeLastSafeSnapshot = newSnapshot.id();
         }
+        if (baseEntriesCache != null
+                && latestSnapshot != null
+                && baseEntriesCache.isSnapshot(latestSnapshot)) {
+            // the new snapshot is committed just after the cached one
+            baseEntriesCache.advance(newSnapshot, SimpleFileEntry.from(deltaFiles));
+        }
         commitCallbacks.forEach(callback -> callback.call(deltaFiles, indexFiles, newSnapshot));
         return new SuccessResult();
     }
@@ -1227,9 +1266,9 @@ public class FileStoreCommitImpl implements FileStoreCommit {
     }
 
     private List<SimpleFileEntry> readIncrementalChanges(
-            Snapshot from, Snapshot to, List<BinaryRow> changedPartitions) {
+            long fromSnapshotId, Snapshot to, List<BinaryRow> changedPartitions) {
         List<SimpleFileEntry> entries = new ArrayList<>();
-        for (long i = from.id() + 1; i <= to.id(); i++) {
+        for (long i = fromSnapshotId + 1; i <= to.id(); i++) {
             List<SimpleFileEntry> delta =
                     scan.withSnapshot(i)
                             .withKind(ScanMode.DELTA)
@@ -1241,15 +1280,77 @@ public class FileStoreCommitImpl implements FileStoreCommit {
     }
 
     @SafeVarargs
-    private final List<SimpleFileEntry> readAllEntriesFromChangedPartitions(
-            Snapshot snapshot, List<ManifestEntry>... changes) {
-        List<BinaryRow> changedPartitions =
-                Arrays.stream(changes)
-                        .flatMap(Collection::stream)
-                        .map(ManifestEntry::partition)
-                        .distinct()
+    private static List<BinaryRow> changedPartitions(List<ManifestEntry>... changes) {
+        return Arrays.stream(changes)
+                .flatMap(Collection::stream)
+                .map(ManifestEntry::partition)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private static Set<Pair<BinaryRow, Integer>> changedBuckets(List<ManifestEntry> changes) {
+        return changes.stream()
+                .map(entry -> Pair.of(entry.partition(), entry.bucket()))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Read the live files of the changed partitions for conflict checking. If {@link
+     * CoreOptions#COMMIT_INCREMENTAL_CONFLICT_CHECK_ENABLED} is set, cached partitions are brought
+     * up to date with the delta manifests of the snapshots committed since the last read, only
+     * partitions which are not cached are read entirely.
+     */
+    private List<SimpleFileEntry> readBaseEntries(
+            Snapshot latestSnapshot,
+            List<BinaryRow> changedPartitions,
+            @Nullable Set<Pair<BinaryRow, Integer>> changedBuckets) {
+        if (baseEntriesCache == null) {
+            return readAllEntriesFromChangedPartitions(latestSnapshot, changedPartitions);
+        }
+
+        if (!baseEntriesCache.isSnapshot(latestSnapshot)) {
+            if (canApplyIncrementalChanges(latestSnapshot)) {
+                // only keep the partitions changed by this commit
+                baseEntriesCache.retain(changedPartitions);
+                List<SimpleFileEntry> changes =
+                        baseEntriesCache.partitions().isEmpty()
+                                ? emptyList()
+                                : readIncrementalChanges(
+                                        baseEntriesCache.snapshotId(),
+                                        latestSnapshot,
+                                        new ArrayList<>(baseEntriesCache.partitions()));
+                baseEntriesCache.advance(latestSnapshot, changes);
+            } else {
+                baseEntriesCache.reset(latestSnapshot);
+            }
+        }
+
+        List<BinaryRow> missingPartitions =
+                changedPartitions.stream()
+                        .filter(partition -> !baseEntriesCache.contains(partition))
                         .collect(Collectors.toList());
-        return readAllEntriesFromChangedPartitions(snapshot, changedPartitions);
+        if (!missingPartitions.isEmpty()) {
+            baseEntriesCache.addPartitions(
+                    missingPartitions,
+                    readAllEntriesFromChangedPartitions(latestSnapshot, missingPartitions));
+        }
+        return baseEntriesCache.entries(changedPartitions, changedBuckets);
+    }
+
+    private boolean canApplyIncrementalChanges(Snapshot latestSnapshot) {
+        long cachedSnapshotId = baseEntriesCache.snapshotId();
+        if (cachedSnapshotId < Snapshot.FIRST_SNAPSHOT_ID
+                || cachedSnapshotId >= latestSnapshot.id()
+                || latestSnapshot.id() - cachedSnapshotId > conflictCheckMaxDeltaSnapshots) {
+            return false;
+        }
+
+        try {
+            // the cached snapshot may have been expired or rolled back
+            return baseEntriesCache.isSnapshot(snapshotManager.tryGetSnapshot(cachedSnapshotId));
+        } catch (FileNotFoundException e) {
+            return false;
+        }
     }
 
     private List<SimpleFileEntry> readAllEntriesFromChangedPartitions(
@@ -1266,9 +1367,15 @@ public class FileStoreCommitImpl implements FileStoreCommit {
 
     private void noConflictsOrFail(
             String baseCommitUser,
-            List<SimpleFileEntry> baseEntries,
+            List<SimpleFileEntry> allBaseEntries,
             List<SimpleFileEntry> changes,
             Snapshot.CommitKind commitKind) {
+        // compaction only rewrites files within its buckets, so other buckets never conflict
+        List<SimpleFileEntry> baseEntries =
+                commitKind == Snapshot.CommitKind.COMPACT
+                        ? filterBuckets(allBaseEntries, changes)
+                        : allBaseEntries;
+
         List<SimpleFileEntry> allEntries = new ArrayList<>(baseEntries);
         allEntries.addAll(changes);
 
@@ -1373,6 +1480,17 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         }
     }
 
+    private static List<SimpleFileEntry> filterBuckets(
+            List<SimpleFileEntry> entries, List<SimpleFileEntry> changes) {
+        Set<Pair<BinaryRow, Integer>> buckets =
+                changes.stream()
+                        .map(entry -> Pair.of(entry.partition(), entry.bucket()))
+                        .collect(Collectors.toSet());
+        return entries.stream()
+                .filter(entry -> buckets.contains(Pair.of(entry.partition(), entry.bucket())))
+                .collect(Collectors.toList());
+    }
+
     private void assertNoDelete(
             Collection<SimpleFileEntry> mergedEntries,
             java.util.function.Consumer<Throwable> conflictHandler) {
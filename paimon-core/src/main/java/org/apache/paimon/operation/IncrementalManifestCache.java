@@ -0,0 +1,322 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation;
+
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.manifest.FileEntry;
+import org.apache.paimon.manifest.FileEntry.Identifier;
+import org.apache.paimon.manifest.FileKind;
+import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.manifest.ManifestFile;
+import org.apache.paimon.manifest.ManifestFileMeta;
+import org.apache.paimon.manifest.ManifestList;
+import org.apache.paimon.utils.SnapshotManager;
+
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A cache which keeps the merged live data files of the latest planned snapshot, indexed by
+ * partition and bucket. Planning a newer snapshot only reads the delta manifests of the snapshots
+ * in between, so the cost of planning is proportional to the changes instead of the table size.
+ *
+ * <p>The entries of the delta and changelog manifests of recent snapshots are cached as well. They
+ * are shared by delta and changelog scans and by applying deltas to the live files, so a snapshot
+ * planned in several modes only reads its delta manifests once.
+ *
+ * <p>The cached files are not filtered, scans apply their own filters on them.
+ */
+@ThreadSafe
+public class IncrementalManifestCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IncrementalManifestCache.class);
+
+    private final SnapshotManager snapshotManager;
+    private final ManifestList.Factory manifestListFactory;
+    private final ManifestFile.Factory manifestFileFactory;
+    private final int maxDeltaSnapshots;
+    @Nullable private final Integer parallelism;
+
+    // keyed by the name of the delta or changelog manifest list of a snapshot
+    private final Cache<String, SnapshotEntries> snapshotEntries;
+
+    @Nullable private volatile LiveFiles cached;
+
+    public IncrementalManifestCache(
+            SnapshotManager snapshotManager,
+            ManifestList.Factory manifestListFactory,
+            ManifestFile.Factory manifestFileFactory,
+            int maxDeltaSnapshots,
+            @Nullable Integer parallelism) {
+        this.snapshotManager = snapshotManager;
+        this.manifestListFactory = manifestListFactory;
+        this.manifestFileFactory = manifestFileFactory;
+        this.maxDeltaSnapshots = maxDeltaSnapshots;
+        this.parallelism = parallelism;
+        this.snapshotEntries =
+                Caffeine.newBuilder()
+                        .maximumSize(maxDeltaSnapshots)
+                        .executor(Runnable::run)
+                        .build();
+    }
+
+    /** Read the live data files of the snapshot. */
+    public LiveFiles read(Snapshot snapshot) {
+        LiveFiles current = cached;
+        if (current != null && current.isSnapshot(snapshot)) {
+            return current;
+        }
+
+        synchronized (this) {
+            current = cached;
+            if (current != null && current.isSnapshot(snapshot)) {
+                return current;
+            }
+
+            LiveFiles result = null;
+            if (current != null
+                    && snapshot.id() > current.snapshotId
+                    && snapshot.id() - current.snapshotId <= maxDeltaSnapshots) {
+                result = applyDeltas(current, snapshot);
+            }
+            if (result == null) {
+                result = readAll(snapshot);
+            }
+
+            // only keep the latest snapshot, older snapshots are for time travel
+            if (current == null || snapshot.id() >= current.snapshotId) {
+                cached = result;
+            }
+            return result;
+        }
+    }
+
+    /** Read the entries of the delta manifests of the snapshot. */
+    public SnapshotEntries readDelta(Snapshot snapshot) {
+        return snapshotEntries.get(
+                snapshot.deltaManifestList(),
+                k -> readEntries(manifestListFactory.create().readDeltaManifests(snapshot)));
+    }
+
+    /** Read the entries of the changelog manifests of the snapshot. */
+    public SnapshotEntries readChangelog(Snapshot snapshot) {
+        if (snapshot.version() <= Snapshot.TABLE_STORE_02_VERSION) {
+            throw new UnsupportedOperationException(
+                    "Unsupported snapshot version: " + snapshot.version());
+        }
+        if (snapshot.changelogManifestList() == null) {
+            return new SnapshotEntries(Collections.emptyList(), 0);
+        }
+        return snapshotEntries.get(
+                snapshot.changelogManifestList(),
+                k -> readEntries(manifestListFactory.create().readChangelogManifests(snapshot)));
+    }
+
+    private SnapshotEntries readEntries(List<ManifestFileMeta> manifests) {
+        List<ManifestEntry> entries = new ArrayList<>();
+        for (ManifestEntry entry :
+                FileEntry.readManifestEntries(
+                        manifestFileFactory.create(), manifests, parallelism)) {
+            entries.add(entry);
+        }
+        return new SnapshotEntries(entries, manifests.size());
+    }
+
+    private LiveFiles readAll(Snapshot snapshot) {
+        List<ManifestFileMeta> manifests = manifestListFactory.create().readDataManifests(snapshot);
+        Map<Identifier, ManifestEntry> merged = new LinkedHashMap<>();
+        FileEntry.mergeEntries(manifestFileFactory.create(), manifests, merged, parallelism);
+
+        Map<BinaryRow, Map<Integer, Map<Identifier, ManifestEntry>>> files = new HashMap<>();
+        for (ManifestEntry entry : merged.values()) {
+            if (entry.kind() == FileKind.ADD) {
+                files.computeIfAbsent(entry.partition(), k -> new HashMap<>())
+                        .computeIfAbsent(entry.bucket(), k -> new LinkedHashMap<>())
+                        .put(entry.identifier(), entry);
+            }
+        }
+        return new LiveFiles(snapshot, files, manifests.size());
+    }
+
+    /**
+     * Apply the delta manifests of the snapshots after the cached one. Returns null if the
+     * snapshots in between are not available anymore or the cached snapshot has been rolled back.
+     */
+    @Nullable
+    private LiveFiles applyDeltas(LiveFiles base, Snapshot snapshot) {
+        try {
+            if (!base.isSnapshot(snapshotManager.tryGetSnapshot(base.snapshotId))) {
+                return null;
+            }
+
+            // buckets are copied on write, so that the cached files can be read concurrently
+            Map<BinaryRow, Map<Integer, Map<Identifier, ManifestEntry>>> files =
+                    new HashMap<>(base.files);
+            Set<BinaryRow> copiedPartitions = new HashSet<>();
+            Map<BinaryRow, Set<Integer>> copiedBuckets = new HashMap<>();
+            int numManifests = base.numManifests;
+            for (long id = base.snapshotId + 1; id <= snapshot.id(); id++) {
+                Snapshot delta =
+                        id == snapshot.id() ? snapshot : snapshotManager.tryGetSnapshot(id);
+                SnapshotEntries deltaEntries = readDelta(delta);
+                numManifests += deltaEntries.numManifests();
+                for (ManifestEntry entry : deltaEntries.entries()) {
+                    BinaryRow partition = entry.partition();
+                    Map<Integer, Map<Identifier, ManifestEntry>> buckets = files.get(partition);
+                    if (copiedPartitions.add(partition)) {
+                        buckets = buckets == null ? new HashMap<>() : new HashMap<>(buckets);
+                        files.put(partition, buckets);
+                    }
+
+                    Map<Identifier, ManifestEntry> bucketFiles = buckets.get(entry.bucket());
+                    if (copiedBuckets
+                            .computeIfAbsent(partition, k -> new HashSet<>())
+                            .add(entry.bucket())) {
+                        bucketFiles =
+                                bucketFiles == null
+                                        ? new LinkedHashMap<>()
+                                        : new LinkedHashMap<>(bucketFiles);
+                        buckets.put(entry.bucket(), bucketFiles);
+                    }
+
+                    if (entry.kind() == FileKind.ADD) {
+                        bucketFiles.put(entry.identifier(), entry);
+                    } else {
+                        bucketFiles.remove(entry.identifier());
+                    }
+                }
+            }
+
+            // remove empty buckets and partitions
+            for (BinaryRow partition : copiedPartitions) {
+                Map<Integer, Map<Identifier, ManifestEntry>> buckets = files.get(partition);
+                buckets.values().removeIf(Map::isEmpty);
+                if (buckets.isEmpty()) {
+                    files.remove(partition);
+                }
+            }
+            return new LiveFiles(snapshot, files, numManifests);
+        } catch (FileNotFoundException e) {
+            LOG.info(
+                    "Snapshots between {} and {} are not available, read all data manifests.",
+                    base.snapshotId,
+                    snapshot.id());
+            return null;
+        }
+    }
+
+    /** Live data files of a snapshot, grouped by partition and bucket. */
+    public static class LiveFiles {
+
+        private final long snapshotId;
+        @Nullable private final String deltaManifestList;
+        private final Map<BinaryRow, Map<Integer, Map<Identifier, ManifestEntry>>> files;
+        private final int numManifests;
+
+        private LiveFiles(
+                Snapshot snapshot,
+                Map<BinaryRow, Map<Integer, Map<Identifier, ManifestEntry>>> files,
+                int numManifests) {
+            this.snapshotId = snapshot.id();
+            this.deltaManifestList = snapshot.deltaManifestList();
+            this.files = files;
+            this.numManifests = numManifests;
+        }
+
+        private boolean isSnapshot(Snapshot snapshot) {
+            // snapshot id may be reused after rollback, compare the manifest list too
+            return snapshot.id() == snapshotId
+                    && Objects.equals(snapshot.deltaManifestList(), deltaManifestList);
+        }
+
+        public long snapshotId() {
+            return snapshotId;
+        }
+
+        public Map<BinaryRow, Map<Integer, Map<Identifier, ManifestEntry>>> files() {
+            return Collections.unmodifiableMap(files);
+        }
+
+        /**
+         * Number of data manifests whose entries are served by the cache. After applying deltas, it
+         * is the count of the base snapshot plus the delta manifests in between, manifests merged
+         * by commits in between are not subtracted.
+         */
+        public int numManifests() {
+            return numManifests;
+        }
+
+        public long fileCount() {
+            long count = 0;
+            for (Map<Integer, Map<Identifier, ManifestEntry>> buckets : files.values()) {
+                for (Map<Identifier, ManifestEntry> bucketFiles : buckets.values()) {
+                    count += bucketFiles.size();
+                }
+            }
+            return count;
+        }
+    }
+
+    /** Unmerged entries of the delta or changelog manifests of a snapshot. */
+    public static class SnapshotEntries {
+
+        private final List<ManifestEntry> entries;
+        private final int numManifests;
+
+        private SnapshotEntries(List<ManifestEntry> entries, int numManifests) {
+            this.entries = Collections.unmodifiableList(entries);
+            this.numManifests = numManifests;
+        }
+
+        public List<ManifestEntry> entries() {
+            return entries;
+        }
+
+        public int numManifests() {
+            return numManifests;
+        }
+
+        /** Number of added files minus number of deleted files. */
+        public long fileCount() {
+            long count = 0;
+            for (ManifestEntry entry : entries) {
+                count += entry.kind() == FileKind.ADD ? 1 : -1;
+            }
+            return count;
+        }
+    }
+}
@@ -21,24 +21,43 @@ package org.apache.paimon.operation;
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.catalog.Catalog;
 import org.apache.paimon.catalog.Identifier;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.fs.FileStatus;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.manifest.ManifestEntrySerializer;
 import org.apache.paimon.manifest.ManifestFile;
+import org.apache.paimon.manifest.ManifestFileMeta;
+import org.apache.paimon.metrics.MetricRegistry;
+import org.apache.paimon.operation.metrics.OrphanFilesCleanMetrics;
+import org.apache.paimon.partition.PartitionPredicate;
+import org.apache.paimon.stats.SimpleStats;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.Table;
-import org.apache.paimon.utils.Pair;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.FileStorePathFactory;
+import org.apache.paimon.utils.Filter;
+import org.apache.paimon.utils.InternalRowPartitionComputer;
+import org.apache.paimon.utils.PartitionPathUtils;
 
 import javax.annotation.Nullable;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -71,10 +90,14 @@ public class LocalOrphanFilesClean extends OrphanFilesClean {
 
     private final boolean dryRun;
 
+    private final AtomicLong deletedFilesCount = new AtomicLong(0);
+
     private final AtomicLong deletedFilesLenInBytes = new AtomicLong(0);
 
     private Set<String> candidateDeletes;
 
+    @Nullable private OrphanFilesCleanMetrics metrics;
+
     public LocalOrphanFilesClean(FileStoreTable table) {
         this(table, System.currentTimeMillis() - TimeUnit.DAYS.toMillis(1));
     }
@@ -92,15 +115,35 @@ public class LocalOrphanFilesClean extends OrphanFilesClean {
         this.dryRun = dryRun;
     }
 
+    /**
+     * Report the progress of cleaning with {@link OrphanFilesCleanMetrics}, only cleaning with
+     * {@link CoreOptions#REMOVE_ORPHAN_FILES_PER_PARTITION} reports the progress of partitions.
+     */
+    public LocalOrphanFilesClean withMetricRegistry(MetricRegistry registry) {
+        this.metrics = new OrphanFilesCleanMetrics(registry, table.name());
+        return this;
+    }
+
     public CleanOrphanFilesResult clean()
             throws IOException, ExecutionException, InterruptedException {
         List<String> branches = validBranches();
 
+        if (table.coreOptions().removeOrphanFilesPerPartition()) {
+            // only count deleted files, paths of them are not kept in memory
+            cleanSnapshotDir(
+                    branches,
+                    path -> deletedFilesCount.incrementAndGet(),
+                    deletedFilesLenInBytes::addAndGet);
+            cleanPerPartition(branches);
+            return new CleanOrphanFilesResult(
+                    deletedFilesCount.get(), deletedFilesLenInBytes.get());
+        }
+
         // specially handle to clear snapshot dir
         cleanSnapshotDir(branches, deleteFiles::add, deletedFilesLenInBytes::addAndGet);
 
         // get candidate files
-        Map<String, Pair<Path, Long>> candidates = getCandidateDeletingFiles();
+        Map<String, FileStatus> candidates = getCandidateDeletingFiles();
         if (candidates.isEmpty()) {
             return new CleanOrphanFilesResult(
                     deleteFiles.size(), deletedFilesLenInBytes.get(), deleteFiles);
@@ -115,18 +158,11 @@ public class LocalOrphanFilesClean extends OrphanFilesClean {
 
         // delete unused files
         candidateDeletes.removeAll(usedFiles);
-        candidateDeletes.stream()
-                .map(candidates::get)
-                .forEach(
-                        deleteFileInfo -> {
-                            deletedFilesLenInBytes.addAndGet(deleteFileInfo.getRight());
-                            cleanFile(deleteFileInfo.getLeft());
-                        });
         deleteFiles.addAll(
-                candidateDeletes.stream()
-                        .map(candidates::get)
-                        .map(Pair::getLeft)
-                        .collect(Collectors.toList()));
+                deleteFiles(
+                        candidateDeletes.stream()
+                                .map(candidates::get)
+                                .collect(Collectors.toList())));
         candidateDeletes.clear();
 
         // clean empty directory
@@ -138,6 +174,237 @@ public class LocalOrphanFilesClean extends OrphanFilesClean {
                 deleteFiles.size(), deletedFilesLenInBytes.get(), deleteFiles);
     }
 
+    /**
+     * Clean orphan files partition by partition. Metadata files are cleaned first. Then the data
+     * files of one partition at a time are listed, and only the manifests which may contain the
+     * partition are read to find which of the listed files are used, so memory is bounded by the
+     * largest partition instead of the whole table.
+     */
+    private void cleanPerPartition(List<String> branches) throws IOException {
+        // collect used metadata files and manifests of all branches
+        Set<String> usedMetadataFiles = ConcurrentHashMap.newKeySet();
+        Map<String, Collection<ManifestFileMeta>> branchManifests = new HashMap<>();
+        for (String branch : branches) {
+            Map<String, ManifestFileMeta> manifests = new ConcurrentHashMap<>();
+            randomlyOnlyExecute(
+                    executor,
+                    snapshot -> {
+                        try {
+                            collectWithoutDataFileWithManifestMeta(
+                                    branch,
+                                    snapshot,
+                                    usedMetadataFiles::add,
+                                    manifest ->
+                                            manifests.putIfAbsent(manifest.fileName(), manifest));
+                        } catch (IOException e) {
+                            throw new RuntimeException(e);
+                        }
+                    },
+                    safelyGetAllSnapshots(branch));
+            usedMetadataFiles.addAll(manifests.keySet());
+            branchManifests.put(branch, manifests.values());
+        }
+
+        FileStorePathFactory pathFactory = table.store().pathFactory();
+        List<Path> metadataDirs =
+                Arrays.asList(
+                        pathFactory.manifestPath(),
+                        pathFactory.indexPath(),
+                        pathFactory.statisticsPath());
+        Map<String, FileStatus> metadataCandidates = listCandidateFiles(metadataDirs);
+        metadataCandidates.keySet().removeAll(usedMetadataFiles);
+        deletedFilesCount.addAndGet(deleteFiles(metadataCandidates.values()).size());
+        usedMetadataFiles.clear();
+
+        // clean data files partition by partition
+        Map<String, List<Path>> partitionBucketDirs = new TreeMap<>();
+        for (Path bucketDir : listBucketDirs()) {
+            partitionBucketDirs
+                    .computeIfAbsent(
+                            partitionPath(bucketDir.getParent(), partitionKeysNum),
+                            k -> new ArrayList<>())
+                    .add(bucketDir);
+        }
+
+        if (metrics != null) {
+            metrics.reportTotalPartitions(partitionBucketDirs.size());
+        }
+        int cleanedPartitions = 0;
+        for (Map.Entry<String, List<Path>> entry : partitionBucketDirs.entrySet()) {
+            String partition = entry.getKey();
+            Map<String, FileStatus> candidates = listCandidateFiles(entry.getValue());
+            int deleted = 0;
+            if (!candidates.isEmpty()) {
+                candidates
+                        .keySet()
+                        .removeAll(
+                                getUsedDataFiles(branchManifests, partition, candidates.keySet()));
+                List<Path> partitionDeleteFiles = deleteFiles(candidates.values());
+                deleted = partitionDeleteFiles.size();
+                deletedFilesCount.addAndGet(deleted);
+                if (!dryRun) {
+                    cleanEmptyDataDirectory(partitionDeleteFiles);
+                }
+            }
+
+            if (metrics != null) {
+                metrics.reportCleanedPartition(
+                        deletedFilesCount.get(), deletedFilesLenInBytes.get());
+            }
+            cleanedPartitions++;
+            LOG.info(
+                    "Cleaned orphan files of partition [{}] in table [{}], {} files deleted, "
+                            + "progress: {}/{} partitions, {} files deleted in total.",
+                    partition,
+                    table.fullName(),
+                    deleted,
+                    cleanedPartitions,
+                    partitionBucketDirs.size(),
+                    deletedFilesCount.get());
+        }
+    }
+
+    /**
+     * Find which of the candidate files of the partition are used. Manifests whose partition stats
+     * can not contain the partition are skipped, and entries of other partitions are filtered out
+     * before they are deserialized.
+     */
+    private Set<String> getUsedDataFiles(
+            Map<String, Collection<ManifestFileMeta>> branchManifests,
+            String partition,
+            Set<String> candidates) {
+        PartitionPredicate partitionFilter = partitionFilter(partition);
+        Set<String> usedFiles = ConcurrentHashMap.newKeySet();
+        for (Map.Entry<String, Collection<ManifestFileMeta>> entry : branchManifests.entrySet()) {
+            ManifestFile manifestFile =
+                    table.switchToBranch(entry.getKey()).store().manifestFileFactory().create();
+            List<ManifestFileMeta> manifests =
+                    entry.getValue().stream()
+                            .filter(manifest -> mayContain(manifest, partitionFilter))
+                            .collect(Collectors.toList());
+            randomlyOnlyExecute(
+                    executor,
+                    manifest -> {
+                        Function<InternalRow, BinaryRow> partitionGetter =
+                                ManifestEntrySerializer.partitionGetter();
+                        Filter<InternalRow> rowFilter =
+                                partitionFilter == null
+                                        ? Filter.alwaysTrue()
+                                        : row -> partitionFilter.test(partitionGetter.apply(row));
+                        try {
+                            retryReadingFiles(
+                                            () ->
+                                                    manifestFile.readWithIOException(
+                                                            manifest.fileName(),
+                                                            manifest.fileSize(),
+                                                            rowFilter,
+                                                            Filter.alwaysTrue()),
+                                            Collections.<ManifestEntry>emptyList())
+                                    .forEach(
+                                            e -> {
+                                                DataFileMeta file = e.file();
+                                                if (candidates.contains(file.fileName())) {
+                                                    usedFiles.add(file.fileName());
+                                                }
+                                                file.extraFiles().stream()
+                                                        .filter(candidates::contains)
+                                                        .forEach(usedFiles::add);
+                                            });
+                        } catch (IOException e) {
+                            throw new RuntimeException(e);
+                        }
+                    },
+                    manifests);
+        }
+        return usedFiles;
+    }
+
+    /**
+     * Create a filter for the partition of the given relative path. Returns null if the partition
+     * can not be restored from the path exactly, then all manifests and entries are read, and only
+     * the candidate files of the partition are kept.
+     */
+    @Nullable
+    private PartitionPredicate partitionFilter(String partition) {
+        if (partitionKeysNum == 0) {
+            return null;
+        }
+
+        RowType partitionType = table.schema().logicalPartitionType();
+        BinaryRow partitionRow;
+        try {
+            LinkedHashMap<String, String> spec =
+                    PartitionPathUtils.extractPartitionSpecFromPath(new Path(partition));
+            partitionRow =
+                    new InternalRowSerializer(partitionType)
+                            .toBinaryRow(
+                                    InternalRowPartitionComputer.convertSpecToInternalRow(
+                                            spec,
+                                            partitionType,
+                                            table.coreOptions().partitionDefaultName()))
+                            .copy();
+            String restored = table.store().pathFactory().getPartitionString(partitionRow);
+            if (!partition.equals(partitionPath(new Path(restored), partitionKeysNum))) {
+                return null;
+            }
+        } catch (Exception e) {
+            LOG.debug("Failed to restore partition from path {}.", partition, e);
+            return null;
+        }
+        return PartitionPredicate.fromMultiple(partitionType, Collections.singleton(partitionRow));
+    }
+
+    private static boolean mayContain(
+            ManifestFileMeta manifest, @Nullable PartitionPredicate partitionFilter) {
+        if (partitionFilter == null) {
+            return true;
+        }
+        SimpleStats stats = manifest.partitionStats();
+        return partitionFilter.test(
+                manifest.numAddedFiles() + manifest.numDeletedFiles(),
+                stats.minValues(),
+                stats.maxValues(),
+                stats.nullCounts());
+    }
+
+    /** Relative path of partition consisted of the last {@code partitionKeysNum} names. */
+    private static String partitionPath(Path partitionDir, int partitionKeysNum) {
+        String[] names = new String[partitionKeysNum];
+        Path path = partitionDir;
+        for (int i = partitionKeysNum - 1; i >= 0; i--) {
+            names[i] = path.getName();
+            path = path.getParent();
+        }
+        return String.join(Path.SEPARATOR, names);
+    }
+
+    private Map<String, FileStatus> listCandidateFiles(List<Path> dirs) {
+        Iterator<FileStatus> files =
+                randomlyExecuteSequentialReturn(executor, this::listOldEnoughFiles, dirs);
+        Map<String, FileStatus> result = new HashMap<>();
+        while (files.hasNext()) {
+            FileStatus file = files.next();
+            result.put(file.getPath().getName(), file);
+        }
+        return result;
+    }
+
+    private List<FileStatus> listOldEnoughFiles(Path dir) {
+        return tryBestListingDirs(dir).stream()
+                .filter(this::oldEnough)
+                .collect(Collectors.toList());
+    }
+
+    private List<Path> deleteFiles(Collection<FileStatus> files) {
+        List<Path> paths = new ArrayList<>(files.size());
+        for (FileStatus file : files) {
+            deletedFilesLenInBytes.addAndGet(file.getLen());
+            paths.add(file.getPath());
+        }
+        cleanFiles(files);
+        return paths;
+    }
+
     private void cleanEmptyDataDirectory(List<Path> deleteFiles) {
         if (deleteFiles.isEmpty()) {
             return;
@@ -211,22 +478,8 @@ public class LocalOrphanFilesClean extends OrphanFilesClean {
      * Get all the candidate deleting files in the specified directories and filter them by
      * olderThanMillis.
      */
-    private Map<String, Pair<Path, Long>> getCandidateDeletingFiles() {
-        List<Path> fileDirs = listPaimonFileDirs();
-        Function<Path, List<Pair<Path, Long>>> processor =
-                path ->
-                        tryBestListingDirs(path).stream()
-                                .filter(this::oldEnough)
-                                .map(status -> Pair.of(status.getPath(), status.getLen()))
-                                .collect(Collectors.toList());
-        Iterator<Pair<Path, Long>> allFilesInfo =
-                randomlyExecuteSequentialReturn(executor, processor, fileDirs);
-        Map<String, Pair<Path, Long>> result = new HashMap<>();
-        while (allFilesInfo.hasNext()) {
-            Pair<Path, Long> fileInfo = allFilesInfo.next();
-            result.put(fileInfo.getLeft().getName(), fileInfo);
-        }
-        return result;
+    private Map<String, FileStatus> getCandidateDeletingFiles() {
+        return listCandidateFiles(listPaimonFileDirs());
     }
 
     public static List<LocalOrphanFilesClean> createOrphanFilesCleans(
@@ -21,11 +21,13 @@ package org.apache.paimon.operation;
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.deletionvectors.DeletionVectorsMaintainer;
 import org.apache.paimon.index.DynamicBucketIndexMaintainer;
+import org.apache.paimon.index.KeyIndexMaintainer;
 import org.apache.paimon.io.cache.CacheManager;
 import org.apache.paimon.memory.HeapMemorySegmentPool;
 import org.apache.paimon.memory.MemoryOwner;
 import org.apache.paimon.memory.MemoryPoolFactory;
 import org.apache.paimon.metrics.MetricRegistry;
+import org.apache.paimon.operation.metrics.LookupCacheMetrics;
 import org.apache.paimon.operation.metrics.WriterBufferMetric;
 import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.types.RowType;
@@ -58,6 +60,7 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
     private MemoryPoolFactory writeBufferPool;
 
     private WriterBufferMetric writerBufferMetric;
+    private LookupCacheMetrics lookupCacheMetrics;
 
     public MemoryFileStoreWrite(
             SnapshotManager snapshotManager,
@@ -66,19 +69,23 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
             RowType partitionType,
             @Nullable DynamicBucketIndexMaintainer.Factory dbMaintainerFactory,
             @Nullable DeletionVectorsMaintainer.Factory dvMaintainerFactory,
+            @Nullable KeyIndexMaintainer.Factory keyIndexMaintainerFactory,
             String tableName) {
         super(
                 snapshotManager,
                 scan,
                 dbMaintainerFactory,
                 dvMaintainerFactory,
+                keyIndexMaintainerFactory,
                 tableName,
                 options,
                 partitionType);
         this.options = options;
         this.cacheManager =
                 new CacheManager(
-                        options.lookupCacheMaxMemory(), options.lookupCacheHighPrioPoolRatio());
+                        options.lookupCacheMaxMemory(),
+                        options.lookupCacheHighPrioPoolRatio(),
+                        options.lookupCacheOffHeapEnabled());
     }
 
     @Override
@@ -136,6 +143,7 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
     public FileStoreWrite<T> withMetricRegistry(MetricRegistry metricRegistry) {
         super.withMetricRegistry(metricRegistry);
         registerWriterBufferMetric(metricRegistry);
+        registerLookupCacheMetrics(metricRegistry);
         return this;
     }
 
@@ -146,6 +154,12 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
         }
     }
 
+    private void registerLookupCacheMetrics(MetricRegistry metricRegistry) {
+        if (metricRegistry != null && options.needLookup()) {
+            lookupCacheMetrics = new LookupCacheMetrics(cacheManager, metricRegistry, tableName);
+        }
+    }
+
     @Override
     public List<CommitMessage> prepareCommit(boolean waitCompaction, long commitIdentifier)
             throws Exception {
@@ -162,5 +176,8 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
         if (this.writerBufferMetric != null) {
             this.writerBufferMetric.close();
         }
+        if (this.lookupCacheMetrics != null) {
+            this.lookupCacheMetrics.close();
+        }
     }
 }
@@ -26,6 +26,7 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.deletionvectors.DeletionVector;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.PrefetchStats;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.KeyValueFileReaderFactory;
 import org.apache.paimon.mergetree.DropDeleteReader;
@@ -195,6 +196,12 @@ public class MergeFileSplitRead implements SplitRead<KeyValue> {
         return this;
     }
 
+    @Override
+    public MergeFileSplitRead withPrefetchStats(@Nullable PrefetchStats prefetchStats) {
+        readerFactoryBuilder.withPrefetchStats(prefetchStats);
+        return this;
+    }
+
     @Override
     public MergeFileSplitRead forceKeepDelete() {
         this.forceKeepDelete = true;
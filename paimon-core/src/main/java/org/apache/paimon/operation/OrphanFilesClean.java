@@ -49,6 +49,7 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -229,6 +230,27 @@ public abstract class OrphanFilesClean implements Serializable {
         }
     }
 
+    /**
+     * Clean the given listed files in batch. The listed statuses tell directories from files, so
+     * paths are not checked again, and files are deleted with bulk requests if the file system
+     * supports.
+     */
+    protected void cleanFiles(Collection<FileStatus> statuses) {
+        if (dryRun || statuses.isEmpty()) {
+            return;
+        }
+
+        List<Path> files = new ArrayList<>(statuses.size());
+        for (FileStatus status : statuses) {
+            if (status.isDir()) {
+                fileIO.deleteDirectoryQuietly(status.getPath());
+            } else {
+                files.add(status.getPath());
+            }
+        }
+        fileIO.deleteFilesQuietly(files);
+    }
+
     protected Set<Snapshot> safelyGetAllSnapshots(String branch) throws IOException {
         FileStoreTable branchTable = table.switchToBranch(branch);
         SnapshotManager snapshotManager = branchTable.snapshotManager();
@@ -261,13 +283,30 @@ public abstract class OrphanFilesClean implements Serializable {
             Snapshot snapshot,
             Consumer<Pair<String, Boolean>> usedFileWithFlagConsumer)
             throws IOException {
+        collectWithoutDataFileWithManifestMeta(
+                branch,
+                snapshot,
+                usedFile -> usedFileWithFlagConsumer.accept(Pair.of(usedFile, false)),
+                manifest -> usedFileWithFlagConsumer.accept(Pair.of(manifest.fileName(), true)));
+    }
+
+    /**
+     * Collect used files except data files of the snapshot. Manifest files are passed to {@code
+     * manifestConsumer} with their meta instead of {@code usedFileConsumer}.
+     */
+    protected void collectWithoutDataFileWithManifestMeta(
+            String branch,
+            Snapshot snapshot,
+            Consumer<String> usedFileConsumer,
+            Consumer<ManifestFileMeta> manifestConsumer)
+            throws IOException {
         FileStoreTable branchTable = table.switchToBranch(branch);
         ManifestList manifestList = branchTable.store().manifestListFactory().create();
         IndexFileHandler indexFileHandler = branchTable.store().newIndexFileHandler();
         List<ManifestFileMeta> manifestFileMetas = new ArrayList<>();
         // changelog manifest
         if (snapshot.changelogManifestList() != null) {
-            usedFileWithFlagConsumer.accept(Pair.of(snapshot.changelogManifestList(), false));
+            usedFileConsumer.accept(snapshot.changelogManifestList());
             manifestFileMetas.addAll(
                     retryReadingFiles(
                             () ->
@@ -278,7 +317,7 @@ public abstract class OrphanFilesClean implements Serializable {
 
         // delta manifest
         if (snapshot.deltaManifestList() != null) {
-            usedFileWithFlagConsumer.accept(Pair.of(snapshot.deltaManifestList(), false));
+            usedFileConsumer.accept(snapshot.deltaManifestList());
             manifestFileMetas.addAll(
                     retryReadingFiles(
                             () -> manifestList.readWithIOException(snapshot.deltaManifestList()),
@@ -286,7 +325,7 @@ public abstract class OrphanFilesClean implements Serializable {
         }
 
         // base manifest
-        usedFileWithFlagConsumer.accept(Pair.of(snapshot.baseManifestList(), false));
+        usedFileConsumer.accept(snapshot.baseManifestList());
         manifestFileMetas.addAll(
                 retryReadingFiles(
                         () -> manifestList.readWithIOException(snapshot.baseManifestList()),
@@ -294,25 +333,25 @@ public abstract class OrphanFilesClean implements Serializable {
 
         // collect manifests
         for (ManifestFileMeta manifest : manifestFileMetas) {
-            usedFileWithFlagConsumer.accept(Pair.of(manifest.fileName(), true));
+            manifestConsumer.accept(manifest);
         }
 
         // index files
         String indexManifest = snapshot.indexManifest();
         if (indexManifest != null && indexFileHandler.existsManifest(indexManifest)) {
-            usedFileWithFlagConsumer.accept(Pair.of(indexManifest, false));
+            usedFileConsumer.accept(indexManifest);
             retryReadingFiles(
                             () -> indexFileHandler.readManifestWithIOException(indexManifest),
                             Collections.<IndexManifestEntry>emptyList())
                     .stream()
                     .map(IndexManifestEntry::indexFile)
                     .map(IndexFileMeta::fileName)
-                    .forEach(name -> usedFileWithFlagConsumer.accept(Pair.of(name, false)));
+                    .forEach(usedFileConsumer);
         }
 
         // statistic file
         if (snapshot.statistics() != null) {
-            usedFileWithFlagConsumer.accept(Pair.of(snapshot.statistics(), false));
+            usedFileConsumer.accept(snapshot.statistics());
         }
     }
 
@@ -344,20 +383,36 @@ public abstract class OrphanFilesClean implements Serializable {
         paimonFileDirs.add(new Path(manifestPath));
         paimonFileDirs.add(new Path(indexPath));
         paimonFileDirs.add(new Path(statisticsPath));
-        paimonFileDirs.addAll(listFileDirs(new Path(dataFilePath), partitionKeysNum));
+        paimonFileDirs.addAll(
+                listBucketDirs(dataFilePath, partitionKeysNum, dataFileExternalPaths));
+        LOG.info(
+                "End list paimon file directories for table [{}] spend [{}] ms",
+                tableName,
+                System.currentTimeMillis() - start);
+        return paimonFileDirs;
+    }
+
+    /** List bucket directories that contains data files, including those in external paths. */
+    protected List<Path> listBucketDirs() {
+        return listBucketDirs(
+                table.store().pathFactory().dataFilePath().toString(),
+                partitionKeysNum,
+                table.store().options().dataFileExternalPaths());
+    }
+
+    private List<Path> listBucketDirs(
+            String dataFilePath, int partitionKeysNum, @Nullable String dataFileExternalPaths) {
+        List<Path> bucketDirs =
+                new ArrayList<>(listFileDirs(new Path(dataFilePath), partitionKeysNum));
 
         // add external data paths
         if (dataFileExternalPaths != null) {
             String[] externalPathArr = dataFileExternalPaths.split(",");
             for (String externalPath : externalPathArr) {
-                paimonFileDirs.addAll(listFileDirs(new Path(externalPath), partitionKeysNum));
+                bucketDirs.addAll(listFileDirs(new Path(externalPath), partitionKeysNum));
             }
         }
-        LOG.info(
-                "End list paimon file directories for table [{}] spend [{}] ms",
-                tableName,
-                System.currentTimeMillis() - start);
-        return paimonFileDirs;
+        return bucketDirs;
     }
 
     /**
@@ -31,6 +31,7 @@ import org.apache.paimon.stats.StatsFileHandler;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.Pair;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -66,19 +67,39 @@ public class SnapshotDeletion extends FileDeletionBase<Snapshot> {
 
     @Override
     public void cleanUnusedDataFiles(Snapshot snapshot, Predicate<ExpireFileEntry> skipper) {
+        cleanUnusedDataFiles(snapshot.deltaManifestList(), dataFileSkipper(skipper));
+    }
+
+    /**
+     * Clean data files that will not be used anymore in the snapshots. Compared to cleaning
+     * snapshots one by one, manifests of the snapshots are read concurrently and data files are
+     * deleted in one batch.
+     *
+     * @param snapshotAndSkippers snapshots to clean and their skippers, see {@link
+     *     #cleanUnusedDataFiles(Snapshot, Predicate)}
+     */
+    public void cleanUnusedDataFiles(
+            List<Pair<Snapshot, Predicate<ExpireFileEntry>>> snapshotAndSkippers) {
+        List<Pair<String, Predicate<ExpireFileEntry>>> manifestListAndSkippers =
+                new ArrayList<>(snapshotAndSkippers.size());
+        for (Pair<Snapshot, Predicate<ExpireFileEntry>> pair : snapshotAndSkippers) {
+            manifestListAndSkippers.add(
+                    Pair.of(pair.getLeft().deltaManifestList(), dataFileSkipper(pair.getRight())));
+        }
+        cleanUnusedDataFilesInBatch(manifestListAndSkippers);
+    }
+
+    private Predicate<ExpireFileEntry> dataFileSkipper(Predicate<ExpireFileEntry> skipper) {
         if (changelogDecoupled && !produceChangelog) {
             // Skip clean the 'APPEND' data files.If we do not have the file source information
             // eg: the old version table file, we just skip clean this here, let it done by
             // ExpireChangelogImpl
-            Predicate<ExpireFileEntry> enriched =
-                    manifestEntry ->
-                            skipper.test(manifestEntry)
-                                    || (manifestEntry.fileSource().orElse(FileSource.APPEND)
-                                            == FileSource.APPEND);
-            cleanUnusedDataFiles(snapshot.deltaManifestList(), enriched);
-        } else {
-            cleanUnusedDataFiles(snapshot.deltaManifestList(), skipper);
+            return manifestEntry ->
+                    skipper.test(manifestEntry)
+                            || (manifestEntry.fileSource().orElse(FileSource.APPEND)
+                                    == FileSource.APPEND);
         }
+        return skipper;
     }
 
     @Override
@@ -19,6 +19,7 @@
 package org.apache.paimon.operation;
 
 import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.fs.PrefetchStats;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.table.source.DataSplit;
@@ -40,6 +41,9 @@ public interface SplitRead<T> {
 
     SplitRead<T> withIOManager(@Nullable IOManager ioManager);
 
+    /** Collects the statistics of prefetching data files into the {@link PrefetchStats}. */
+    SplitRead<T> withPrefetchStats(@Nullable PrefetchStats prefetchStats);
+
     SplitRead<T> withReadType(RowType readType);
 
     SplitRead<T> withFilter(@Nullable Predicate predicate);
@@ -62,6 +66,12 @@ public interface SplitRead<T> {
                 return this;
             }
 
+            @Override
+            public SplitRead<R> withPrefetchStats(@Nullable PrefetchStats prefetchStats) {
+                read.withPrefetchStats(prefetchStats);
+                return this;
+            }
+
             @Override
             public SplitRead<R> withReadType(RowType readType) {
                 read.withReadType(readType);
@@ -30,6 +30,7 @@ import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
 import java.util.stream.DoubleStream;
 import java.util.stream.LongStream;
 
@@ -42,6 +43,8 @@ public class CompactionMetrics {
     public static final String AVG_LEVEL0_FILE_COUNT = "avgLevel0FileCount";
     public static final String COMPACTION_THREAD_BUSY = "compactionThreadBusy";
     public static final String AVG_COMPACTION_TIME = "avgCompactionTime";
+    public static final String AVG_COMPACTION_QUEUE_WAIT_TIME = "avgCompactionQueueWaitTime";
+    public static final String COMPACTION_EXECUTOR_QUEUE_SIZE = "compactionExecutorQueueSize";
     public static final String COMPACTION_COMPLETED_COUNT = "compactionCompletedCount";
     public static final String COMPACTION_QUEUED_COUNT = "compactionQueuedCount";
     public static final String MAX_COMPACTION_INPUT_SIZE = "maxCompactionInputSize";
@@ -58,6 +61,7 @@ public class CompactionMetrics {
     private final Map<PartitionAndBucket, ReporterImpl> reporters;
     private final Map<Long, CompactTimer> compactTimers;
     private final Queue<Long> compactionTimes;
+    private final Queue<Long> compactionQueueWaitTimes;
     private Counter compactionsCompletedCounter;
     private Counter compactionsQueuedCounter;
 
@@ -66,6 +70,7 @@ public class CompactionMetrics {
         this.reporters = new HashMap<>();
         this.compactTimers = new ConcurrentHashMap<>();
         this.compactionTimes = new ConcurrentLinkedQueue<>();
+        this.compactionQueueWaitTimes = new ConcurrentLinkedQueue<>();
 
         registerGenericCompactionMetrics();
     }
@@ -93,6 +98,9 @@ public class CompactionMetrics {
         metricGroup.gauge(
                 AVG_COMPACTION_TIME, () -> getCompactionTimeStream().average().orElse(0.0));
         metricGroup.gauge(COMPACTION_THREAD_BUSY, () -> getCompactBusyStream().sum());
+        metricGroup.gauge(
+                AVG_COMPACTION_QUEUE_WAIT_TIME,
+                () -> getCompactionQueueWaitTimeStream().average().orElse(0.0));
 
         compactionsCompletedCounter = metricGroup.counter(COMPACTION_COMPLETED_COUNT);
         compactionsQueuedCounter = metricGroup.counter(COMPACTION_QUEUED_COUNT);
@@ -122,6 +130,15 @@ public class CompactionMetrics {
         return compactionTimes.stream().mapToDouble(Long::doubleValue);
     }
 
+    private DoubleStream getCompactionQueueWaitTimeStream() {
+        return compactionQueueWaitTimes.stream().mapToDouble(Long::doubleValue);
+    }
+
+    /** Report the number of queued tasks of the compaction executor shared by writers. */
+    public void registerExecutorQueueSize(Supplier<Integer> queueSize) {
+        metricGroup.gauge(COMPACTION_EXECUTOR_QUEUE_SIZE, queueSize::get);
+    }
+
     @VisibleForTesting
     public LongStream getTotalFileSizeStream() {
         return reporters.values().stream().mapToLong(r -> r.totalFileSize);
@@ -140,6 +157,8 @@ public class CompactionMetrics {
 
         void reportCompactionTime(long time);
 
+        void reportCompactionQueueWaitTime(long time);
+
         void increaseCompactionsCompletedCount();
 
         void increaseCompactionsQueuedCount();
@@ -185,6 +204,16 @@ public class CompactionMetrics {
             }
         }
 
+        @Override
+        public void reportCompactionQueueWaitTime(long time) {
+            synchronized (compactionQueueWaitTimes) {
+                compactionQueueWaitTimes.add(time);
+                if (compactionQueueWaitTimes.size() > COMPACTION_TIME_WINDOW) {
+                    compactionQueueWaitTimes.poll();
+                }
+            }
+        }
+
         @Override
         public void reportCompactionInputSize(long bytes) {
             this.compactionInputSize = bytes;
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.io.cache.CacheStats;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricRegistry;
+
+/** Metrics for the data and index tiers of lookup {@link CacheManager}. */
+public class LookupCacheMetrics {
+
+    private static final String GROUP_NAME = "lookupCache";
+
+    public static final String DATA_CACHE_HIT_COUNT = "dataCacheHitCount";
+    public static final String DATA_CACHE_MISS_COUNT = "dataCacheMissCount";
+    public static final String DATA_CACHE_EVICTION_COUNT = "dataCacheEvictionCount";
+    public static final String INDEX_CACHE_HIT_COUNT = "indexCacheHitCount";
+    public static final String INDEX_CACHE_MISS_COUNT = "indexCacheMissCount";
+    public static final String INDEX_CACHE_EVICTION_COUNT = "indexCacheEvictionCount";
+
+    private final MetricGroup metricGroup;
+
+    public LookupCacheMetrics(
+            CacheManager cacheManager, MetricRegistry metricRegistry, String tableName) {
+        this.metricGroup = metricRegistry.createTableMetricGroup(GROUP_NAME, tableName);
+        CacheStats dataStats = cacheManager.dataCacheStats();
+        CacheStats indexStats = cacheManager.indexCacheStats();
+        metricGroup.gauge(DATA_CACHE_HIT_COUNT, dataStats::hitCount);
+        metricGroup.gauge(DATA_CACHE_MISS_COUNT, dataStats::missCount);
+        metricGroup.gauge(DATA_CACHE_EVICTION_COUNT, dataStats::evictionCount);
+        metricGroup.gauge(INDEX_CACHE_HIT_COUNT, indexStats::hitCount);
+        metricGroup.gauge(INDEX_CACHE_MISS_COUNT, indexStats::missCount);
+        metricGroup.gauge(INDEX_CACHE_EVICTION_COUNT, indexStats::evictionCount);
+    }
+
+    public void close() {
+        metricGroup.close();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricRegistry;
+
+/** Metrics to measure the progress of cleaning orphan files partition by partition. */
+public class OrphanFilesCleanMetrics {
+
+    public static final String GROUP_NAME = "orphanFilesClean";
+    public static final String TOTAL_PARTITIONS = "totalPartitions";
+    public static final String CLEANED_PARTITIONS = "cleanedPartitions";
+    public static final String DELETED_FILES = "deletedFiles";
+    public static final String DELETED_FILES_LEN_IN_BYTES = "deletedFilesLenInBytes";
+
+    private final MetricGroup metricGroup;
+
+    private volatile long totalPartitions;
+    private volatile long cleanedPartitions;
+    private volatile long deletedFiles;
+    private volatile long deletedFilesLenInBytes;
+
+    public OrphanFilesCleanMetrics(MetricRegistry registry, String tableName) {
+        this.metricGroup = registry.createTableMetricGroup(GROUP_NAME, tableName);
+        metricGroup.gauge(TOTAL_PARTITIONS, () -> totalPartitions);
+        metricGroup.gauge(CLEANED_PARTITIONS, () -> cleanedPartitions);
+        metricGroup.gauge(DELETED_FILES, () -> deletedFiles);
+        metricGroup.gauge(DELETED_FILES_LEN_IN_BYTES, () -> deletedFilesLenInBytes);
+    }
+
+    @VisibleForTesting
+    MetricGroup getMetricGroup() {
+        return metricGroup;
+    }
+
+    public void reportTotalPartitions(long totalPartitions) {
+        this.totalPartitions = totalPartitions;
+        this.cleanedPartitions = 0;
+    }
+
+    /** Report a cleaned partition, with the files deleted in total so far. */
+    public void reportCleanedPartition(long deletedFiles, long deletedFilesLenInBytes) {
+        this.cleanedPartitions++;
+        this.deletedFiles = deletedFiles;
+        this.deletedFilesLenInBytes = deletedFilesLenInBytes;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.fs.PrefetchStats;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricRegistry;
+
+/** Metrics to measure reading data files. */
+public class ReadMetrics {
+
+    public static final String GROUP_NAME = "read";
+    public static final String PREFETCH_HIT_BYTES = "prefetchHitBytes";
+    public static final String PREFETCH_STALL_TIME = "prefetchStallTime";
+
+    private final MetricGroup metricGroup;
+    private final PrefetchStats prefetchStats;
+
+    public ReadMetrics(MetricRegistry registry, String tableName) {
+        metricGroup = registry.createTableMetricGroup(GROUP_NAME, tableName);
+        prefetchStats = new PrefetchStats();
+        metricGroup.gauge(PREFETCH_HIT_BYTES, prefetchStats::hitBytes);
+        metricGroup.gauge(PREFETCH_STALL_TIME, () -> prefetchStats.stallNanos() / 1_000_000);
+    }
+
+    @VisibleForTesting
+    MetricGroup getMetricGroup() {
+        return metricGroup;
+    }
+
+    public PrefetchStats getPrefetchStats() {
+        return prefetchStats;
+    }
+}
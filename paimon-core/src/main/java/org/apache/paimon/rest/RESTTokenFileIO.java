@@ -42,6 +42,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
@@ -142,6 +143,34 @@ public class RESTTokenFileIO implements FileIO {
         return fileIO().rename(src, dst);
     }
 
+    @Override
+    public boolean[] exists(List<Path> paths) throws IOException {
+        return fileIO().exists(paths);
+    }
+
+    @Override
+    public FileStatus[] getFileStatuses(List<Path> paths) throws IOException {
+        return fileIO().getFileStatuses(paths);
+    }
+
+    @Override
+    public void deleteFilesQuietly(List<Path> files) {
+        try {
+            fileIO().deleteFilesQuietly(files);
+        } catch (IOException e) {
+            LOG.warn("Exception occurs when deleting files " + files, e);
+        }
+    }
+
+    @Override
+    public int bulkDeleteLimit() {
+        try {
+            return fileIO().bulkDeleteLimit();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Override
     public boolean isObjectStore() {
         try {
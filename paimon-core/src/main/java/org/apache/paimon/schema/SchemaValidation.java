@@ -70,6 +70,8 @@ import static org.apache.paimon.CoreOptions.SCAN_WATERMARK;
 import static org.apache.paimon.CoreOptions.SNAPSHOT_NUM_RETAINED_MAX;
 import static org.apache.paimon.CoreOptions.SNAPSHOT_NUM_RETAINED_MIN;
 import static org.apache.paimon.CoreOptions.STREAMING_READ_OVERWRITE;
+import static org.apache.paimon.CoreOptions.WRITE_BUFFER_ASYNC_FLUSH;
+import static org.apache.paimon.CoreOptions.WRITE_BUFFER_SPILLABLE;
 import static org.apache.paimon.mergetree.compact.PartialUpdateMergeFunction.SEQUENCE_GROUP;
 import static org.apache.paimon.table.SpecialFields.KEY_FIELD_PREFIX;
 import static org.apache.paimon.table.SpecialFields.SYSTEM_FIELD_NAMES;
@@ -223,6 +225,10 @@ public class SchemaValidation {
         if (options.deletionVectorsEnabled()) {
             validateForDeletionVectors(options);
         }
+
+        if (options.writeBufferAsyncFlush()) {
+            validateForAsyncFlush(options);
+        }
     }
 
     public static void validateFallbackBranch(SchemaManager schemaManager, TableSchema schema) {
@@ -492,6 +498,16 @@ public class SchemaValidation {
                 "First row merge engine does not need deletion vectors because there is no deletion of old data in this merge engine.");
     }
 
+    private static void validateForAsyncFlush(CoreOptions options) {
+        // the buffer being flushed is read in the flush thread, spilling it would access the
+        // memory pool and the spill channels concurrently with the writer thread
+        checkArgument(
+                !options.toConfiguration().getOptional(WRITE_BUFFER_SPILLABLE).orElse(false),
+                "Cannot enable '%s' together with '%s', async flush does not support spilling.",
+                WRITE_BUFFER_ASYNC_FLUSH.key(),
+                WRITE_BUFFER_SPILLABLE.key());
+    }
+
     private static void validateSequenceField(TableSchema schema, CoreOptions options) {
         List<String> sequenceField = options.sequenceField();
         if (!sequenceField.isEmpty()) {
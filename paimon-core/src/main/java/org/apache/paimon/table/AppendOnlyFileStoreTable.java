@@ -23,10 +23,12 @@ import org.apache.paimon.CoreOptions;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.metrics.MetricRegistry;
 import org.apache.paimon.operation.AppendOnlyFileStoreScan;
 import org.apache.paimon.operation.BaseAppendFileStoreWrite;
 import org.apache.paimon.operation.FileStoreScan;
 import org.apache.paimon.operation.RawFileSplitRead;
+import org.apache.paimon.operation.metrics.ReadMetrics;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.schema.TableSchema;
@@ -117,6 +119,12 @@ public class AppendOnlyFileStoreTable extends AbstractFileStoreTable {
                 read.withReadType(readType);
             }
 
+            @Override
+            public InnerTableRead withMetricRegistry(MetricRegistry registry) {
+                read.withPrefetchStats(new ReadMetrics(registry, name()).getPrefetchStats());
+                return this;
+            }
+
             @Override
             public RecordReader<InternalRow> reader(Split split) throws IOException {
                 return read.createReader((DataSplit) split);
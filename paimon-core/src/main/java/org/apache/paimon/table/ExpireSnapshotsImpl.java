@@ -26,6 +26,7 @@ import org.apache.paimon.manifest.ExpireFileEntry;
 import org.apache.paimon.operation.SnapshotDeletion;
 import org.apache.paimon.options.ExpireConfig;
 import org.apache.paimon.utils.ChangelogManager;
+import org.apache.paimon.utils.Pair;
 import org.apache.paimon.utils.Preconditions;
 import org.apache.paimon.utils.SnapshotManager;
 import org.apache.paimon.utils.TagManager;
@@ -50,6 +51,12 @@ public class ExpireSnapshotsImpl implements ExpireSnapshots {
 
     private static final Logger LOG = LoggerFactory.getLogger(ExpireSnapshotsImpl.class);
 
+    /**
+     * Max number of snapshots whose data files are cleaned together, manifests of them are read
+     * concurrently and the data files are deleted in one batch.
+     */
+    private static final int DATA_FILE_CLEAN_BATCH_SIZE = 64;
+
     private final SnapshotManager snapshotManager;
     private final ChangelogManager changelogManager;
     private final ConsumerManager consumerManager;
@@ -168,6 +175,7 @@ public class ExpireSnapshotsImpl implements ExpireSnapshots {
         // delete merge tree files
         // deleted merge tree files in a snapshot are not used by the next snapshot, so the range of
         // id should be (beginInclusiveId, endExclusiveId]
+        List<Pair<Snapshot, Predicate<ExpireFileEntry>>> dataFileCleanBatch = new ArrayList<>();
         for (long id = beginInclusiveId + 1; id <= endExclusiveId; id++) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Ready to delete merge tree files not used by snapshot #" + id);
@@ -192,7 +200,14 @@ public class ExpireSnapshotsImpl implements ExpireSnapshots {
                 continue;
             }
 
-            snapshotDeletion.cleanUnusedDataFiles(snapshot, skipper);
+            dataFileCleanBatch.add(Pair.of(snapshot, skipper));
+            if (dataFileCleanBatch.size() >= DATA_FILE_CLEAN_BATCH_SIZE) {
+                snapshotDeletion.cleanUnusedDataFiles(dataFileCleanBatch);
+                dataFileCleanBatch.clear();
+            }
+        }
+        if (!dataFileCleanBatch.isEmpty()) {
+            snapshotDeletion.cleanUnusedDataFiles(dataFileCleanBatch);
         }
 
         // delete changelog files
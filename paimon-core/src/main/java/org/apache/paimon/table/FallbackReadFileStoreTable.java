@@ -454,6 +454,13 @@ public class FallbackReadFileStoreTable extends DelegatedFileStoreTable {
             return this;
         }
 
+        @Override
+        public InnerTableRead withMetricRegistry(MetricRegistry registry) {
+            mainRead.withMetricRegistry(registry);
+            fallbackRead.withMetricRegistry(registry);
+            return this;
+        }
+
         @Override
         public RecordReader<InternalRow> createReader(Split split) throws IOException {
             FallbackDataSplit dataSplit = (FallbackDataSplit) split;
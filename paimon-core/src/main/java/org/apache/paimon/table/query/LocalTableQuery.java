@@ -36,6 +36,7 @@ import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.mergetree.Levels;
 import org.apache.paimon.mergetree.LookupFile;
 import org.apache.paimon.mergetree.LookupLevels;
+import org.apache.paimon.mergetree.PersistentLookupFiles;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.table.FileStoreTable;
@@ -49,6 +50,8 @@ import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cach
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -102,7 +105,8 @@ public class LocalTableQuery implements TableQuery {
                         options,
                         new CacheManager(
                                 options.lookupCacheMaxMemory(),
-                                options.lookupCacheHighPrioPoolRatio()),
+                                options.lookupCacheHighPrioPoolRatio(),
+                                options.lookupCacheOffHeapEnabled()),
                         new RowCompactedSerializer(keyType).createSliceComparator());
         startLevel = options.needLookup() ? 1 : 0;
     }
@@ -160,7 +164,9 @@ public class LocalTableQuery implements TableQuery {
                                         .getPathFile(),
                         lookupStoreFactory,
                         bfGenerator(options),
-                        lookupFileCache);
+                        lookupFileCache,
+                        // filtered lookup files are not complete, they can not be shared
+                        cacheRowFilter == null ? PersistentLookupFiles.create(this.options) : null);
 
         tableView.computeIfAbsent(partition, k -> new HashMap<>()).put(bucket, lookupLevels);
     }
@@ -187,6 +193,23 @@ public class LocalTableQuery implements TableQuery {
         }
     }
 
+    @Override
+    public synchronized List<InternalRow> lookupBatch(
+            BinaryRow partition, int bucket, List<InternalRow> keys) throws IOException {
+        Map<Integer, LookupLevels<KeyValue>> buckets = tableView.get(partition);
+        LookupLevels<KeyValue> lookupLevels = buckets == null ? null : buckets.get(bucket);
+        if (lookupLevels == null) {
+            return new ArrayList<>(Collections.nCopies(keys.size(), null));
+        }
+
+        List<KeyValue> kvs = lookupLevels.lookupBatch(keys, startLevel);
+        List<InternalRow> results = new ArrayList<>(kvs.size());
+        for (KeyValue kv : kvs) {
+            results.add(kv == null || kv.valueKind().isRetract() ? null : kv.value());
+        }
+        return results;
+    }
+
     @Override
     public LocalTableQuery withValueProjection(int[] projection) {
         this.readerFactoryBuilder.withReadValueType(rowType.project(projection));
@@ -22,9 +22,12 @@ import org.apache.paimon.KeyValue;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.fs.PrefetchStats;
+import org.apache.paimon.metrics.MetricRegistry;
 import org.apache.paimon.operation.MergeFileSplitRead;
 import org.apache.paimon.operation.RawFileSplitRead;
 import org.apache.paimon.operation.SplitRead;
+import org.apache.paimon.operation.metrics.ReadMetrics;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.schema.TableSchema;
@@ -49,17 +52,21 @@ import java.util.function.Supplier;
 public final class KeyValueTableRead extends AbstractDataTableRead {
 
     private final List<SplitReadProvider> readProviders;
+    private final String tableName;
 
     @Nullable private RowType readType = null;
     private boolean forceKeepDelete = false;
     private Predicate predicate = null;
     private IOManager ioManager = null;
+    @Nullable private PrefetchStats prefetchStats = null;
 
     public KeyValueTableRead(
             Supplier<MergeFileSplitRead> mergeReadSupplier,
             Supplier<RawFileSplitRead> batchRawReadSupplier,
-            TableSchema schema) {
+            TableSchema schema,
+            String tableName) {
         super(schema);
+        this.tableName = tableName;
         this.readProviders =
                 Arrays.asList(
                         new RawFileSplitReadProvider(batchRawReadSupplier, this::assignValues),
@@ -85,7 +92,7 @@ public final class KeyValueTableRead extends AbstractDataTableRead {
         if (readType != null) {
             read = read.withReadType(readType);
         }
-        read.withFilter(predicate).withIOManager(ioManager);
+        read.withFilter(predicate).withIOManager(ioManager).withPrefetchStats(prefetchStats);
     }
 
     @Override
@@ -115,6 +122,14 @@ public final class KeyValueTableRead extends AbstractDataTableRead {
         return this;
     }
 
+    @Override
+    public InnerTableRead withMetricRegistry(MetricRegistry registry) {
+        PrefetchStats prefetchStats = new ReadMetrics(registry, tableName).getPrefetchStats();
+        initialized().forEach(r -> r.withPrefetchStats(prefetchStats));
+        this.prefetchStats = prefetchStats;
+        return this;
+    }
+
     @Override
     public RecordReader<InternalRow> reader(Split split) throws IOException {
         DataSplit dataSplit = (DataSplit) split;
@@ -23,6 +23,7 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.serializer.InternalRowSerializer;
 import org.apache.paimon.data.serializer.InternalSerializers;
 import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.fs.PrefetchStats;
 import org.apache.paimon.mergetree.MergeSorter;
 import org.apache.paimon.mergetree.compact.MergeFunctionWrapper;
 import org.apache.paimon.operation.MergeFileSplitRead;
@@ -71,6 +72,12 @@ public class IncrementalDiffSplitRead implements SplitRead<InternalRow> {
         return this;
     }
 
+    @Override
+    public SplitRead<InternalRow> withPrefetchStats(@Nullable PrefetchStats prefetchStats) {
+        mergeRead.withPrefetchStats(prefetchStats);
+        return this;
+    }
+
     @Override
     public SplitRead<InternalRow> withReadType(RowType readType) {
         this.readType = readType;
@@ -135,7 +135,7 @@ public class ObjectsFile<T> implements SimpleFileReader<T> {
         }
     }
 
-    private List<T> readWithIOException(
+    public List<T> readWithIOException(
             String fileName,
             @Nullable Long fileSize,
             Filter<InternalRow> readFilter,
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.arrow.reader;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.catalog.Catalog;
+import org.apache.paimon.catalog.CatalogContext;
+import org.apache.paimon.catalog.CatalogFactory;
+import org.apache.paimon.catalog.Identifier;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.schema.Schema;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.sink.BatchTableCommit;
+import org.apache.paimon.table.sink.BatchTableWrite;
+import org.apache.paimon.table.sink.BatchWriteBuilder;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+
+import org.apache.arrow.c.ArrowArrayStream;
+import org.apache.arrow.c.Data;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowReader;
+import org.apache.arrow.vector.util.Text;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link RecordReaderArrowReader}. */
+public class RecordReaderArrowReaderTest {
+
+    private static final RowType ROW_TYPE =
+            RowType.builder()
+                    .field("i", DataTypes.INT())
+                    .field("b", DataTypes.BIGINT())
+                    .field("t", DataTypes.TINYINT())
+                    .field("s", DataTypes.SMALLINT())
+                    .field("f", DataTypes.FLOAT())
+                    .field("d", DataTypes.DOUBLE())
+                    .field("str", DataTypes.STRING())
+                    .build();
+
+    private @TempDir java.nio.file.Path tempDir;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"parquet", "orc", "avro"})
+    public void testRead(String format) throws Exception {
+        List<List<Object>> expected = new ArrayList<>();
+        FileStoreTable table = createTable(format, expected);
+
+        try (BufferAllocator allocator = new RootAllocator();
+                ArrowReader reader = createReader(table, allocator)) {
+            assertThat(readAll(reader)).isEqualTo(expected);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"parquet", "orc"})
+    public void testExportToCStream(String format) throws Exception {
+        List<List<Object>> expected = new ArrayList<>();
+        FileStoreTable table = createTable(format, expected);
+
+        try (BufferAllocator allocator = new RootAllocator();
+                ArrowArrayStream stream = ArrowArrayStream.allocateNew(allocator)) {
+            createReader(table, allocator).exportToCStream(stream);
+            try (ArrowReader imported = Data.importArrayStream(allocator, stream)) {
+                assertThat(readAll(imported)).isEqualTo(expected);
+            }
+        }
+    }
+
+    private RecordReaderArrowReader createReader(FileStoreTable table, BufferAllocator allocator)
+            throws Exception {
+        RecordReader<InternalRow> reader =
+                table.newRead().createReader(table.newReadBuilder().newScan().plan());
+        return new RecordReaderArrowReader(reader, ROW_TYPE, 300, true, allocator);
+    }
+
+    private List<List<Object>> readAll(ArrowReader reader) throws Exception {
+        List<List<Object>> result = new ArrayList<>();
+        VectorSchemaRoot root = reader.getVectorSchemaRoot();
+        while (reader.loadNextBatch()) {
+            assertThat(root.getRowCount()).isLessThanOrEqualTo(300);
+            for (int i = 0; i < root.getRowCount(); i++) {
+                List<Object> row = new ArrayList<>();
+                for (FieldVector vector : root.getFieldVectors()) {
+                    Object value = vector.getObject(i);
+                    row.add(value instanceof Text ? value.toString() : value);
+                }
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+    private FileStoreTable createTable(String format, List<List<Object>> expected)
+            throws Exception {
+        Catalog catalog =
+                CatalogFactory.createCatalog(
+                        CatalogContext.create(new Path(tempDir.toUri().toString())));
+        catalog.createDatabase("default", true);
+        Schema schema =
+                new Schema(
+                        ROW_TYPE.getFields(),
+                        Collections.emptyList(),
+                        Collections.emptyList(),
+                        Collections.singletonMap(CoreOptions.FILE_FORMAT.key(), format),
+                        "");
+        Identifier identifier = Identifier.create("default", format);
+        catalog.createTable(identifier, schema, false);
+        FileStoreTable table = (FileStoreTable) catalog.getTable(identifier);
+
+        BatchWriteBuilder writeBuilder = table.newBatchWriteBuilder();
+        try (BatchTableWrite write = writeBuilder.newWrite();
+                BatchTableCommit commit = writeBuilder.newCommit()) {
+            for (int i = 0; i < 2000; i++) {
+                Long b = i % 7 == 0 ? null : (long) i * 3;
+                Double d = i % 5 == 0 ? null : i / 3d;
+                String str = i % 11 == 0 ? null : "str-" + i;
+                write.write(
+                        GenericRow.of(
+                                i,
+                                b,
+                                (byte) i,
+                                (short) i,
+                                (float) i / 2,
+                                d,
+                                str == null ? null : BinaryString.fromString(str)));
+                expected.add(Arrays.asList(i, b, (byte) i, (short) i, (float) i / 2, d, str));
+            }
+            commit.commit(write.prepareCommit());
+        }
+        return table;
+    }
+}
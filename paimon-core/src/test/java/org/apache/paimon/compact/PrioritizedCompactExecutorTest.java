@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.compact;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link PrioritizedCompactExecutor}. */
+public class PrioritizedCompactExecutorTest {
+
+    @Test
+    public void testPriorityOrder() throws Exception {
+        PrioritizedCompactExecutor executor = new PrioritizedCompactExecutor(1, "test");
+        try {
+            CountDownLatch latch = new CountDownLatch(1);
+            Future<?> blocker =
+                    executor.submit(
+                            () -> {
+                                latch.await();
+                                return null;
+                            });
+
+            List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+            List<Future<CompactResult>> futures = new ArrayList<>();
+            long[] priorities = new long[] {1, 500, 1000, 500, 0};
+            for (int i = 0; i < priorities.length; i++) {
+                futures.add(executor.submit(new TestTask(i, executed).withPriority(priorities[i])));
+            }
+            assertThat(executor.queueSize()).isEqualTo(priorities.length);
+
+            latch.countDown();
+            blocker.get();
+            for (Future<CompactResult> future : futures) {
+                future.get();
+            }
+
+            // higher priority first, same priority in submission order
+            assertThat(executed).isEqualTo(Arrays.asList(2, 1, 3, 0, 4));
+            assertThat(executor.queueSize()).isEqualTo(0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSharedExecutor() throws Exception {
+        ExecutorService reference1 = PrioritizedCompactExecutor.acquireShared(1);
+        PrioritizedCompactExecutor executor = PrioritizedCompactExecutor.sharedExecutor();
+        ExecutorService reference2 = PrioritizedCompactExecutor.acquireShared(2);
+        assertThat(PrioritizedCompactExecutor.sharedExecutor()).isSameAs(executor);
+        assertThat(executor.getMaximumPoolSize()).isEqualTo(2);
+        assertThat(executor.getCorePoolSize()).isEqualTo(2);
+
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        reference1.submit(new TestTask(0, executed)).get();
+        assertThat(executed).containsExactly(0);
+
+        // releasing one reference keeps the executor for the other users
+        reference1.shutdown();
+        assertThat(reference1.isShutdown()).isTrue();
+        assertThatThrownBy(() -> reference1.submit(new TestTask(1, executed)))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(executor.isShutdown()).isFalse();
+        reference2.submit(new TestTask(2, executed)).get();
+        assertThat(executed).containsExactly(0, 2);
+
+        // releasing the last reference shuts down the executor
+        reference2.shutdownNow();
+        reference2.shutdownNow();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        assertThat(PrioritizedCompactExecutor.sharedExecutor()).isNull();
+        assertThat(PrioritizedCompactExecutor.sharedQueueSize()).isEqualTo(0);
+
+        ExecutorService reference3 = PrioritizedCompactExecutor.acquireShared(1);
+        assertThat(PrioritizedCompactExecutor.sharedExecutor()).isNotSameAs(executor);
+        reference3.shutdown();
+    }
+
+    private static class TestTask extends CompactTask {
+
+        private final int id;
+        private final List<Integer> executed;
+
+        private TestTask(int id, List<Integer> executed) {
+            super(null);
+            this.id = id;
+            this.executed = executed;
+        }
+
+        @Override
+        protected CompactResult doCompact() {
+            executed.add(id);
+            return new CompactResult();
+        }
+    }
+}
@@ -25,6 +25,8 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.Timestamp;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.manifest.FileSource;
+import org.apache.paimon.manifest.IndexManifestEntry;
+import org.apache.paimon.manifest.ManifestEntry;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.schema.Schema;
 import org.apache.paimon.table.FileStoreTable;
@@ -32,7 +34,9 @@ import org.apache.paimon.table.Table;
 import org.apache.paimon.table.TableTestBase;
 import org.apache.paimon.table.source.DataSplit;
 import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowKind;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.Pair;
 
 import org.junit.jupiter.api.Test;
@@ -48,6 +52,7 @@ import java.util.function.Consumer;
 import static org.apache.paimon.crosspartition.IndexBootstrap.BUCKET_FIELD;
 import static org.apache.paimon.crosspartition.IndexBootstrap.filterSplit;
 import static org.apache.paimon.data.BinaryRow.EMPTY_ROW;
+import static org.apache.paimon.index.KeyIndexFile.KEY_INDEX;
 import static org.apache.paimon.stats.SimpleStats.EMPTY_STATS;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -96,6 +101,59 @@ public class IndexBootstrapTest extends TableTestBase {
         Thread.sleep(1000);
     }
 
+    @Test
+    public void testBootstrapFromKeyIndexFiles() throws Exception {
+        FileStoreTable table = (FileStoreTable) createTable();
+        // bucket 2 has data files without key index files
+        write(table, row(1, 1, 1, 2));
+
+        FileStoreTable indexTable =
+                table.copy(
+                        Collections.singletonMap(
+                                CoreOptions.CROSS_PARTITION_UPSERT_INDEX_FILE_ENABLED.key(),
+                                "true"));
+        write(indexTable, row(1, 2, 2, 3), row(2, 4, 4, 5), row(1, 5, 5, 2));
+        write(indexTable, Pair.of(GenericRow.ofKind(RowKind.DELETE, 1, 2, 2), 3), row(1, 6, 6, 3));
+
+        List<IndexManifestEntry> indexEntries =
+                indexTable.store().newIndexFileHandler().scan(KEY_INDEX);
+        assertThat(indexEntries.stream().map(IndexManifestEntry::bucket))
+                .containsExactlyInAnyOrder(3, 3, 5);
+
+        // remove data files of indexed buckets, they must be bootstrapped from key index files
+        FileStorePathFactory pathFactory = indexTable.store().pathFactory();
+        for (ManifestEntry entry : indexTable.store().newScan().plan().files()) {
+            if (entry.bucket() != 2) {
+                indexTable
+                        .fileIO()
+                        .deleteQuietly(
+                                pathFactory
+                                        .createDataFilePathFactory(
+                                                entry.partition(), entry.bucket())
+                                        .toPath(entry.file()));
+            }
+        }
+
+        List<GenericRow> result = new ArrayList<>();
+        new IndexBootstrap(indexTable)
+                .bootstrap(
+                        1,
+                        0,
+                        row ->
+                                result.add(
+                                        GenericRow.of(
+                                                row.getInt(0), row.getInt(1), row.getInt(2))));
+        assertThat(result)
+                .containsExactlyInAnyOrder(
+                        GenericRow.of(1, 1, 2),
+                        GenericRow.of(5, 1, 2),
+                        GenericRow.of(6, 1, 3),
+                        GenericRow.of(4, 2, 5));
+
+        // see testBoostrap
+        Thread.sleep(1000);
+    }
+
     private Table createTable() throws Exception {
         Identifier identifier = identifier("T");
         Options options = new Options();
@@ -32,8 +32,10 @@ import org.apache.paimon.manifest.IndexManifestEntry;
 import org.apache.paimon.table.sink.BatchTableCommit;
 import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.table.sink.CommitMessageImpl;
+import org.apache.paimon.table.source.DeletionFile;
 import org.apache.paimon.utils.FileIOUtils;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -265,6 +267,110 @@ public class DeletionVectorsMaintainerTest extends PrimaryKeyTableTestBase {
         assertThat(dvs.get("f3").getCardinality()).isEqualTo(2);
     }
 
+    @Test
+    public void testIncrementalIndexFiles() {
+        Map<String, String> options = new HashMap<>();
+        options.put(CoreOptions.DELETION_VECTOR_INDEX_FILE_MAX_DELTA_NUM.key(), "2");
+        table = table.copy(options);
+        fileHandler = table.store().newIndexFileHandler();
+        DeletionVectorsMaintainer.Factory factory =
+                new DeletionVectorsMaintainer.Factory(fileHandler);
+
+        // the first index file is a base file
+        DeletionVectorsMaintainer dvMaintainer = factory.create(emptyList());
+        dvMaintainer.notifyNewDeletion("f1", 1);
+        dvMaintainer.notifyNewDeletion("f2", 1);
+        commit(dvMaintainer.writeIndexIncrement());
+        assertThat(scanIndexFiles()).hasSize(1);
+
+        // delta files only contain changed deletion vectors, removed ones are empty
+        dvMaintainer = factory.create(scanIndexFiles());
+        dvMaintainer.notifyNewDeletion("f1", 2);
+        dvMaintainer.removeDeletionVectorOf("f2");
+        IndexIncrement delta = dvMaintainer.writeIndexIncrement();
+        assertThat(delta.deletedIndexFiles()).isEmpty();
+        Map<String, DeletionVector> deltaVectors =
+                fileHandler.readAllDeletionVectors(delta.newIndexFiles());
+        assertThat(deltaVectors).containsOnlyKeys("f1", "f2");
+        assertThat(deltaVectors.get("f2").isEmpty()).isTrue();
+        commit(delta);
+
+        dvMaintainer.notifyNewDeletion("f3", 1);
+        commit(dvMaintainer.writeIndexIncrement());
+        List<IndexFileMeta> indexFiles = scanIndexFiles();
+        assertThat(indexFiles).hasSize(3);
+
+        // later deletion vectors override earlier ones
+        Map<String, DeletionFile> deletionFiles =
+                fileHandler.scanDVIndex(table.latestSnapshot().get(), BinaryRow.EMPTY_ROW, 0);
+        assertThat(deletionFiles.get("f1").cardinality()).isEqualTo(2L);
+        assertThat(deletionFiles.get("f2").cardinality()).isEqualTo(0L);
+        DeletionVectorsMaintainer restored = factory.create(indexFiles);
+        assertThat(restored.deletionVectors()).containsOnlyKeys("f1", "f3");
+        assertThat(restored.deletionVectorOf("f1").get().isDeleted(2)).isTrue();
+
+        // too many delta files, fold them into a new base file
+        restored.notifyNewDeletion("f3", 2);
+        IndexIncrement base = restored.writeIndexIncrement();
+        assertThat(base.deletedIndexFiles()).containsExactlyElementsOf(indexFiles);
+        commit(base);
+        assertThat(scanIndexFiles()).containsExactlyElementsOf(base.newIndexFiles());
+        assertThat(fileHandler.readAllDeletionVectors(base.newIndexFiles()))
+                .containsOnlyKeys("f1", "f3");
+    }
+
+    @Test
+    public void testIncrementalCompactDeletion() {
+        Map<String, String> options = new HashMap<>();
+        options.put(CoreOptions.DELETION_VECTOR_INDEX_FILE_MAX_DELTA_NUM.key(), "1");
+        table = table.copy(options);
+        fileHandler = table.store().newIndexFileHandler();
+        DeletionVectorsMaintainer dvMaintainer =
+                new DeletionVectorsMaintainer.Factory(fileHandler).create(emptyList());
+        File indexDir = new File(tempPath.toFile(), "/default.db/T/index");
+
+        // async compactions generate a base and a delta file before commit, both are committed
+        dvMaintainer.notifyNewDeletion("f1", 1);
+        CompactDeletionFile deletionFile1 = CompactDeletionFile.generateFiles(dvMaintainer);
+        dvMaintainer.notifyNewDeletion("f2", 1);
+        CompactDeletionFile deletionFile2 =
+                CompactDeletionFile.generateFiles(dvMaintainer).mergeOldFile(deletionFile1);
+        assertThat(indexDir.listFiles()).hasSize(2);
+
+        // a new base file replaces the uncommitted files directly
+        dvMaintainer.notifyNewDeletion("f3", 1);
+        CompactDeletionFile deletionFile3 =
+                CompactDeletionFile.generateFiles(dvMaintainer).mergeOldFile(deletionFile2);
+        assertThat(indexDir.listFiles()).hasSize(1);
+
+        IndexIncrement increment = deletionFile3.getOrCompute();
+        assertThat(increment.newIndexFiles()).hasSize(1);
+        assertThat(increment.deletedIndexFiles()).isEmpty();
+        assertThat(fileHandler.readAllDeletionVectors(increment.newIndexFiles()))
+                .containsOnlyKeys("f1", "f2", "f3");
+    }
+
+    private void commit(IndexIncrement indexIncrement) {
+        CommitMessage commitMessage =
+                new CommitMessageImpl(
+                        BinaryRow.EMPTY_ROW,
+                        0,
+                        1,
+                        DataIncrement.emptyIncrement(),
+                        CompactIncrement.emptyIncrement(),
+                        indexIncrement);
+        try (BatchTableCommit commit = table.newBatchWriteBuilder().newCommit()) {
+            commit.commit(Collections.singletonList(commitMessage));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private List<IndexFileMeta> scanIndexFiles() {
+        return fileHandler.scan(
+                table.latestSnapshot().get(), DELETION_VECTORS_INDEX, BinaryRow.EMPTY_ROW, 0);
+    }
+
     private DeletionVector createDeletionVector(boolean bitmap64) {
         return bitmap64 ? new Bitmap64DeletionVector() : new BitmapDeletionVector();
     }
@@ -337,4 +337,46 @@ public class HashBucketAssignerTest extends PrimaryKeyTableTestBase {
         assigner.prepareCommit(3);
         assertThat(assigner.currentPartitions()).isEmpty();
     }
+
+    @Test
+    public void testIndexEvictWithMemoryLimit() {
+        // an index with one or zero key hash occupies 12 bytes
+        HashBucketAssigner assigner =
+                new HashBucketAssigner(
+                        table.snapshotManager(), commitUser, fileHandler, 1, 1, 0, 5, -1, true, 12);
+
+        // checkpoint 0, uncommitted assignments can not be evicted
+        assertThat(assigner.assign(row(1), 0)).isEqualTo(0);
+        assertThat(assigner.assign(row(2), 0)).isEqualTo(0);
+        assigner.prepareCommit(0);
+        assertThat(assigner.currentPartitions()).containsExactlyInAnyOrder(row(1), row(2));
+        commit.commit(
+                0,
+                Arrays.asList(
+                        createCommitMessage(
+                                row(1), 0, 1, fileHandler.writeHashIndex(new int[] {0})),
+                        createCommitMessage(
+                                row(2), 0, 1, fileHandler.writeHashIndex(new int[] {0}))));
+
+        // checkpoint 1, least recently used partition is evicted
+        assertThat(assigner.assign(row(1), 0)).isEqualTo(0);
+        assertThat(assigner.assign(row(2), 0)).isEqualTo(0);
+        assigner.prepareCommit(1);
+        assertThat(assigner.currentPartitions()).containsExactly(row(2));
+        assertThat(assigner.indexMemorySize()).isEqualTo(12L);
+
+        // reload evicted partition from index files
+        assertThat(assigner.assign(row(1), 0)).isEqualTo(0);
+        assertThat(assigner.assign(row(1), 1)).isEqualTo(0);
+
+        // load a new partition, modified partition is kept
+        assertThat(assigner.assign(row(3), 0)).isEqualTo(0);
+        assertThat(assigner.currentPartitions()).containsExactlyInAnyOrder(row(1), row(3));
+        assertThat(assigner.indexMemorySize()).isEqualTo(36L);
+
+        // off-heap indexes are freed on close
+        assigner.close();
+        assertThat(assigner.currentPartitions()).isEmpty();
+        assertThat(assigner.indexMemorySize()).isZero();
+    }
 }
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.index;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.catalog.PrimaryKeyTableTestBase;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.io.IndexIncrement;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.types.RowKind;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.apache.paimon.CoreOptions.AGGREGATION_REMOVE_RECORD_ON_DELETE;
+import static org.apache.paimon.CoreOptions.CROSS_PARTITION_UPSERT_INDEX_FILE_MAX_DELTA_NUM;
+import static org.apache.paimon.CoreOptions.IGNORE_DELETE;
+import static org.apache.paimon.CoreOptions.MERGE_ENGINE;
+import static org.apache.paimon.CoreOptions.PARTIAL_UPDATE_REMOVE_RECORD_ON_DELETE;
+import static org.apache.paimon.CoreOptions.SEQUENCE_FIELD;
+import static org.apache.paimon.data.BinaryRow.EMPTY_ROW;
+import static org.apache.paimon.index.KeyIndexMaintainer.readKeys;
+import static org.apache.paimon.index.KeyIndexMaintainer.removeKeyOnDelete;
+import static org.apache.paimon.io.DataFileTestUtils.newFile;
+import static org.apache.paimon.io.DataFileTestUtils.row;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link KeyIndexMaintainer}. */
+public class KeyIndexMaintainerTest extends PrimaryKeyTableTestBase {
+
+    @Test
+    public void testDeltaFiles() {
+        IndexFileHandler fileHandler = table.store().newIndexFileHandler();
+        Options options = new Options();
+        options.set(CROSS_PARTITION_UPSERT_INDEX_FILE_MAX_DELTA_NUM, 1);
+        KeyIndexMaintainer.Factory factory =
+                new KeyIndexMaintainer.Factory(fileHandler, new CoreOptions(options));
+        KeyIndexMaintainer maintainer = factory.create(null, EMPTY_ROW, 0, Collections.emptyList());
+
+        maintainer.notifyNewRecord(keyValue(1, RowKind.INSERT));
+        maintainer.notifyNewRecord(keyValue(2, RowKind.INSERT));
+        IndexIncrement base = maintainer.prepareCommit();
+        assertThat(base.newIndexFiles()).hasSize(1);
+        assertThat(base.deletedIndexFiles()).isEmpty();
+
+        // no changes, no new files
+        assertThat(maintainer.prepareCommit().isEmpty()).isTrue();
+
+        // delta file only contains the changed keys
+        maintainer.notifyNewRecord(keyValue(2, RowKind.DELETE));
+        maintainer.notifyNewRecord(keyValue(3, RowKind.INSERT));
+        IndexIncrement delta = maintainer.prepareCommit();
+        assertThat(delta.newIndexFiles()).hasSize(1);
+        assertThat(delta.deletedIndexFiles()).isEmpty();
+        assertThat(keys(fileHandler, delta.newIndexFiles())).containsExactly(row(3));
+
+        List<IndexFileMeta> indexFiles = new ArrayList<>(base.newIndexFiles());
+        indexFiles.addAll(delta.newIndexFiles());
+        assertThat(keys(fileHandler, indexFiles)).containsExactly(row(1), row(3));
+
+        // too many delta files, fold them into a new file
+        maintainer.notifyNewRecord(keyValue(4, RowKind.UPDATE_AFTER));
+        IndexIncrement fold = maintainer.prepareCommit();
+        assertThat(fold.deletedIndexFiles()).containsExactlyElementsOf(indexFiles);
+        assertThat(keys(fileHandler, fold.newIndexFiles())).containsExactly(row(1), row(3), row(4));
+        assertThat(fold.newIndexFiles().get(0).rowCount()).isEqualTo(3);
+
+        // the keys of existing data files are unknown
+        assertThat(factory.create(null, EMPTY_ROW, 0, Collections.singletonList(newFile())))
+                .isNull();
+    }
+
+    @Test
+    public void testMergeSortedFiles() {
+        IndexFileHandler fileHandler = table.store().newIndexFileHandler();
+        Options options = new Options();
+        options.set(CROSS_PARTITION_UPSERT_INDEX_FILE_MAX_DELTA_NUM, 3);
+        KeyIndexMaintainer maintainer =
+                new KeyIndexMaintainer.Factory(fileHandler, new CoreOptions(options))
+                        .create(null, EMPTY_ROW, 0, Collections.emptyList());
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Set<BinaryRow> expected = new HashSet<>();
+        List<IndexFileMeta> indexFiles = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            for (int j = 0; j < 100; j++) {
+                int key = random.nextInt(300);
+                if (random.nextInt(3) == 0) {
+                    maintainer.notifyNewRecord(keyValue(key, RowKind.DELETE));
+                    expected.remove(row(key));
+                } else {
+                    maintainer.notifyNewRecord(keyValue(key, RowKind.INSERT));
+                    expected.add(row(key));
+                }
+            }
+            IndexIncrement increment = maintainer.prepareCommit();
+            indexFiles.removeAll(increment.deletedIndexFiles());
+            indexFiles.addAll(increment.newIndexFiles());
+            assertThat(indexFiles.size()).isLessThanOrEqualTo(4);
+
+            List<BinaryRow> keys = keys(fileHandler, indexFiles);
+            assertThat(keys).containsExactlyInAnyOrderElementsOf(expected);
+            assertThat(keys).isSortedAccordingTo(KeyIndexFile.KEY_COMPARATOR);
+        }
+    }
+
+    @Test
+    public void testRemoveKeyOnDelete() {
+        Options options = new Options();
+        assertThat(removeKeyOnDelete(new CoreOptions(options))).isTrue();
+
+        options.set(IGNORE_DELETE, true);
+        assertThat(removeKeyOnDelete(new CoreOptions(options))).isFalse();
+
+        options = new Options();
+        options.set(SEQUENCE_FIELD, "v");
+        assertThat(removeKeyOnDelete(new CoreOptions(options))).isFalse();
+
+        options = new Options();
+        options.set(MERGE_ENGINE, CoreOptions.MergeEngine.FIRST_ROW);
+        assertThat(removeKeyOnDelete(new CoreOptions(options))).isFalse();
+
+        options.set(MERGE_ENGINE, CoreOptions.MergeEngine.PARTIAL_UPDATE);
+        assertThat(removeKeyOnDelete(new CoreOptions(options))).isFalse();
+        options.set(PARTIAL_UPDATE_REMOVE_RECORD_ON_DELETE, true);
+        assertThat(removeKeyOnDelete(new CoreOptions(options))).isTrue();
+
+        options.set(MERGE_ENGINE, CoreOptions.MergeEngine.AGGREGATE);
+        assertThat(removeKeyOnDelete(new CoreOptions(options))).isFalse();
+        options.set(AGGREGATION_REMOVE_RECORD_ON_DELETE, true);
+        assertThat(removeKeyOnDelete(new CoreOptions(options))).isTrue();
+    }
+
+    private static List<BinaryRow> keys(
+            IndexFileHandler fileHandler, List<IndexFileMeta> indexFiles) {
+        List<BinaryRow> keys = new ArrayList<>();
+        try (KeyIndexMaintainer.KeyIterator iterator = readKeys(fileHandler, indexFiles)) {
+            iterator.forEachRemaining(keys::add);
+        }
+        return keys;
+    }
+
+    private static KeyValue keyValue(int key, RowKind rowKind) {
+        return new KeyValue().replace(row(key), rowKind, GenericRow.of(key));
+    }
+}
@@ -64,6 +64,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static org.apache.paimon.KeyValue.UNKNOWN_SEQUENCE;
@@ -267,6 +268,131 @@ public class LookupLevelsTest {
         assertThat(kv.value().getInt(1)).isEqualTo(11);
     }
 
+    @Test
+    public void testLookupBatch() throws IOException {
+        Levels levels =
+                new Levels(
+                        comparator,
+                        Arrays.asList(
+                                newFile(0, kv(1, 0, 6)),
+                                newFile(1, kv(1, 11, 1), kv(3, 33, 2)),
+                                newFile(1, kv(5, 5, 3), kv(7, 77, 4)),
+                                newFile(2, kv(2, 22, 5), kv(5, 55, 6), kv(9, 99, 7))),
+                        3);
+        LookupLevels<KeyValue> lookupLevels =
+                createLookupLevels(levels, MemorySize.ofMebiBytes(10));
+
+        int[] keys = new int[] {9, 4, 1, 5, 2, 10, 7, 1, 0, 3};
+        List<InternalRow> keyRows = new ArrayList<>();
+        for (int key : keys) {
+            keyRows.add(row(key));
+        }
+
+        for (int startLevel = 0; startLevel <= 1; startLevel++) {
+            List<KeyValue> results = lookupLevels.lookupBatch(keyRows, startLevel);
+            assertThat(results).hasSize(keys.length);
+            for (int i = 0; i < keys.length; i++) {
+                KeyValue expected = lookupLevels.lookup(row(keys[i]), startLevel);
+                KeyValue actual = results.get(i);
+                if (expected == null) {
+                    assertThat(actual).isNull();
+                } else {
+                    assertThat(actual).isNotNull();
+                    assertThat(actual.key().getInt(0)).isEqualTo(keys[i]);
+                    assertThat(actual.level()).isEqualTo(expected.level());
+                    assertThat(actual.sequenceNumber()).isEqualTo(expected.sequenceNumber());
+                    assertThat(actual.value().getInt(1)).isEqualTo(expected.value().getInt(1));
+                }
+            }
+        }
+
+        List<KeyValue> results = lookupLevels.lookupBatch(keyRows, 0);
+        assertThat(results.get(2).level()).isEqualTo(0);
+        assertThat(results.get(3).level()).isEqualTo(1);
+        assertThat(results.get(0).level()).isEqualTo(2);
+        assertThat(results.get(1)).isNull();
+        assertThat(results.get(5)).isNull();
+
+        lookupLevels.close();
+        assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void testPersistentLookupFiles() throws IOException {
+        DataFileMeta file1 = newFile(1, kv(1, 11, 1), kv(3, 33, 2));
+        DataFileMeta file2 = newFile(2, kv(2, 22, 3), kv(3, 55, 4));
+        File persistentDir = new File(tempDir.toFile(), "persistent");
+        AtomicInteger fileReads = new AtomicInteger();
+
+        LookupLevels<KeyValue> lookupLevels =
+                createLookupLevels(
+                        new Levels(comparator, Arrays.asList(file1, file2), 3),
+                        PersistentLookupFiles.createIsolated(persistentDir, Long.MAX_VALUE, "test"),
+                        fileReads);
+        assertThat(lookupLevels.lookup(row(2), 1).value().getInt(1)).isEqualTo(22);
+        assertThat(lookupLevels.lookup(row(3), 1).value().getInt(1)).isEqualTo(33);
+        assertThat(fileReads.get()).isEqualTo(2);
+        lookupLevels.close();
+        assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
+
+        // restart, lookup files are restored from the manifest without reading data files
+        PersistentLookupFiles persistentFiles =
+                PersistentLookupFiles.createIsolated(persistentDir, Long.MAX_VALUE, "test");
+        assertThat(persistentFiles.persistedFiles())
+                .containsExactlyInAnyOrder(file1.fileName(), file2.fileName());
+        Levels levels = new Levels(comparator, Arrays.asList(file1, file2), 3);
+        lookupLevels = createLookupLevels(levels, persistentFiles, fileReads);
+        assertThat(lookupLevels.lookup(row(1), 1).value().getInt(1)).isEqualTo(11);
+        assertThat(lookupLevels.lookup(row(2), 1).value().getInt(1)).isEqualTo(22);
+        assertThat(lookupLevels.lookup(row(3), 2).value().getInt(1)).isEqualTo(55);
+        assertThat(lookupLevels.lookup(row(4), 1)).isNull();
+        assertThat(fileReads.get()).isEqualTo(2);
+
+        // dropped data file is removed from the directory
+        levels.update(Collections.singletonList(file1), Collections.emptyList());
+        assertThat(persistentFiles.persistedFiles()).containsExactly(file2.fileName());
+        lookupLevels.close();
+
+        // a different store format can not reuse the lookup files
+        persistentFiles =
+                PersistentLookupFiles.createIsolated(persistentDir, Long.MAX_VALUE, "other");
+        lookupLevels =
+                createLookupLevels(
+                        new Levels(comparator, Collections.singletonList(file2), 3),
+                        persistentFiles,
+                        fileReads);
+        assertThat(lookupLevels.lookup(row(2), 1).value().getInt(1)).isEqualTo(22);
+        assertThat(fileReads.get()).isEqualTo(3);
+        lookupLevels.close();
+
+        // disk quota is enforced on restart
+        persistentFiles = PersistentLookupFiles.createIsolated(persistentDir, 1, "other");
+        assertThat(persistentFiles.persistedFiles()).isEmpty();
+        assertThat(persistentDir.list()).containsExactly("lookup-manifest");
+    }
+
+    private LookupLevels<KeyValue> createLookupLevels(
+            Levels levels, PersistentLookupFiles persistentFiles, AtomicInteger fileReads) {
+        return new LookupLevels<>(
+                levels,
+                comparator,
+                keyType,
+                new LookupLevels.KeyValueProcessor(rowType),
+                file -> {
+                    fileReads.incrementAndGet();
+                    return createReaderFactory().createRecordReader(file);
+                },
+                file -> new File(tempDir.toFile(), LOOKUP_FILE_PREFIX + UUID.randomUUID()),
+                new HashLookupStoreFactory(
+                        new CacheManager(MemorySize.ofMebiBytes(1)),
+                        2048,
+                        0.75,
+                        new CompressOptions("none", 1)),
+                rowCount -> BloomFilter.builder(rowCount, 0.05),
+                LookupFile.createCache(Duration.ofHours(1), MemorySize.ofMebiBytes(10)),
+                persistentFiles);
+    }
+
     private LookupLevels<KeyValue> createLookupLevels(Levels levels, MemorySize maxDiskSize) {
         return new LookupLevels<>(
                 levels,
@@ -71,6 +71,8 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -83,15 +85,22 @@ import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.singletonList;
 import static org.apache.paimon.utils.FileStorePathFactoryTest.createNonPartFactory;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Tests for {@link MergeTreeReaders} and {@link MergeTreeWriter}. */
 public abstract class MergeTreeTestBase {
@@ -360,6 +369,85 @@ public abstract class MergeTreeTestBase {
         doTestWriteRead(3, 20_000);
     }
 
+    @Test
+    public void testWriteManyWithAsyncFlush() throws Exception {
+        ExecutorService flushExecutor = Executors.newSingleThreadExecutor();
+        try {
+            writer.close();
+            writer =
+                    createMergeTreeWriter(
+                            Collections.emptyList(),
+                            createCompactManager(service, Collections.emptyList()),
+                            flushExecutor);
+            doTestWriteRead(3, 20_000);
+        } finally {
+            flushExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testAsyncFlushFailure() throws Exception {
+        ExecutorService flushExecutor =
+                new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>()) {
+                    @Override
+                    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+                        return new FutureTask<>(
+                                () -> {
+                                    throw new IOException("Expected exception");
+                                });
+                    }
+                };
+        try {
+            writer.close();
+            writer =
+                    createMergeTreeWriter(
+                            Collections.emptyList(),
+                            createCompactManager(service, Collections.emptyList()),
+                            flushExecutor);
+            // the original exception of the flush is thrown, not the ExecutionException
+            assertThatThrownBy(
+                            () -> {
+                                writeBatch(20_000);
+                                writer.prepareCommit(true);
+                            })
+                    .isInstanceOf(IOException.class)
+                    .hasMessage("Expected exception");
+            // the buffer of the failed flush is released
+            assertThat(writer.memoryOccupancy()).isLessThanOrEqualTo(options.writeBufferSize());
+        } finally {
+            flushExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testAsyncFlushFallbackWithSmallBuffer() throws Exception {
+        // every flush submitted to this executor fails
+        ExecutorService flushExecutor =
+                new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>()) {
+                    @Override
+                    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+                        return new FutureTask<>(
+                                () -> {
+                                    throw new IOException("Unexpected asynchronous flush");
+                                });
+                    }
+                };
+        try {
+            writer.close();
+            // too small to be split into two buffers, records are flushed synchronously
+            writer =
+                    createMergeTreeWriter(
+                            Collections.emptyList(),
+                            createCompactManager(service, Collections.emptyList()),
+                            flushExecutor,
+                            options.pageSize()
+                                    * (2L * MergeTreeWriter.MIN_ASYNC_FLUSH_BUFFER_PAGES - 1));
+            doTestWriteRead(3, 20_000);
+        } finally {
+            flushExecutor.shutdownNow();
+        }
+    }
+
     private void doTestWriteRead(int batchNumber) throws Exception {
         doTestWriteRead(batchNumber, 200);
     }
@@ -412,6 +500,24 @@ public abstract class MergeTreeTestBase {
 
     private MergeTreeWriter createMergeTreeWriter(
             List<DataFileMeta> files, MergeTreeCompactManager compactManager) {
+        return createMergeTreeWriter(files, compactManager, null);
+    }
+
+    private MergeTreeWriter createMergeTreeWriter(
+            List<DataFileMeta> files,
+            MergeTreeCompactManager compactManager,
+            @Nullable ExecutorService flushExecutor) {
+        // two buffers of asynchronous flush need at least 3 pages for each
+        long writeBufferSize =
+                flushExecutor == null ? options.writeBufferSize() : options.writeBufferSize() * 2;
+        return createMergeTreeWriter(files, compactManager, flushExecutor, writeBufferSize);
+    }
+
+    private MergeTreeWriter createMergeTreeWriter(
+            List<DataFileMeta> files,
+            MergeTreeCompactManager compactManager,
+            @Nullable ExecutorService flushExecutor,
+            long writeBufferSize) {
         long maxSequenceNumber =
                 files.stream().map(DataFileMeta::maxSequenceNumber).max(Long::compare).orElse(-1L);
         MergeTreeWriter writer =
@@ -429,9 +535,9 @@ public abstract class MergeTreeTestBase {
                         options.commitForceCompact(),
                         ChangelogProducer.NONE,
                         null,
-                        null);
-        writer.setMemoryPool(
-                new HeapMemorySegmentPool(options.writeBufferSize(), options.pageSize()));
+                        null,
+                        flushExecutor);
+        writer.setMemoryPool(new HeapMemorySegmentPool(writeBufferSize, options.pageSize()));
         return writer;
     }
 
@@ -21,7 +21,9 @@ package org.apache.paimon.mergetree.compact;
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.CoreOptions.SortEngine;
 import org.apache.paimon.KeyValue;
+import org.apache.paimon.codegen.CodeGenUtils;
 import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.types.DataTypes;
 import org.apache.paimon.utils.ReusingTestData;
 import org.apache.paimon.utils.TestReusingRecordReader;
 
@@ -30,6 +32,7 @@ import org.junit.jupiter.params.provider.EnumSource;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /** Tests for {@link SortMergeReader}. */
@@ -125,4 +128,24 @@ public abstract class SortMergeReaderTestBase extends CombiningRecordReaderTestB
             return new LookupMergeFunction(new FirstRowMergeFunction(false));
         }
     }
+
+    /**
+     * Tests for {@link SortMergeReader} with {@link DeduplicateMergeFunction}, comparing normalized
+     * key prefixes first.
+     */
+    public static class WithNormalizedKey extends WithDeduplicateMergeFunction {
+
+        @Override
+        protected RecordReader<KeyValue> createRecordReader(
+                List<TestReusingRecordReader> readers, CoreOptions.SortEngine sortEngine) {
+            return SortMergeReader.createSortMergeReader(
+                    new ArrayList<>(readers),
+                    KEY_COMPARATOR,
+                    null,
+                    new ReducerMergeFunctionWrapper(createMergeFunction()),
+                    sortEngine,
+                    CodeGenUtils.newNormalizedKeyComputer(
+                            Collections.singletonList(DataTypes.INT()), new int[] {0}));
+        }
+    }
 }
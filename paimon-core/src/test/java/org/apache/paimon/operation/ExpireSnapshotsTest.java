@@ -512,6 +512,59 @@ public class ExpireSnapshotsTest {
         store.assertCleaned();
     }
 
+    @Test
+    public void testExpireWithBulkDelete() throws Exception {
+        List<KeyValue> allData = new ArrayList<>();
+        List<Integer> snapshotPositions = new ArrayList<>();
+        commit(10, allData, snapshotPositions);
+        int latestSnapshotId = requireNonNull(snapshotManager.latestSnapshotId()).intValue();
+
+        List<Integer> bulkDeleteSizes = Collections.synchronizedList(new ArrayList<>());
+        FileIO bulkDeleteFileIO =
+                new LocalFileIO() {
+                    @Override
+                    public void deleteFilesQuietly(List<Path> files) {
+                        bulkDeleteSizes.add(files.size());
+                        super.deleteFilesQuietly(files);
+                    }
+
+                    @Override
+                    public int bulkDeleteLimit() {
+                        return 2;
+                    }
+                };
+        SnapshotDeletion snapshotDeletion =
+                new SnapshotDeletion(
+                        bulkDeleteFileIO,
+                        store.pathFactory(),
+                        store.manifestFileFactory().create(),
+                        store.manifestListFactory().create(),
+                        store.newIndexFileHandler(),
+                        store.newStatsFileHandler(),
+                        store.options().changelogProducer() != CoreOptions.ChangelogProducer.NONE,
+                        true,
+                        4);
+        new ExpireSnapshotsImpl(
+                        snapshotManager,
+                        changelogManager,
+                        snapshotDeletion,
+                        new TagManager(fileIO, store.options().path()))
+                .config(
+                        ExpireConfig.builder()
+                                .snapshotRetainMax(1)
+                                .snapshotRetainMin(1)
+                                .snapshotTimeRetain(Duration.ofMillis(Long.MAX_VALUE))
+                                .build())
+                .expire();
+
+        for (int i = 1; i < latestSnapshotId; i++) {
+            assertThat(snapshotManager.snapshotExists(i)).isFalse();
+        }
+        assertSnapshot(latestSnapshotId, allData, snapshotPositions);
+        assertThat(bulkDeleteSizes).isNotEmpty().allMatch(size -> size >= 1 && size <= 2);
+        store.assertCleaned();
+    }
+
     @Test
     public void testExpireWithTime() throws Exception {
         ExpireConfig.Builder builder = ExpireConfig.builder();
@@ -165,6 +165,20 @@ public class FileStoreCommitTest {
                 CoreOptions.ChangelogProducer.valueOf(changelogProducer));
     }
 
+    @ParameterizedTest
+    @CsvSource({"false,NONE", "false,INPUT", "true,NONE"})
+    public void testManyCommitUsersWithIncrementalConflictCheck(
+            boolean failing, String changelogProducer) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        options.put(CoreOptions.COMMIT_INCREMENTAL_CONFLICT_CHECK_ENABLED.key(), "true");
+        options.put(CoreOptions.COMMIT_INCREMENTAL_CONFLICT_CHECK_MAX_DELTA_SNAPSHOTS.key(), "5");
+        testRandomConcurrentWithConflict(
+                ThreadLocalRandom.current().nextInt(3) + 2,
+                failing,
+                CoreOptions.ChangelogProducer.valueOf(changelogProducer),
+                options);
+    }
+
     @Test
     public void testLatestHint() throws Exception {
         testRandomConcurrentNoConflict(1, false, CoreOptions.ChangelogProducer.NONE);
@@ -252,12 +266,23 @@ public class FileStoreCommitTest {
                 // so only enable it when changelog producer is none
                 changelogProducer == CoreOptions.ChangelogProducer.NONE,
                 failing,
-                changelogProducer);
+                changelogProducer,
+                Collections.emptyMap());
     }
 
     protected void testRandomConcurrentWithConflict(
             int numThreads, boolean failing, CoreOptions.ChangelogProducer changelogProducer)
             throws Exception {
+        testRandomConcurrentWithConflict(
+                numThreads, failing, changelogProducer, Collections.emptyMap());
+    }
+
+    protected void testRandomConcurrentWithConflict(
+            int numThreads,
+            boolean failing,
+            CoreOptions.ChangelogProducer changelogProducer,
+            Map<String, String> options)
+            throws Exception {
         // prepare test data
         Map<BinaryRow, List<KeyValue>> data =
                 generateData(ThreadLocalRandom.current().nextInt(1000) + 1);
@@ -281,14 +306,15 @@ public class FileStoreCommitTest {
             }
         }
 
-        testRandomConcurrent(dataPerThread, false, failing, changelogProducer);
+        testRandomConcurrent(dataPerThread, false, failing, changelogProducer, options);
     }
 
     private void testRandomConcurrent(
             List<Map<BinaryRow, List<KeyValue>>> dataPerThread,
             boolean enableOverwrite,
             boolean failing,
-            CoreOptions.ChangelogProducer changelogProducer)
+            CoreOptions.ChangelogProducer changelogProducer,
+            Map<String, String> options)
             throws Exception {
         // concurrent commits
         List<TestCommitThread> threads = new ArrayList<>();
@@ -299,13 +325,13 @@ public class FileStoreCommitTest {
                             TestKeyValueGenerator.DEFAULT_ROW_TYPE,
                             enableOverwrite,
                             data,
-                            createStore(failing, 1, changelogProducer),
-                            createStore(false, 1, changelogProducer));
+                            createStore(failing, 1, changelogProducer, options),
+                            createStore(false, 1, changelogProducer, options));
             thread.start();
             threads.add(thread);
         }
 
-        TestFileStore store = createStore(false, 1, changelogProducer);
+        TestFileStore store = createStore(false, 1, changelogProducer, options);
 
         // calculate expected results
         List<KeyValue> threadResults = new ArrayList<>();
@@ -0,0 +1,294 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation;
+
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.TestFileStore;
+import org.apache.paimon.TestKeyValueGenerator;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.manifest.FileEntry;
+import org.apache.paimon.manifest.FileKind;
+import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.manifest.ManifestList;
+import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
+import org.apache.paimon.metrics.Gauge;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.TestMetricRegistry;
+import org.apache.paimon.operation.metrics.ScanMetrics;
+import org.apache.paimon.schema.Schema;
+import org.apache.paimon.schema.SchemaManager;
+import org.apache.paimon.table.source.ScanMode;
+import org.apache.paimon.utils.Pair;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link IncrementalManifestCache}. */
+public class IncrementalManifestCacheTest {
+
+    private static final int NUM_BUCKETS = 4;
+
+    @TempDir java.nio.file.Path tempDir;
+
+    private TestKeyValueGenerator gen;
+    private TestFileStore store;
+    private IncrementalManifestCache cache;
+
+    @BeforeEach
+    public void beforeEach() throws Exception {
+        gen = new TestKeyValueGenerator();
+        store =
+                new TestFileStore.Builder(
+                                "avro",
+                                tempDir.toString(),
+                                NUM_BUCKETS,
+                                TestKeyValueGenerator.DEFAULT_PART_TYPE,
+                                TestKeyValueGenerator.KEY_TYPE,
+                                TestKeyValueGenerator.DEFAULT_ROW_TYPE,
+                                TestKeyValueGenerator.TestKeyValueFieldsExtractor.EXTRACTOR,
+                                DeduplicateMergeFunction.factory(),
+                                null)
+                        .build();
+        new SchemaManager(store.fileIO(), store.options().path())
+                .createTable(
+                        new Schema(
+                                TestKeyValueGenerator.DEFAULT_ROW_TYPE.getFields(),
+                                TestKeyValueGenerator.DEFAULT_PART_TYPE.getFieldNames(),
+                                TestKeyValueGenerator.getPrimaryKeys(
+                                        TestKeyValueGenerator.GeneratorMode.MULTI_PARTITIONED),
+                                Collections.emptyMap(),
+                                null));
+        cache = newCache(100);
+    }
+
+    @Test
+    public void testApplyDeltas() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            if (i % 7 == 6) {
+                overwriteData(generateData(50));
+            } else {
+                writeData(generateData(ThreadLocalRandom.current().nextInt(100) + 1));
+            }
+            assertSamePlan(store.newScan(), cachedScan());
+            assertThat(cache.read(store.snapshotManager().latestSnapshot()).snapshotId())
+                    .isEqualTo(store.snapshotManager().latestSnapshotId());
+        }
+    }
+
+    @Test
+    public void testFilters() throws Exception {
+        List<KeyValue> data = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            List<KeyValue> kvs = generateData(100);
+            writeData(kvs);
+            data.addAll(kvs);
+        }
+        // warm up the cache
+        cachedScan().plan();
+
+        BinaryRow partition = gen.getPartition(data.get(0));
+        assertSamePlan(
+                store.newScan().withPartitionFilter(Collections.singletonList(partition)),
+                cachedScan().withPartitionFilter(Collections.singletonList(partition)));
+        assertSamePlan(store.newScan().withBucket(1), cachedScan().withBucket(1));
+        assertSamePlan(store.newScan().withLevel(0), cachedScan().withLevel(0));
+    }
+
+    @Test
+    public void testTimeTravelKeepsLatest() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            writeData(generateData(100));
+        }
+        Snapshot latest = store.snapshotManager().latestSnapshot();
+        IncrementalManifestCache.LiveFiles liveFiles = cache.read(latest);
+
+        assertSamePlan(store.newScan().withSnapshot(2), cachedScan().withSnapshot(2));
+        assertThat(cache.read(latest)).isSameAs(liveFiles);
+    }
+
+    @Test
+    public void testFallbackToReadAll() throws Exception {
+        writeData(generateData(100));
+        cachedScan().plan();
+        for (int i = 0; i < 5; i++) {
+            writeData(generateData(100));
+        }
+
+        // too many snapshots since the cached one
+        IncrementalManifestCache smallCache = newCache(2);
+        smallCache.read(store.snapshotManager().snapshot(1));
+        assertSamePlan(store.newScan(), cachedScan(smallCache));
+
+        // delta manifests of expired snapshots are not available
+        store.newExpire(1, 1, Long.MAX_VALUE).expire();
+        assertSamePlan(store.newScan(), cachedScan());
+    }
+
+    @Test
+    public void testDeltaAndChangelog() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            writeData(generateData(100));
+        }
+        // applying deltas to the live files caches the delta entries of the snapshots
+        cache.read(store.snapshotManager().snapshot(1));
+        cache.read(store.snapshotManager().latestSnapshot());
+
+        for (long id = 1; id <= store.snapshotManager().latestSnapshotId(); id++) {
+            Snapshot snapshot = store.snapshotManager().snapshot(id);
+            IncrementalManifestCache.SnapshotEntries entries = cache.readDelta(snapshot);
+            assertThat(cache.readDelta(snapshot)).isSameAs(entries);
+            assertSameEntries(
+                    store.newScan().withSnapshot(id).withKind(ScanMode.DELTA),
+                    cachedScan().withSnapshot(id).withKind(ScanMode.DELTA));
+            assertSameEntries(
+                    store.newScan().withSnapshot(id).withKind(ScanMode.CHANGELOG),
+                    cachedScan().withSnapshot(id).withKind(ScanMode.CHANGELOG));
+        }
+
+        BinaryRow partition = cachedScan().plan().files().get(0).partition();
+        assertSameEntries(
+                store.newScan()
+                        .withKind(ScanMode.DELTA)
+                        .withPartitionFilter(Collections.singletonList(partition)),
+                cachedScan()
+                        .withKind(ScanMode.DELTA)
+                        .withPartitionFilter(Collections.singletonList(partition)));
+    }
+
+    @Test
+    public void testScannedManifestsMetric() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            writeData(generateData(100));
+        }
+        Snapshot base = store.snapshotManager().latestSnapshot();
+        cache.read(base);
+        for (int i = 0; i < 2; i++) {
+            writeData(generateData(100));
+        }
+        Snapshot latest = store.snapshotManager().latestSnapshot();
+        cache.read(latest);
+
+        // the count of the base snapshot is carried forward and added by the applied deltas
+        ManifestList manifestList = store.manifestListFactory().create();
+        long expectedManifests = manifestList.readDataManifests(base).size();
+        for (long id = base.id() + 1; id <= latest.id(); id++) {
+            expectedManifests +=
+                    manifestList.readDeltaManifests(store.snapshotManager().snapshot(id)).size();
+        }
+
+        List<MetricGroup> groups = new ArrayList<>();
+        TestMetricRegistry registry =
+                new TestMetricRegistry() {
+                    @Override
+                    public MetricGroup createMetricGroup(
+                            String groupName, Map<String, String> variables) {
+                        MetricGroup group = super.createMetricGroup(groupName, variables);
+                        groups.add(group);
+                        return group;
+                    }
+                };
+        cachedScan().withMetrics(new ScanMetrics(registry, "t")).plan();
+        assertThat(lastScannedManifests(groups.get(0))).isEqualTo(expectedManifests);
+
+        groups.clear();
+        cachedScan().withKind(ScanMode.DELTA).withMetrics(new ScanMetrics(registry, "t")).plan();
+        assertThat(lastScannedManifests(groups.get(0)))
+                .isEqualTo(manifestList.readDeltaManifests(latest).size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private long lastScannedManifests(MetricGroup group) {
+        return ((Gauge<Long>) group.getMetrics().get(ScanMetrics.LAST_SCANNED_MANIFESTS))
+                .getValue();
+    }
+
+    private IncrementalManifestCache newCache(int maxDeltaSnapshots) {
+        return new IncrementalManifestCache(
+                store.snapshotManager(),
+                store.manifestListFactory(),
+                store.manifestFileFactory(),
+                maxDeltaSnapshots,
+                null);
+    }
+
+    private AbstractFileStoreScan cachedScan() {
+        return cachedScan(cache);
+    }
+
+    private AbstractFileStoreScan cachedScan(IncrementalManifestCache cache) {
+        return store.newScan().withIncrementalManifestCache(cache);
+    }
+
+    private void assertSamePlan(FileStoreScan expected, FileStoreScan actual) {
+        FileStoreScan.Plan expectedPlan = expected.plan();
+        FileStoreScan.Plan actualPlan = actual.plan();
+        assertThat(actualPlan.snapshot().id()).isEqualTo(expectedPlan.snapshot().id());
+        assertThat(identifiers(actualPlan.files()))
+                .isEqualTo(identifiers(expectedPlan.files()))
+                .isNotEmpty();
+    }
+
+    private void assertSameEntries(FileStoreScan expected, FileStoreScan actual) {
+        assertThat(kindAndIdentifiers(actual.plan().files()))
+                .isEqualTo(kindAndIdentifiers(expected.plan().files()));
+    }
+
+    private List<Pair<FileKind, FileEntry.Identifier>> kindAndIdentifiers(
+            List<ManifestEntry> entries) {
+        return entries.stream()
+                .map(e -> Pair.of(e.kind(), e.identifier()))
+                .collect(Collectors.toList());
+    }
+
+    private Set<FileEntry.Identifier> identifiers(List<ManifestEntry> entries) {
+        return entries.stream().map(ManifestEntry::identifier).collect(Collectors.toSet());
+    }
+
+    private List<KeyValue> generateData(int numRecords) {
+        List<KeyValue> data = new ArrayList<>();
+        for (int i = 0; i < numRecords; i++) {
+            data.add(gen.next());
+        }
+        return data;
+    }
+
+    private void writeData(List<KeyValue> kvs) throws Exception {
+        store.commitData(kvs, gen::getPartition, this::getBucket);
+    }
+
+    private void overwriteData(List<KeyValue> kvs) throws Exception {
+        store.overwriteData(kvs, gen::getPartition, this::getBucket, Collections.emptyMap());
+    }
+
+    private int getBucket(KeyValue kv) {
+        return (kv.key().hashCode() % NUM_BUCKETS + NUM_BUCKETS) % NUM_BUCKETS;
+    }
+}
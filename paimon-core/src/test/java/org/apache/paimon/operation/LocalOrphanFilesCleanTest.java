@@ -32,6 +32,11 @@ import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.local.LocalFileIO;
 import org.apache.paimon.manifest.ManifestList;
 import org.apache.paimon.mergetree.compact.ConcatRecordReader;
+import org.apache.paimon.metrics.Gauge;
+import org.apache.paimon.metrics.Metric;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.TestMetricRegistry;
+import org.apache.paimon.operation.metrics.OrphanFilesCleanMetrics;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.reader.ReaderSupplier;
 import org.apache.paimon.reader.RecordReader;
@@ -150,6 +155,37 @@ public class LocalOrphanFilesCleanTest {
         normallyRemoving(tablePath);
     }
 
+    @Test
+    public void testNormallyRemovingPerPartition() throws Throwable {
+        // recreate the table with another option
+        this.write.close();
+        this.commit.close();
+        Options options = new Options();
+        options.set(CoreOptions.REMOVE_ORPHAN_FILES_PER_PARTITION, true);
+        this.table = createFileStoreTable(rowType, options);
+        String commitUser = UUID.randomUUID().toString();
+        write = table.newWrite(commitUser);
+        commit = table.newCommit(commitUser);
+        normallyRemoving(tablePath);
+    }
+
+    @Test
+    public void testNormallyRemovingPerPartitionWithExternalPath() throws Throwable {
+        // recreate the table with another option
+        this.write.close();
+        this.commit.close();
+        Options options = new Options();
+        options.set(CoreOptions.REMOVE_ORPHAN_FILES_PER_PARTITION, true);
+        options.set(CoreOptions.DATA_FILE_EXTERNAL_PATHS, "file://" + tmpExternalPath);
+        options.set(
+                CoreOptions.DATA_FILE_EXTERNAL_PATHS_STRATEGY, ExternalPathStrategy.ROUND_ROBIN);
+        this.table = createFileStoreTable(rowType, options);
+        String commitUser = UUID.randomUUID().toString();
+        write = table.newWrite(commitUser);
+        commit = table.newCommit(commitUser);
+        normallyRemoving(new Path(tmpExternalPath.toString()));
+    }
+
     public void normallyRemoving(Path dataPath) throws Throwable {
         int commitTimes = 30;
         List<List<TestPojo>> committedData = new ArrayList<>();
@@ -194,13 +230,44 @@ public class LocalOrphanFilesCleanTest {
 
         // first check, nothing will be deleted because the default olderThan interval is 1 day
         LocalOrphanFilesClean orphanFilesClean = new LocalOrphanFilesClean(table);
-        assertThat(orphanFilesClean.clean().getDeletedFilesPath().size()).isEqualTo(0);
+        assertThat(orphanFilesClean.clean().getDeletedFileCount()).isEqualTo(0);
 
         // second check
+        List<MetricGroup> metricGroups = new ArrayList<>();
         orphanFilesClean =
                 new LocalOrphanFilesClean(
-                        table, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(2));
-        List<Path> deleted = orphanFilesClean.clean().getDeletedFilesPath();
+                                table, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(2))
+                        .withMetricRegistry(
+                                new TestMetricRegistry() {
+                                    @Override
+                                    public MetricGroup createMetricGroup(
+                                            String groupName, Map<String, String> variables) {
+                                        MetricGroup group =
+                                                super.createMetricGroup(groupName, variables);
+                                        metricGroups.add(group);
+                                        return group;
+                                    }
+                                });
+        CleanOrphanFilesResult result = orphanFilesClean.clean();
+        List<Path> deleted = result.getDeletedFilesPath();
+        if (table.coreOptions().removeOrphanFilesPerPartition()) {
+            // paths of deleted files are not kept, check the files are gone instead
+            assertThat(deleted).isNull();
+            assertThat(result.getDeletedFileCount()).isEqualTo(manuallyAddedFiles.size());
+            for (Path file : manuallyAddedFiles) {
+                assertThat(fileIO.exists(file)).isFalse();
+            }
+            deleted = manuallyAddedFiles;
+
+            Map<String, Metric> metrics = metricGroups.get(0).getMetrics();
+            assertThat(gaugeValue(metrics, OrphanFilesCleanMetrics.CLEANED_PARTITIONS))
+                    .isPositive()
+                    .isEqualTo(gaugeValue(metrics, OrphanFilesCleanMetrics.TOTAL_PARTITIONS));
+            assertThat(gaugeValue(metrics, OrphanFilesCleanMetrics.DELETED_FILES))
+                    .isEqualTo(result.getDeletedFileCount());
+            assertThat(gaugeValue(metrics, OrphanFilesCleanMetrics.DELETED_FILES_LEN_IN_BYTES))
+                    .isEqualTo(result.getDeletedFileTotalLenInBytes());
+        }
         try {
             validate(deleted, snapshotData, new HashMap<>());
         } catch (Throwable t) {
@@ -829,6 +896,11 @@ public class LocalOrphanFilesCleanTest {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private static long gaugeValue(Map<String, Metric> metrics, String name) {
+        return ((Gauge<Long>) metrics.get(name)).getValue();
+    }
+
     private static String randomValue() {
         return StringUtils.getRandomString(RANDOM, 5, 20, 'a', 'z');
     }
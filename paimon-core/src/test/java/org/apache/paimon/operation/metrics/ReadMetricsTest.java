@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.metrics.Gauge;
+import org.apache.paimon.metrics.Metric;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.TestMetricRegistry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link ReadMetrics}. */
+public class ReadMetricsTest {
+
+    private static final String TABLE_NAME = "myTable";
+
+    /** Tests the registration of the read metrics. */
+    @Test
+    public void testGenericMetricsRegistration() {
+        ReadMetrics readMetrics = new ReadMetrics(new TestMetricRegistry(), TABLE_NAME);
+        MetricGroup metricGroup = readMetrics.getMetricGroup();
+        assertThat(metricGroup.getGroupName()).isEqualTo(ReadMetrics.GROUP_NAME);
+        assertThat(metricGroup.getMetrics().keySet())
+                .containsExactlyInAnyOrder(
+                        ReadMetrics.PREFETCH_HIT_BYTES, ReadMetrics.PREFETCH_STALL_TIME);
+    }
+
+    /** Tests that the metrics are updated properly. */
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testMetricsAreUpdated() {
+        ReadMetrics readMetrics = new ReadMetrics(new TestMetricRegistry(), TABLE_NAME);
+        Map<String, Metric> registeredMetrics = readMetrics.getMetricGroup().getMetrics();
+        Gauge<Long> hitBytes = (Gauge<Long>) registeredMetrics.get(ReadMetrics.PREFETCH_HIT_BYTES);
+        Gauge<Long> stallTime =
+                (Gauge<Long>) registeredMetrics.get(ReadMetrics.PREFETCH_STALL_TIME);
+        assertThat(hitBytes.getValue()).isEqualTo(0);
+        assertThat(stallTime.getValue()).isEqualTo(0);
+
+        readMetrics.getPrefetchStats().add(1024, 3_000_000);
+        readMetrics.getPrefetchStats().add(1024, 2_000_000);
+        assertThat(hitBytes.getValue()).isEqualTo(2048);
+        assertThat(stallTime.getValue()).isEqualTo(5);
+    }
+}
@@ -122,4 +122,19 @@ class SchemaValidationTest {
                 .hasMessageContaining(
                         "The record level time field type should be one of INT, BIGINT, or TIMESTAMP, but field type is STRING.");
     }
+
+    @Test
+    public void testAsyncFlushWithSpillable() {
+        Map<String, String> options = new HashMap<>();
+        options.put(CoreOptions.WRITE_BUFFER_ASYNC_FLUSH.key(), "true");
+        assertThatCode(() -> validateTableSchemaExec(options)).doesNotThrowAnyException();
+
+        options.put(CoreOptions.WRITE_BUFFER_SPILLABLE.key(), "false");
+        assertThatCode(() -> validateTableSchemaExec(options)).doesNotThrowAnyException();
+
+        options.put(CoreOptions.WRITE_BUFFER_SPILLABLE.key(), "true");
+        assertThatThrownBy(() -> validateTableSchemaExec(options))
+                .hasMessageContaining(
+                        "Cannot enable 'write-buffer-async-flush' together with 'write-buffer-spillable'");
+    }
 }
@@ -35,6 +35,10 @@ import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.local.LocalFileIO;
 import org.apache.paimon.io.BundleRecords;
 import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.metrics.Gauge;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricGroupImpl;
+import org.apache.paimon.operation.metrics.ReadMetrics;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.predicate.Equal;
 import org.apache.paimon.predicate.LeafPredicate;
@@ -45,7 +49,9 @@ import org.apache.paimon.schema.Schema;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.schema.SchemaUtils;
 import org.apache.paimon.schema.TableSchema;
+import org.apache.paimon.table.sink.BatchTableCommit;
 import org.apache.paimon.table.sink.BatchTableWrite;
+import org.apache.paimon.table.sink.BatchWriteBuilder;
 import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.table.sink.StreamTableCommit;
 import org.apache.paimon.table.sink.StreamTableWrite;
@@ -86,6 +92,7 @@ import static org.apache.paimon.CoreOptions.DATA_FILE_PATH_DIRECTORY;
 import static org.apache.paimon.CoreOptions.FILE_FORMAT;
 import static org.apache.paimon.CoreOptions.FILE_FORMAT_PARQUET;
 import static org.apache.paimon.CoreOptions.FILE_INDEX_IN_MANIFEST_THRESHOLD;
+import static org.apache.paimon.CoreOptions.FILE_INDEX_READ_PLAN_ENABLED;
 import static org.apache.paimon.CoreOptions.METADATA_STATS_MODE;
 import static org.apache.paimon.CoreOptions.WRITE_ONLY;
 import static org.apache.paimon.io.DataFileTestUtils.row;
@@ -587,6 +594,128 @@ public class AppendOnlySimpleTableTest extends SimpleTableTestBase {
         reader.forEachRemaining(row -> assertThat(row.getString(1).toString()).isEqualTo("b"));
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testReadMetricsOfPrefetch() throws Exception {
+        FileStoreTable table =
+                createUnawareBucketFileStoreTable(
+                        options -> {
+                            options.set(FILE_FORMAT, FILE_FORMAT_PARQUET);
+                            options.set("parquet.block.size", "1000");
+                            options.set("parquet.read.prefetch.enabled", "true");
+                        });
+        BatchWriteBuilder writeBuilder = table.newBatchWriteBuilder();
+        try (BatchTableWrite write = writeBuilder.newWrite();
+                BatchTableCommit commit = writeBuilder.newCommit()) {
+            for (int i = 0; i < 10000; i++) {
+                write.write(rowData(1, i, (long) i));
+            }
+            commit.commit(write.prepareCommit());
+        }
+
+        // TraceableFileIO streams do not support positioned reads, read with local file io
+        FileStoreTable localTable =
+                new AppendOnlyFileStoreTable(LocalFileIO.create(), tablePath, table.schema());
+        List<MetricGroup> metricGroups = new ArrayList<>();
+        TableRead read =
+                localTable
+                        .newRead()
+                        .withMetricRegistry(
+                                (groupName, variables) -> {
+                                    MetricGroup group = new MetricGroupImpl(groupName, variables);
+                                    metricGroups.add(group);
+                                    return group;
+                                });
+        AtomicInteger count = new AtomicInteger(0);
+        read.createReader(localTable.newScan().plan())
+                .forEachRemaining(row -> count.incrementAndGet());
+        assertThat(count.get()).isEqualTo(10000);
+
+        assertThat(metricGroups).hasSize(1);
+        assertThat(metricGroups.get(0).getGroupName()).isEqualTo(ReadMetrics.GROUP_NAME);
+        Gauge<Long> hitBytes =
+                (Gauge<Long>) metricGroups.get(0).getMetrics().get(ReadMetrics.PREFETCH_HIT_BYTES);
+        assertThat(hitBytes.getValue()).isGreaterThan(0);
+    }
+
+    @Test
+    public void testBloomFilterInDiskWhenPlanning() throws Exception {
+        RowType rowType =
+                RowType.builder()
+                        .field("id", DataTypes.INT())
+                        .field("index_column", DataTypes.STRING())
+                        .field("index_column2", DataTypes.INT())
+                        .field("index_column3", DataTypes.BIGINT())
+                        .build();
+        // in unaware-bucket mode, we split files into splits all the time
+        FileStoreTable table =
+                createUnawareBucketFileStoreTable(
+                        rowType,
+                        options -> {
+                            options.set(
+                                    FileIndexOptions.FILE_INDEX
+                                            + "."
+                                            + BloomFilterFileIndexFactory.BLOOM_FILTER
+                                            + "."
+                                            + CoreOptions.COLUMNS,
+                                    "index_column, index_column2, index_column3");
+                            options.set(FILE_INDEX_IN_MANIFEST_THRESHOLD.key(), "50 B");
+                            options.set(FILE_INDEX_READ_PLAN_ENABLED, true);
+                        });
+
+        StreamTableWrite write = table.newWrite(commitUser);
+        StreamTableCommit commit = table.newCommit(commitUser);
+        List<CommitMessage> result = new ArrayList<>();
+        write.write(GenericRow.of(1, BinaryString.fromString("a"), 2, 3L));
+        write.write(GenericRow.of(1, BinaryString.fromString("c"), 2, 3L));
+        result.addAll(write.prepareCommit(true, 0));
+        write.write(GenericRow.of(1, BinaryString.fromString("b"), 2, 3L));
+        result.addAll(write.prepareCommit(true, 0));
+        commit.commit(0, result);
+        result.clear();
+
+        Predicate predicate = new PredicateBuilder(rowType).equal(1, BinaryString.fromString("b"));
+        TableScan.Plan plan = table.newScan().withFilter(predicate).plan();
+        List<DataFileMeta> metas =
+                plan.splits().stream()
+                        .flatMap(split -> ((DataSplit) split).dataFiles().stream())
+                        .collect(Collectors.toList());
+        assertThat(metas.size()).isEqualTo(1);
+        assertThat(metas.get(0).extraFiles()).hasSize(1);
+
+        RecordReader<InternalRow> reader =
+                table.newRead().withFilter(predicate).createReader(plan.splits());
+        reader.forEachRemaining(row -> assertThat(row.getString(1).toString()).isEqualTo("b"));
+
+        // index files are cached, planning again doesn't read them
+        DataSplit split = (DataSplit) plan.splits().get(0);
+        Path indexFile =
+                table.store()
+                        .pathFactory()
+                        .createDataFilePathFactory(split.partition(), split.bucket())
+                        .toAlignedPath(metas.get(0).extraFiles().get(0), metas.get(0));
+        table.fileIO().deleteQuietly(indexFile);
+        assertThat(table.newScan().withFilter(predicate).plan().splits()).hasSize(1);
+
+        // a filter without indexed columns doesn't read index files, nothing is cached in a copy
+        Predicate idPredicate = new PredicateBuilder(rowType).equal(0, 1);
+        assertThat(
+                        table.copy(Collections.emptyMap())
+                                .newScan()
+                                .withFilter(idPredicate)
+                                .plan()
+                                .splits())
+                .isNotEmpty();
+
+        // delta scans don't read index files, the deleted index file doesn't fail them
+        List<DataFileMeta> deltaFiles =
+                table.copy(Collections.emptyMap()).newSnapshotReader().withMode(ScanMode.DELTA)
+                        .withFilter(predicate).read().dataSplits().stream()
+                        .flatMap(s -> s.dataFiles().stream())
+                        .collect(Collectors.toList());
+        assertThat(deltaFiles).hasSize(2);
+    }
+
     @Test
     public void testBSIAndBitmapIndexInMemory() throws Exception {
         RowType rowType =
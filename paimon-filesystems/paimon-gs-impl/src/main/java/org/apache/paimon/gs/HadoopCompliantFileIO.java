@@ -22,6 +22,7 @@ import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.FileStatus;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.PositionOutputStream;
+import org.apache.paimon.fs.PositionedReadable;
 import org.apache.paimon.fs.SeekableInputStream;
 
 import org.apache.hadoop.fs.FSDataInputStream;
@@ -132,7 +133,8 @@ public abstract class HadoopCompliantFileIO implements FileIO {
     protected abstract FileSystem createFileSystem(org.apache.hadoop.fs.Path path)
             throws IOException;
 
-    private static class HadoopSeekableInputStream extends SeekableInputStream {
+    private static class HadoopSeekableInputStream extends SeekableInputStream
+            implements PositionedReadable {
 
         /**
          * Minimum amount of bytes to skip forward before we issue a seek instead of discarding
@@ -189,6 +191,11 @@ public abstract class HadoopCompliantFileIO implements FileIO {
             return in.read(b, off, len);
         }
 
+        @Override
+        public int pread(long position, byte[] buffer, int offset, int length) throws IOException {
+            return in.read(position, buffer, offset, length);
+        }
+
         @Override
         public void close() throws IOException {
             in.close();
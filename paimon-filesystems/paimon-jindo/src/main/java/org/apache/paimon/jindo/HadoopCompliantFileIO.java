@@ -22,6 +22,7 @@ import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.FileStatus;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.PositionOutputStream;
+import org.apache.paimon.fs.PositionedReadable;
 import org.apache.paimon.fs.SeekableInputStream;
 import org.apache.paimon.fs.VectoredReadable;
 import org.apache.paimon.utils.Pair;
@@ -158,7 +159,8 @@ public abstract class HadoopCompliantFileIO implements FileIO {
     protected abstract Pair<JindoHadoopSystem, String> createFileSystem(
             org.apache.hadoop.fs.Path path) throws IOException;
 
-    private static class HadoopSeekableInputStream extends SeekableInputStream {
+    private static class HadoopSeekableInputStream extends SeekableInputStream
+            implements PositionedReadable {
 
         private static final int MIN_SKIP_BYTES = 1024 * 1024;
 
@@ -198,6 +200,11 @@ public abstract class HadoopCompliantFileIO implements FileIO {
             return in.read(b, off, len);
         }
 
+        @Override
+        public int pread(long position, byte[] buffer, int offset, int length) throws IOException {
+            return in.read(position, buffer, offset, length);
+        }
+
         @Override
         public void close() throws IOException {
             in.close();
@@ -235,11 +242,6 @@ public abstract class HadoopCompliantFileIO implements FileIO {
         private VectoredReadableInputStream(FSDataInputStream in) {
             super(in);
         }
-
-        @Override
-        public int pread(long position, byte[] bytes, int off, int len) throws IOException {
-            return in.read(position, bytes, off, len);
-        }
     }
 
     private static class HadoopPositionOutputStream extends PositionOutputStream {
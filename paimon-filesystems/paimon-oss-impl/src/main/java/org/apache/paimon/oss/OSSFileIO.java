@@ -38,7 +38,10 @@ import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
@@ -63,6 +66,10 @@ public class OSSFileIO extends HadoopCompliantFileIO {
     private static final String OSS_ACCESS_KEY_ID = "fs.oss.accessKeyId";
     private static final String OSS_ACCESS_KEY_SECRET = "fs.oss.accessKeySecret";
     private static final String OSS_SECURITY_TOKEN = "fs.oss.securityToken";
+    private static final String OSS_MULTI_OBJECT_DELETE_ENABLE = "fs.oss.multiobjectdelete.enable";
+
+    /** The max number of objects in one OSS DeleteMultipleObjects request. */
+    private static final int OSS_BULK_DELETE_LIMIT = 1000;
 
     private static final Map<String, String> CASE_SENSITIVE_KEYS =
             new HashMap<String, String>() {
@@ -119,6 +126,74 @@ public class OSSFileIO extends HadoopCompliantFileIO {
         return hadoopOptions;
     }
 
+    @Override
+    public int bulkDeleteLimit() {
+        return hadoopOptions.getBoolean(OSS_MULTI_OBJECT_DELETE_ENABLE, true)
+                ? OSS_BULK_DELETE_LIMIT
+                : 1;
+    }
+
+    /**
+     * Delete files with OSS DeleteMultipleObjects requests, each request deletes a page of files.
+     */
+    @Override
+    public void deleteFilesQuietly(List<Path> files) {
+        int pageSize = bulkDeleteLimit();
+        if (pageSize <= 1 || files.size() <= 1) {
+            super.deleteFilesQuietly(files);
+            return;
+        }
+
+        Map<AliyunOSSFileSystem, List<Path>> filesPerFs = new IdentityHashMap<>();
+        try {
+            for (Path file : files) {
+                AliyunOSSFileSystem fs = (AliyunOSSFileSystem) getFileSystem(path(file));
+                filesPerFs.computeIfAbsent(fs, k -> new ArrayList<>()).add(file);
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to get file systems for bulk deletion, delete files one by one.", e);
+            super.deleteFilesQuietly(files);
+            return;
+        }
+
+        for (Map.Entry<AliyunOSSFileSystem, List<Path>> entry : filesPerFs.entrySet()) {
+            List<Path> fsFiles = entry.getValue();
+            for (int i = 0; i < fsFiles.size(); i += pageSize) {
+                bulkDelete(
+                        entry.getKey(), fsFiles.subList(i, Math.min(i + pageSize, fsFiles.size())));
+            }
+        }
+    }
+
+    private void bulkDelete(AliyunOSSFileSystem fs, List<Path> files) {
+        List<String> keys = new ArrayList<>(files.size());
+        for (Path file : files) {
+            // same as AliyunOSSFileSystem#pathToKey for absolute paths
+            keys.add(file.toUri().getPath().substring(1));
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            fs.getStore().deleteObjects(keys);
+        } catch (Exception e) {
+            LOG.warn(
+                    "Failed to delete {} files in {} in bulk, delete files one by one.",
+                    files.size(),
+                    fs.getUri(),
+                    e);
+            super.deleteFilesQuietly(files);
+            return;
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(
+                    "Deleted {} files in {} with one request in {} ms.",
+                    files.size(),
+                    fs.getUri(),
+                    System.currentTimeMillis() - start);
+        }
+    }
+
     @Override
     protected AliyunOSSFileSystem createFileSystem(org.apache.hadoop.fs.Path path) {
         final String scheme = path.toUri().getScheme();
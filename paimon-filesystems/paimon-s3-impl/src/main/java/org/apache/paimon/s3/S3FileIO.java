@@ -20,8 +20,11 @@ package org.apache.paimon.s3;
 
 import org.apache.paimon.catalog.CatalogContext;
 import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
 import org.apache.paimon.options.Options;
 
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.s3a.S3AFileSystem;
@@ -31,10 +34,17 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
+import static org.apache.hadoop.fs.s3a.Constants.BULK_DELETE_PAGE_SIZE;
+import static org.apache.hadoop.fs.s3a.Constants.BULK_DELETE_PAGE_SIZE_DEFAULT;
+import static org.apache.hadoop.fs.s3a.Constants.ENABLE_MULTI_DELETE;
+
 /** S3 {@link FileIO}. */
 public class S3FileIO extends HadoopCompliantFileIO {
 
@@ -71,6 +81,85 @@ public class S3FileIO extends HadoopCompliantFileIO {
         this.hadoopOptions = mirrorCertainHadoopConfig(loadHadoopConfigFromContext(context));
     }
 
+    @Override
+    public int bulkDeleteLimit() {
+        if (!hadoopOptions.getBoolean(ENABLE_MULTI_DELETE, true)) {
+            return 1;
+        }
+        return Math.max(
+                1, hadoopOptions.getInteger(BULK_DELETE_PAGE_SIZE, BULK_DELETE_PAGE_SIZE_DEFAULT));
+    }
+
+    /** Delete files with S3 DeleteObjects requests, each request deletes a page of files. */
+    @Override
+    public void deleteFilesQuietly(List<Path> files) {
+        int pageSize = bulkDeleteLimit();
+        if (pageSize <= 1 || files.size() <= 1) {
+            super.deleteFilesQuietly(files);
+            return;
+        }
+
+        Map<S3AFileSystem, List<Path>> filesPerFs = new IdentityHashMap<>();
+        try {
+            for (Path file : files) {
+                org.apache.hadoop.fs.Path hadoopPath = new org.apache.hadoop.fs.Path(file.toUri());
+                S3AFileSystem fs = (S3AFileSystem) getFileSystem(hadoopPath);
+                filesPerFs.computeIfAbsent(fs, k -> new ArrayList<>()).add(file);
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to get file systems for bulk deletion, delete files one by one.", e);
+            super.deleteFilesQuietly(files);
+            return;
+        }
+
+        for (Map.Entry<S3AFileSystem, List<Path>> entry : filesPerFs.entrySet()) {
+            List<Path> fsFiles = entry.getValue();
+            for (int i = 0; i < fsFiles.size(); i += pageSize) {
+                bulkDelete(
+                        entry.getKey(), fsFiles.subList(i, Math.min(i + pageSize, fsFiles.size())));
+            }
+        }
+    }
+
+    private void bulkDelete(S3AFileSystem fs, List<Path> files) {
+        List<DeleteObjectsRequest.KeyVersion> keys = new ArrayList<>(files.size());
+        for (Path file : files) {
+            keys.add(
+                    new DeleteObjectsRequest.KeyVersion(
+                            fs.pathToKey(new org.apache.hadoop.fs.Path(file.toUri()))));
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            fs.removeKeys(keys, false, null);
+        } catch (MultiObjectDeleteException e) {
+            // objects which failed to be deleted are left as orphan files
+            LOG.warn(
+                    "Failed to delete {} of {} files in bucket {}.",
+                    e.getErrors().size(),
+                    files.size(),
+                    fs.getBucket(),
+                    e);
+            return;
+        } catch (Exception e) {
+            LOG.warn(
+                    "Failed to delete {} files in bucket {} in bulk, delete files one by one.",
+                    files.size(),
+                    fs.getBucket(),
+                    e);
+            super.deleteFilesQuietly(files);
+            return;
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(
+                    "Deleted {} files in bucket {} with one request in {} ms.",
+                    files.size(),
+                    fs.getBucket(),
+                    System.currentTimeMillis() - start);
+        }
+    }
+
     // add additional config entries from the IO config to the Hadoop config
     private Options loadHadoopConfigFromContext(CatalogContext context) {
         Options hadoopConfig = new Options();
@@ -32,6 +32,8 @@ import org.apache.flink.streaming.api.operators.StreamOperatorFactory;
 import org.apache.flink.streaming.api.operators.StreamOperatorParameters;
 import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.Optional;
 
@@ -39,7 +41,6 @@ import static org.apache.paimon.flink.sink.cdc.CdcRecordStoreWriteOperator.LOG_C
 import static org.apache.paimon.flink.sink.cdc.CdcRecordStoreWriteOperator.MAX_RETRY_NUM_TIMES;
 import static org.apache.paimon.flink.sink.cdc.CdcRecordStoreWriteOperator.RETRY_SLEEP_TIME;
 import static org.apache.paimon.flink.sink.cdc.CdcRecordStoreWriteOperator.SKIP_CORRUPT_RECORD;
-import static org.apache.paimon.flink.sink.cdc.CdcRecordUtils.toGenericRow;
 
 /**
  * A {@link PrepareCommitOperator} to write {@link CdcRecord} with bucket. Record schema is fixed.
@@ -56,6 +57,8 @@ public class CdcDynamicBucketWriteOperator extends TableWriteOperator<Tuple2<Cdc
 
     private final boolean logCorruptRecord;
 
+    @Nullable private transient CdcRecordConverter converter;
+
     private CdcDynamicBucketWriteOperator(
             StreamOperatorParameters<Committable> parameters,
             FileStoreTable table,
@@ -83,13 +86,11 @@ public class CdcDynamicBucketWriteOperator extends TableWriteOperator<Tuple2<Cdc
     @Override
     public void processElement(StreamRecord<Tuple2<CdcRecord, Integer>> element) throws Exception {
         Tuple2<CdcRecord, Integer> record = element.getValue();
-        Optional<GenericRow> optionalConverted =
-                toGenericRow(record.f0, table.schema().fields(), logCorruptRecord);
+        Optional<GenericRow> optionalConverted = toGenericRow(record.f0);
         if (!optionalConverted.isPresent()) {
             for (int retry = 0; retry < maxRetryNumTimes; ++retry) {
                 table = table.copyWithLatestSchema();
-                optionalConverted =
-                        toGenericRow(record.f0, table.schema().fields(), logCorruptRecord);
+                optionalConverted = toGenericRow(record.f0);
                 if (optionalConverted.isPresent()) {
                     break;
                 }
@@ -117,6 +118,11 @@ public class CdcDynamicBucketWriteOperator extends TableWriteOperator<Tuple2<Cdc
         }
     }
 
+    private Optional<GenericRow> toGenericRow(CdcRecord record) {
+        converter = CdcRecordConverter.reuseOrCreate(converter, table.schema(), logCorruptRecord);
+        return converter.convert(record);
+    }
+
     /** {@link StreamOperatorFactory} of {@link CdcDynamicBucketWriteOperator}. */
     public static class CoordinatedFactory
             extends TableWriteOperator.CoordinatedFactory<Tuple2<CdcRecord, Integer>> {
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.sink.cdc;
+
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.schema.TableSchema;
+import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.RowKind;
+import org.apache.paimon.utils.TypeUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Converter from {@link CdcRecord} to {@link GenericRow} of a table schema. Positions and types of
+ * fields are resolved once when the converter is created, so writers should reuse the converter
+ * until the schema of the table changes.
+ */
+public class CdcRecordConverter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CdcRecordConverter.class);
+
+    private final long schemaId;
+    private final Map<String, Integer> fieldIndexes;
+    private final DataType[] fieldTypes;
+    private final boolean logCorruptRecord;
+
+    public CdcRecordConverter(TableSchema schema, boolean logCorruptRecord) {
+        List<DataField> dataFields = schema.fields();
+        this.schemaId = schema.id();
+        this.fieldIndexes = new HashMap<>(dataFields.size() * 2);
+        this.fieldTypes = new DataType[dataFields.size()];
+        for (int i = 0; i < dataFields.size(); i++) {
+            DataField field = dataFields.get(i);
+            fieldIndexes.putIfAbsent(field.name(), i);
+            fieldTypes[i] = field.type();
+        }
+        this.logCorruptRecord = logCorruptRecord;
+    }
+
+    /**
+     * Returns {@code converter} if it is created from the same version of {@code schema}, otherwise
+     * returns a new converter for {@code schema}.
+     */
+    public static CdcRecordConverter reuseOrCreate(
+            @Nullable CdcRecordConverter converter, TableSchema schema, boolean logCorruptRecord) {
+        if (converter != null && converter.schemaId == schema.id()) {
+            return converter;
+        }
+        return new CdcRecordConverter(schema, logCorruptRecord);
+    }
+
+    /** Id of the schema this converter is created from. */
+    public long schemaId() {
+        return schemaId;
+    }
+
+    /**
+     * Convert the record to a {@link GenericRow} of the schema, its {@link RowKind} is determined
+     * by {@code kind} of the {@link CdcRecord}.
+     *
+     * @return the converted row, or {@code Optional#empty()} if some fields of the record are not
+     *     in the schema or can not be converted to the types of the schema
+     */
+    public Optional<GenericRow> convert(CdcRecord record) {
+        GenericRow genericRow = new GenericRow(record.kind(), fieldTypes.length);
+        for (Map.Entry<String, String> field : record.data().entrySet()) {
+            String key = field.getKey();
+            String value = field.getValue();
+
+            Integer idx = fieldIndexes.get(key);
+            if (idx == null) {
+                LOG.info("Field '{}' not found. Waiting for schema update.", key);
+                return Optional.empty();
+            }
+
+            if (value == null) {
+                continue;
+            }
+
+            DataType type = fieldTypes[idx];
+            try {
+                genericRow.setField(idx, TypeUtils.castFromCdcValueString(value, type));
+            } catch (Exception e) {
+                LOG.info(
+                        "Failed to convert field '{}' value {} to type {}. Waiting for schema update.",
+                        key,
+                        logCorruptRecord ? value : "<redacted>",
+                        type,
+                        e);
+                return Optional.empty();
+            }
+        }
+        return Optional.of(genericRow);
+    }
+}
@@ -59,7 +59,6 @@ import static org.apache.paimon.flink.sink.cdc.CdcRecordStoreWriteOperator.LOG_C
 import static org.apache.paimon.flink.sink.cdc.CdcRecordStoreWriteOperator.MAX_RETRY_NUM_TIMES;
 import static org.apache.paimon.flink.sink.cdc.CdcRecordStoreWriteOperator.RETRY_SLEEP_TIME;
 import static org.apache.paimon.flink.sink.cdc.CdcRecordStoreWriteOperator.SKIP_CORRUPT_RECORD;
-import static org.apache.paimon.flink.sink.cdc.CdcRecordUtils.toGenericRow;
 
 /**
  * A {@link PrepareCommitOperator} to write {@link CdcRecord}. Record schema may change. If current
@@ -77,6 +76,7 @@ public class CdcRecordStoreMultiWriteOperator
     private MemoryPoolFactory memoryPoolFactory;
     private Catalog catalog;
     private Map<Identifier, FileStoreTable> tables;
+    private Map<Identifier, CdcRecordConverter> converters;
     private StoreSinkWriteState state;
     private Map<Identifier, StoreSinkWrite> writes;
     private String commitUser;
@@ -114,6 +114,7 @@ public class CdcRecordStoreMultiWriteOperator
                         context,
                         (tableName, partition, bucket) -> true);
         tables = new HashMap<>();
+        converters = new HashMap<>();
         writes = new HashMap<>();
         compactExecutor =
                 Executors.newSingleThreadScheduledExecutor(
@@ -131,8 +132,10 @@ public class CdcRecordStoreMultiWriteOperator
 
         FileStoreTable table = getTable(tableId);
 
-        int retryCnt = table.coreOptions().toConfiguration().get(MAX_RETRY_NUM_TIMES);
-        boolean skipCorruptRecord = table.coreOptions().toConfiguration().get(SKIP_CORRUPT_RECORD);
+        Options tableOptions = table.coreOptions().toConfiguration();
+        int retryCnt = tableOptions.get(MAX_RETRY_NUM_TIMES);
+        boolean skipCorruptRecord = tableOptions.get(SKIP_CORRUPT_RECORD);
+        boolean logCorruptRecord = tableOptions.get(LOG_CORRUPT_RECORD);
 
         // all table write should share one write buffer so that writers can preempt memory
         // from those of other tables
@@ -161,17 +164,15 @@ public class CdcRecordStoreMultiWriteOperator
 
         ((StoreSinkWriteImpl) write).withCompactExecutor(compactExecutor);
 
-        boolean logCorruptRecord = table.coreOptions().toConfiguration().get(LOG_CORRUPT_RECORD);
         Optional<GenericRow> optionalConverted =
-                toGenericRow(record.record(), table.schema().fields(), logCorruptRecord);
+                toGenericRow(tableId, table, record.record(), logCorruptRecord);
         if (!optionalConverted.isPresent()) {
             FileStoreTable latestTable = table;
             for (int retry = 0; retry < retryCnt; ++retry) {
                 latestTable = latestTable.copyWithLatestSchema();
                 tables.put(tableId, latestTable);
                 optionalConverted =
-                        toGenericRow(
-                                record.record(), latestTable.schema().fields(), logCorruptRecord);
+                        toGenericRow(tableId, latestTable, record.record(), logCorruptRecord);
                 if (optionalConverted.isPresent()) {
                     break;
                 }
@@ -204,6 +205,17 @@ public class CdcRecordStoreMultiWriteOperator
         }
     }
 
+    private Optional<GenericRow> toGenericRow(
+            Identifier tableId, FileStoreTable table, CdcRecord record, boolean logCorruptRecord) {
+        CdcRecordConverter current = converters.get(tableId);
+        CdcRecordConverter converter =
+                CdcRecordConverter.reuseOrCreate(current, table.schema(), logCorruptRecord);
+        if (converter != current) {
+            converters.put(tableId, converter);
+        }
+        return converter.convert(record);
+    }
+
     private FileStoreTable getTable(Identifier tableId) throws InterruptedException {
         FileStoreTable table = tables.get(tableId);
         if (table == null) {
@@ -33,12 +33,12 @@ import org.apache.flink.streaming.api.operators.StreamOperatorFactory;
 import org.apache.flink.streaming.api.operators.StreamOperatorParameters;
 import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.time.Duration;
 import java.util.Optional;
 
-import static org.apache.paimon.flink.sink.cdc.CdcRecordUtils.toGenericRow;
-
 /**
  * A {@link PrepareCommitOperator} to write {@link CdcRecord}. Record schema may change. If current
  * known schema does not fit record schema, this operator will wait for schema changes.
@@ -74,6 +74,16 @@ public class CdcRecordStoreWriteOperator extends TableWriteOperator<CdcRecord> {
                     .withDescription(
                             "Whether to allow corrupt record logging when unable to parse CDC records.");
 
+    public static final ConfigOption<Boolean> TYPED_RECORD_ENABLED =
+            ConfigOptions.key("cdc.typed-record.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to convert CDC records to binary rows of the table schema "
+                                    + "right after parsing, instead of sending string values to "
+                                    + "the writers. Only fixed-bucket tables synchronized by a "
+                                    + "single table action are supported.");
+
     private final long retrySleepMillis;
 
     private final int maxRetryNumTimes;
@@ -82,6 +92,8 @@ public class CdcRecordStoreWriteOperator extends TableWriteOperator<CdcRecord> {
 
     private final boolean logCorruptRecord;
 
+    @Nullable private transient CdcRecordConverter converter;
+
     protected CdcRecordStoreWriteOperator(
             StreamOperatorParameters<Committable> parameters,
             FileStoreTable table,
@@ -109,12 +121,11 @@ public class CdcRecordStoreWriteOperator extends TableWriteOperator<CdcRecord> {
     @Override
     public void processElement(StreamRecord<CdcRecord> element) throws Exception {
         CdcRecord record = element.getValue();
-        Optional<GenericRow> optionalConverted =
-                toGenericRow(record, table.schema().fields(), logCorruptRecord);
+        Optional<GenericRow> optionalConverted = toGenericRow(record);
         if (!optionalConverted.isPresent()) {
             for (int retry = 0; retry < maxRetryNumTimes; ++retry) {
                 table = table.copyWithLatestSchema();
-                optionalConverted = toGenericRow(record, table.schema().fields(), logCorruptRecord);
+                optionalConverted = toGenericRow(record);
                 if (optionalConverted.isPresent()) {
                     break;
                 }
@@ -142,6 +153,11 @@ public class CdcRecordStoreWriteOperator extends TableWriteOperator<CdcRecord> {
         }
     }
 
+    private Optional<GenericRow> toGenericRow(CdcRecord record) {
+        converter = CdcRecordConverter.reuseOrCreate(converter, table.schema(), logCorruptRecord);
+        return converter.convert(record);
+    }
+
     /** {@link StreamOperatorFactory} of {@link CdcRecordStoreWriteOperator}. */
     public static class Factory extends TableWriteOperator.Factory<CdcRecord> {
 
@@ -36,6 +36,7 @@ import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import javax.annotation.Nullable;
 
 import static org.apache.paimon.flink.sink.FlinkStreamPartitioner.partition;
+import static org.apache.paimon.flink.sink.cdc.CdcRecordStoreWriteOperator.TYPED_RECORD_ENABLED;
 import static org.apache.paimon.flink.utils.ParallelismUtils.forwardParallelism;
 
 /**
@@ -143,11 +144,28 @@ public class CdcSinkBuilder<T> {
 
     private DataStreamSink<?> buildForFixedBucket(DataStream<CdcRecord> parsed) {
         FileStoreTable dataTable = (FileStoreTable) table;
+        if (dataTable.coreOptions().toConfiguration().get(TYPED_RECORD_ENABLED)) {
+            return buildForTypedFixedBucket(parsed);
+        }
         DataStream<CdcRecord> partitioned =
                 partition(parsed, new CdcRecordChannelComputer(dataTable.schema()), parallelism);
         return new CdcFixedBucketSink(dataTable).sinkFrom(partitioned);
     }
 
+    private DataStreamSink<?> buildForTypedFixedBucket(DataStream<CdcRecord> parsed) {
+        FileStoreTable dataTable = (FileStoreTable) table;
+        SingleOutputStreamOperator<CdcTypedRecord> typed =
+                parsed.forward()
+                        .process(
+                                new CdcTypedRecordConvertFunction(dataTable),
+                                new CdcTypedRecordTypeInfo())
+                        .name("Typed Convert");
+        forwardParallelism(typed, parsed);
+        DataStream<CdcTypedRecord> partitioned =
+                partition(typed, new CdcTypedRecordChannelComputer(dataTable), parallelism);
+        return new CdcTypedFixedBucketSink(dataTable).sinkFrom(partitioned);
+    }
+
     private DataStreamSink<?> buildForPostponeBucket(DataStream<CdcRecord> parsed) {
         FileStoreTable dataTable = (FileStoreTable) table;
         DataStream<CdcRecord> partitioned =
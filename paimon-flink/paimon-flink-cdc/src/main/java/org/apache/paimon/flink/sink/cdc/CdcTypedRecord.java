@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.sink.cdc;
+
+import org.apache.paimon.annotation.Experimental;
+import org.apache.paimon.data.BinaryRow;
+
+import java.util.Objects;
+
+/**
+ * A {@link CdcRecord} which has been converted to a {@link BinaryRow} of the table schema with id
+ * {@link #schemaId()}. The {@link org.apache.paimon.types.RowKind} of the record is kept in the
+ * row.
+ */
+@Experimental
+public class CdcTypedRecord {
+
+    private final long schemaId;
+    private final BinaryRow row;
+
+    public CdcTypedRecord(long schemaId, BinaryRow row) {
+        this.schemaId = schemaId;
+        this.row = row;
+    }
+
+    public long schemaId() {
+        return schemaId;
+    }
+
+    public BinaryRow row() {
+        return row;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof CdcTypedRecord)) {
+            return false;
+        }
+
+        CdcTypedRecord that = (CdcTypedRecord) o;
+        return schemaId == that.schemaId && Objects.equals(row, that.row);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(schemaId, row);
+    }
+
+    @Override
+    public String toString() {
+        return "schema " + schemaId + " " + row.getRowKind().shortString() + " " + row;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.sink.cdc;
+
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.schema.SchemaManager;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.sink.ChannelComputer;
+import org.apache.paimon.table.sink.FixedBucketRowKeyExtractor;
+import org.apache.paimon.table.sink.KeyAndBucketExtractor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link ChannelComputer} for distributing {@link CdcTypedRecord} into writers for fixed-bucket
+ * mode tables. Rows are read with the schema they are converted from.
+ */
+public class CdcTypedRecordChannelComputer implements ChannelComputer<CdcTypedRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final FileStoreTable table;
+
+    private transient int numChannels;
+    private transient SchemaManager schemaManager;
+    private transient Map<Long, KeyAndBucketExtractor<InternalRow>> extractors;
+
+    public CdcTypedRecordChannelComputer(FileStoreTable table) {
+        this.table = table;
+    }
+
+    @Override
+    public void setup(int numChannels) {
+        this.numChannels = numChannels;
+        this.schemaManager = table.schemaManager();
+        this.extractors = new HashMap<>();
+    }
+
+    @Override
+    public int channel(CdcTypedRecord record) {
+        KeyAndBucketExtractor<InternalRow> extractor =
+                extractors.computeIfAbsent(
+                        record.schemaId(),
+                        id -> new FixedBucketRowKeyExtractor(schemaManager.schema(id)));
+        extractor.setRecord(record.row());
+        return ChannelComputer.select(extractor.partition(), extractor.bucket(), numChannels);
+    }
+
+    @Override
+    public String toString() {
+        return "shuffle by bucket";
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.sink.cdc;
+
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.schema.TableSchema;
+import org.apache.paimon.table.FileStoreTable;
+
+import org.apache.flink.api.common.functions.OpenContext;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.streaming.api.functions.ProcessFunction;
+import org.apache.flink.util.Collector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+
+import static org.apache.paimon.flink.sink.cdc.CdcRecordStoreWriteOperator.LOG_CORRUPT_RECORD;
+import static org.apache.paimon.flink.sink.cdc.CdcRecordStoreWriteOperator.MAX_RETRY_NUM_TIMES;
+import static org.apache.paimon.flink.sink.cdc.CdcRecordStoreWriteOperator.RETRY_SLEEP_TIME;
+import static org.apache.paimon.flink.sink.cdc.CdcRecordStoreWriteOperator.SKIP_CORRUPT_RECORD;
+
+/**
+ * A {@link ProcessFunction} to convert {@link CdcRecord} to {@link CdcTypedRecord} of the latest
+ * table schema. If current known schema does not fit record schema, this function will wait for
+ * schema changes.
+ */
+public class CdcTypedRecordConvertFunction extends ProcessFunction<CdcRecord, CdcTypedRecord> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CdcTypedRecordConvertFunction.class);
+
+    private static final long serialVersionUID = 1L;
+
+    private final long retrySleepMillis;
+    private final int maxRetryNumTimes;
+    private final boolean skipCorruptRecord;
+    private final boolean logCorruptRecord;
+
+    private FileStoreTable table;
+
+    private transient CdcRecordConverter converter;
+    private transient InternalRowSerializer serializer;
+
+    public CdcTypedRecordConvertFunction(FileStoreTable table) {
+        Options options = table.coreOptions().toConfiguration();
+        this.table = table;
+        this.retrySleepMillis = options.get(RETRY_SLEEP_TIME).toMillis();
+        this.maxRetryNumTimes = options.get(MAX_RETRY_NUM_TIMES);
+        this.skipCorruptRecord = options.get(SKIP_CORRUPT_RECORD);
+        this.logCorruptRecord = options.get(LOG_CORRUPT_RECORD);
+    }
+
+    /**
+     * Do not annotate with <code>@override</code> here to maintain compatibility with Flink 1.18-.
+     */
+    public void open(OpenContext openContext) throws Exception {
+        open(new Configuration());
+    }
+
+    /**
+     * Do not annotate with <code>@override</code> here to maintain compatibility with Flink 2.0+.
+     */
+    public void open(Configuration parameters) throws Exception {
+        refreshSchema();
+    }
+
+    @Override
+    public void processElement(CdcRecord record, Context context, Collector<CdcTypedRecord> out)
+            throws Exception {
+        Optional<GenericRow> optionalConverted = converter.convert(record);
+        if (!optionalConverted.isPresent()) {
+            for (int retry = 0; retry < maxRetryNumTimes; ++retry) {
+                refreshSchema();
+                optionalConverted = converter.convert(record);
+                if (optionalConverted.isPresent()) {
+                    break;
+                }
+                Thread.sleep(retrySleepMillis);
+            }
+        }
+
+        if (!optionalConverted.isPresent()) {
+            if (skipCorruptRecord) {
+                LOG.warn(
+                        "Skipping corrupt or unparsable record {}",
+                        (logCorruptRecord ? record : "<redacted>"));
+            } else {
+                throw new RuntimeException(
+                        "Unable to process element. Possibly a corrupt record: "
+                                + (logCorruptRecord ? record : "<redacted>"));
+            }
+        } else {
+            out.collect(
+                    new CdcTypedRecord(
+                            table.schema().id(),
+                            serializer.toBinaryRow(optionalConverted.get()).copy()));
+        }
+    }
+
+    private void refreshSchema() {
+        table = table.copyWithLatestSchema();
+        TableSchema schema = table.schema();
+        if (converter == null || converter.schemaId() != schema.id()) {
+            converter = new CdcRecordConverter(schema, logCorruptRecord);
+            serializer = new InternalRowSerializer(schema.logicalRowType());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.sink.cdc;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.memory.MemorySegmentUtils;
+
+import org.apache.flink.core.io.SimpleVersionedSerializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/** {@link SimpleVersionedSerializer} for {@link CdcTypedRecord}. */
+public class CdcTypedRecordSerializer implements SimpleVersionedSerializer<CdcTypedRecord> {
+
+    private static final int HEADER_SIZE = 12;
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    @Override
+    public byte[] serialize(CdcTypedRecord record) throws IOException {
+        BinaryRow row = record.row();
+        byte[] bytes = new byte[HEADER_SIZE + row.getSizeInBytes()];
+        ByteBuffer.wrap(bytes).putLong(record.schemaId()).putInt(row.getFieldCount());
+        MemorySegmentUtils.copyToBytes(
+                row.getSegments(), row.getOffset(), bytes, HEADER_SIZE, row.getSizeInBytes());
+        return bytes;
+    }
+
+    @Override
+    public CdcTypedRecord deserialize(int version, byte[] bytes) throws IOException {
+        if (version != getVersion()) {
+            throw new RuntimeException("Can not deserialize version: " + version);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long schemaId = buffer.getLong();
+        BinaryRow row = new BinaryRow(buffer.getInt());
+        row.pointTo(MemorySegment.wrap(bytes), HEADER_SIZE, bytes.length - HEADER_SIZE);
+        return new CdcTypedRecord(schemaId, row);
+    }
+}
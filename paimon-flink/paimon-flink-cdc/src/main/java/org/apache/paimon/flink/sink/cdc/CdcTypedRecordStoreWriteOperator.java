@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.sink.cdc;
+
+import org.apache.paimon.casting.CastFieldGetter;
+import org.apache.paimon.casting.CastedRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.flink.sink.Committable;
+import org.apache.paimon.flink.sink.PrepareCommitOperator;
+import org.apache.paimon.flink.sink.StoreSinkWrite;
+import org.apache.paimon.flink.sink.TableWriteOperator;
+import org.apache.paimon.schema.IndexCastMapping;
+import org.apache.paimon.schema.SchemaEvolutionUtil;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.utils.ProjectedRow;
+
+import org.apache.flink.runtime.state.StateInitializationContext;
+import org.apache.flink.streaming.api.operators.StreamOperator;
+import org.apache.flink.streaming.api.operators.StreamOperatorFactory;
+import org.apache.flink.streaming.api.operators.StreamOperatorParameters;
+import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.apache.paimon.utils.Preconditions.checkState;
+
+/**
+ * A {@link PrepareCommitOperator} to write {@link CdcTypedRecord}. Records converted from a newer
+ * schema make this operator refresh the table schema. Records converted from an older schema are
+ * evolved to the current schema by field ids.
+ */
+public class CdcTypedRecordStoreWriteOperator extends TableWriteOperator<CdcTypedRecord> {
+
+    private static final long serialVersionUID = 1L;
+
+    private transient Map<Long, RowEvolution> evolutions;
+
+    protected CdcTypedRecordStoreWriteOperator(
+            StreamOperatorParameters<Committable> parameters,
+            FileStoreTable table,
+            StoreSinkWrite.Provider storeSinkWriteProvider,
+            String initialCommitUser) {
+        super(parameters, table, storeSinkWriteProvider, initialCommitUser);
+    }
+
+    @Override
+    public void initializeState(StateInitializationContext context) throws Exception {
+        table = table.copyWithLatestSchema();
+        evolutions = new HashMap<>();
+        super.initializeState(context);
+    }
+
+    @Override
+    protected boolean containLogSystem() {
+        return false;
+    }
+
+    @Override
+    public void processElement(StreamRecord<CdcTypedRecord> element) throws Exception {
+        CdcTypedRecord record = element.getValue();
+        if (record.schemaId() > table.schema().id()) {
+            table = table.copyWithLatestSchema();
+            checkState(
+                    record.schemaId() <= table.schema().id(),
+                    "Schema %s of record is not found in table %s.",
+                    record.schemaId(),
+                    table.name());
+            write.replace(table);
+            evolutions.clear();
+        }
+
+        InternalRow row = record.row();
+        if (record.schemaId() != table.schema().id()) {
+            row = evolutions.computeIfAbsent(record.schemaId(), this::createEvolution).evolve(row);
+        }
+
+        try {
+            write.write(row);
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    private RowEvolution createEvolution(long schemaId) {
+        IndexCastMapping mapping =
+                SchemaEvolutionUtil.createIndexCastMapping(
+                        table.schema().fields(), table.schemaManager().schema(schemaId).fields());
+        return new RowEvolution(mapping.getIndexMapping(), mapping.getCastMapping());
+    }
+
+    /** Evolves rows of an older schema to the current schema of the table. */
+    private static class RowEvolution {
+
+        @Nullable private final ProjectedRow projectedRow;
+        @Nullable private final CastedRow castedRow;
+
+        private RowEvolution(
+                @Nullable int[] indexMapping, @Nullable CastFieldGetter[] castMapping) {
+            this.projectedRow = indexMapping == null ? null : ProjectedRow.from(indexMapping);
+            this.castedRow = castMapping == null ? null : CastedRow.from(castMapping);
+        }
+
+        private InternalRow evolve(InternalRow row) {
+            if (projectedRow != null) {
+                row = projectedRow.replaceRow(row);
+            }
+            if (castedRow != null) {
+                row = castedRow.replaceRow(row);
+            }
+            return row;
+        }
+    }
+
+    /** {@link StreamOperatorFactory} of {@link CdcTypedRecordStoreWriteOperator}. */
+    public static class Factory extends TableWriteOperator.Factory<CdcTypedRecord> {
+
+        public Factory(
+                FileStoreTable table,
+                StoreSinkWrite.Provider storeSinkWriteProvider,
+                String initialCommitUser) {
+            super(table, storeSinkWriteProvider, initialCommitUser);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T extends StreamOperator<Committable>> T createStreamOperator(
+                StreamOperatorParameters<Committable> parameters) {
+            return (T)
+                    new CdcTypedRecordStoreWriteOperator(
+                            parameters, table, storeSinkWriteProvider, initialCommitUser);
+        }
+
+        @Override
+        @SuppressWarnings("rawtypes")
+        public Class<? extends StreamOperator> getStreamOperatorClass(ClassLoader classLoader) {
+            return CdcTypedRecordStoreWriteOperator.class;
+        }
+    }
+
+    /** {@link StreamOperatorFactory} of {@link CdcTypedRecordStoreWriteOperator}. */
+    public static class CoordinatedFactory
+            extends TableWriteOperator.CoordinatedFactory<CdcTypedRecord> {
+
+        public CoordinatedFactory(
+                FileStoreTable table,
+                StoreSinkWrite.Provider storeSinkWriteProvider,
+                String initialCommitUser) {
+            super(table, storeSinkWriteProvider, initialCommitUser);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T extends TableWriteOperator<CdcTypedRecord>> T createStreamOperatorImpl(
+                StreamOperatorParameters<Committable> parameters) {
+            return (T)
+                    new CdcTypedRecordStoreWriteOperator(
+                            parameters, table, storeSinkWriteProvider, initialCommitUser);
+        }
+
+        @Override
+        @SuppressWarnings("rawtypes")
+        public Class<? extends StreamOperator> getStreamOperatorClass(ClassLoader classLoader) {
+            return CdcTypedRecordStoreWriteOperator.class;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.sink.cdc;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.schema.TableSchema;
+import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowKind;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link CdcRecordConverter}. */
+public class CdcRecordConverterTest {
+
+    @Test
+    public void testConvert() {
+        TableSchema schema =
+                schema(
+                        0,
+                        new DataField(0, "k", DataTypes.INT()),
+                        new DataField(1, "v", DataTypes.STRING()),
+                        new DataField(2, "d", DataTypes.DOUBLE()));
+        CdcRecordConverter converter = new CdcRecordConverter(schema, true);
+
+        Map<String, String> data = new HashMap<>();
+        data.put("v", "hello");
+        data.put("k", "1");
+        data.put("d", null);
+        assertThat(converter.convert(new CdcRecord(RowKind.DELETE, data)))
+                .hasValue(
+                        GenericRow.ofKind(
+                                RowKind.DELETE, 1, BinaryString.fromString("hello"), null));
+
+        // unknown field
+        data.put("x", "2");
+        assertThat(converter.convert(new CdcRecord(RowKind.INSERT, data))).isEmpty();
+
+        // value can not be cast
+        data.remove("x");
+        data.put("k", "abc");
+        assertThat(converter.convert(new CdcRecord(RowKind.INSERT, data))).isEmpty();
+    }
+
+    @Test
+    public void testReuseOrCreate() {
+        TableSchema schema = schema(0, new DataField(0, "k", DataTypes.INT()));
+        CdcRecordConverter converter = CdcRecordConverter.reuseOrCreate(null, schema, true);
+        assertThat(CdcRecordConverter.reuseOrCreate(converter, schema, true)).isSameAs(converter);
+
+        TableSchema newSchema =
+                schema(
+                        1,
+                        new DataField(0, "k", DataTypes.INT()),
+                        new DataField(1, "v", DataTypes.INT()));
+        CdcRecordConverter newConverter =
+                CdcRecordConverter.reuseOrCreate(converter, newSchema, true);
+        assertThat(newConverter).isNotSameAs(converter);
+
+        Map<String, String> data = new HashMap<>();
+        data.put("k", "1");
+        data.put("v", "2");
+        CdcRecord record = new CdcRecord(RowKind.INSERT, data);
+        assertThat(converter.convert(record)).isEmpty();
+        assertThat(newConverter.convert(record)).hasValue(GenericRow.of(1, 2));
+    }
+
+    private static TableSchema schema(long id, DataField... fields) {
+        return new TableSchema(
+                id,
+                Arrays.asList(fields),
+                fields.length - 1,
+                Collections.emptyList(),
+                Collections.emptyList(),
+                Collections.emptyMap(),
+                null);
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.sink.cdc;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.flink.sink.Committable;
+import org.apache.paimon.flink.sink.CommittableTypeInfo;
+import org.apache.paimon.flink.sink.StoreSinkWriteImpl;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.schema.Schema;
+import org.apache.paimon.schema.SchemaChange;
+import org.apache.paimon.schema.SchemaManager;
+import org.apache.paimon.schema.SchemaUtils;
+import org.apache.paimon.schema.TableSchema;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.FileStoreTableFactory;
+import org.apache.paimon.table.sink.CommitMessage;
+import org.apache.paimon.table.sink.TableCommitImpl;
+import org.apache.paimon.table.source.ReadBuilder;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowKind;
+import org.apache.paimon.types.RowType;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.streaming.util.OneInputStreamOperatorTestHarness;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link CdcTypedRecordStoreWriteOperator}. */
+public class CdcTypedRecordStoreWriteOperatorTest {
+
+    @TempDir java.nio.file.Path tempDir;
+
+    private Path tablePath;
+    private String commitUser;
+
+    @BeforeEach
+    public void before() {
+        tablePath = new Path(tempDir.toString());
+        commitUser = UUID.randomUUID().toString();
+    }
+
+    @Test
+    public void testSerializer() throws Exception {
+        RowType rowType = RowType.of(DataTypes.INT(), DataTypes.STRING());
+        CdcTypedRecord record =
+                toTypedRecord(
+                        3,
+                        rowType,
+                        GenericRow.ofKind(RowKind.DELETE, 1, BinaryString.fromString("one")));
+
+        CdcTypedRecordSerializer serializer = new CdcTypedRecordSerializer();
+        CdcTypedRecord actual =
+                serializer.deserialize(serializer.getVersion(), serializer.serialize(record));
+        assertThat(actual).isEqualTo(record);
+        assertThat(actual.row().getRowKind()).isEqualTo(RowKind.DELETE);
+    }
+
+    @Test
+    public void testRecordsOfDifferentSchemas() throws Exception {
+        RowType rowType =
+                RowType.of(
+                        new DataType[] {DataTypes.INT(), DataTypes.INT()}, new String[] {"k", "v"});
+        FileStoreTable table = createFileStoreTable(rowType);
+        OneInputStreamOperatorTestHarness<CdcTypedRecord, Committable> harness =
+                createTestHarness(table);
+        harness.open();
+
+        harness.processElement(toTypedRecord(0, rowType, GenericRow.of(1, 10)), 1);
+
+        SchemaManager schemaManager = new SchemaManager(table.fileIO(), table.location());
+        schemaManager.commitChanges(SchemaChange.addColumn("v2", DataTypes.STRING()));
+        TableSchema latest =
+                schemaManager.commitChanges(SchemaChange.updateColumnType("v", DataTypes.BIGINT()));
+
+        // record of a newer schema refreshes the writer
+        harness.processElement(
+                toTypedRecord(
+                        latest.id(),
+                        latest.logicalRowType(),
+                        GenericRow.of(2, 20L, BinaryString.fromString("two"))),
+                2);
+        // record of an older schema is evolved by field ids
+        harness.processElement(toTypedRecord(0, rowType, GenericRow.of(3, 30)), 3);
+        harness.processElement(
+                toTypedRecord(0, rowType, GenericRow.ofKind(RowKind.DELETE, 1, 10)), 4);
+
+        harness.prepareSnapshotPreBarrier(1);
+        List<CommitMessage> messages = new ArrayList<>();
+        for (Committable committable : harness.extractOutputValues()) {
+            messages.add((CommitMessage) committable.wrappedCommittable());
+        }
+        harness.close();
+
+        FileStoreTable latestTable = table.copyWithLatestSchema();
+        try (TableCommitImpl commit = latestTable.newCommit(commitUser)) {
+            commit.commit(1, messages);
+        }
+        assertThat(read(latestTable)).containsExactlyInAnyOrder("2, 20, two", "3, 30, null");
+    }
+
+    private static CdcTypedRecord toTypedRecord(long schemaId, RowType rowType, GenericRow row) {
+        return new CdcTypedRecord(
+                schemaId, new InternalRowSerializer(rowType).toBinaryRow(row).copy());
+    }
+
+    private List<String> read(FileStoreTable table) throws Exception {
+        ReadBuilder readBuilder = table.newReadBuilder();
+        List<String> result = new ArrayList<>();
+        try (RecordReader<InternalRow> reader =
+                readBuilder.newRead().createReader(readBuilder.newScan().plan())) {
+            reader.forEachRemaining(
+                    row ->
+                            result.add(
+                                    row.getInt(0)
+                                            + ", "
+                                            + row.getLong(1)
+                                            + ", "
+                                            + (row.isNullAt(2) ? null : row.getString(2))));
+        }
+        return result;
+    }
+
+    private OneInputStreamOperatorTestHarness<CdcTypedRecord, Committable> createTestHarness(
+            FileStoreTable table) throws Exception {
+        CdcTypedRecordStoreWriteOperator.Factory operatorFactory =
+                new CdcTypedRecordStoreWriteOperator.Factory(
+                        table,
+                        (t, commitUser, state, ioManager, memoryPool, metricGroup) ->
+                                new StoreSinkWriteImpl(
+                                        t,
+                                        commitUser,
+                                        state,
+                                        ioManager,
+                                        false,
+                                        false,
+                                        true,
+                                        memoryPool,
+                                        metricGroup),
+                        commitUser);
+        TypeSerializer<CdcTypedRecord> inputSerializer =
+                new CdcTypedRecordTypeInfo().createSerializer(new ExecutionConfig());
+        TypeSerializer<Committable> outputSerializer =
+                new CommittableTypeInfo().createSerializer(new ExecutionConfig());
+        OneInputStreamOperatorTestHarness<CdcTypedRecord, Committable> harness =
+                new OneInputStreamOperatorTestHarness<>(operatorFactory, inputSerializer);
+        harness.setup(outputSerializer);
+        return harness;
+    }
+
+    private FileStoreTable createFileStoreTable(RowType rowType) throws Exception {
+        Options conf = new Options();
+        conf.set(CoreOptions.BUCKET, 1);
+
+        TableSchema tableSchema =
+                SchemaUtils.forceCommit(
+                        new SchemaManager(LocalFileIO.create(), tablePath),
+                        new Schema(
+                                rowType.getFields(),
+                                Collections.emptyList(),
+                                Collections.singletonList("k"),
+                                conf.toMap(),
+                                ""));
+        return FileStoreTableFactory.create(LocalFileIO.create(), tablePath, tableSchema);
+    }
+}
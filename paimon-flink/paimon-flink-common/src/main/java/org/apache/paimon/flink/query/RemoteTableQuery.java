@@ -35,6 +35,8 @@ import org.apache.paimon.utils.TypeUtils;
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
@@ -90,6 +92,34 @@ public class RemoteTableQuery implements TableQuery {
         return ProjectedRow.from(projection).replaceRow(row);
     }
 
+    @Override
+    public List<InternalRow> lookupBatch(BinaryRow partition, int bucket, List<InternalRow> keys)
+            throws IOException {
+        BinaryRow[] binaryKeys = new BinaryRow[keys.size()];
+        for (int i = 0; i < binaryKeys.length; i++) {
+            binaryKeys[i] = keySerializer.toBinaryRow(keys.get(i)).copy();
+        }
+
+        BinaryRow[] rows;
+        try {
+            rows = client.getValues(partition, bucket, binaryKeys).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        List<InternalRow> results = new ArrayList<>(rows.length);
+        for (BinaryRow row : rows) {
+            results.add(
+                    projection == null || row == null
+                            ? row
+                            : ProjectedRow.from(projection).replaceRow(row));
+        }
+        return results;
+    }
+
     @Override
     public RemoteTableQuery withValueProjection(int[] projection) {
         this.projection = projection;
@@ -22,6 +22,7 @@ import org.apache.paimon.flink.utils.RuntimeContextUtils;
 import org.apache.paimon.index.BucketAssigner;
 import org.apache.paimon.index.HashBucketAssigner;
 import org.apache.paimon.index.SimpleHashBucketAssigner;
+import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.schema.TableSchema;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.Table;
@@ -30,6 +31,7 @@ import org.apache.paimon.utils.MathUtils;
 import org.apache.paimon.utils.SerializableFunction;
 
 import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.metrics.Gauge;
 import org.apache.flink.runtime.state.StateInitializationContext;
 import org.apache.flink.streaming.api.operators.AbstractStreamOperator;
 import org.apache.flink.streaming.api.operators.OneInputStreamOperator;
@@ -41,6 +43,8 @@ public class HashBucketAssignerOperator<T> extends AbstractStreamOperator<Tuple2
 
     private static final long serialVersionUID = 1L;
 
+    private static final String INDEX_MEMORY_SIZE_METRIC = "dynamicBucketIndexMemorySize";
+
     private final String initialCommitUser;
 
     private final FileStoreTable table;
@@ -79,19 +83,29 @@ public class HashBucketAssignerOperator<T> extends AbstractStreamOperator<Tuple2
         int taskId = RuntimeContextUtils.getIndexOfThisSubtask(getRuntimeContext());
         long targetRowNum = table.coreOptions().dynamicBucketTargetRowNum();
         Integer maxBucketsNum = table.coreOptions().dynamicBucketMaxBuckets();
-        this.assigner =
-                overwrite
-                        ? new SimpleHashBucketAssigner(
-                                numberTasks, taskId, targetRowNum, maxBucketsNum)
-                        : new HashBucketAssigner(
-                                table.snapshotManager(),
-                                commitUser,
-                                table.store().newIndexFileHandler(),
-                                numberTasks,
-                                MathUtils.min(numAssigners, numberTasks),
-                                taskId,
-                                targetRowNum,
-                                maxBucketsNum);
+        if (overwrite) {
+            this.assigner =
+                    new SimpleHashBucketAssigner(numberTasks, taskId, targetRowNum, maxBucketsNum);
+        } else {
+            MemorySize maxIndexMemory = table.coreOptions().dynamicBucketIndexMaxMemory();
+            HashBucketAssigner hashBucketAssigner =
+                    new HashBucketAssigner(
+                            table.snapshotManager(),
+                            commitUser,
+                            table.store().newIndexFileHandler(),
+                            numberTasks,
+                            MathUtils.min(numAssigners, numberTasks),
+                            taskId,
+                            targetRowNum,
+                            maxBucketsNum,
+                            table.coreOptions().dynamicBucketIndexOffHeap(),
+                            maxIndexMemory == null ? Long.MAX_VALUE : maxIndexMemory.getBytes());
+            getMetricGroup()
+                    .gauge(
+                            INDEX_MEMORY_SIZE_METRIC,
+                            (Gauge<Long>) hashBucketAssigner::indexMemorySize);
+            this.assigner = hashBucketAssigner;
+        }
         this.extractor = extractorFunction.apply(table.schema());
     }
 
@@ -108,4 +122,12 @@ public class HashBucketAssignerOperator<T> extends AbstractStreamOperator<Tuple2
     public void prepareSnapshotPreBarrier(long checkpointId) {
         assigner.prepareCommit(checkpointId);
     }
+
+    @Override
+    public void close() throws Exception {
+        if (assigner != null) {
+            assigner.close();
+        }
+        super.close();
+    }
 }
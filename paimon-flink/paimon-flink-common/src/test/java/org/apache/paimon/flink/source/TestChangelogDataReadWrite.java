@@ -147,7 +147,7 @@ public class TestChangelogDataReadWrite {
                         FileFormatDiscover.of(options),
                         pathFactory,
                         options.fileIndexReadEnabled());
-        return new KeyValueTableRead(() -> read, () -> rawFileRead, null);
+        return new KeyValueTableRead(() -> read, () -> rawFileRead, null, "test");
     }
 
     public List<DataFileMeta> writeFiles(
@@ -190,6 +190,7 @@ public class TestChangelogDataReadWrite {
                                 null, // not used, we only create an empty writer
                                 null,
                                 null,
+                                null,
                                 options,
                                 EXTRACTOR,
                                 tablePath.getName())
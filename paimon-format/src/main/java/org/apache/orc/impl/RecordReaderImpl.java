@@ -18,6 +18,8 @@
 
 package org.apache.orc.impl;
 
+import org.apache.paimon.fs.PrefetchStats;
+import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.utils.RoaringBitmap32;
 
 import org.apache.commons.lang3.ArrayUtils;
@@ -88,6 +90,18 @@ import java.util.function.Consumer;
 public class RecordReaderImpl implements RecordReader {
     static final Logger LOG = LoggerFactory.getLogger(RecordReaderImpl.class);
     private static final boolean isLogDebugEnabled = LOG.isDebugEnabled();
+
+    /**
+     * Whether to read the projected streams of the next stripe in background while reading the
+     * current stripe. Only works for file systems whose input streams support positioned reads
+     * ({@link org.apache.paimon.fs.PositionedReadable}), such as the local file system, HDFS and
+     * the object storages based on Hadoop file systems. It is ignored for other file systems.
+     */
+    public static final String PREFETCH_ENABLED = "orc.read.prefetch.enabled";
+
+    /** Memory budget of prefetching, stripes exceeding this size are not prefetched. */
+    public static final String PREFETCH_MAX_SIZE = "orc.read.prefetch.max-size";
+
     // as public for use with test cases
     public static final OrcProto.ColumnStatistics EMPTY_COLUMN_STATISTICS =
             OrcProto.ColumnStatistics.newBuilder()
@@ -227,6 +241,15 @@ public class RecordReaderImpl implements RecordReader {
     public RecordReaderImpl(
             ReaderImpl fileReader, Reader.Options options, @Nullable RoaringBitmap32 selection)
             throws IOException {
+        this(fileReader, options, selection, null);
+    }
+
+    public RecordReaderImpl(
+            ReaderImpl fileReader,
+            Reader.Options options,
+            @Nullable RoaringBitmap32 selection,
+            @Nullable PrefetchStats prefetchStats)
+            throws IOException {
         this.selection = selection;
         OrcFile.WriterVersion writerVersion = fileReader.getWriterVersion();
         SchemaEvolution evolution;
@@ -318,6 +341,14 @@ public class RecordReaderImpl implements RecordReader {
             }
             this.dataReader = RecordReaderUtils.createDefaultDataReader(builder.build());
         }
+        if (fileReader.conf.getBoolean(PREFETCH_ENABLED, false)
+                && dataReader instanceof RecordReaderUtils.DefaultDataReader) {
+            ((RecordReaderUtils.DefaultDataReader) dataReader)
+                    .enablePrefetch(
+                            MemorySize.parse(fileReader.conf.get(PREFETCH_MAX_SIZE, "64 mb"))
+                                    .getBytes(),
+                            prefetchStats);
+        }
         firstRow = skippedRows;
         totalRowCount = rows;
         Boolean skipCorrupt = options.getSkipCorruptRecords();
@@ -1465,6 +1496,19 @@ public class RecordReaderImpl implements RecordReader {
                 seekToRowEntry(reader, (int) (rowInStripe / rowIndexStride), startReadPhase);
             }
         }
+        prefetchNextStripe();
+    }
+
+    /**
+     * Reads the projected streams of the next stripe in background, so that they are ready after
+     * the current stripe.
+     */
+    private void prefetchNextStripe() throws IOException {
+        if (currentStripe + 1 < stripes.size()
+                && dataReader instanceof RecordReaderUtils.DefaultDataReader) {
+            ((RecordReaderUtils.DefaultDataReader) dataReader)
+                    .prefetchStripe(stripes.get(currentStripe + 1), fileIncluded);
+        }
     }
 
     private StripeInformation beginReadStripe() throws IOException {
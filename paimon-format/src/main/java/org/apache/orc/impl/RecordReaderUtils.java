@@ -20,7 +20,10 @@ package org.apache.orc.impl;
 
 import org.apache.paimon.format.fs.FSDataWrappedInputStream;
 import org.apache.paimon.fs.FileRange;
+import org.apache.paimon.fs.PositionedReadable;
+import org.apache.paimon.fs.PrefetchStats;
 import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.fs.VectoredReadPrefetcher;
 import org.apache.paimon.fs.VectoredReadable;
 
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -36,6 +39,8 @@ import org.apache.orc.TypeDescription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -374,9 +379,13 @@ public class RecordReaderUtils {
             throws IOException {
         BufferChunk current = list == null ? null : list.get();
         while (current != null) {
-            while (current.hasData()) {
+            while (current != null && current.hasData()) {
                 current = (BufferChunk) current.next;
             }
+            if (current == null) {
+                // the remaining ranges are read from prefetched data
+                break;
+            }
             if (zcr != null) {
                 BufferChunk last = findSingleRead(current);
                 zeroCopyReadRanges(file, zcr, current, last, doForceDirect);
@@ -391,7 +400,10 @@ public class RecordReaderUtils {
 
     /** Read the list of ranges from the file by updating each range in the list. */
     private static void readDiskRangesVectored(
-            VectoredReadable fileInputStream, BufferChunkList range, boolean doForceDirect)
+            VectoredReadable fileInputStream,
+            @Nullable VectoredReadPrefetcher prefetcher,
+            BufferChunkList range,
+            boolean doForceDirect)
             throws IOException {
         if (range == null) {
             return;
@@ -412,10 +424,18 @@ public class RecordReaderUtils {
             }
             cur = (BufferChunk) cur.next;
         }
-        fileInputStream.readVectored(fileRanges);
+        if (prefetcher != null) {
+            prefetcher.readVectored(fileRanges);
+        } else {
+            fileInputStream.readVectored(fileRanges);
+        }
 
         for (FileRange r : fileRanges) {
             cur = map.get(r);
+            if (prefetcher != null) {
+                cur.setChunk(ByteBuffer.wrap(prefetcher.await(r.getData())));
+                continue;
+            }
             try {
                 cur.setChunk(ByteBuffer.wrap(r.getData().get()));
             } catch (InterruptedException | ExecutionException e) {
@@ -436,7 +456,7 @@ public class RecordReaderUtils {
         return null;
     }
 
-    private static class DefaultDataReader implements DataReader {
+    static class DefaultDataReader implements DataReader {
         private final Supplier<FileSystem> fileSystemSupplier;
         private final Path path;
         private final boolean useZeroCopy;
@@ -447,6 +467,11 @@ public class RecordReaderUtils {
         private HadoopShims.ZeroCopyReaderShim zcr = null;
         private InStream.StreamOptions options;
         private boolean isOpen = false;
+        private long prefetchMaxBytes = -1;
+        @Nullable private PrefetchStats prefetchStats;
+        @Nullable private VectoredReadPrefetcher prefetcher;
+        @Nullable private OrcProto.StripeFooter prefetchedFooter;
+        private long prefetchedFooterOffset;
 
         private DefaultDataReader(DataReaderProperties properties) {
             this.fileSystemSupplier = properties.getFileSystemSupplier();
@@ -475,6 +500,11 @@ public class RecordReaderUtils {
 
         @Override
         public OrcProto.StripeFooter readStripeFooter(StripeInformation stripe) throws IOException {
+            if (prefetchedFooter != null && prefetchedFooterOffset == stripe.getOffset()) {
+                OrcProto.StripeFooter footer = prefetchedFooter;
+                prefetchedFooter = null;
+                return footer;
+            }
             if (!isOpen) {
                 open();
             }
@@ -501,8 +531,12 @@ public class RecordReaderUtils {
                     ((FSDataWrappedInputStream) file.getWrappedStream()).wrapped();
             if (zcr == null && wrapped instanceof VectoredReadable) {
                 RecordReaderUtils.readDiskRangesVectored(
-                        (VectoredReadable) wrapped, range, doForceDirect);
+                        (VectoredReadable) wrapped, prefetcher(), range, doForceDirect);
             } else {
+                VectoredReadPrefetcher prefetcher = prefetcher();
+                if (prefetcher != null && !doForceDirect) {
+                    readFromPrefetched(prefetcher, range);
+                }
                 RecordReaderUtils.readDiskRanges(
                         file, zcr, range, doForceDirect, minSeekSize, minSeekSizeTolerance);
             }
@@ -510,8 +544,116 @@ public class RecordReaderUtils {
             return range;
         }
 
+        /** Sets the ranges contained in prefetched data, the others are read from the file. */
+        private static void readFromPrefetched(
+                VectoredReadPrefetcher prefetcher, BufferChunkList range) throws IOException {
+            BufferChunk cur = range == null ? null : range.get();
+            while (cur != null) {
+                if (!cur.hasData()) {
+                    byte[] bytes = prefetcher.readFromPrefetched(cur.getOffset(), cur.getLength());
+                    if (bytes != null) {
+                        cur.setChunk(ByteBuffer.wrap(bytes));
+                    }
+                }
+                cur = (BufferChunk) cur.next;
+            }
+        }
+
+        /** Enables prefetching with the memory budget, see {@link #prefetchStripe}. */
+        void enablePrefetch(long maxBytes, @Nullable PrefetchStats prefetchStats) {
+            this.prefetchMaxBytes = maxBytes;
+            this.prefetchStats = prefetchStats;
+        }
+
+        /**
+         * Reads the streams of the included columns in the stripe in background if prefetching is
+         * enabled. The stream layout is only known from the stripe footer, so the footer is read
+         * now and kept for the following {@link #readStripeFooter}. Bloom filter streams are not
+         * prefetched, they are only read on demand.
+         */
+        void prefetchStripe(StripeInformation stripe, @Nullable boolean[] included)
+                throws IOException {
+            VectoredReadPrefetcher prefetcher = prefetcher();
+            if (prefetcher == null) {
+                return;
+            }
+
+            OrcProto.StripeFooter footer = readStripeFooter(stripe);
+            prefetchedFooter = footer;
+            prefetchedFooterOffset = stripe.getOffset();
+
+            // merge consecutive streams like reading
+            List<FileRange> ranges = new ArrayList<>();
+            long offset = stripe.getOffset();
+            long rangeStart = -1;
+            long rangeEnd = -1;
+            for (OrcProto.Stream stream : footer.getStreamsList()) {
+                int column = stream.getColumn();
+                OrcProto.Stream.Kind kind = stream.getKind();
+                if ((included == null || (column < included.length && included[column]))
+                        && kind != OrcProto.Stream.Kind.BLOOM_FILTER
+                        && kind != OrcProto.Stream.Kind.BLOOM_FILTER_UTF8) {
+                    if (rangeEnd != offset) {
+                        if (!addRange(ranges, rangeStart, rangeEnd)) {
+                            return;
+                        }
+                        rangeStart = offset;
+                    }
+                    rangeEnd = offset + stream.getLength();
+                }
+                offset += stream.getLength();
+            }
+            if (addRange(ranges, rangeStart, rangeEnd)) {
+                prefetcher.prefetch(ranges);
+            }
+        }
+
+        private static boolean addRange(List<FileRange> ranges, long start, long end) {
+            if (start < 0) {
+                return true;
+            }
+            if (end - start >= Integer.MAX_VALUE) {
+                return false;
+            }
+            ranges.add(FileRange.createFileRange(start, (int) (end - start)));
+            return true;
+        }
+
+        @Nullable
+        private VectoredReadPrefetcher prefetcher() throws IOException {
+            if (prefetchMaxBytes < 0 || zcr != null) {
+                return null;
+            }
+            if (prefetcher == null) {
+                if (!isOpen) {
+                    open();
+                }
+                SeekableInputStream wrapped =
+                        ((FSDataWrappedInputStream) file.getWrappedStream()).wrapped();
+                if (!(wrapped instanceof PositionedReadable)) {
+                    LOG.debug(
+                            "Prefetching is ignored for {}, its input stream does not support positioned reads.",
+                            path);
+                    prefetchMaxBytes = -1;
+                    return null;
+                }
+                prefetcher =
+                        new VectoredReadPrefetcher(
+                                (PositionedReadable) wrapped, prefetchMaxBytes, prefetchStats);
+            }
+            return prefetcher;
+        }
+
         @Override
         public void close() throws IOException {
+            if (prefetcher != null) {
+                // stop background reads before the stream is closed
+                prefetcher.close();
+                LOG.debug("Prefetch statistics of {}: {}", path, prefetcher);
+                prefetcher = null;
+            }
+            prefetchMaxBytes = -1;
+            prefetchedFooter = null;
             if (options.getCodec() != null) {
                 OrcCodecPool.returnCodec(options.getCodec().getKind(), options.getCodec());
                 options.withCodec(null);
@@ -548,6 +690,8 @@ public class RecordReaderUtils {
             }
             try {
                 DefaultDataReader clone = (DefaultDataReader) super.clone();
+                clone.prefetcher = null;
+                clone.prefetchedFooter = null;
                 if (options.getCodec() != null) {
                     // Make sure we don't share the same codec between two readers.
                     clone.options = options.clone();
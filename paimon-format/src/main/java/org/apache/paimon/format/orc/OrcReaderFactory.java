@@ -30,6 +30,7 @@ import org.apache.paimon.format.fs.HadoopReadOnlyFileSystem;
 import org.apache.paimon.format.orc.filter.OrcFilters;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.PrefetchStats;
 import org.apache.paimon.reader.FileRecordReader;
 import org.apache.paimon.reader.RecordReader.RecordIterator;
 import org.apache.paimon.types.DataType;
@@ -113,6 +114,7 @@ public class OrcReaderFactory implements FormatReaderFactory {
                         0,
                         context.fileSize(),
                         context.selection(),
+                        context.prefetchStats(),
                         deletionVectorsEnabled);
         return new OrcVectorizedReader(orcReader, poolOfBatches);
     }
@@ -266,9 +268,11 @@ public class OrcReaderFactory implements FormatReaderFactory {
             long splitStart,
             long splitLength,
             @Nullable RoaringBitmap32 selection,
+            @Nullable PrefetchStats prefetchStats,
             boolean deletionVectorsEnabled)
             throws IOException {
-        org.apache.orc.Reader orcReader = createReader(conf, fileIO, path, selection);
+        org.apache.orc.Reader orcReader =
+                createReader(conf, fileIO, path, selection, prefetchStats);
         try {
             // get offset and length for the stripes that start in the split
             Pair<Long, Long> offsetAndLength =
@@ -351,6 +355,16 @@ public class OrcReaderFactory implements FormatReaderFactory {
             org.apache.paimon.fs.Path path,
             @Nullable RoaringBitmap32 selection)
             throws IOException {
+        return createReader(conf, fileIO, path, selection, null);
+    }
+
+    private static org.apache.orc.Reader createReader(
+            org.apache.hadoop.conf.Configuration conf,
+            FileIO fileIO,
+            org.apache.paimon.fs.Path path,
+            @Nullable RoaringBitmap32 selection,
+            @Nullable PrefetchStats prefetchStats)
+            throws IOException {
         // open ORC file and create reader
         org.apache.hadoop.fs.Path hPath = new org.apache.hadoop.fs.Path(path.toUri());
 
@@ -362,7 +376,7 @@ public class OrcReaderFactory implements FormatReaderFactory {
         return new ReaderImpl(hPath, readerOptions) {
             @Override
             public RecordReader rows(Options options) throws IOException {
-                return new RecordReaderImpl(this, options, selection);
+                return new RecordReaderImpl(this, options, selection, prefetchStats);
             }
         };
     }
@@ -0,0 +1,34 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.format.orc.writer;
+
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+
+import org.apache.hadoop.hive.ql.exec.vector.ColumnVector;
+
+/** Writer to write a range of a column in {@link VectorizedColumnBatch} to orc column vector. */
+public interface BatchFieldWriter {
+    void write(
+            VectorizedColumnBatch batch,
+            int columnId,
+            int offset,
+            ColumnVector column,
+            int rowId,
+            int length);
+}
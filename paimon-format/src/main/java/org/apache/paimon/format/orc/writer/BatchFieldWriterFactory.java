@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.format.orc.writer;
+
+import org.apache.paimon.data.columnar.BooleanColumnVector;
+import org.apache.paimon.data.columnar.ByteColumnVector;
+import org.apache.paimon.data.columnar.BytesColumnVector.Bytes;
+import org.apache.paimon.data.columnar.ColumnarRow;
+import org.apache.paimon.data.columnar.FloatColumnVector;
+import org.apache.paimon.data.columnar.IntColumnVector;
+import org.apache.paimon.data.columnar.ShortColumnVector;
+import org.apache.paimon.types.ArrayType;
+import org.apache.paimon.types.BigIntType;
+import org.apache.paimon.types.BinaryType;
+import org.apache.paimon.types.BooleanType;
+import org.apache.paimon.types.CharType;
+import org.apache.paimon.types.DataTypeVisitor;
+import org.apache.paimon.types.DateType;
+import org.apache.paimon.types.DecimalType;
+import org.apache.paimon.types.DoubleType;
+import org.apache.paimon.types.FloatType;
+import org.apache.paimon.types.IntType;
+import org.apache.paimon.types.LocalZonedTimestampType;
+import org.apache.paimon.types.MapType;
+import org.apache.paimon.types.MultisetType;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.types.SmallIntType;
+import org.apache.paimon.types.TimeType;
+import org.apache.paimon.types.TimestampType;
+import org.apache.paimon.types.TinyIntType;
+import org.apache.paimon.types.VarBinaryType;
+import org.apache.paimon.types.VarCharType;
+import org.apache.paimon.types.VariantType;
+
+import org.apache.hadoop.hive.ql.exec.vector.BytesColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.DoubleColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.LongColumnVector;
+
+/**
+ * Factory to create {@link BatchFieldWriter}. Primitive types are copied in a loop per column,
+ * other types fall back to the {@link FieldWriter} of each row.
+ */
+public class BatchFieldWriterFactory implements DataTypeVisitor<BatchFieldWriter> {
+
+    private static final BatchFieldWriter BYTES_WRITER =
+            (batch, columnId, offset, column, rowId, length) -> {
+                org.apache.paimon.data.columnar.BytesColumnVector source =
+                        (org.apache.paimon.data.columnar.BytesColumnVector) batch.columns[columnId];
+                BytesColumnVector vector = (BytesColumnVector) column;
+                for (int i = 0; i < length; i++) {
+                    if (!source.isNullAt(offset + i)) {
+                        Bytes bytes = source.getBytes(offset + i);
+                        vector.setVal(rowId + i, bytes.data, bytes.offset, bytes.len);
+                    }
+                }
+            };
+
+    private static final BatchFieldWriter BOOLEAN_WRITER =
+            (batch, columnId, offset, column, rowId, length) -> {
+                BooleanColumnVector source = (BooleanColumnVector) batch.columns[columnId];
+                long[] vector = ((LongColumnVector) column).vector;
+                for (int i = 0; i < length; i++) {
+                    vector[rowId + i] = source.getBoolean(offset + i) ? 1 : 0;
+                }
+            };
+
+    private static final BatchFieldWriter INT_WRITER =
+            (batch, columnId, offset, column, rowId, length) -> {
+                IntColumnVector source = (IntColumnVector) batch.columns[columnId];
+                long[] vector = ((LongColumnVector) column).vector;
+                for (int i = 0; i < length; i++) {
+                    vector[rowId + i] = source.getInt(offset + i);
+                }
+            };
+
+    private static final BatchFieldWriter TINYINT_WRITER =
+            (batch, columnId, offset, column, rowId, length) -> {
+                ByteColumnVector source = (ByteColumnVector) batch.columns[columnId];
+                long[] vector = ((LongColumnVector) column).vector;
+                for (int i = 0; i < length; i++) {
+                    vector[rowId + i] = source.getByte(offset + i);
+                }
+            };
+
+    private static final BatchFieldWriter SMALLINT_WRITER =
+            (batch, columnId, offset, column, rowId, length) -> {
+                ShortColumnVector source = (ShortColumnVector) batch.columns[columnId];
+                long[] vector = ((LongColumnVector) column).vector;
+                for (int i = 0; i < length; i++) {
+                    vector[rowId + i] = source.getShort(offset + i);
+                }
+            };
+
+    private static final BatchFieldWriter BIGINT_WRITER =
+            (batch, columnId, offset, column, rowId, length) -> {
+                org.apache.paimon.data.columnar.LongColumnVector source =
+                        (org.apache.paimon.data.columnar.LongColumnVector) batch.columns[columnId];
+                long[] vector = ((LongColumnVector) column).vector;
+                for (int i = 0; i < length; i++) {
+                    vector[rowId + i] = source.getLong(offset + i);
+                }
+            };
+
+    private static final BatchFieldWriter FLOAT_WRITER =
+            (batch, columnId, offset, column, rowId, length) -> {
+                FloatColumnVector source = (FloatColumnVector) batch.columns[columnId];
+                double[] vector = ((DoubleColumnVector) column).vector;
+                for (int i = 0; i < length; i++) {
+                    vector[rowId + i] = source.getFloat(offset + i);
+                }
+            };
+
+    private static final BatchFieldWriter DOUBLE_WRITER =
+            (batch, columnId, offset, column, rowId, length) -> {
+                org.apache.paimon.data.columnar.DoubleColumnVector source =
+                        (org.apache.paimon.data.columnar.DoubleColumnVector)
+                                batch.columns[columnId];
+                double[] vector = ((DoubleColumnVector) column).vector;
+                for (int i = 0; i < length; i++) {
+                    vector[rowId + i] = source.getDouble(offset + i);
+                }
+            };
+
+    private final FieldWriterFactory fieldWriterFactory;
+
+    public BatchFieldWriterFactory(FieldWriterFactory fieldWriterFactory) {
+        this.fieldWriterFactory = fieldWriterFactory;
+    }
+
+    @Override
+    public BatchFieldWriter visit(CharType charType) {
+        return BYTES_WRITER;
+    }
+
+    @Override
+    public BatchFieldWriter visit(VarCharType varCharType) {
+        return BYTES_WRITER;
+    }
+
+    @Override
+    public BatchFieldWriter visit(BooleanType booleanType) {
+        return BOOLEAN_WRITER;
+    }
+
+    @Override
+    public BatchFieldWriter visit(BinaryType binaryType) {
+        return BYTES_WRITER;
+    }
+
+    @Override
+    public BatchFieldWriter visit(VarBinaryType varBinaryType) {
+        return BYTES_WRITER;
+    }
+
+    @Override
+    public BatchFieldWriter visit(TinyIntType tinyIntType) {
+        return TINYINT_WRITER;
+    }
+
+    @Override
+    public BatchFieldWriter visit(SmallIntType smallIntType) {
+        return SMALLINT_WRITER;
+    }
+
+    @Override
+    public BatchFieldWriter visit(IntType intType) {
+        return INT_WRITER;
+    }
+
+    @Override
+    public BatchFieldWriter visit(BigIntType bigIntType) {
+        return BIGINT_WRITER;
+    }
+
+    @Override
+    public BatchFieldWriter visit(FloatType floatType) {
+        return FLOAT_WRITER;
+    }
+
+    @Override
+    public BatchFieldWriter visit(DoubleType doubleType) {
+        return DOUBLE_WRITER;
+    }
+
+    @Override
+    public BatchFieldWriter visit(DateType dateType) {
+        return INT_WRITER;
+    }
+
+    @Override
+    public BatchFieldWriter visit(TimeType timeType) {
+        return INT_WRITER;
+    }
+
+    @Override
+    public BatchFieldWriter visit(TimestampType timestampType) {
+        return rowByRow(fieldWriterFactory.visit(timestampType));
+    }
+
+    @Override
+    public BatchFieldWriter visit(LocalZonedTimestampType localZonedTimestampType) {
+        return rowByRow(fieldWriterFactory.visit(localZonedTimestampType));
+    }
+
+    @Override
+    public BatchFieldWriter visit(VariantType variantType) {
+        return rowByRow(fieldWriterFactory.visit(variantType));
+    }
+
+    @Override
+    public BatchFieldWriter visit(DecimalType decimalType) {
+        return rowByRow(fieldWriterFactory.visit(decimalType));
+    }
+
+    @Override
+    public BatchFieldWriter visit(ArrayType arrayType) {
+        return rowByRow(fieldWriterFactory.visit(arrayType));
+    }
+
+    @Override
+    public BatchFieldWriter visit(MapType mapType) {
+        return rowByRow(fieldWriterFactory.visit(mapType));
+    }
+
+    @Override
+    public BatchFieldWriter visit(RowType rowType) {
+        return rowByRow(fieldWriterFactory.visit(rowType));
+    }
+
+    @Override
+    public BatchFieldWriter visit(MultisetType multisetType) {
+        return rowByRow(fieldWriterFactory.visit(multisetType));
+    }
+
+    private static BatchFieldWriter rowByRow(FieldWriter fieldWriter) {
+        return (batch, columnId, offset, column, rowId, length) -> {
+            ColumnarRow row = new ColumnarRow(batch);
+            for (int i = 0; i < length; i++) {
+                if (!batch.isNullAt(offset + i, columnId)) {
+                    row.setRowId(offset + i);
+                    fieldWriter.write(rowId + i, column, row, columnId);
+                }
+            }
+        };
+    }
+}
@@ -20,8 +20,11 @@ package org.apache.paimon.format.orc.writer;
 
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.InternalRow;
-import org.apache.paimon.format.FormatWriter;
+import org.apache.paimon.data.columnar.ColumnarBundleRecords;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.format.BundleFormatWriter;
 import org.apache.paimon.fs.PositionOutputStream;
+import org.apache.paimon.io.BundleRecords;
 
 import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatch;
 import org.apache.orc.Writer;
@@ -30,8 +33,8 @@ import java.io.IOException;
 
 import static org.apache.paimon.utils.Preconditions.checkNotNull;
 
-/** A {@link FormatWriter} implementation that writes data in ORC format. */
-public class OrcBulkWriter implements FormatWriter {
+/** A {@link BundleFormatWriter} implementation that writes data in ORC format. */
+public class OrcBulkWriter implements BundleFormatWriter {
 
     private final Writer writer;
     private final Vectorizer<InternalRow> vectorizer;
@@ -58,6 +61,28 @@ public class OrcBulkWriter implements FormatWriter {
         }
     }
 
+    @Override
+    public void writeBundle(BundleRecords bundle) throws IOException {
+        if (bundle instanceof ColumnarBundleRecords && vectorizer instanceof RowDataVectorizer) {
+            RowDataVectorizer rowDataVectorizer = (RowDataVectorizer) vectorizer;
+            VectorizedColumnBatch columns = ((ColumnarBundleRecords) bundle).batch();
+            int numRows = columns.getNumRows();
+            int offset = 0;
+            while (offset < numRows) {
+                int length = Math.min(numRows - offset, rowBatch.getMaxSize() - rowBatch.size);
+                rowDataVectorizer.vectorize(columns, offset, length, rowBatch);
+                offset += length;
+                if (rowBatch.size == rowBatch.getMaxSize()) {
+                    flush();
+                }
+            }
+        } else {
+            for (InternalRow row : bundle) {
+                addElement(row);
+            }
+        }
+    }
+
     private void flush() throws IOException {
         if (rowBatch.size != 0) {
             writer.addRowBatch(rowBatch);
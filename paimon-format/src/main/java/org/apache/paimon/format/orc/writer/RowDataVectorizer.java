@@ -19,6 +19,7 @@
 package org.apache.paimon.format.orc.writer;
 
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 import org.apache.paimon.types.DataType;
 
 import org.apache.hadoop.hive.ql.exec.vector.ColumnVector;
@@ -33,6 +34,7 @@ import java.util.stream.Collectors;
 public class RowDataVectorizer extends Vectorizer<InternalRow> {
 
     private final List<FieldWriter> fieldWriters;
+    private final List<BatchFieldWriter> batchFieldWriters;
 
     public RowDataVectorizer(
             TypeDescription schema, DataType[] fieldTypes, boolean legacyTimestampLtzType) {
@@ -42,6 +44,12 @@ public class RowDataVectorizer extends Vectorizer<InternalRow> {
                 Arrays.stream(fieldTypes)
                         .map(t -> t.accept(fieldWriterFactory))
                         .collect(Collectors.toList());
+        BatchFieldWriterFactory batchFieldWriterFactory =
+                new BatchFieldWriterFactory(fieldWriterFactory);
+        this.batchFieldWriters =
+                Arrays.stream(fieldTypes)
+                        .map(t -> t.accept(batchFieldWriterFactory))
+                        .collect(Collectors.toList());
     }
 
     @Override
@@ -57,4 +65,24 @@ public class RowDataVectorizer extends Vectorizer<InternalRow> {
             }
         }
     }
+
+    /**
+     * Transforms the rows in range [offset, offset + length) of the provided columns to
+     * ColumnVectors column by column, and appends them to the VectorizedRowBatch.
+     */
+    public void vectorize(
+            VectorizedColumnBatch columns, int offset, int length, VectorizedRowBatch batch) {
+        int rowId = batch.size;
+        for (int i = 0; i < columns.getArity(); ++i) {
+            ColumnVector fieldColumn = batch.cols[i];
+            for (int j = 0; j < length; j++) {
+                if (columns.isNullAt(offset + j, i)) {
+                    fieldColumn.noNulls = false;
+                    fieldColumn.isNull[rowId + j] = true;
+                }
+            }
+            batchFieldWriters.get(i).write(columns, i, offset, fieldColumn, rowId, length);
+        }
+        batch.size += length;
+    }
 }
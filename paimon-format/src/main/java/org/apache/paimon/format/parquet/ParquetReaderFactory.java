@@ -24,7 +24,13 @@ import org.apache.paimon.data.columnar.writable.WritableColumnVector;
 import org.apache.paimon.format.FormatReaderFactory;
 import org.apache.paimon.format.parquet.reader.VectorizedParquetRecordReader;
 import org.apache.paimon.format.parquet.type.ParquetField;
+import org.apache.paimon.format.parquet.type.ParquetPrimitiveField;
+import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.LeafPredicate;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.predicate.PredicateBuilder;
+import org.apache.paimon.predicate.PredicateReplaceVisitor;
 import org.apache.paimon.reader.FileRecordReader;
 import org.apache.paimon.types.ArrayType;
 import org.apache.paimon.types.DataField;
@@ -49,9 +55,13 @@ import org.apache.parquet.schema.Types;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.apache.paimon.format.parquet.ParquetSchemaConverter.PAIMON_SCHEMA;
 import static org.apache.paimon.format.parquet.ParquetSchemaConverter.parquetListElementType;
@@ -70,17 +80,45 @@ public class ParquetReaderFactory implements FormatReaderFactory {
 
     private static final String ALLOCATION_SIZE = "parquet.read.allocation.size";
 
+    /**
+     * Whether to evaluate the read filters inside the reader and drop the rows failing them. It is
+     * ignored when reading files of primary key tables, see {@code KeyValueFileStore}.
+     */
+    private static final String LATE_MATERIALIZATION_ENABLED =
+            "parquet.filter.late-materialization.enabled";
+
+    /**
+     * Whether to read the next row group in background. Only works for file systems whose input
+     * streams support positioned reads ({@link org.apache.paimon.fs.PositionedReadable}), such as
+     * the local file system, HDFS and the object storages based on Hadoop file systems. It is
+     * ignored for other file systems.
+     */
+    private static final String PREFETCH_ENABLED = "parquet.read.prefetch.enabled";
+
+    private static final String PREFETCH_MAX_SIZE = "parquet.read.prefetch.max-size";
+
     private final Options conf;
     private final DataField[] readFields;
     private final int batchSize;
     private final FilterCompat.Filter filter;
+    private final List<Predicate> predicates;
 
     public ParquetReaderFactory(
             Options conf, RowType readType, int batchSize, FilterCompat.Filter filter) {
+        this(conf, readType, batchSize, filter, null);
+    }
+
+    public ParquetReaderFactory(
+            Options conf,
+            RowType readType,
+            int batchSize,
+            FilterCompat.Filter filter,
+            @Nullable List<Predicate> predicates) {
         this.conf = conf;
         this.readFields = readType.getFields().toArray(new DataField[0]);
         this.batchSize = batchSize;
         this.filter = filter;
+        this.predicates = predicates == null ? Collections.emptyList() : predicates;
     }
 
     @Override
@@ -95,7 +133,8 @@ public class ParquetReaderFactory implements FormatReaderFactory {
                         ParquetInputFile.fromPath(
                                 context.fileIO(), context.filePath(), context.fileSize()),
                         builder.build(),
-                        context.selection());
+                        context.selection(),
+                        context.prefetchStats());
         MessageType fileSchema = reader.getFileMetaData().getSchema();
         MessageType requestedSchema = clipParquetSchema(fileSchema);
 
@@ -113,8 +152,77 @@ public class ParquetReaderFactory implements FormatReaderFactory {
         MessageColumnIO columnIO = new ColumnIOFactory().getColumnIO(requestedSchema);
         List<ParquetField> fields = buildFieldsList(readFields, columnIO);
 
+        Predicate lateFilter = null;
+        WritableColumnVector[] filterVectors = null;
+        if (conf.getBoolean(LATE_MATERIALIZATION_ENABLED, false)) {
+            lateFilter = lateMaterializationFilter(fields);
+            if (lateFilter != null) {
+                filterVectors = createFilterVectors(requestedSchema, lateFilter);
+            }
+        }
+
         return new VectorizedParquetRecordReader(
-                context.filePath(), reader, fileSchema, fields, writableVectors, batchSize);
+                context.filePath(),
+                reader,
+                fileSchema,
+                fields,
+                writableVectors,
+                batchSize,
+                lateFilter,
+                filterVectors,
+                context.selection());
+    }
+
+    /**
+     * Convert the predicates which only reference top-level primitive fields of the read type to
+     * the filter of late materialization, rows filtered out by it are not returned at all.
+     */
+    @Nullable
+    private Predicate lateMaterializationFilter(List<ParquetField> fields) {
+        PredicateReplaceVisitor visitor =
+                predicate -> {
+                    for (int i = 0; i < readFields.length; i++) {
+                        DataField field = readFields[i];
+                        if (field.name().equals(predicate.fieldName())
+                                && field.type().equalsIgnoreNullable(predicate.type())
+                                && fields.get(i) instanceof ParquetPrimitiveField) {
+                            return Optional.of(predicate.copyWithNewIndex(i));
+                        }
+                    }
+                    return Optional.empty();
+                };
+
+        List<Predicate> converted = new ArrayList<>();
+        for (Predicate predicate : predicates) {
+            for (Predicate conjunct : PredicateBuilder.splitAnd(predicate)) {
+                conjunct.visit(visitor).ifPresent(converted::add);
+            }
+        }
+        return converted.isEmpty() ? null : PredicateBuilder.and(converted);
+    }
+
+    private WritableColumnVector[] createFilterVectors(
+            MessageType requestedSchema, Predicate lateFilter) {
+        WritableColumnVector[] columns = new WritableColumnVector[readFields.length];
+        List<Type> types = requestedSchema.getFields();
+        lateFilter.visit(
+                new PredicateReplaceVisitor() {
+                    @Override
+                    public Optional<Predicate> visit(LeafPredicate predicate) {
+                        int i = predicate.index();
+                        if (columns[i] == null) {
+                            columns[i] =
+                                    createWritableColumnVector(
+                                            batchSize,
+                                            readFields[i].type(),
+                                            types.get(i),
+                                            requestedSchema.getColumns(),
+                                            0);
+                        }
+                        return Optional.of(predicate);
+                    }
+                });
+        return columns;
     }
 
     private void setReadOptions(ParquetReadOptions.Builder builder) {
@@ -135,6 +243,10 @@ public class ParquetReaderFactory implements FormatReaderFactory {
             builder.set(BAD_RECORD_THRESHOLD_CONF_KEY, badRecordThresh);
         }
         builder.withRecordFilter(filter);
+        if (conf.getBoolean(PREFETCH_ENABLED, false)) {
+            MemorySize maxSize = MemorySize.parse(conf.getString(PREFETCH_MAX_SIZE, "64 mb"));
+            builder.set(ParquetFileReader.PREFETCH_MAX_BYTES, String.valueOf(maxSize.getBytes()));
+        }
     }
 
     /** Clips `parquetSchema` according to `fieldNames`. */
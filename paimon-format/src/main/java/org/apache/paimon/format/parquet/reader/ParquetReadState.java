@@ -89,10 +89,19 @@ public final class ParquetReadState {
 
     ParquetReadState(
             ColumnDescriptor descriptor, boolean isRequired, PrimitiveIterator.OfLong rowIndexes) {
+        this(descriptor, isRequired, constructRanges(rowIndexes));
+    }
+
+    /**
+     * Create a state reading rows in the given ranges. The ranges may grow while reading, see
+     * {@link SelectedRowRanges}.
+     */
+    ParquetReadState(
+            ColumnDescriptor descriptor, boolean isRequired, Iterator<RowRange> rowRanges) {
         this.maxRepetitionLevel = descriptor.getMaxRepetitionLevel();
         this.maxDefinitionLevel = descriptor.getMaxDefinitionLevel();
         this.isRequired = isRequired;
-        this.rowRanges = constructRanges(rowIndexes);
+        this.rowRanges = rowRanges;
         nextRange();
     }
 
@@ -101,7 +110,7 @@ public final class ParquetReadState {
      * `rowIndexes` are `[0, 1, 2, 4, 5, 7, 8, 9]`, it will be converted into 3 row ranges: `[0-2],
      * [4-5], [7-9]`.
      */
-    private Iterator<RowRange> constructRanges(PrimitiveIterator.OfLong rowIndexes) {
+    private static Iterator<RowRange> constructRanges(PrimitiveIterator.OfLong rowIndexes) {
         if (rowIndexes == null) {
             return null;
         }
@@ -138,6 +147,10 @@ public final class ParquetReadState {
                 this.maxRepetitionLevel == 0; // always true for non-repeated column
         this.numBatchedDefLevels = 0;
         this.shouldSkip = false;
+        if (currentRange == END_ROW_RANGE && rowRanges != null && rowRanges.hasNext()) {
+            // ranges of this batch are appended after the previous ranges have been consumed
+            nextRange();
+        }
     }
 
     /** Must be called at the beginning of reading a new page. */
@@ -167,11 +180,12 @@ public final class ParquetReadState {
         }
     }
 
-    private static class RowRange {
+    /** A range of row indexes, both start and end are inclusive. */
+    static class RowRange {
         private final long start;
         private final long end;
 
-        public RowRange(long start, long end) {
+        RowRange(long start, long end) {
             this.start = start;
             this.end = end;
         }
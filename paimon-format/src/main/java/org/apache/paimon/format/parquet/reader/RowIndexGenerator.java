@@ -52,6 +52,22 @@ public class RowIndexGenerator {
         }
     }
 
+    /** Generate row indexes from the given row indexes, which are positions in the file. */
+    public void initFromRowIndexes(PrimitiveIterator.OfLong rowIndexes) {
+        rowIndexIterator =
+                new LongIterator() {
+                    @Override
+                    public boolean hasNext() {
+                        return rowIndexes.hasNext();
+                    }
+
+                    @Override
+                    public long next() {
+                        return rowIndexes.nextLong();
+                    }
+                };
+    }
+
     public void populateRowIndex(ColumnarBatch columnarBatch) {
         columnarBatch.resetPositions(rowIndexIterator);
     }
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.format.parquet.reader;
+
+import org.apache.paimon.format.parquet.reader.ParquetReadState.RowRange;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Row indexes in a row group selected by late materialization, they are appended batch by batch in
+ * ascending order. The iterators created by this class see the rows appended after their creation,
+ * so column readers of a row group can be created before any row is selected.
+ */
+class SelectedRowRanges {
+
+    private final List<long[]> ranges = new ArrayList<>();
+
+    private long rangeStart = -1;
+    private long rangeEnd = -1;
+
+    /** Append a selected row index, it must be greater than all the appended row indexes. */
+    void add(long rowIndex) {
+        if (rangeStart >= 0 && rowIndex == rangeEnd + 1) {
+            rangeEnd = rowIndex;
+            return;
+        }
+        flushRange();
+        rangeStart = rowIndex;
+        rangeEnd = rowIndex;
+    }
+
+    /** Finish appending rows of the current batch, so that iterators can see them. */
+    void flush() {
+        flushRange();
+        rangeStart = -1;
+        rangeEnd = -1;
+    }
+
+    void clear() {
+        ranges.clear();
+        rangeStart = -1;
+        rangeEnd = -1;
+    }
+
+    private void flushRange() {
+        if (rangeStart >= 0) {
+            ranges.add(new long[] {rangeStart, rangeEnd});
+        }
+    }
+
+    /** Returns the selected ranges for {@link ParquetReadState}. */
+    Iterator<RowRange> rangeIterator() {
+        return new Iterator<RowRange>() {
+
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < ranges.size();
+            }
+
+            @Override
+            public RowRange next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                long[] range = ranges.get(next++);
+                return new RowRange(range[0], range[1]);
+            }
+        };
+    }
+
+    /** Returns the selected row indexes one by one, plus the given offset. */
+    PrimitiveIterator.OfLong rowIndexIterator(long offset) {
+        return new PrimitiveIterator.OfLong() {
+
+            private int nextRange = 0;
+            private long nextRow = 0;
+            private long currentEnd = -1;
+
+            @Override
+            public boolean hasNext() {
+                return nextRow <= currentEnd || nextRange < ranges.size();
+            }
+
+            @Override
+            public long nextLong() {
+                if (nextRow > currentEnd) {
+                    if (nextRange >= ranges.size()) {
+                        throw new NoSuchElementException();
+                    }
+                    long[] range = ranges.get(nextRange++);
+                    nextRow = range[0];
+                    currentEnd = range[1];
+                }
+                return offset + nextRow++;
+            }
+        };
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.format.parquet.reader;
+
+import org.apache.paimon.data.columnar.BytesColumnVector.Bytes;
+import org.apache.paimon.data.columnar.heap.HeapBooleanVector;
+import org.apache.paimon.data.columnar.heap.HeapByteVector;
+import org.apache.paimon.data.columnar.heap.HeapBytesVector;
+import org.apache.paimon.data.columnar.heap.HeapDoubleVector;
+import org.apache.paimon.data.columnar.heap.HeapFloatVector;
+import org.apache.paimon.data.columnar.heap.HeapIntVector;
+import org.apache.paimon.data.columnar.heap.HeapLongVector;
+import org.apache.paimon.data.columnar.heap.HeapShortVector;
+import org.apache.paimon.data.columnar.heap.HeapTimestampVector;
+import org.apache.paimon.data.columnar.writable.WritableColumnVector;
+
+/**
+ * Copies the selected rows of a primitive column vector decoded by late materialization to the
+ * output vector. Values are read through the getters, so dictionary encoded vectors are decoded.
+ */
+final class SelectedRowsCopier {
+
+    private SelectedRowsCopier() {}
+
+    /** Whether the vector can be copied by {@link #copy}. */
+    static boolean isSupported(WritableColumnVector vector) {
+        return vector instanceof HeapBooleanVector
+                || vector instanceof HeapByteVector
+                || vector instanceof HeapShortVector
+                || vector instanceof HeapIntVector
+                || vector instanceof HeapLongVector
+                || vector instanceof HeapFloatVector
+                || vector instanceof HeapDoubleVector
+                || vector instanceof HeapBytesVector
+                || vector instanceof HeapTimestampVector;
+    }
+
+    /**
+     * Copies rows {@code rows[0, count)} of {@code from} to rows {@code [0, count)} of {@code to}.
+     */
+    static void copy(WritableColumnVector from, WritableColumnVector to, int[] rows, int count) {
+        for (int i = 0; i < count; i++) {
+            if (from.isNullAt(rows[i])) {
+                to.setNullAt(i);
+            }
+        }
+
+        if (from instanceof HeapIntVector) {
+            HeapIntVector src = (HeapIntVector) from;
+            HeapIntVector dst = (HeapIntVector) to;
+            for (int i = 0; i < count; i++) {
+                dst.setInt(i, src.getInt(rows[i]));
+            }
+        } else if (from instanceof HeapLongVector) {
+            HeapLongVector src = (HeapLongVector) from;
+            HeapLongVector dst = (HeapLongVector) to;
+            for (int i = 0; i < count; i++) {
+                dst.setLong(i, src.getLong(rows[i]));
+            }
+        } else if (from instanceof HeapBytesVector) {
+            HeapBytesVector src = (HeapBytesVector) from;
+            HeapBytesVector dst = (HeapBytesVector) to;
+            for (int i = 0; i < count; i++) {
+                if (!src.isNullAt(rows[i])) {
+                    Bytes bytes = src.getBytes(rows[i]);
+                    dst.putByteArray(i, bytes.data, bytes.offset, bytes.len);
+                }
+            }
+        } else if (from instanceof HeapDoubleVector) {
+            HeapDoubleVector src = (HeapDoubleVector) from;
+            HeapDoubleVector dst = (HeapDoubleVector) to;
+            for (int i = 0; i < count; i++) {
+                dst.setDouble(i, src.getDouble(rows[i]));
+            }
+        } else if (from instanceof HeapFloatVector) {
+            HeapFloatVector src = (HeapFloatVector) from;
+            HeapFloatVector dst = (HeapFloatVector) to;
+            for (int i = 0; i < count; i++) {
+                dst.setFloat(i, src.getFloat(rows[i]));
+            }
+        } else if (from instanceof HeapShortVector) {
+            HeapShortVector src = (HeapShortVector) from;
+            HeapShortVector dst = (HeapShortVector) to;
+            for (int i = 0; i < count; i++) {
+                dst.setShort(i, src.getShort(rows[i]));
+            }
+        } else if (from instanceof HeapByteVector) {
+            HeapByteVector src = (HeapByteVector) from;
+            HeapByteVector dst = (HeapByteVector) to;
+            for (int i = 0; i < count; i++) {
+                dst.setByte(i, src.getByte(rows[i]));
+            }
+        } else if (from instanceof HeapBooleanVector) {
+            HeapBooleanVector src = (HeapBooleanVector) from;
+            HeapBooleanVector dst = (HeapBooleanVector) to;
+            for (int i = 0; i < count; i++) {
+                dst.setBoolean(i, src.getBoolean(rows[i]));
+            }
+        } else if (from instanceof HeapTimestampVector) {
+            HeapTimestampVector src = (HeapTimestampVector) from;
+            HeapTimestampVector dst = (HeapTimestampVector) to;
+            for (int i = 0; i < count; i++) {
+                if (!src.isNullAt(rows[i])) {
+                    dst.setTimestamp(i, src.getTimestamp(rows[i], 9));
+                }
+            }
+        } else {
+            throw new UnsupportedOperationException(
+                    "Unsupported vector for late materialization: " + from.getClass());
+        }
+    }
+}
@@ -48,6 +48,7 @@ import org.apache.parquet.column.values.ValuesReader;
 import org.apache.parquet.schema.PrimitiveType;
 
 import java.io.IOException;
+import java.util.Iterator;
 
 import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.BOOLEAN;
 
@@ -89,11 +90,38 @@ public class VectorizedColumnReader {
             PageReadStore pageReadStore,
             ParsedVersion writerVersion)
             throws IOException {
+        this(
+                descriptor,
+                pageReadStore,
+                new ParquetReadState(
+                        descriptor, isRequired, pageReadStore.getRowIndexes().orElse(null)),
+                writerVersion);
+    }
+
+    /** Create a reader which only reads the rows in {@code rowRanges} of the row group. */
+    VectorizedColumnReader(
+            ColumnDescriptor descriptor,
+            boolean isRequired,
+            PageReadStore pageReadStore,
+            Iterator<ParquetReadState.RowRange> rowRanges,
+            ParsedVersion writerVersion)
+            throws IOException {
+        this(
+                descriptor,
+                pageReadStore,
+                new ParquetReadState(descriptor, isRequired, rowRanges),
+                writerVersion);
+    }
+
+    private VectorizedColumnReader(
+            ColumnDescriptor descriptor,
+            PageReadStore pageReadStore,
+            ParquetReadState readState,
+            ParsedVersion writerVersion)
+            throws IOException {
         this.descriptor = descriptor;
         this.pageReader = pageReadStore.getPageReader(descriptor);
-        this.readState =
-                new ParquetReadState(
-                        descriptor, isRequired, pageReadStore.getRowIndexes().orElse(null));
+        this.readState = readState;
 
         DictionaryPage dictionaryPage = pageReader.readDictionaryPage();
         if (dictionaryPage != null) {
@@ -245,7 +273,8 @@ public class VectorizedColumnReader {
         if (page == null) {
             return -1;
         }
-        this.pageFirstRowIndex = page.getFirstRowIndex().orElse(0L);
+        // pages without first row index are read sequentially, the page starts from the next row
+        this.pageFirstRowIndex = page.getFirstRowIndex().orElse(readState.rowId);
 
         return page.accept(
                 new DataPage.Visitor<Integer>() {
@@ -20,6 +20,7 @@ package org.apache.paimon.format.parquet.reader;
 
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 import org.apache.paimon.data.columnar.heap.CastedArrayColumnVector;
 import org.apache.paimon.data.columnar.heap.CastedMapColumnVector;
 import org.apache.paimon.data.columnar.heap.CastedRowColumnVector;
@@ -30,6 +31,8 @@ import org.apache.paimon.data.columnar.writable.WritableColumnVector;
 import org.apache.paimon.format.parquet.type.ParquetField;
 import org.apache.paimon.format.parquet.type.ParquetPrimitiveField;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.predicate.VectorizedPredicateEvaluator;
 import org.apache.paimon.reader.FileRecordIterator;
 import org.apache.paimon.reader.FileRecordReader;
 import org.apache.paimon.types.ArrayType;
@@ -37,6 +40,7 @@ import org.apache.paimon.types.DataType;
 import org.apache.paimon.types.MapType;
 import org.apache.paimon.types.MultisetType;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.RoaringBitmap32;
 
 import org.apache.parquet.VersionParser;
 import org.apache.parquet.column.ColumnDescriptor;
@@ -53,12 +57,20 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.PrimitiveIterator;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static java.lang.String.format;
 
-/** Record reader for parquet. */
+/**
+ * Record reader for parquet.
+ *
+ * <p>If a filter is given, late materialization is used: for each batch, the columns of the filter
+ * are decoded first and the filter is evaluated on them, then only the selected rows of the other
+ * columns are decoded, the rows which are not selected are skipped without decoding their values.
+ */
 public class VectorizedParquetRecordReader implements FileRecordReader<InternalRow> {
 
     private ParquetFileReader reader;
@@ -94,6 +106,31 @@ public class VectorizedParquetRecordReader implements FileRecordReader<InternalR
     private Set<ParquetField> missingColumns;
     private VersionParser.ParsedVersion writerVersion;
 
+    // ------------------------- late materialization -------------------------
+
+    /** The filter of late materialization, its field indexes refer to {@link #fields}. */
+    @Nullable private Predicate filter;
+
+    /** Row positions in the file to read, other rows are filtered out with {@link #filter}. */
+    @Nullable private RoaringBitmap32 selection;
+
+    /** Vectors decoding the fields of {@link #filter}, null for the other fields. */
+    private ParquetColumnVector[] filterColumnVectors;
+
+    private VectorizedColumnBatch filterBatch;
+
+    /** Selected rows of the current row group, the other columns only decode these rows. */
+    private SelectedRowRanges selectedRows;
+
+    /** Row indexes in the current row group of the rows to be filtered. */
+    private PrimitiveIterator.OfLong rowGroupRowIndexes;
+
+    /** Position in the file of the first row of the current row group. */
+    private long rowGroupRowIndexOffset;
+
+    /** Positions of the selected rows in {@link #filterBatch}. */
+    private int[] selectedBatchRows;
+
     public VectorizedParquetRecordReader(
             Path filePath,
             ParquetFileReader reader,
@@ -102,6 +139,29 @@ public class VectorizedParquetRecordReader implements FileRecordReader<InternalR
             WritableColumnVector[] vectors,
             int batchSize)
             throws IOException {
+        this(filePath, reader, fileSchema, fields, vectors, batchSize, null, null, null);
+    }
+
+    /**
+     * Create a reader with late materialization.
+     *
+     * @param filter filter on top-level primitive fields, rows not satisfying it are skipped before
+     *     decoding the other fields
+     * @param filterVectors vectors to decode the fields of the filter, null for the other fields
+     * @param selection row positions to read, rows not selected are skipped together with the rows
+     *     filtered out by the filter
+     */
+    public VectorizedParquetRecordReader(
+            Path filePath,
+            ParquetFileReader reader,
+            MessageType fileSchema,
+            List<ParquetField> fields,
+            WritableColumnVector[] vectors,
+            int batchSize,
+            @Nullable Predicate filter,
+            @Nullable WritableColumnVector[] filterVectors,
+            @Nullable RoaringBitmap32 selection)
+            throws IOException {
         this.filePath = filePath;
         this.reader = reader;
         this.fileSchema = fileSchema;
@@ -122,6 +182,9 @@ public class VectorizedParquetRecordReader implements FileRecordReader<InternalR
         checkMissingColumns();
         // Initialize the columnarBatch and columnVectors,
         initBatch(vectors);
+        if (filter != null && filterVectors != null) {
+            initLateMaterialization(filter, vectors, filterVectors, selection);
+        }
     }
 
     private void initBatch(WritableColumnVector[] vectors) {
@@ -141,6 +204,43 @@ public class VectorizedParquetRecordReader implements FileRecordReader<InternalR
         }
     }
 
+    private void initLateMaterialization(
+            Predicate filter,
+            WritableColumnVector[] vectors,
+            WritableColumnVector[] filterVectors,
+            @Nullable RoaringBitmap32 selection) {
+        ParquetColumnVector[] filterColumns = new ParquetColumnVector[fields.size()];
+        ColumnVector[] readableVectors = new ColumnVector[fields.size()];
+        for (int i = 0; i < filterVectors.length; i++) {
+            if (filterVectors[i] == null) {
+                continue;
+            }
+
+            ParquetField field = fields.get(i);
+            if (!field.isPrimitive()
+                    || missingColumns.contains(field)
+                    || !SelectedRowsCopier.isSupported(vectors[i])
+                    || !SelectedRowsCopier.isSupported(filterVectors[i])) {
+                // read all rows of all columns
+                return;
+            }
+            filterColumns[i] =
+                    new ParquetColumnVector(
+                            field, filterVectors[i], batchSize, missingColumns, true);
+            readableVectors[i] =
+                    createVectorizedColumnBatch(
+                            Collections.singletonList(field.getType()),
+                            new WritableColumnVector[] {filterVectors[i]})[0];
+        }
+
+        this.filter = filter;
+        this.selection = selection;
+        this.filterColumnVectors = filterColumns;
+        this.filterBatch = new VectorizedColumnBatch(readableVectors);
+        this.selectedRows = new SelectedRowRanges();
+        this.selectedBatchRows = new int[batchSize];
+    }
+
     /**
      * Create readable vectors from writable vectors. Especially for decimal, see {@link
      * ParquetDecimalVector}.
@@ -264,24 +364,14 @@ public class VectorizedParquetRecordReader implements FileRecordReader<InternalR
                 vector.reset();
             }
             columnarBatch.setNumRows(0);
-            checkEndOfRowGroup();
 
-            int num = (int) Math.min(batchSize, totalCountLoadedSoFar - rowsReturned);
+            int num = filter == null ? nextBatchSize() : filterNextBatch();
+            if (num == 0) {
+                return false;
+            }
             for (ParquetColumnVector cv : columnVectors) {
-                for (ParquetColumnVector leafCv : cv.getLeaves()) {
-                    VectorizedColumnReader columnReader = leafCv.getColumnReader();
-                    if (columnReader != null) {
-                        columnReader.readBatch(
-                                num,
-                                leafCv.getColumn().getType(),
-                                leafCv.getValueVector(),
-                                leafCv.getRepetitionLevelVector(),
-                                leafCv.getDefinitionLevelVector());
-                    }
-                }
-                cv.assemble();
+                readColumn(cv, num);
             }
-            rowsReturned += num;
             columnarBatch.setNumRows(num);
             rowIndexGenerator.populateRowIndex(columnarBatch);
             return true;
@@ -300,6 +390,80 @@ public class VectorizedParquetRecordReader implements FileRecordReader<InternalR
         }
     }
 
+    private int nextBatchSize() throws IOException {
+        checkEndOfRowGroup();
+        int num = (int) Math.min(batchSize, totalCountLoadedSoFar - rowsReturned);
+        rowsReturned += num;
+        return num;
+    }
+
+    /**
+     * Decode the filter columns of the next rows and evaluate the filter on them, until some rows
+     * are selected. Values of the selected rows are copied to the output vectors of the filter
+     * columns, and their row indexes are appended to the row ranges of the other columns.
+     *
+     * @return the number of selected rows, 0 if all the remaining rows are filtered out
+     */
+    private int filterNextBatch() throws IOException {
+        while (rowsReturned < totalRowCount) {
+            checkEndOfRowGroup();
+            int num = (int) Math.min(batchSize, totalCountLoadedSoFar - rowsReturned);
+            for (ParquetColumnVector cv : filterColumnVectors) {
+                if (cv != null) {
+                    cv.reset();
+                    readColumn(cv, num);
+                }
+            }
+            filterBatch.setNumRows(num);
+            RoaringBitmap32 filtered = VectorizedPredicateEvaluator.evaluate(filter, filterBatch);
+
+            int selected = 0;
+            long next = filtered.isEmpty() ? -1 : filtered.first();
+            for (int i = 0; i < num; i++) {
+                long rowIndex = rowGroupRowIndexes.nextLong();
+                if (i == next) {
+                    if (selection == null
+                            || selection.contains((int) (rowGroupRowIndexOffset + rowIndex))) {
+                        selectedBatchRows[selected++] = i;
+                        selectedRows.add(rowIndex);
+                    }
+                    next = filtered.nextValue(i + 1);
+                }
+            }
+            selectedRows.flush();
+            rowsReturned += num;
+
+            if (selected > 0) {
+                for (int i = 0; i < filterColumnVectors.length; i++) {
+                    if (filterColumnVectors[i] != null) {
+                        SelectedRowsCopier.copy(
+                                filterColumnVectors[i].getValueVector(),
+                                columnVectors[i].getValueVector(),
+                                selectedBatchRows,
+                                selected);
+                    }
+                }
+                return selected;
+            }
+        }
+        return 0;
+    }
+
+    private void readColumn(ParquetColumnVector cv, int num) throws IOException {
+        for (ParquetColumnVector leafCv : cv.getLeaves()) {
+            VectorizedColumnReader columnReader = leafCv.getColumnReader();
+            if (columnReader != null) {
+                columnReader.readBatch(
+                        num,
+                        leafCv.getColumn().getType(),
+                        leafCv.getValueVector(),
+                        leafCv.getRepetitionLevelVector(),
+                        leafCv.getDefinitionLevelVector());
+            }
+        }
+        cv.assemble();
+    }
+
     private void checkEndOfRowGroup() throws IOException {
         if (rowsReturned != totalCountLoadedSoFar) {
             return;
@@ -313,28 +477,53 @@ public class VectorizedParquetRecordReader implements FileRecordReader<InternalR
                             + totalRowCount);
         }
 
-        rowIndexGenerator.initFromPageReadStore(pages);
-        for (ParquetColumnVector cv : columnVectors) {
-            initColumnReader(pages, cv);
+        if (filter == null) {
+            rowIndexGenerator.initFromPageReadStore(pages);
+            for (ParquetColumnVector cv : columnVectors) {
+                initColumnReader(pages, cv, null);
+            }
+        } else {
+            selectedRows.clear();
+            rowGroupRowIndexes =
+                    pages.getRowIndexes()
+                            .orElseGet(() -> LongStream.range(0, pages.getRowCount()).iterator());
+            rowGroupRowIndexOffset = pages.getRowIndexOffset().orElse(0L);
+            rowIndexGenerator.initFromRowIndexes(
+                    selectedRows.rowIndexIterator(rowGroupRowIndexOffset));
+            for (int i = 0; i < columnVectors.length; i++) {
+                if (filterColumnVectors[i] != null) {
+                    // output vectors of filter columns are copied from filterColumnVectors
+                    initColumnReader(pages, filterColumnVectors[i], null);
+                } else {
+                    initColumnReader(pages, columnVectors[i], selectedRows);
+                }
+            }
         }
         totalCountLoadedSoFar += pages.getRowCount();
     }
 
-    private void initColumnReader(PageReadStore pages, ParquetColumnVector cv) throws IOException {
+    private void initColumnReader(
+            PageReadStore pages, ParquetColumnVector cv, @Nullable SelectedRowRanges rowRanges)
+            throws IOException {
         if (!missingColumns.contains(cv.getColumn())) {
             if (cv.getColumn().isPrimitive()) {
                 ParquetField column = cv.getColumn();
+                ColumnDescriptor descriptor = ((ParquetPrimitiveField) column).getDescriptor();
                 VectorizedColumnReader reader =
-                        new VectorizedColumnReader(
-                                ((ParquetPrimitiveField) column).getDescriptor(),
-                                column.isRequired(),
-                                pages,
-                                writerVersion);
+                        rowRanges == null
+                                ? new VectorizedColumnReader(
+                                        descriptor, column.isRequired(), pages, writerVersion)
+                                : new VectorizedColumnReader(
+                                        descriptor,
+                                        column.isRequired(),
+                                        pages,
+                                        rowRanges.rangeIterator(),
+                                        writerVersion);
                 cv.setColumnReader(reader);
             } else {
                 // Not in missing columns and is a complex type: this must be a struct
                 for (ParquetColumnVector childCv : cv.getChildren()) {
-                    initColumnReader(pages, childCv);
+                    initColumnReader(pages, childCv, rowRanges);
                 }
             }
         }
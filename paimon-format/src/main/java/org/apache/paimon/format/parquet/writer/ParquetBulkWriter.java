@@ -19,7 +19,11 @@
 package org.apache.paimon.format.parquet.writer;
 
 import org.apache.paimon.data.InternalRow;
-import org.apache.paimon.format.FormatWriter;
+import org.apache.paimon.data.columnar.ColumnarBundleRecords;
+import org.apache.paimon.data.columnar.ColumnarRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.format.BundleFormatWriter;
+import org.apache.paimon.io.BundleRecords;
 
 import org.apache.parquet.hadoop.ParquetWriter;
 
@@ -27,8 +31,8 @@ import java.io.IOException;
 
 import static org.apache.paimon.utils.Preconditions.checkNotNull;
 
-/** A simple {@link FormatWriter} implementation that wraps a {@link ParquetWriter}. */
-public class ParquetBulkWriter implements FormatWriter {
+/** A simple {@link BundleFormatWriter} implementation that wraps a {@link ParquetWriter}. */
+public class ParquetBulkWriter implements BundleFormatWriter {
 
     /** The ParquetWriter to write to. */
     private final ParquetWriter<InternalRow> parquetWriter;
@@ -47,6 +51,24 @@ public class ParquetBulkWriter implements FormatWriter {
         parquetWriter.write(datum);
     }
 
+    @Override
+    public void writeBundle(BundleRecords bundle) throws IOException {
+        if (bundle instanceof ColumnarBundleRecords) {
+            // parquet only accepts records row by row, this just reuses one row for the batch,
+            // the record consumer copies values immediately
+            VectorizedColumnBatch batch = ((ColumnarBundleRecords) bundle).batch();
+            ColumnarRow row = new ColumnarRow(batch);
+            for (int i = 0; i < batch.getNumRows(); i++) {
+                row.setRowId(i);
+                parquetWriter.write(row);
+            }
+        } else {
+            for (InternalRow row : bundle) {
+                parquetWriter.write(row);
+            }
+        }
+    }
+
     @Override
     public void close() throws IOException {
         parquetWriter.close();
@@ -21,6 +21,9 @@ package org.apache.parquet.hadoop;
 import org.apache.paimon.format.parquet.ParquetInputFile;
 import org.apache.paimon.format.parquet.ParquetInputStream;
 import org.apache.paimon.fs.FileRange;
+import org.apache.paimon.fs.PositionedReadable;
+import org.apache.paimon.fs.PrefetchStats;
+import org.apache.paimon.fs.VectoredReadPrefetcher;
 import org.apache.paimon.fs.VectoredReadable;
 import org.apache.paimon.utils.RoaringBitmap32;
 
@@ -123,6 +126,13 @@ public class ParquetFileReader implements Closeable {
 
     private static final Logger LOG = LoggerFactory.getLogger(ParquetFileReader.class);
 
+    /**
+     * Property of {@link ParquetReadOptions}, the memory budget in bytes for prefetching the next
+     * row group. Prefetching is disabled if it is not set, or if the input stream is not {@link
+     * PositionedReadable}.
+     */
+    public static final String PREFETCH_MAX_BYTES = "paimon.prefetch.max-bytes";
+
     public static final long HADOOP_VECTORED_READ_TIMEOUT_SECONDS = 300;
 
     private final ParquetMetadataConverter converter;
@@ -239,6 +249,7 @@ public class ParquetFileReader implements Closeable {
     private final List<RowRanges> blockRowRanges;
     private final boolean blocksFiltered;
     @Nullable private final RoaringBitmap32 selection;
+    @Nullable private final VectoredReadPrefetcher prefetcher;
 
     // not final. in some cases, this may be lazily loaded for backward-compat.
     private ParquetMetadata footer;
@@ -252,6 +263,15 @@ public class ParquetFileReader implements Closeable {
     public ParquetFileReader(
             InputFile file, ParquetReadOptions options, @Nullable RoaringBitmap32 selection)
             throws IOException {
+        this(file, options, selection, null);
+    }
+
+    public ParquetFileReader(
+            InputFile file,
+            ParquetReadOptions options,
+            @Nullable RoaringBitmap32 selection,
+            @Nullable PrefetchStats prefetchStats)
+            throws IOException {
         this.converter = new ParquetMetadataConverter(options);
         this.file = (ParquetInputFile) file;
         this.f = this.file.newStream();
@@ -287,6 +307,22 @@ public class ParquetFileReader implements Closeable {
             paths.put(ColumnPath.get(col.getPath()), col);
         }
 
+        String prefetchMaxBytes = options.getProperty(PREFETCH_MAX_BYTES);
+        if (prefetchMaxBytes != null && f.in() instanceof PositionedReadable) {
+            this.prefetcher =
+                    new VectoredReadPrefetcher(
+                            (PositionedReadable) f.in(),
+                            Long.parseLong(prefetchMaxBytes),
+                            prefetchStats);
+        } else {
+            if (prefetchMaxBytes != null) {
+                LOG.debug(
+                        "Prefetching is ignored for {}, its input stream does not support positioned reads.",
+                        getFile());
+            }
+            this.prefetcher = null;
+        }
+
         if (options.usePageChecksumVerification()) {
             this.crc = new CRC32();
             this.crcAllocator = ReusingByteBufferAllocator.strict(options.getAllocator());
@@ -453,6 +489,7 @@ public class ParquetFileReader implements Closeable {
         }
 
         advanceToNextBlock();
+        prefetchNextRowGroup();
 
         return currentRowGroup;
     }
@@ -589,7 +626,9 @@ public class ParquetFileReader implements Closeable {
             return;
         }
         for (ConsecutivePartList consecutiveChunks : allParts) {
-            consecutiveChunks.readAll(f, builder);
+            if (prefetcher == null || !consecutiveChunks.readFromPrefetched(prefetcher, builder)) {
+                consecutiveChunks.readAll(f, builder);
+            }
         }
     }
 
@@ -658,12 +697,73 @@ public class ParquetFileReader implements Closeable {
         LOG.debug(
                 "Reading {} bytes of data with vectored IO in {} ranges", totalSize, ranges.size());
         // Request a vectored read;
-        ((VectoredReadable) f.in()).readVectored(ranges);
+        if (prefetcher != null) {
+            prefetcher.readVectored(ranges);
+        } else {
+            ((VectoredReadable) f.in()).readVectored(ranges);
+        }
+        long waitStart = System.nanoTime();
         int k = 0;
         for (ConsecutivePartList consecutivePart : allParts) {
             FileRange currRange = ranges.get(k++);
             consecutivePart.readFromVectoredRange(currRange, builder);
         }
+        if (prefetcher != null) {
+            prefetcher.addStallNanos(System.nanoTime() - waitStart);
+        }
+    }
+
+    /**
+     * Prefetch the column chunks of the next row group in background, so that they are read while
+     * the current row group is being decoded.
+     */
+    private void prefetchNextRowGroup() throws IOException {
+        if (prefetcher == null || currentBlock >= blocks.size()) {
+            return;
+        }
+
+        BlockMetaData block = blocks.get(currentBlock);
+        if (block.getRowCount() == 0) {
+            return;
+        }
+        if (options.useColumnIndexFilter()
+                && FilterCompat.isFilteringRequired(options.getRecordFilter())
+                && getRowRanges(currentBlock).rowCount() == 0) {
+            // the row group will be skipped
+            return;
+        }
+
+        List<ColumnChunkMetaData> columns = new ArrayList<>();
+        long totalSize = 0;
+        for (ColumnChunkMetaData mc : block.getColumns()) {
+            if (paths.containsKey(mc.getPath())) {
+                columns.add(mc);
+                totalSize += mc.getTotalSize();
+            }
+        }
+        if (totalSize >= Integer.MAX_VALUE) {
+            return;
+        }
+
+        // merge consecutive column chunks like reading
+        List<FileRange> ranges = new ArrayList<>();
+        long rangeStart = -1;
+        long rangeEnd = -1;
+        for (ColumnChunkMetaData mc : columns) {
+            long startingPos = mc.getStartingPos();
+            if (rangeEnd != startingPos) {
+                if (rangeStart >= 0) {
+                    ranges.add(
+                            FileRange.createFileRange(rangeStart, (int) (rangeEnd - rangeStart)));
+                }
+                rangeStart = startingPos;
+            }
+            rangeEnd = startingPos + mc.getTotalSize();
+        }
+        if (rangeStart >= 0) {
+            ranges.add(FileRange.createFileRange(rangeStart, (int) (rangeEnd - rangeStart)));
+        }
+        prefetcher.prefetch(ranges);
     }
 
     /**
@@ -712,6 +812,7 @@ public class ParquetFileReader implements Closeable {
         }
 
         advanceToNextBlock();
+        prefetchNextRowGroup();
 
         return this.currentRowGroup;
     }
@@ -1127,6 +1228,11 @@ public class ParquetFileReader implements Closeable {
 
     @Override
     public void close() throws IOException {
+        if (prefetcher != null) {
+            // stop background reads before the stream is closed
+            prefetcher.close();
+            LOG.debug("Prefetch statistics of {}: {}", getFile(), prefetcher);
+        }
         try {
             if (f != null) {
                 f.close();
@@ -1690,6 +1796,30 @@ public class ParquetFileReader implements Closeable {
             }
         }
 
+        /**
+         * Reads the chunks from the data prefetched by the {@link VectoredReadPrefetcher}.
+         *
+         * @return false if the chunks are not contained in the prefetched data
+         */
+        public boolean readFromPrefetched(
+                VectoredReadPrefetcher prefetcher, ChunkListBuilder builder) throws IOException {
+            if (length >= Integer.MAX_VALUE) {
+                return false;
+            }
+            byte[] buffer = prefetcher.readFromPrefetched(offset, (int) length);
+            if (buffer == null) {
+                return false;
+            }
+
+            // report in a counter the data we just scanned
+            BenchmarkCounter.incrementBytesRead(length);
+            ByteBufferInputStream stream = ByteBufferInputStream.wrap(ByteBuffer.wrap(buffer));
+            for (ChunkDescriptor descriptor : chunks) {
+                builder.add(descriptor, stream.sliceBuffers(descriptor.size), f);
+            }
+            return true;
+        }
+
         /** @return the position following the last byte of these chunks */
         public long endPos() {
             return offset + length;
@@ -34,10 +34,13 @@ import org.apache.paimon.utils.Projection;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hive.ql.io.sarg.PredicateLeaf;
+import org.apache.orc.impl.RecordReaderImpl;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -142,6 +145,39 @@ class OrcReaderFactoryTest {
         assertThat(totalF0.get()).isEqualTo(1844737280400L);
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"1 kb", "64 mb"})
+    void testReadFileWithPrefetch(String prefetchMaxSize) throws IOException {
+        Configuration conf = new Configuration();
+        conf.setBoolean(RecordReaderImpl.PREFETCH_ENABLED, true);
+        conf.set(RecordReaderImpl.PREFETCH_MAX_SIZE, prefetchMaxSize);
+        OrcReaderFactory format =
+                new OrcReaderFactory(
+                        conf,
+                        Projection.of(new int[] {2, 0, 1}).project(FLAT_FILE_TYPE),
+                        new ArrayList<>(),
+                        BATCH_SIZE,
+                        false,
+                        true);
+
+        AtomicInteger cnt = new AtomicInteger(0);
+        AtomicLong totalF0 = new AtomicLong(0);
+
+        forEach(
+                format,
+                flatFile,
+                row -> {
+                    assertThat(row.getString(0).toString()).isNotNull();
+                    totalF0.addAndGet(row.getInt(1));
+                    assertThat(row.getString(2).toString()).isNotNull();
+                    cnt.incrementAndGet();
+                });
+
+        // check that all rows have been read
+        assertThat(cnt.get()).isEqualTo(1920800);
+        assertThat(totalF0.get()).isEqualTo(1844737280400L);
+    }
+
     @Test
     void testReadRowPosition() throws IOException {
         OrcReaderFactory format = createFormat(FLAT_FILE_TYPE, new int[] {2, 0, 1});
@@ -31,8 +31,14 @@ import org.apache.paimon.format.FormatReaderContext;
 import org.apache.paimon.format.FormatWriter;
 import org.apache.paimon.format.parquet.writer.RowDataParquetBuilder;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.PositionedReadable;
+import org.apache.paimon.fs.PrefetchStats;
+import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.fs.SeekableInputStreamWrapper;
+import org.apache.paimon.fs.VectoredReadable;
 import org.apache.paimon.fs.local.LocalFileIO;
 import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.predicate.PredicateBuilder;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.types.ArrayType;
@@ -54,6 +60,7 @@ import org.apache.paimon.types.TimestampType;
 import org.apache.paimon.types.TinyIntType;
 import org.apache.paimon.types.VarBinaryType;
 import org.apache.paimon.types.VarCharType;
+import org.apache.paimon.utils.RoaringBitmap32;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.parquet.example.data.Group;
@@ -409,6 +416,98 @@ public class ParquetReadWriteTest {
         }
     }
 
+    @RepeatedTest(10)
+    void testReadWithPrefetch() throws IOException {
+        int recordNumber = new Random().nextInt(10000) + 1;
+        int batchSize = new Random().nextInt(1000) + 1;
+        int rowGroupSize = new Random().nextInt(1000) + 1;
+        List<InternalRow> records = new ArrayList<>(recordNumber);
+        for (int i = 0; i < recordNumber; i++) {
+            records.add(newRow(i));
+        }
+
+        Path testPath = createTempParquetFileByPaimon(folder, records, rowGroupSize, ROW_TYPE);
+
+        Options options = new Options();
+        options.set("parquet.read.prefetch.enabled", "true");
+        // row groups exceeding the memory budget are not prefetched
+        options.set("parquet.read.prefetch.max-size", new Random().nextBoolean() ? "1 kb" : "1 mb");
+        ParquetReaderFactory format =
+                new ParquetReaderFactory(
+                        options,
+                        RowType.builder()
+                                .fields(
+                                        new DataType[] {new IntType(), new DoubleType()},
+                                        new String[] {"f4", "f7"})
+                                .build(),
+                        batchSize,
+                        FilterCompat.NOOP);
+
+        AtomicInteger cnt = new AtomicInteger(0);
+        try (RecordReader<InternalRow> reader =
+                format.createReader(
+                        new FormatReaderContext(
+                                new LocalFileIO(),
+                                testPath,
+                                new LocalFileIO().getFileSize(testPath)))) {
+            reader.forEachRemaining(
+                    row -> {
+                        assertThat(row.getInt(0)).isEqualTo(cnt.get());
+                        assertThat(row.getDouble(1)).isEqualTo(cnt.get());
+                        cnt.incrementAndGet();
+                    });
+        }
+        assertThat(cnt.get()).isEqualTo(recordNumber);
+    }
+
+    @Test
+    void testReadWithPrefetchFromPositionedReadable() throws IOException {
+        int recordNumber = 10000;
+        List<InternalRow> records = new ArrayList<>(recordNumber);
+        for (int i = 0; i < recordNumber; i++) {
+            records.add(newRow(i));
+        }
+
+        Path testPath = createTempParquetFileByPaimon(folder, records, 1000, ROW_TYPE);
+
+        Options options = new Options();
+        options.set("parquet.read.prefetch.enabled", "true");
+        ParquetReaderFactory format =
+                new ParquetReaderFactory(
+                        options,
+                        RowType.builder()
+                                .fields(
+                                        new DataType[] {new IntType(), new DoubleType()},
+                                        new String[] {"f4", "f7"})
+                                .build(),
+                        500,
+                        FilterCompat.NOOP);
+
+        // the input stream only supports positioned reads, row groups are read sequentially
+        LocalFileIO fileIO =
+                new LocalFileIO() {
+                    @Override
+                    public SeekableInputStream newInputStream(Path path) throws IOException {
+                        return new PositionedReadableInputStream(super.newInputStream(path));
+                    }
+                };
+        PrefetchStats stats = new PrefetchStats();
+        AtomicInteger cnt = new AtomicInteger(0);
+        try (RecordReader<InternalRow> reader =
+                format.createReader(
+                        new FormatReaderContext(
+                                fileIO, testPath, fileIO.getFileSize(testPath), null, stats))) {
+            reader.forEachRemaining(
+                    row -> {
+                        assertThat(row.getInt(0)).isEqualTo(cnt.get());
+                        assertThat(row.getDouble(1)).isEqualTo(cnt.get());
+                        cnt.incrementAndGet();
+                    });
+        }
+        assertThat(cnt.get()).isEqualTo(recordNumber);
+        assertThat(stats.hitBytes()).isGreaterThan(0);
+    }
+
     @RepeatedTest(10)
     void testReadRowPositionWithRandomFilter() throws IOException {
         int recordNumber = new Random().nextInt(10000) + 1;
@@ -465,6 +564,99 @@ public class ParquetReadWriteTest {
         }
     }
 
+    @RepeatedTest(10)
+    void testLateMaterialization() throws IOException {
+        Random random = new Random();
+        int recordNumber = random.nextInt(10000) + 1;
+        int batchSize = random.nextInt(1000) + 1;
+        int rowGroupSize = random.nextInt(10000) + 1;
+        List<InternalRow> records = new ArrayList<>(recordNumber);
+        for (int i = 0; i < recordNumber; i++) {
+            records.add(newRow(i % 13 == 0 ? null : i));
+        }
+        Path testPath = createTempParquetFileByPaimon(folder, records, rowGroupSize, ROW_TYPE);
+
+        // f4 < lower or f4 >= upper
+        int lower = random.nextInt(recordNumber + 1);
+        int upper = lower + random.nextInt(recordNumber + 1);
+        PredicateBuilder builder = new PredicateBuilder(ROW_TYPE);
+        Predicate predicate =
+                PredicateBuilder.or(builder.lessThan(4, lower), builder.greaterOrEqual(4, upper));
+        RoaringBitmap32 selection = null;
+        if (random.nextBoolean()) {
+            selection = new RoaringBitmap32();
+            for (int i = 0; i < recordNumber; i++) {
+                if (random.nextInt(4) > 0) {
+                    selection.add(i);
+                }
+            }
+        }
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < recordNumber; i++) {
+            if (i % 13 != 0
+                    && (i < lower || i >= upper)
+                    && (selection == null || selection.contains(i))) {
+                expected.add(i);
+            }
+        }
+
+        Options conf = new Options();
+        conf.set("parquet.filter.late-materialization.enabled", "true");
+        ParquetReaderFactory format =
+                new ParquetReaderFactory(
+                        conf,
+                        RowType.builder()
+                                .fields(
+                                        new DataType[] {
+                                            new VarCharType(VarCharType.MAX_LENGTH),
+                                            new IntType(),
+                                            new DoubleType(),
+                                            new TimestampType(9),
+                                            new ArrayType(new IntType())
+                                        },
+                                        new String[] {"f0", "f4", "f7", "f10", "f21"})
+                                .build(),
+                        batchSize,
+                        random.nextBoolean()
+                                ? FilterCompat.NOOP
+                                : ParquetFilters.convert(
+                                        PredicateBuilder.splitAnd(
+                                                new PredicateBuilder(
+                                                                RowType.of(
+                                                                        new DataType[] {
+                                                                            new IntType()
+                                                                        },
+                                                                        new String[] {"f4"}))
+                                                        .lessThan(0, lower))),
+                        Collections.singletonList(predicate));
+
+        List<Integer> results = new ArrayList<>();
+        try (RecordReader<InternalRow> reader =
+                format.createReader(
+                        new FormatReaderContext(
+                                new LocalFileIO(),
+                                testPath,
+                                new LocalFileIO().getFileSize(testPath),
+                                selection))) {
+            reader.forEachRemainingWithPosition(
+                    (rowPosition, row) -> {
+                        int v = row.getInt(1);
+                        assertThat(rowPosition).isEqualTo(v);
+                        assertThat(row.getString(0).toString()).isEqualTo(String.valueOf(v));
+                        assertThat(row.getDouble(2)).isEqualTo(v);
+                        assertThat(row.getTimestamp(3, 9)).isEqualTo(toNanos(v));
+                        assertThat(row.getArray(4).getInt(0)).isEqualTo(v);
+                        assertThat(row.getArray(4).isNullAt(1)).isTrue();
+                        results.add(v);
+                    });
+        }
+        // the parquet filter may skip row groups and pages of f4 >= lower
+        assertThat(results)
+                .containsAll(expected.stream().filter(v -> v < lower).collect(Collectors.toList()));
+        assertThat(results).isEqualTo(expected.subList(0, results.size()));
+    }
+
     @ParameterizedTest
     @CsvSource({"10, paimon", "1000, paimon", "10, origin", "1000, origin"})
     public void testNestedRead(int rowGroupSize, String writerType) throws Exception {
@@ -1229,4 +1421,17 @@ public class ParquetReadWriteTest {
                         ? null
                         : internalMap.valueArray().getString(index).toString());
     }
+
+    private static class PositionedReadableInputStream extends SeekableInputStreamWrapper
+            implements PositionedReadable {
+
+        private PositionedReadableInputStream(SeekableInputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int pread(long position, byte[] buffer, int offset, int length) throws IOException {
+            return ((VectoredReadable) in).pread(position, buffer, offset, length);
+        }
+    }
 }
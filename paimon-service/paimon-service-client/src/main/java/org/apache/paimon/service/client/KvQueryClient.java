@@ -26,13 +26,19 @@ import org.apache.paimon.service.messages.KvResponse;
 import org.apache.paimon.service.network.NetworkClient;
 import org.apache.paimon.service.network.messages.MessageSerializer;
 import org.apache.paimon.service.network.stats.DisabledServiceRequestStats;
+import org.apache.paimon.service.network.stats.ServiceRequestStats;
 import org.apache.paimon.utils.FutureUtils;
+import org.apache.paimon.utils.Pair;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.ConnectException;
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -45,6 +51,11 @@ public class KvQueryClient {
     private final QueryLocation queryLocation;
 
     public KvQueryClient(QueryLocation queryLocation, int numEventLoopThreads) {
+        this(queryLocation, numEventLoopThreads, new DisabledServiceRequestStats());
+    }
+
+    public KvQueryClient(
+            QueryLocation queryLocation, int numEventLoopThreads, ServiceRequestStats stats) {
         this.queryLocation = queryLocation;
         final MessageSerializer<KvRequest, KvResponse> messageSerializer =
                 new MessageSerializer<>(
@@ -53,10 +64,7 @@ public class KvQueryClient {
 
         this.networkClient =
                 new NetworkClient<>(
-                        "Kv Query Client",
-                        numEventLoopThreads,
-                        messageSerializer,
-                        new DisabledServiceRequestStats());
+                        "Kv Query Client", numEventLoopThreads, messageSerializer, stats);
     }
 
     public CompletableFuture<BinaryRow[]> getValues(
@@ -66,6 +74,41 @@ public class KvQueryClient {
         return response;
     }
 
+    /**
+     * Get values for keys of different partitions and buckets, the values are in the same order as
+     * the keys. Keys of the same partition and bucket are sent in one request, and all requests are
+     * in flight at the same time on the connections to the servers.
+     */
+    public CompletableFuture<BinaryRow[]> getValues(
+            BinaryRow[] partitions, int[] buckets, BinaryRow[] keys) {
+        Map<Pair<BinaryRow, Integer>, List<Integer>> positions = new LinkedHashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            positions
+                    .computeIfAbsent(Pair.of(partitions[i], buckets[i]), k -> new ArrayList<>())
+                    .add(i);
+        }
+
+        BinaryRow[] values = new BinaryRow[keys.length];
+        List<CompletableFuture<Void>> futures = new ArrayList<>(positions.size());
+        for (Map.Entry<Pair<BinaryRow, Integer>, List<Integer>> entry : positions.entrySet()) {
+            List<Integer> keyPositions = entry.getValue();
+            BinaryRow[] bucketKeys = new BinaryRow[keyPositions.size()];
+            for (int i = 0; i < bucketKeys.length; i++) {
+                bucketKeys[i] = keys[keyPositions.get(i)];
+            }
+            futures.add(
+                    getValues(entry.getKey().getLeft(), entry.getKey().getRight(), bucketKeys)
+                            .thenAccept(
+                                    bucketValues -> {
+                                        for (int i = 0; i < bucketValues.length; i++) {
+                                            values[keyPositions.get(i)] = bucketValues[i];
+                                        }
+                                    }));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> values);
+    }
+
     private void executeActionAsync(
             final CompletableFuture<BinaryRow[]> result,
             final KvRequest request,
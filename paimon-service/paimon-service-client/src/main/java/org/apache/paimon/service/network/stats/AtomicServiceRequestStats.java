@@ -19,10 +19,17 @@
 package org.apache.paimon.service.network.stats;
 
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /** Atomic {@link ServiceRequestStats} implementation. */
 public class AtomicServiceRequestStats implements ServiceRequestStats {
 
+    /**
+     * Number of buckets of latency histograms, bucket 0 counts durations of 0 ms, bucket i counts
+     * durations in [2^(i-1), 2^i) ms, the last bucket counts all longer durations.
+     */
+    public static final int NUM_LATENCY_BUCKETS = 24;
+
     /** Number of active connections. */
     private final AtomicLong numConnections = new AtomicLong();
 
@@ -38,6 +45,21 @@ public class AtomicServiceRequestStats implements ServiceRequestStats {
     /** Total number of failed requests (<= reported requests). */
     private final AtomicLong numFailed = new AtomicLong();
 
+    /** Histogram of durations of successful requests. */
+    private final AtomicLongArray requestLatencies = new AtomicLongArray(NUM_LATENCY_BUCKETS);
+
+    /** Total number of batched lookups. */
+    private final AtomicLong numBatchedLookups = new AtomicLong();
+
+    /** Total number of requests served by batched lookups. */
+    private final AtomicLong numBatchedRequests = new AtomicLong();
+
+    /** Total number of keys looked up by batched lookups. */
+    private final AtomicLong numBatchedKeys = new AtomicLong();
+
+    /** Histogram of durations of batched lookups. */
+    private final AtomicLongArray lookupLatencies = new AtomicLongArray(NUM_LATENCY_BUCKETS);
+
     @Override
     public void reportActiveConnection() {
         numConnections.incrementAndGet();
@@ -57,6 +79,7 @@ public class AtomicServiceRequestStats implements ServiceRequestStats {
     public void reportSuccessfulRequest(long durationTotalMillis) {
         numSuccessful.incrementAndGet();
         successfulDuration.addAndGet(durationTotalMillis);
+        requestLatencies.incrementAndGet(latencyBucket(durationTotalMillis));
     }
 
     @Override
@@ -64,6 +87,14 @@ public class AtomicServiceRequestStats implements ServiceRequestStats {
         numFailed.incrementAndGet();
     }
 
+    @Override
+    public void reportBatchedLookup(int numRequests, int numKeys, long durationMillis) {
+        numBatchedLookups.incrementAndGet();
+        numBatchedRequests.addAndGet(numRequests);
+        numBatchedKeys.addAndGet(numKeys);
+        lookupLatencies.incrementAndGet(latencyBucket(durationMillis));
+    }
+
     public long getNumConnections() {
         return numConnections.get();
     }
@@ -80,6 +111,42 @@ public class AtomicServiceRequestStats implements ServiceRequestStats {
         return numFailed.get();
     }
 
+    public long getNumBatchedLookups() {
+        return numBatchedLookups.get();
+    }
+
+    public long getNumBatchedRequests() {
+        return numBatchedRequests.get();
+    }
+
+    public long getNumBatchedKeys() {
+        return numBatchedKeys.get();
+    }
+
+    public long[] getRequestLatencyHistogram() {
+        return toArray(requestLatencies);
+    }
+
+    public long[] getLookupLatencyHistogram() {
+        return toArray(lookupLatencies);
+    }
+
+    private static int latencyBucket(long durationMillis) {
+        if (durationMillis <= 0) {
+            return 0;
+        }
+        return Math.min(
+                Long.SIZE - Long.numberOfLeadingZeros(durationMillis), NUM_LATENCY_BUCKETS - 1);
+    }
+
+    private static long[] toArray(AtomicLongArray histogram) {
+        long[] result = new long[histogram.length()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = histogram.get(i);
+        }
+        return result;
+    }
+
     @Override
     public String toString() {
         return "AtomicServiceRequestStats{"
@@ -91,6 +158,12 @@ public class AtomicServiceRequestStats implements ServiceRequestStats {
                 + numSuccessful
                 + ", numFailed="
                 + numFailed
+                + ", numBatchedLookups="
+                + numBatchedLookups
+                + ", numBatchedRequests="
+                + numBatchedRequests
+                + ", numBatchedKeys="
+                + numBatchedKeys
                 + '}';
     }
 }
@@ -35,4 +35,7 @@ public class DisabledServiceRequestStats implements ServiceRequestStats {
 
     @Override
     public void reportFailedRequest() {}
+
+    @Override
+    public void reportBatchedLookup(int numRequests, int numKeys, long durationMillis) {}
 }
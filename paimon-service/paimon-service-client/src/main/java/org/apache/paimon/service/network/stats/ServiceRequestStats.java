@@ -39,4 +39,14 @@ public interface ServiceRequestStats {
 
     /** Reports a failure during a request. */
     void reportFailedRequest();
+
+    /**
+     * Reports a batched lookup, which may coalesce keys of multiple requests for the same partition
+     * and bucket.
+     *
+     * @param numRequests Number of requests served by the batch.
+     * @param numKeys Number of keys looked up in the batch.
+     * @param durationMillis Duration of the batched lookup (in milliseconds).
+     */
+    void reportBatchedLookup(int numRequests, int numKeys, long durationMillis);
 }
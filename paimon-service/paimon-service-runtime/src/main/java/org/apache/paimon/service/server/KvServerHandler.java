@@ -18,6 +18,7 @@
 
 package org.apache.paimon.service.server;
 
+import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.serializer.InternalRowSerializer;
@@ -29,11 +30,20 @@ import org.apache.paimon.service.network.messages.MessageSerializer;
 import org.apache.paimon.service.network.stats.ServiceRequestStats;
 import org.apache.paimon.table.query.TableQuery;
 import org.apache.paimon.utils.ExceptionUtils;
+import org.apache.paimon.utils.Pair;
 import org.apache.paimon.utils.Preconditions;
 
 import org.apache.paimon.shade.netty4.io.netty.channel.ChannelHandler;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.apache.paimon.table.sink.ChannelComputer.select;
 
@@ -44,6 +54,9 @@ import static org.apache.paimon.table.sink.ChannelComputer.select;
  * <p>The network threads receive the message, deserialize it and dispatch the query task. The
  * actual query is handled in a separate thread as it might otherwise block the network threads
  * (file I/O etc.).
+ *
+ * <p>Keys of concurrent requests for the same partition and bucket are coalesced into one batched
+ * lookup of the {@link TableQuery}.
  */
 @ChannelHandler.Sharable
 public class KvServerHandler extends AbstractServerHandler<KvRequest, KvResponse> {
@@ -51,7 +64,9 @@ public class KvServerHandler extends AbstractServerHandler<KvRequest, KvResponse
     private final int serverId;
     private final int numServers;
     private final TableQuery lookup;
-    private final InternalRowSerializer valueSerializer;
+    private final ThreadLocal<InternalRowSerializer> valueSerializers;
+    private final ServiceRequestStats stats;
+    private final Map<Pair<BinaryRow, Integer>, BucketLookups> pendingLookups;
 
     /**
      * Create the handler used by the {@link KvQueryServer}.
@@ -73,7 +88,10 @@ public class KvServerHandler extends AbstractServerHandler<KvRequest, KvResponse
         this.serverId = serverId;
         this.numServers = numServers;
         this.lookup = Preconditions.checkNotNull(lookup);
-        this.valueSerializer = lookup.createValueSerializer();
+        InternalRowSerializer valueSerializer = lookup.createValueSerializer();
+        this.valueSerializers = ThreadLocal.withInitial(valueSerializer::duplicate);
+        this.stats = stats;
+        this.pendingLookups = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -88,31 +106,130 @@ public class KvServerHandler extends AbstractServerHandler<KvRequest, KvResponse
             return responseFuture;
         }
 
-        try {
-            BinaryRow[] keys = request.keys();
-            BinaryRow[] values = new BinaryRow[keys.length];
-            for (int i = 0; i < values.length; i++) {
-                InternalRow value =
-                        this.lookup.lookup(request.partition(), request.bucket(), keys[i]);
-                if (value != null) {
-                    values[i] = valueSerializer.toBinaryRow(value).copy();
-                }
-            }
-            responseFuture.complete(new KvResponse(values));
-            return responseFuture;
-        } catch (Throwable t) {
+        BucketLookups lookups =
+                pendingLookups.computeIfAbsent(
+                        Pair.of(request.partition(), request.bucket()), BucketLookups::new);
+        lookups.add(new PendingLookup(requestId, request, responseFuture));
+        lookups.drain();
+        return responseFuture;
+    }
+
+    @Override
+    public CompletableFuture<Void> shutdown() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @VisibleForTesting
+    int numPendingBuckets() {
+        return pendingLookups.size();
+    }
+
+    /** A request waiting to be looked up. */
+    private static class PendingLookup {
+
+        private final long requestId;
+        private final KvRequest request;
+        private final CompletableFuture<KvResponse> responseFuture;
+
+        private PendingLookup(
+                long requestId, KvRequest request, CompletableFuture<KvResponse> responseFuture) {
+            this.requestId = requestId;
+            this.request = request;
+            this.responseFuture = responseFuture;
+        }
+
+        private void fail(Throwable t) {
             String errMsg =
                     "Error while processing request with ID "
                             + requestId
                             + ". Caused by: "
                             + ExceptionUtils.stringifyException(t);
             responseFuture.completeExceptionally(new RuntimeException(errMsg));
-            return responseFuture;
         }
     }
 
-    @Override
-    public CompletableFuture<Void> shutdown() {
-        return CompletableFuture.completedFuture(null);
+    /**
+     * Lookups of a partition and bucket. Only one query thread looks up a bucket at a time, the
+     * requests arriving in the meantime are coalesced into its next batched lookup. It is removed
+     * from {@link #pendingLookups} once its queue is drained.
+     */
+    private class BucketLookups {
+
+        private final Pair<BinaryRow, Integer> key;
+        private final BinaryRow partition;
+        private final int bucket;
+        private final Queue<PendingLookup> queue;
+        private final AtomicBoolean running;
+
+        private BucketLookups(Pair<BinaryRow, Integer> key) {
+            this.key = key;
+            this.partition = key.getLeft();
+            this.bucket = key.getRight();
+            this.queue = new ConcurrentLinkedQueue<>();
+            this.running = new AtomicBoolean(false);
+        }
+
+        private void add(PendingLookup pending) {
+            queue.add(pending);
+        }
+
+        private void drain() {
+            // re-check the queue after releasing, requests may be added just before releasing
+            while (!queue.isEmpty() && running.compareAndSet(false, true)) {
+                try {
+                    List<PendingLookup> batch = new ArrayList<>();
+                    PendingLookup pending;
+                    while ((pending = queue.poll()) != null) {
+                        batch.add(pending);
+                    }
+                    lookupBatch(batch);
+                } finally {
+                    running.set(false);
+                }
+            }
+
+            // A request added after the removal is still drained by the thread adding it, and
+            // later requests start new lookups of the bucket.
+            if (queue.isEmpty() && !running.get()) {
+                pendingLookups.remove(key, this);
+            }
+        }
+
+        private void lookupBatch(List<PendingLookup> batch) {
+            long startMillis = System.currentTimeMillis();
+            List<InternalRow> keys = new ArrayList<>();
+            for (PendingLookup pending : batch) {
+                Collections.addAll(keys, pending.request.keys());
+            }
+
+            try {
+                List<InternalRow> values = lookup.lookupBatch(partition, bucket, keys);
+                Preconditions.checkState(
+                        values.size() == keys.size(),
+                        "Batched lookup returns %s values for %s keys.",
+                        values.size(),
+                        keys.size());
+
+                InternalRowSerializer serializer = valueSerializers.get();
+                int offset = 0;
+                for (PendingLookup pending : batch) {
+                    BinaryRow[] result = new BinaryRow[pending.request.keys().length];
+                    for (int i = 0; i < result.length; i++) {
+                        InternalRow value = values.get(offset + i);
+                        if (value != null) {
+                            result[i] = serializer.toBinaryRow(value).copy();
+                        }
+                    }
+                    offset += result.length;
+                    pending.responseFuture.complete(new KvResponse(result));
+                }
+            } catch (Throwable t) {
+                // completed requests are not affected, the remaining ones fail
+                batch.forEach(pending -> pending.fail(t));
+                return;
+            }
+            stats.reportBatchedLookup(
+                    batch.size(), keys.size(), System.currentTimeMillis() - startMillis);
+        }
     }
 }
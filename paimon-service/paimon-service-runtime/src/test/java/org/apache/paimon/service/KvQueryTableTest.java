@@ -159,6 +159,24 @@ public class KvQueryTableTest extends PrimaryKeyTableTestBase {
         assertThat(result).containsOnly(row(1, 1, 1), row(1, 2, 1));
     }
 
+    @Test
+    public void testRemoteGetMultiPartitions() throws Exception {
+        for (int i = 1; i < 5; i++) {
+            write(i, 1, i);
+            write(i, 2, i);
+        }
+
+        BinaryRow[] result =
+                client.getValues(
+                                new BinaryRow[] {row(1), row(2), row(1), row(3), row(4), row(5)},
+                                new int[] {0, 0, 0, 0, 0, 0},
+                                new BinaryRow[] {row(1), row(2), row(2), row(1), row(3), row(1)})
+                        .get();
+        assertThat(result)
+                .containsExactly(
+                        row(1, 1, 1), row(2, 2, 2), row(1, 2, 1), row(3, 1, 3), null, null);
+    }
+
     @Test
     public void testServerRestartSamePorts() throws Throwable {
         innerTestServerRestart(
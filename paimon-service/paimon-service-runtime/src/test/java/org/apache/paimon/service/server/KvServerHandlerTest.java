@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.service.server;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.service.messages.KvRequest;
+import org.apache.paimon.service.messages.KvResponse;
+import org.apache.paimon.service.network.messages.MessageSerializer;
+import org.apache.paimon.service.network.stats.DisabledServiceRequestStats;
+import org.apache.paimon.table.query.TableQuery;
+import org.apache.paimon.types.DataTypes;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.apache.paimon.io.DataFileTestUtils.row;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Test for {@link KvServerHandler}. */
+public class KvServerHandlerTest {
+
+    private static final int BAD_VALUE_KEY = 99;
+
+    private final CountDownLatch firstLookupStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstLookup = new CountDownLatch(1);
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    private ExecutorService executor;
+    private KvServerHandler handler;
+
+    @BeforeEach
+    public void beforeEach() {
+        executor = Executors.newFixedThreadPool(8);
+        TestTableQuery query = new TestTableQuery();
+        KvQueryServer server =
+                new KvQueryServer(
+                        0,
+                        1,
+                        "localhost",
+                        Collections.singletonList(7700).iterator(),
+                        1,
+                        1,
+                        query,
+                        new DisabledServiceRequestStats());
+        handler =
+                new KvServerHandler(
+                        server,
+                        0,
+                        1,
+                        query,
+                        new MessageSerializer<>(
+                                new KvRequest.KvRequestDeserializer(),
+                                new KvResponse.KvResponseDeserializer()),
+                        new DisabledServiceRequestStats());
+    }
+
+    @AfterEach
+    public void afterEach() {
+        releaseFirstLookup.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testCoalesceConcurrentRequests() throws Exception {
+        // the first request blocks the lookup of the bucket
+        Future<CompletableFuture<KvResponse>> first =
+                executor.submit(() -> handler.handleRequest(0, request(1)));
+        firstLookupStarted.await();
+
+        // the concurrent requests are queued and return without blocking
+        int numRequests = 20;
+        List<Future<CompletableFuture<KvResponse>>> handled = new ArrayList<>();
+        for (int i = 0; i < numRequests; i++) {
+            int requestId = i + 1;
+            handled.add(
+                    executor.submit(
+                            () -> handler.handleRequest(requestId, request(requestId, -1))));
+        }
+        List<CompletableFuture<KvResponse>> responses = new ArrayList<>();
+        for (Future<CompletableFuture<KvResponse>> future : handled) {
+            responses.add(future.get());
+        }
+        assertThat(responses).noneMatch(CompletableFuture::isDone);
+
+        // the queued requests are looked up in one batch by the first thread
+        releaseFirstLookup.countDown();
+        assertThat(first.get().get().values()).containsExactly(row(10));
+        for (int i = 0; i < numRequests; i++) {
+            assertThat(responses.get(i).get().values()).containsExactly(row((i + 1) * 10), null);
+        }
+        assertThat(batchSizes).containsExactly(1, numRequests * 2);
+        assertThat(handler.numPendingBuckets()).isEqualTo(0);
+    }
+
+    @Test
+    public void testSerializationFailure() throws Exception {
+        releaseFirstLookup.countDown();
+
+        CompletableFuture<KvResponse> failed = handler.handleRequest(0, request(1, BAD_VALUE_KEY));
+        assertThatThrownBy(failed::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasMessageContaining("Error while processing request with ID 0");
+        assertThat(handler.numPendingBuckets()).isEqualTo(0);
+
+        // the bucket can still be looked up
+        assertThat(handler.handleRequest(1, request(2)).get().values()).containsExactly(row(20));
+    }
+
+    private static KvRequest request(int... keys) {
+        BinaryRow[] rows = new BinaryRow[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            rows[i] = row(keys[i]);
+        }
+        return new KvRequest(row(0), 0, rows);
+    }
+
+    /** A {@link TableQuery} returning ten times of the key, and blocking its first lookup. */
+    private class TestTableQuery implements TableQuery {
+
+        @Override
+        public TableQuery withValueProjection(int[] projection) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public InternalRowSerializer createValueSerializer() {
+            return new InternalRowSerializer(DataTypes.INT());
+        }
+
+        @Nullable
+        @Override
+        public InternalRow lookup(BinaryRow partition, int bucket, InternalRow key) {
+            int k = key.getInt(0);
+            if (k < 0) {
+                return null;
+            }
+            // a value not matching the value type fails the serialization
+            return k == BAD_VALUE_KEY
+                    ? GenericRow.of(BinaryString.fromString("bad"))
+                    : GenericRow.of(k * 10);
+        }
+
+        @Override
+        public List<InternalRow> lookupBatch(
+                BinaryRow partition, int bucket, List<InternalRow> keys) {
+            batchSizes.add(keys.size());
+            firstLookupStarted.countDown();
+            try {
+                releaseFirstLookup.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            List<InternalRow> values = new ArrayList<>();
+            for (InternalRow key : keys) {
+                values.add(lookup(partition, bucket, key));
+            }
+            return values;
+        }
+
+        @Override
+        public void close() {}
+    }
+}
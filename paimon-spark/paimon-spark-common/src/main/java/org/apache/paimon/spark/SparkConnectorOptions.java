@@ -91,4 +91,11 @@ public class SparkConnectorOptions {
                     .defaultValue(false)
                     .withDescription(
                             "Whether to read row in the form of changelog (add rowkind column in row to represent its change type).");
+
+    public static final ConfigOption<Boolean> READ_COLUMNAR_ENABLED =
+            key("read.columnar.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "If true, batch scans return columnar batches to Spark when all splits can be read from raw files, for example append tables and deletion vector tables.");
 }
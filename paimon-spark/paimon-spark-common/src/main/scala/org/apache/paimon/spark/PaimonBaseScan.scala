@@ -88,7 +88,11 @@ abstract class PaimonBaseScan(
   }
 
   override def toBatch: Batch = {
-    PaimonBatch(lazyInputPartitions, readBuilder, metadataColumns)
+    PaimonBatch(
+      lazyInputPartitions,
+      readBuilder,
+      metadataColumns,
+      coreOptions.toConfiguration.get(SparkConnectorOptions.READ_COLUMNAR_ENABLED))
   }
 
   override def toMicroBatchStream(checkpointLocation: String): MicroBatchStream = {
@@ -19,7 +19,7 @@
 package org.apache.paimon.spark
 
 import org.apache.paimon.spark.schema.PaimonMetadataColumn
-import org.apache.paimon.table.source.ReadBuilder
+import org.apache.paimon.table.source.{DataSplit, ReadBuilder}
 
 import org.apache.spark.sql.connector.read.{Batch, InputPartition, PartitionReaderFactory}
 
@@ -29,13 +29,27 @@ import java.util.Objects
 case class PaimonBatch(
     inputPartitions: Seq[PaimonInputPartition],
     readBuilder: ReadBuilder,
-    metadataColumns: Seq[PaimonMetadataColumn] = Seq.empty)
+    metadataColumns: Seq[PaimonMetadataColumn] = Seq.empty,
+    columnarEnabled: Boolean = false)
   extends Batch {
 
   override def planInputPartitions(): Array[InputPartition] =
     inputPartitions.map(_.asInstanceOf[InputPartition]).toArray
 
   override def createReaderFactory(): PartitionReaderFactory =
-    PaimonPartitionReaderFactory(readBuilder, metadataColumns)
+    PaimonPartitionReaderFactory(readBuilder, metadataColumns, supportColumnar)
+
+  /**
+   * Spark does not allow mixing row-based and columnar partitions in one scan, so columnar reads
+   * are only used when every split can be read from raw files directly.
+   */
+  private def supportColumnar: Boolean = {
+    columnarEnabled && metadataColumns.isEmpty &&
+    PaimonColumnVector.isSupported(readBuilder.readType()) &&
+    inputPartitions.forall(_.splits.forall {
+      case dataSplit: DataSplit => dataSplit.rawConvertible()
+      case _ => false
+    })
+  }
 
 }
@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.spark
+
+import org.apache.paimon.data.{InternalRow => PaimonInternalRow}
+import org.apache.paimon.deletionvectors.DeletionFileRecordIterator
+import org.apache.paimon.disk.IOManager
+import org.apache.paimon.fs.Path
+import org.apache.paimon.reader.{FileRecordIterator, RecordReader, VectorizedRecordIterator}
+import org.apache.paimon.spark.SparkUtils.createIOManager
+import org.apache.paimon.spark.data.SparkInternalRow
+import org.apache.paimon.table.source.{ReadBuilder, Split}
+import org.apache.paimon.types.{DataTypeChecks, DataTypeRoot, RowType}
+
+import org.apache.spark.sql.PaimonUtils
+import org.apache.spark.sql.connector.metric.CustomTaskMetric
+import org.apache.spark.sql.connector.read.PartitionReader
+import org.apache.spark.sql.execution.vectorized.{OnHeapColumnVector, WritableColumnVector}
+import org.apache.spark.sql.vectorized.{ColumnarBatch, ColumnVector}
+
+import javax.annotation.Nullable
+
+/**
+ * A [[PartitionReader]] which returns [[ColumnarBatch]]es. Batches produced by vectorized format
+ * readers are exposed to Spark without copying through [[PaimonColumnVector]]s, and deletion
+ * vectors are applied as a row id selection. Other batches are copied into on-heap vectors.
+ */
+case class PaimonColumnarPartitionReader(readBuilder: ReadBuilder, partition: PaimonInputPartition)
+  extends PartitionReader[ColumnarBatch] {
+
+  private val splits: Iterator[Split] = partition.splits.toIterator
+  private val ioManager: IOManager = createIOManager()
+  private val readType: RowType = readBuilder.readType()
+  private val sparkRow: SparkInternalRow = SparkInternalRow.create(readType)
+
+  private lazy val read = readBuilder.newRead().withIOManager(ioManager)
+
+  // allocated on first use, only needed for iterators which are not vectorized
+  @Nullable private var rowVectors: Array[WritableColumnVector] = _
+
+  @Nullable private var currentReader: RecordReader[PaimonInternalRow] = _
+  // the iterator whose vectors back the current batch, released before reading the next one
+  @Nullable private var vectorizedIterator: RecordReader.RecordIterator[PaimonInternalRow] = _
+  // the iterator which is copied row by row into the on-heap vectors
+  @Nullable private var rowIterator: RecordReader.RecordIterator[PaimonInternalRow] = _
+  private var currentBatch: ColumnarBatch = _
+  private var lastFilePath: Path = _
+
+  override def next(): Boolean = {
+    releaseVectorizedIterator()
+    var found = false
+    var stop = false
+    while (!stop) {
+      if (rowIterator != null) {
+        val numRows = fillRowVectors()
+        if (numRows > 0) {
+          currentBatch = new ColumnarBatch(rowVectors.toArray[ColumnVector], numRows)
+          found = true
+          stop = true
+        }
+      } else {
+        val iterator = readBatch()
+        if (iterator == null) {
+          stop = true
+        } else {
+          val batch = toColumnarBatch(iterator)
+          if (batch == null) {
+            rowIterator = iterator
+          } else if (batch.numRows() > 0) {
+            vectorizedIterator = iterator
+            currentBatch = batch
+            found = true
+            stop = true
+          } else {
+            iterator.releaseBatch()
+          }
+        }
+      }
+    }
+    found
+  }
+
+  override def get(): ColumnarBatch = currentBatch
+
+  /** Returns a zero-copy batch for vectorized iterators, or null for other iterators. */
+  private def toColumnarBatch(iterator: RecordReader.RecordIterator[PaimonInternalRow]) = {
+    iterator match {
+      case vectorized: VectorizedRecordIterator =>
+        val batch = vectorized.batch()
+        createBatch(batch.columns, batch.getNumRows, null)
+      case deletion: DeletionFileRecordIterator
+          if deletion.iterator().isInstanceOf[VectorizedRecordIterator] =>
+        val inner = deletion.iterator()
+        val batch = inner.asInstanceOf[VectorizedRecordIterator].batch()
+        val selected = new Array[Int](batch.getNumRows)
+        var numSelected = 0
+        var rowId = 0
+        while (inner.next() != null) {
+          if (!deletion.deletionVector().isDeleted(inner.returnedPosition())) {
+            selected(numSelected) = rowId
+            numSelected += 1
+          }
+          rowId += 1
+        }
+        val rowIdMapping = if (numSelected == batch.getNumRows) null else selected
+        createBatch(batch.columns, numSelected, rowIdMapping)
+      case _ => null
+    }
+  }
+
+  private def createBatch(
+      columns: Array[org.apache.paimon.data.columnar.ColumnVector],
+      numRows: Int,
+      rowIdMapping: Array[Int]): ColumnarBatch = {
+    val vectors = new Array[ColumnVector](readType.getFieldCount)
+    for (i <- vectors.indices) {
+      vectors(i) = new PaimonColumnVector(columns(i), readType.getTypeAt(i), numRows, rowIdMapping)
+    }
+    new ColumnarBatch(vectors, numRows)
+  }
+
+  private def fillRowVectors(): Int = {
+    if (rowVectors == null) {
+      rowVectors = OnHeapColumnVector
+        .allocateColumns(
+          PaimonColumnarPartitionReader.ROW_BATCH_SIZE,
+          SparkTypeUtils.fromPaimonRowType(readType))
+        .toArray[WritableColumnVector]
+    }
+    rowVectors.foreach(_.reset())
+    var numRows = 0
+    while (rowIterator != null && numRows < PaimonColumnarPartitionReader.ROW_BATCH_SIZE) {
+      val row = rowIterator.next()
+      if (row == null) {
+        rowIterator.releaseBatch()
+        rowIterator = null
+      } else {
+        sparkRow.replace(row)
+        for (i <- rowVectors.indices) {
+          putValue(rowVectors(i), i, numRows)
+        }
+        numRows += 1
+      }
+    }
+    numRows
+  }
+
+  private def putValue(vector: WritableColumnVector, ordinal: Int, rowId: Int): Unit = {
+    if (sparkRow.isNullAt(ordinal)) {
+      vector.putNull(rowId)
+      return
+    }
+    val dataType = readType.getTypeAt(ordinal)
+    dataType.getTypeRoot match {
+      case DataTypeRoot.BOOLEAN => vector.putBoolean(rowId, sparkRow.getBoolean(ordinal))
+      case DataTypeRoot.TINYINT => vector.putByte(rowId, sparkRow.getByte(ordinal))
+      case DataTypeRoot.SMALLINT => vector.putShort(rowId, sparkRow.getShort(ordinal))
+      case DataTypeRoot.INTEGER | DataTypeRoot.DATE =>
+        vector.putInt(rowId, sparkRow.getInt(ordinal))
+      case DataTypeRoot.BIGINT | DataTypeRoot.TIMESTAMP_WITHOUT_TIME_ZONE |
+          DataTypeRoot.TIMESTAMP_WITH_LOCAL_TIME_ZONE =>
+        vector.putLong(rowId, sparkRow.getLong(ordinal))
+      case DataTypeRoot.FLOAT => vector.putFloat(rowId, sparkRow.getFloat(ordinal))
+      case DataTypeRoot.DOUBLE => vector.putDouble(rowId, sparkRow.getDouble(ordinal))
+      case DataTypeRoot.CHAR | DataTypeRoot.VARCHAR =>
+        val bytes = sparkRow.getUTF8String(ordinal).getBytes
+        vector.putByteArray(rowId, bytes, 0, bytes.length)
+      case DataTypeRoot.BINARY | DataTypeRoot.VARBINARY =>
+        val bytes = sparkRow.getBinary(ordinal)
+        vector.putByteArray(rowId, bytes, 0, bytes.length)
+      case DataTypeRoot.DECIMAL =>
+        val precision = DataTypeChecks.getPrecision(dataType)
+        val decimal = sparkRow.getDecimal(ordinal, precision, DataTypeChecks.getScale(dataType))
+        vector.putDecimal(rowId, decimal, precision)
+      case _ =>
+        throw new UnsupportedOperationException(s"Unsupported type for columnar read: $dataType")
+    }
+  }
+
+  private def readBatch(): RecordReader.RecordIterator[PaimonInternalRow] = {
+    var iterator: RecordReader.RecordIterator[PaimonInternalRow] = null
+    var stop = false
+    while (!stop) {
+      if (currentReader == null) {
+        if (splits.hasNext) {
+          currentReader = read.createReader(splits.next())
+        } else {
+          stop = true
+        }
+      } else {
+        iterator = currentReader.readBatch()
+        if (iterator == null) {
+          currentReader.close()
+          currentReader = null
+        } else {
+          iterator match {
+            case fileRecordIterator: FileRecordIterator[_] =>
+              if (lastFilePath != fileRecordIterator.filePath()) {
+                PaimonUtils.setInputFileName(fileRecordIterator.filePath().toUri.toString)
+                lastFilePath = fileRecordIterator.filePath()
+              }
+            case _ =>
+          }
+          stop = true
+        }
+      }
+    }
+    iterator
+  }
+
+  private def releaseVectorizedIterator(): Unit = {
+    if (vectorizedIterator != null) {
+      vectorizedIterator.releaseBatch()
+      vectorizedIterator = null
+    }
+  }
+
+  override def currentMetricsValues(): Array[CustomTaskMetric] = {
+    super.currentMetricsValues() ++ PaimonPartitionReader.splitMetricsValues(partition)
+  }
+
+  override def close(): Unit = {
+    try {
+      releaseVectorizedIterator()
+      if (rowIterator != null) {
+        rowIterator.releaseBatch()
+      }
+      if (currentReader != null) {
+        currentReader.close()
+      }
+    } finally {
+      if (rowVectors != null) {
+        rowVectors.foreach(_.close())
+      }
+      ioManager.close()
+      PaimonUtils.unsetInputFileName()
+    }
+  }
+}
+
+object PaimonColumnarPartitionReader {
+
+  val ROW_BATCH_SIZE = 1024
+}
@@ -23,12 +23,14 @@ import org.apache.paimon.table.source.ReadBuilder
 
 import org.apache.spark.sql.catalyst.InternalRow
 import org.apache.spark.sql.connector.read.{InputPartition, PartitionReader, PartitionReaderFactory}
+import org.apache.spark.sql.vectorized.ColumnarBatch
 
 import java.util.Objects
 
 case class PaimonPartitionReaderFactory(
     readBuilder: ReadBuilder,
-    metadataColumns: Seq[PaimonMetadataColumn] = Seq.empty)
+    metadataColumns: Seq[PaimonMetadataColumn] = Seq.empty,
+    columnar: Boolean = false)
   extends PartitionReaderFactory {
 
   override def createReader(partition: InputPartition): PartitionReader[InternalRow] = {
@@ -40,10 +42,23 @@ case class PaimonPartitionReaderFactory(
     }
   }
 
+  override def supportColumnarReads(partition: InputPartition): Boolean = columnar
+
+  override def createColumnarReader(partition: InputPartition): PartitionReader[ColumnarBatch] = {
+    partition match {
+      case paimonInputPartition: PaimonInputPartition =>
+        PaimonColumnarPartitionReader(readBuilder, paimonInputPartition)
+      case _ =>
+        throw new RuntimeException(s"It's not a Paimon input partition, $partition")
+    }
+  }
+
   override def equals(obj: Any): Boolean = {
     obj match {
       case other: PaimonPartitionReaderFactory =>
-        this.readBuilder.equals(other.readBuilder) && this.metadataColumns == other.metadataColumns
+        this.readBuilder.equals(other.readBuilder) &&
+        this.metadataColumns == other.metadataColumns &&
+        this.columnar == other.columnar
 
       case _ => false
     }
@@ -104,6 +104,8 @@ case class DynamicBucketProcessor(
 
   def processPartition(rowIterator: Iterator[Row]): Iterator[Row] = {
     val rowPartitionKeyExtractor = new RowPartitionKeyExtractor(fileStoreTable.schema)
+    val coreOptions = fileStoreTable.coreOptions
+    val maxIndexMemory = coreOptions.dynamicBucketIndexMaxMemory
     val assigner = new HashBucketAssigner(
       fileStoreTable.snapshotManager(),
       commitUser,
@@ -112,8 +114,12 @@ case class DynamicBucketProcessor(
       numAssigners,
       TaskContext.getPartitionId(),
       targetBucketRowNumber,
-      fileStoreTable.coreOptions.dynamicBucketMaxBuckets
+      coreOptions.dynamicBucketMaxBuckets,
+      coreOptions.dynamicBucketIndexOffHeap,
+      if (maxIndexMemory == null) Long.MaxValue else maxIndexMemory.getBytes
     )
+    // off-heap indexes are not freed by the garbage collector
+    TaskContext.get().addTaskCompletionListener[Unit](_ => assigner.close())
 
     new Iterator[Row]() {
       override def hasNext: Boolean = rowIterator.hasNext
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.spark.sql
+
+import org.apache.paimon.spark.PaimonSparkTestBase
+
+import org.apache.spark.sql.Row
+import org.apache.spark.sql.execution.adaptive.AdaptiveSparkPlanHelper
+import org.apache.spark.sql.execution.datasources.v2.BatchScanExec
+
+class PaimonColumnarReadTest extends PaimonSparkTestBase with AdaptiveSparkPlanHelper {
+
+  private def supportsColumnar(query: String): Boolean = {
+    val plan = spark.sql(query).queryExecution.executedPlan
+    collect(plan) { case scan: BatchScanExec => scan }.head.supportsColumnar
+  }
+
+  Seq("parquet", "orc", "avro").foreach {
+    format =>
+      test(s"Paimon columnar read: append table with $format") {
+        sql(s"""
+               |CREATE TABLE T (id INT, name STRING, price DECIMAL(10, 2), ts TIMESTAMP, pt STRING)
+               |PARTITIONED BY (pt)
+               |TBLPROPERTIES ('file.format' = '$format', 'read.columnar.enabled' = 'true')
+               |""".stripMargin)
+        sql("""
+              |INSERT INTO T VALUES
+              |(1, 'a', 1.10, TIMESTAMP '2024-01-01 00:00:01', 'p1'),
+              |(2, null, 2.20, null, 'p1'),
+              |(3, 'c', null, TIMESTAMP '2024-01-01 00:00:03', 'p2')
+              |""".stripMargin)
+
+        assert(supportsColumnar("SELECT * FROM T"))
+        checkAnswer(
+          sql("SELECT id, name, price, CAST(ts AS STRING), pt FROM T ORDER BY id"),
+          Seq(
+            Row(1, "a", BigDecimal("1.10"), "2024-01-01 00:00:01", "p1"),
+            Row(2, null, BigDecimal("2.20"), null, "p1"),
+            Row(3, "c", null, "2024-01-01 00:00:03", "p2"))
+        )
+        checkAnswer(sql("SELECT name FROM T WHERE pt = 'p2'"), Row("c") :: Nil)
+      }
+  }
+
+  test("Paimon columnar read: apply deletion vectors") {
+    sql("""
+          |CREATE TABLE T (id INT, name STRING)
+          |TBLPROPERTIES (
+          |  'primary-key' = 'id',
+          |  'bucket' = '1',
+          |  'deletion-vectors.enabled' = 'true',
+          |  'read.columnar.enabled' = 'true')
+          |""".stripMargin)
+    sql("INSERT INTO T SELECT id, CAST(id AS STRING) FROM range(0, 1000)")
+    sql("DELETE FROM T WHERE id % 3 = 0")
+    sql("INSERT INTO T VALUES (1, 'updated')")
+
+    assert(supportsColumnar("SELECT * FROM T"))
+    checkAnswer(sql("SELECT COUNT(*) FROM T"), Row(666) :: Nil)
+    checkAnswer(sql("SELECT name FROM T WHERE id = 1"), Row("updated") :: Nil)
+    checkAnswer(sql("SELECT COUNT(*) FROM T WHERE id % 3 = 0"), Row(0) :: Nil)
+  }
+
+  test("Paimon columnar read: fall back to row read") {
+    sql("""
+          |CREATE TABLE T (id INT, tags ARRAY<STRING>)
+          |TBLPROPERTIES ('read.columnar.enabled' = 'true')
+          |""".stripMargin)
+    sql("INSERT INTO T VALUES (1, array('a', 'b'))")
+
+    assert(!supportsColumnar("SELECT * FROM T"))
+    assert(supportsColumnar("SELECT id FROM T"))
+    checkAnswer(sql("SELECT * FROM T"), Row(1, Seq("a", "b")) :: Nil)
+  }
+}